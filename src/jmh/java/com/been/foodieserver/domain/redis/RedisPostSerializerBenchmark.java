@@ -0,0 +1,55 @@
+package com.been.foodieserver.domain.redis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisPost 직렬화 형식 비교 (json, binary)
+ * <p>
+ * 저장 크기(bytes/op)는 Setup에서 출력하고, 할당량은 gc 프로파일러로 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RedisPostSerializerBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"200", "2000", "10000"})
+    private int contentLength;
+
+    private RedisPostSerializer serializer;
+    private RedisPost post;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = new RedisPostSerializer("binary".equals(format), 1024);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        post = new RedisPost(1234567L, "writer", 3L, "오늘 다녀온 맛집", "맛있어요. ".repeat(contentLength / 6 + 1).substring(0, contentLength), now, now, null);
+        serialized = serializer.serialize(post);
+
+        System.out.printf("%n[%s, content %d] %d bytes%n", format, contentLength, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(post);
+    }
+
+    @Benchmark
+    public RedisPost deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,168 @@
+package com.been.foodieserver.repository;
+
+import com.been.foodieserver.domain.BaseCreatedAtEntity;
+import com.been.foodieserver.domain.BaseTimeEntity;
+import com.been.foodieserver.domain.Category;
+import com.been.foodieserver.domain.Comment;
+import com.been.foodieserver.domain.Like;
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.Role;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 게시글 목록 조회 비교 (H2 메모리 DB)
+ * <p>
+ * entity: 게시글/작성자/카테고리 엔티티 조회 -> 좋아요/댓글 컬렉션 초기화(batch fetch)로 개수 계산 (기존 방식)
+ * <p>
+ * projection: 좋아요/댓글 수를 상관 서브쿼리로 세어 PostSummaryDto 하나의 쿼리로 조회
+ * <p>
+ * 실행한 SQL 수는 Setup에서 한 번 출력하고, 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostListQueryBenchmark {
+
+    private static final int POST_COUNT = 200;
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"5", "50"})
+    private int reactionsPerPost;
+
+    private SessionFactory sessionFactory;
+    private List<Long> postIds;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Like.class)
+                .addAnnotatedClass(Comment.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bench" + System.nanoTime() + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "100")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+
+        postIds = seed();
+
+        Statistics statistics = sessionFactory.getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        entity();
+        long entityStatements = statistics.getPrepareStatementCount() - before;
+
+        before = statistics.getPrepareStatementCount();
+        projection();
+        long projectionStatements = statistics.getPrepareStatementCount() - before;
+
+        System.out.printf("%n[sql] pageSize=%d, reactionsPerPost=%d -> entity: %d, projection: %d%n",
+                pageSize, reactionsPerPost, entityStatements, projectionStatements);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<PostResponse> entity() {
+        return inSession(session -> session
+                .createSelectionQuery("select p from Post p join fetch p.user join fetch p.category where p.id in :ids order by p.id desc", Post.class)
+                .setParameter("ids", postIds)
+                .setMaxResults(pageSize + 1)
+                .getResultList()
+                .stream()
+                .limit(pageSize)
+                .map(PostResponse::of)
+                .toList());
+    }
+
+    @Benchmark
+    public List<PostResponse> projection() {
+        return inSession(session -> new PostQueryRepository(new JPAQueryFactory(session), null)
+                .findSummariesByIdIn(postIds, PageRequest.of(0, pageSize))
+                .map(PostResponse::of)
+                .getContent());
+    }
+
+    private <T> T inSession(Function<Session, T> query) {
+        try (Session session = sessionFactory.openSession()) {
+            return query.apply(session);
+        }
+    }
+
+    private List<Long> seed() {
+        List<Long> ids = new ArrayList<>(POST_COUNT);
+
+        sessionFactory.inTransaction(session -> {
+            List<User> users = new ArrayList<>(reactionsPerPost);
+            for (int i = 0; i < reactionsPerPost; i++) {
+                users.add(persist(session, User.of("user" + i, "pwd", "유저" + i, null, Role.USER)));
+            }
+            Category category = persist(session, Category.of("자유 게시판", null));
+
+            for (int i = 0; i < POST_COUNT; i++) {
+                Post post = persist(session, Post.of(users.get(i % users.size()), category, "title" + i, "content" + i));
+                for (User user : users) {
+                    persist(session, Like.of(user, post));
+                    persist(session, Comment.of(post, user, "comment"));
+                }
+                ids.add(post.getId());
+            }
+        });
+
+        return ids;
+    }
+
+    /**
+     * Spring 없이 실행하므로 auditing 대신 생성/수정 시간을 직접 채운다.
+     */
+    private static <T> T persist(Session session, T entity) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        setField(BaseCreatedAtEntity.class, "createdAt", entity, now);
+        if (entity instanceof BaseTimeEntity || entity instanceof Comment) {
+            setField(entity.getClass(), "modifiedAt", entity, now);
+        }
+        session.persist(entity);
+        return entity;
+    }
+
+    private static void setField(Class<?> type, String name, Object target, Object value) {
+        Field field = ReflectionUtils.findField(type, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,103 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.domain.Category;
+import com.been.foodieserver.domain.Role;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.domain.redis.RedisPost;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 생성 비교
+ * <p>
+ * object: RedisPost/User 역직렬화 -> PostResponse 생성 -> 직렬화 (기존 방식)
+ * <p>
+ * fragment: 미리 만든 게시글 JSON 조각에 작성자와 좋아요/댓글 수만 이어 붙여 직렬화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostPageRenderBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"200", "2000"})
+    private int contentLength;
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonRedisSerializer<RedisPost> postSerializer;
+    private Jackson2JsonRedisSerializer<User> userSerializer;
+    private Category category;
+    private byte[] rawUser;
+    private List<byte[]> rawPosts;
+    private List<byte[]> rawFragments;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+
+        User user = User.of("writer", "pwd", "작성자", null, Role.USER);
+        category = Category.of("자유 게시판", null);
+        rawUser = userSerializer.serialize(user);
+        rawPosts = new ArrayList<>(pageSize);
+        rawFragments = new ArrayList<>(pageSize);
+
+        String content = "가".repeat(contentLength);
+
+        for (long id = 1; id <= pageSize; id++) {
+            String json = objectMapper.writeValueAsString(new PostJson(id, "writer", 1L, "title" + id, content, System.currentTimeMillis()));
+            RedisPost post = objectMapper.readValue(json, RedisPost.class);
+
+            rawPosts.add(postSerializer.serialize(post));
+            rawFragments.add(PostCacheRepository.renderFragment(objectMapper, PostResponse.of(user, category, post, 0, 0)).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public byte[] object() throws JsonProcessingException {
+        User user = userSerializer.deserialize(rawUser);
+        List<PostResponse> content = new ArrayList<>(pageSize);
+
+        for (byte[] rawPost : rawPosts) {
+            content.add(PostResponse.of(user, category, postSerializer.deserialize(rawPost), 3, 1));
+        }
+
+        return objectMapper.writeValueAsBytes(content);
+    }
+
+    @Benchmark
+    public byte[] fragment() throws JsonProcessingException {
+        User user = userSerializer.deserialize(rawUser);
+        String writerJson = objectMapper.valueToTree(PostResponse.Writer.of(user)).toString();
+        List<RawValue> content = new ArrayList<>(pageSize);
+
+        for (byte[] rawFragment : rawFragments) {
+            content.add(new RawValue(PostCacheRepository.splice(new String(rawFragment, StandardCharsets.UTF_8), writerJson, 3, 1)));
+        }
+
+        return objectMapper.writeValueAsBytes(content);
+    }
+
+    private record PostJson(Long id, String userLoginId, Long categoryId, String title, String content, long createdAt) {
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
 
 @Configuration
 public class KafkaConfig {
@@ -27,8 +28,15 @@ public class KafkaConfig {
         return new NewTopic(slackTopic, 1, (short) 1);
     }
 
+    /**
+     * 게시글 ID별 마지막 이벤트만 남도록 compact한다. 이 토픽만 처음부터 읽어도 게시글 캐시를 다시 만들 수 있다.
+     */
     @Bean
     public NewTopic postTopic() {
-        return new NewTopic(postTopic, 1, (short) 1);
+        return TopicBuilder.name(postTopic)
+                .partitions(1)
+                .replicas(1)
+                .compact()
+                .build();
     }
 }
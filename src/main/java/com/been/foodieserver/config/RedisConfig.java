@@ -3,17 +3,38 @@ package com.been.foodieserver.config;
 import com.been.foodieserver.domain.Category;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.domain.redis.RedisPost;
+import com.been.foodieserver.domain.redis.RedisPostSerializer;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.service.NewPostNotifier;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
+/**
+ * Redis는 단일 노드(standalone)만 지원한다.
+ * <p>
+ * 게시글 Lua 스크립트(post-page.lua, post-save.lua, post-delete.lua)는 KEYS로 받지 않은 키
+ * (post:{postId}:preview, post:{postId}:json, post:stats:{postId}, post:user:{loginId}, post:category에 저장된 카테고리 Sorted Set 등)를
+ * 스크립트 안에서 만들어 읽고 쓰므로 Redis Cluster에서는 동작하지 않는다.
+ */
 @RequiredArgsConstructor
 @EnableRedisRepositories
 @Configuration
@@ -21,17 +42,62 @@ public class RedisConfig {
 
     private final RedisProperties redisProperties;
 
+    /**
+     * Redis가 느리거나 멈추면 command-timeout 안에 실패하고, 연결이 끊긴 동안에는 명령을 쌓아 두지 않고 바로 실패한다.
+     */
+    @Primary
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(@Value("${cache.redis.command-timeout:500ms}") Duration commandTimeout,
+                                                         @Value("${cache.redis.connect-timeout:1s}") Duration connectTimeout) {
+        return createConnectionFactory(commandTimeout, connectTimeout);
+    }
+
+    /**
+     * 캐시 워밍업 파이프라인, 체크섬, 인기 점수 재계산처럼 요청 경로 밖에서 많은 키를 한 번에 다루는 명령용 연결.
+     * 요청 경로의 짧은 command-timeout에 걸려 매번 실패하지 않도록 batch-command-timeout을 쓴다.
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+    public RedisConnectionFactory batchRedisConnectionFactory(@Value("${cache.redis.batch-command-timeout:30s}") Duration commandTimeout,
+                                                              @Value("${cache.redis.connect-timeout:1s}") Duration connectTimeout) {
+        return createConnectionFactory(commandTimeout, connectTimeout);
     }
 
+    /**
+     * StringRedisTemplate을 하나 더 등록하면 Spring Boot가 만들던 stringRedisTemplate이 빠지므로 직접 등록한다.
+     */
+    @Primary
     @Bean
-    public RedisTemplate<String, RedisPost> redisPostRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public StringRedisTemplate batchStringRedisTemplate(@Qualifier("batchRedisConnectionFactory") RedisConnectionFactory batchRedisConnectionFactory) {
+        return new StringRedisTemplate(batchRedisConnectionFactory);
+    }
+
+    private LettuceConnectionFactory createConnectionFactory(Duration commandTimeout, Duration connectTimeout) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort()), clientConfiguration);
+    }
+
+    /**
+     * 게시글은 설정한 형식(json, binary)으로 저장하고, 읽을 때는 두 형식을 모두 읽는다.
+     */
+    @Bean
+    public RedisTemplate<String, RedisPost> redisPostRedisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                                   @Value("${cache.post.codec.format:json}") String format,
+                                                                   @Value("${cache.post.codec.compress-threshold:1024}") int compressThreshold) {
         RedisTemplate<String, RedisPost> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(RedisPost.class));
+        redisTemplate.setValueSerializer(new RedisPostSerializer("binary".equalsIgnoreCase(format), compressThreshold));
         return redisTemplate;
     }
 
@@ -52,4 +118,13 @@ public class RedisConfig {
         redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(Category.class));
         return redisTemplate;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory, PostPageNearCache postPageNearCache, NewPostNotifier newPostNotifier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(postPageNearCache, PostPageNearCache.INVALIDATION_TOPIC);
+        container.addMessageListener(newPostNotifier, NewPostNotifier.NEW_POST_TOPIC);
+        return container;
+    }
 }
@@ -1,9 +1,15 @@
 package com.been.foodieserver.consumer;
 
 import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.PostEventType;
+import com.been.foodieserver.dto.PostEventDto;
 import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.service.FeedService;
+import com.been.foodieserver.service.NewPostNotifier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
@@ -14,11 +20,28 @@ import org.springframework.stereotype.Component;
 public class PostConsumer {
 
     private final PostCacheRepository postCacheRepository;
+    private final PostPageNearCache postPageNearCache;
+    private final FeedService feedService;
+    private final NewPostNotifier newPostNotifier;
 
+    /**
+     * 새 게시글만 처리한다. 수정, 삭제는 요청을 처리한 서버에서 캐시에 바로 반영한다.
+     */
     @KafkaListener(topics = "${spring.kafka.topic.post}", groupId = "post")
-    public void consume(Post post, Acknowledgment ack) {
+    public void consume(ConsumerRecord<Long, PostEventDto> record, Acknowledgment ack) {
+        PostEventDto event = record.value();
+
+        if (event == null || event.getType() != PostEventType.CREATED) {
+            ack.acknowledge();
+            return;
+        }
+
+        Post post = event.getPost();
         log.info("[consume the event] postId={}", post.getId());
         postCacheRepository.save(post);
+        postPageNearCache.evictAll();
+        feedService.fanOut(post);
+        newPostNotifier.publish(post);
         ack.acknowledge();
     }
 }
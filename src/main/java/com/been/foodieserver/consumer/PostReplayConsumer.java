@@ -0,0 +1,39 @@
+package com.been.foodieserver.consumer;
+
+import com.been.foodieserver.dto.PostEventDto;
+import com.been.foodieserver.service.PostCacheReplayService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 토픽을 처음부터 다시 읽어 게시글 캐시를 만든다. {@link PostCacheReplayService#start()}로 시작하고 끝까지 읽으면 멈춘다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostReplayConsumer implements ConsumerSeekAware {
+
+    private final PostCacheReplayService postCacheReplayService;
+
+    @KafkaListener(id = PostCacheReplayService.LISTENER_ID, topics = "${spring.kafka.topic.post}", groupId = "post-replay",
+            autoStartup = "false", batch = "true",
+            properties = "max.poll.records=${cache.post.replay.max-poll-records:2000}")
+    public void consume(List<ConsumerRecord<Long, PostEventDto>> records, Consumer<?, ?> consumer, Acknowledgment ack) {
+        postCacheReplayService.apply(records, consumer);
+        ack.acknowledge();
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        //커밋된 오프셋과 관계없이 매번 처음부터 읽는다.
+        callback.seekToBeginning(assignments.keySet());
+    }
+}
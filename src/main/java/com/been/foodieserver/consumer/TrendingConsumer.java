@@ -0,0 +1,27 @@
+package com.been.foodieserver.consumer;
+
+import com.been.foodieserver.dto.NotificationEventDto;
+import com.been.foodieserver.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 이벤트를 별도 그룹으로 받아 인기 게시글 점수에 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TrendingConsumer {
+
+    private final TrendingService trendingService;
+
+    @KafkaListener(topics = "${spring.kafka.topic.notification}", groupId = "trending")
+    public void consume(NotificationEventDto eventDto, Acknowledgment ack) {
+        log.debug("[consume the event] [{}] targetId={}", eventDto.getType().name(), eventDto.getTargetId());
+        trendingService.record(eventDto.getType(), eventDto.getTargetId());
+        ack.acknowledge();
+    }
+}
@@ -6,6 +6,7 @@ import com.been.foodieserver.dto.response.FollowerResponse;
 import com.been.foodieserver.service.FollowService;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -29,8 +30,11 @@ public class FollowController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<FollowerResponse>>> getFollowerList(@AuthenticationPrincipal UserDetails userDetails,
                                                                                @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                               @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(followService.getFollowerList(userDetails.getUsername(), pageNum, pageSize)));
+                                                                               @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                               @RequestParam(value = "slice", defaultValue = "false") boolean slice) {
+        Slice<FollowerResponse> followers = slice ? followService.getFollowerSlice(userDetails.getUsername(), pageNum, pageSize)
+                : followService.getFollowerList(userDetails.getUsername(), pageNum, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(followers));
     }
 
     @PostMapping("/{followeeLoginId}")
@@ -8,6 +8,7 @@ import com.been.foodieserver.service.SseService;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,8 +31,11 @@ public class NotificationController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<NotificationResponse>>> getNotificationList(@AuthenticationPrincipal UserDetails userDetails,
                                                                                        @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                                       @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(notificationService.getNotificationList(userDetails.getUsername(), pageNum, pageSize)));
+                                                                                       @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                                       @RequestParam(value = "slice", defaultValue = "false") boolean slice) {
+        Slice<NotificationResponse> notifications = slice ? notificationService.getNotificationSlice(userDetails.getUsername(), pageNum, pageSize)
+                : notificationService.getNotificationList(userDetails.getUsername(), pageNum, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(notifications));
     }
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -7,6 +7,7 @@ import com.been.foodieserver.service.PostCommentService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,8 +37,11 @@ public class PostCommentController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentList(@RequestParam(value = "pageNum", defaultValue = "1") @Positive(message = PAGE_NUM_VALIDATION_MSG) int pageNum,
                                                                              @RequestParam(value = "pageSize", defaultValue = "10") @Positive(message = PAGE_SIZE_VALIDATION_MSG) int pageSize,
-                                                                             @PathVariable("postId") @Positive(message = POST_ID_VALIDATION_MSG) Long postId) {
-        return ResponseEntity.ok(ApiResponse.success(postCommentService.getCommentList(postId, pageNum, pageSize)));
+                                                                             @PathVariable("postId") @Positive(message = POST_ID_VALIDATION_MSG) Long postId,
+                                                                             @RequestParam(value = "slice", defaultValue = "false") boolean slice) {
+        Slice<CommentResponse> comments = slice ? postCommentService.getCommentSlice(postId, pageNum, pageSize)
+                : postCommentService.getCommentList(postId, pageNum, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
     @PostMapping
@@ -2,11 +2,19 @@ package com.been.foodieserver.controller;
 
 import com.been.foodieserver.dto.request.PostWriteRequest;
 import com.been.foodieserver.dto.response.ApiResponse;
+import com.been.foodieserver.dto.response.PostDeltaResponse;
 import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.service.PostExportService;
 import com.been.foodieserver.service.PostService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,57 +27,176 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.zip.GZIPOutputStream;
 
 @RequiredArgsConstructor
 @RequestMapping("${api.endpoint.base-url}/posts")
 @RestController
 public class PostController {
 
+    //저장은 하되 매번 ETag로 다시 확인하도록 한다. 없으면 Spring Security가 no-store를 붙인다.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
+    private final PostExportService postExportService;
 
     /**
-     * @param pageNum  페이지 번호 (1 시작)
-     * @param pageSize 페이지 당 게시글 수
+     * 게시글 목록 API의 content는 {@link PostResponse#PREVIEW_LENGTH}자까지만 반환하고, 잘렸으면 contentTruncated가 true
+     *
+     * @param pageNum    페이지 번호 (1 시작)
+     * @param pageSize   페이지 당 게시글 수
+     * @param cursor     다음 페이지 커서. 값이 있으면 pageNum 대신 커서 방식으로 조회 (첫 페이지는 빈 값)
+     * @param categoryId 카테고리 ID. 값이 있으면 해당 카테고리 게시글만 조회
+     * @param fields     응답에 포함할 필드 (예: postId,title,writer). 없으면 모든 필드. 게시글 목록 API 모두 같음
+     * @return JSON 조각 모드면 캐시된 게시글 JSON을 그대로 이어 붙인 목록 (fields가 있으면 JSON 조각 대신 객체로 응답).
+     * 게시글 목록 버전이 If-None-Match/If-Modified-Since와 같으면 목록을 조회하지 않고 304
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostResponse>>> getPostList(@RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                       @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getPostList(pageNum, pageSize)));
+    public ResponseEntity<? extends ApiResponse<? extends List<?>>> getPostList(@RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
+                                                                                @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                                                                @RequestParam(value = "fields", required = false) Set<String> fields,
+                                                                                WebRequest webRequest) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        Long version = postService.getPostListVersion();
+
+        if (checkNotModified(webRequest, version, false)) {
+            return null;
+        }
+        if (cursor != null) {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success(postService.getPostListByCursor(categoryId, cursor, pageSize).map(view)));
+        }
+        if (fields == null && postService.isPostFragmentEnabled()) {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success(postService.getPostListAsJson(categoryId, pageNum, pageSize, version)));
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success(postService.getPostList(categoryId, pageNum, pageSize, version).map(view)));
+    }
+
+    /**
+     * 여러 게시글 조회
+     *
+     * @param postIds 게시글 ID 목록 (최대 100개). 요청한 순서대로 반환하고 없거나 삭제된 게시글은 제외
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getPostsByIds(@RequestParam("ids") List<Long> postIds) {
+        return ResponseEntity.ok(ApiResponse.success(postService.getPostsByIds(postIds)));
+    }
+
+    /**
+     * 커서 이후 새 게시글 조회
+     *
+     * @param cursor     마지막으로 받은 커서. 빈 값이면 게시글 없이 가장 최근 게시글의 커서만 반환
+     * @param limit      최대 게시글 수. 더 있으면 hasMore가 true
+     * @param categoryId 카테고리 ID. 값이 있으면 해당 카테고리 게시글만 조회
+     */
+    @GetMapping("/since")
+    public ResponseEntity<ApiResponse<PostDeltaResponse>> getPostsSince(@RequestParam(value = "cursor", defaultValue = "") String cursor,
+                                                                       @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) int limit,
+                                                                       @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                                                       @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        return ResponseEntity.ok(ApiResponse.success(postService.getPostsSince(categoryId, cursor, limit).map(view)));
+    }
+
+    /**
+     * 인기 게시글 목록 조회
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<PostResponse>>> getTrendingPostList(@RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
+                                                                               @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) @Max(100) int pageSize,
+                                                                               @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        return ResponseEntity.ok(ApiResponse.success(postService.getTrendingPostList(pageNum, pageSize).map(view)));
     }
 
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getMyPostList(@AuthenticationPrincipal UserDetails userDetails,
                                                                          @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                         @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getMyPostList(userDetails.getUsername(), pageNum, pageSize)));
+                                                                         @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                         @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        return ResponseEntity.ok(ApiResponse.success(postService.getMyPostList(userDetails.getUsername(), pageNum, pageSize).map(view)));
     }
 
     @GetMapping("/users/{loginId}")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getPostListByUser(@PathVariable("loginId") String writerLoginId,
                                                                              @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                             @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getPostListByUserLoginId(writerLoginId, pageNum, pageSize)));
+                                                                             @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                             @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        return ResponseEntity.ok(ApiResponse.success(postService.getPostListByUserLoginId(writerLoginId, pageNum, pageSize).map(view)));
+    }
+
+    /**
+     * 작성자의 게시글을 최신순으로 모두 NDJSON(한 줄에 게시글 하나, 내용 전체 포함)으로 내려받는다.
+     * 페이지 단위로 나누지 않고 응답 하나로 스트리밍한다.
+     *
+     * @param gzip true면 gzip으로 압축해 응답 (Content-Encoding: gzip)
+     */
+    @GetMapping("/users/{loginId}/export")
+    public ResponseEntity<StreamingResponseBody> exportPostsByUser(@PathVariable("loginId") String writerLoginId,
+                                                                   @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        Long writerId = postExportService.getWriterId(writerLoginId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(writerLoginId + "-posts.ndjson", StandardCharsets.UTF_8).build().toString());
+
+        if (!gzip) {
+            return response.body(out -> postExportService.writeByUser(writerId, out));
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    //chunk마다 flush한 게시글이 압축 버퍼에 머물지 않도록 sync flush를 쓴다.
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, true);
+                    postExportService.writeByUser(writerId, gzipOut);
+                    gzipOut.finish();
+                });
     }
 
     @GetMapping("/follows")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getFeed(@AuthenticationPrincipal UserDetails userDetails,
                                                                    @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                   @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getPostsByFollowees(userDetails.getUsername(), pageNum, pageSize)));
+                                                                   @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                   @RequestParam(value = "slice", defaultValue = "false") boolean slice,
+                                                                   @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        Slice<PostResponse> posts = slice ? postService.getPostsByFolloweesSlice(userDetails.getUsername(), pageNum, pageSize)
+                : postService.getPostsByFollowees(userDetails.getUsername(), pageNum, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(posts.map(view)));
     }
 
     @GetMapping("/likes")
     public ResponseEntity<ApiResponse<List<PostResponse>>> getLikedPostList(@AuthenticationPrincipal UserDetails userDetails,
                                                                             @RequestParam(value = "pageNum", defaultValue = "1") @Min(1) int pageNum,
-                                                                            @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getLikedPostList(userDetails.getUsername(), pageNum, pageSize)));
+                                                                            @RequestParam(value = "pageSize", defaultValue = "10") @Min(1) int pageSize,
+                                                                            @RequestParam(value = "slice", defaultValue = "false") boolean slice,
+                                                                            @RequestParam(value = "fields", required = false) Set<String> fields) {
+        UnaryOperator<PostResponse> view = PostResponse.listView(fields);
+        Slice<PostResponse> posts = slice ? postService.getLikedPostSlice(userDetails.getUsername(), pageNum, pageSize)
+                : postService.getLikedPostList(userDetails.getUsername(), pageNum, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(posts.map(view)));
     }
 
+    /**
+     * 게시글 버전이 If-None-Match/If-Modified-Since와 같으면 조회수만 올리고 304
+     * <p>
+     * 조회수는 매 조회마다 바뀌어 버전에 넣지 않으므로 ETag는 weak ETag
+     */
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostResponse>> getPost(@PathVariable("postId") Long postId) {
-        return ResponseEntity.ok(ApiResponse.success(postService.getPost(postId)));
+    public ResponseEntity<ApiResponse<PostResponse>> getPost(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("postId") Long postId, WebRequest webRequest) {
+        if (checkNotModified(webRequest, postService.getPostVersion(postId), true)) {
+            postService.recordView(postId, userDetails.getUsername());
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success(postService.getPost(postId, userDetails.getUsername())));
     }
 
     @PostMapping
@@ -86,4 +213,17 @@ public class PostController {
     public ResponseEntity<ApiResponse<PostResponse>> deletePost(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("postId") Long postId) {
         return ResponseEntity.ok(ApiResponse.success(postService.deletePost(userDetails.getUsername(), postId)));
     }
+
+    /**
+     * 버전(ms)으로 ETag, Last-Modified 헤더를 채우고, 요청의 조건과 같으면 304로 응답하도록 표시한다.
+     *
+     * @param version Redis 장애로 버전을 모르면 null. 조건부 조회를 하지 않는다.
+     */
+    private static boolean checkNotModified(WebRequest webRequest, Long version, boolean weak) {
+        if (version == null) {
+            return false;
+        }
+        String etag = (weak ? "W/\"" : "\"") + version + "\"";
+        return webRequest.checkNotModified(etag, version);
+    }
 }
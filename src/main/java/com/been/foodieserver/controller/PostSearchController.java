@@ -7,10 +7,12 @@ import com.been.foodieserver.dto.response.PostSearchRankResponse;
 import com.been.foodieserver.service.PostSearchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -23,8 +25,10 @@ public class PostSearchController {
     private final PostSearchService postSearchService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostResponse>>> searchPost(@RequestBody @Valid PostSearchRequest request) {
-        return ResponseEntity.ok(ApiResponse.success(postSearchService.search(request.toDto())));
+    public ResponseEntity<ApiResponse<List<PostResponse>>> searchPost(@RequestBody @Valid PostSearchRequest request,
+                                                                      @RequestParam(value = "slice", defaultValue = "false") boolean slice) {
+        Slice<PostResponse> posts = slice ? postSearchService.searchSlice(request.toDto()) : postSearchService.search(request.toDto());
+        return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
     /**
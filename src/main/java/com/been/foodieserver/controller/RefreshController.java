@@ -1,5 +1,9 @@
 package com.been.foodieserver.controller;
 
+import com.been.foodieserver.dto.response.ApiResponse;
+import com.been.foodieserver.dto.response.WarmUpStatusResponse;
+import com.been.foodieserver.service.PostCacheReplayService;
+import com.been.foodieserver.service.PostCacheWarmUpService;
 import com.been.foodieserver.service.RefreshService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class RefreshController {
 
     private final RefreshService refreshService;
+    private final PostCacheWarmUpService postCacheWarmUpService;
+    private final PostCacheReplayService postCacheReplayService;
 
     @GetMapping("/test")
     public ResponseEntity<String> admin() {
@@ -25,15 +31,35 @@ public class RefreshController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * hot window 게시글 캐시 채우기를 시작한다. 진행 상황은 /posts/status로 조회한다.
+     */
     @GetMapping("/posts")
-    public ResponseEntity<Void> refreshPosts() {
-        refreshService.refreshPosts();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<ApiResponse<WarmUpStatusResponse>> refreshPosts() {
+        return ResponseEntity.accepted().body(ApiResponse.success(postCacheWarmUpService.start()));
+    }
+
+    @GetMapping("/posts/status")
+    public ResponseEntity<ApiResponse<WarmUpStatusResponse>> getRefreshPostsStatus() {
+        return ResponseEntity.ok(ApiResponse.success(postCacheWarmUpService.getStatus()));
+    }
+
+    /**
+     * DB 대신 게시글 토픽을 처음부터 다시 읽어 게시글 캐시를 만든다. 진행 상황은 /posts/replay/status로 조회한다.
+     */
+    @GetMapping("/posts/replay")
+    public ResponseEntity<ApiResponse<WarmUpStatusResponse>> replayPosts() {
+        return ResponseEntity.accepted().body(ApiResponse.success(postCacheReplayService.start()));
+    }
+
+    @GetMapping("/posts/replay/status")
+    public ResponseEntity<ApiResponse<WarmUpStatusResponse>> getReplayPostsStatus() {
+        return ResponseEntity.ok(ApiResponse.success(postCacheReplayService.getStatus()));
     }
 
-    @GetMapping("/comments")
-    public ResponseEntity<Void> refreshComments() {
-        refreshService.refreshComments();
+    @GetMapping("/post-stats")
+    public ResponseEntity<Void> refreshPostStats() {
+        refreshService.refreshPostStats();
         return ResponseEntity.ok().build();
     }
 }
@@ -1,5 +1,6 @@
 package com.been.foodieserver.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,6 +13,7 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -45,9 +47,16 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false, length = 10000)
     private String content;
 
+    //기존 게시글에도 채워지도록 기본값을 둔다. 운영 DB 변경은 resources/sql/alter-posts-add-view-count.sql
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long viewCount;
+
+    @JsonIgnore
     @OneToMany(mappedBy = "post")
     private List<Like> likes = new ArrayList<>();
 
+    @JsonIgnore
     @OneToMany(mappedBy = "post")
     private List<Comment> comments = new ArrayList<>();
 
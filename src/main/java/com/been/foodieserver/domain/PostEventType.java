@@ -0,0 +1,10 @@
+package com.been.foodieserver.domain;
+
+/**
+ * 게시글 이벤트 종류. 삭제는 값이 없는 tombstone 레코드로 보낸다.
+ */
+public enum PostEventType {
+
+    CREATED,
+    MODIFIED
+}
@@ -11,7 +11,7 @@ import java.util.Objects;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class RedisPost {
 
     private Long id;
@@ -27,6 +27,13 @@ public class RedisPost {
         return new RedisPost(post.getId(), post.getUser().getLoginId(), post.getCategory().getId(), post.getTitle(), post.getContent(), post.getCreatedAt(), post.getModifiedAt(), post.getDeletedAt());
     }
 
+    /**
+     * 내용만 바꾼 게시글. 목록 조회용 미리보기를 만들 때 사용한다.
+     */
+    public RedisPost withContent(String content) {
+        return new RedisPost(id, userLoginId, categoryId, title, content, createdAt, modifiedAt, deletedAt);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,263 @@
+package com.been.foodieserver.domain.redis;
+
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * RedisPost 직렬화
+ * <p>
+ * 쓰기는 JSON 또는 바이너리 형식 중 하나를 사용하고, 읽기는 첫 바이트로 형식을 구분해 두 형식을 모두 읽는다.
+ * <p>
+ * 바이너리 v1: [버전][필드 존재 비트][압축 여부] + id, 작성자, 카테고리 ID, 제목, 내용, 작성/수정/삭제 시각.
+ * 숫자는 varint, 시각은 epoch millis, 문자열은 길이(varint) + UTF-8. 내용이 기준보다 길면 Deflate로 압축한다.
+ */
+public class RedisPostSerializer implements RedisSerializer<RedisPost> {
+
+    private static final byte JSON_START = '{';
+    private static final byte VERSION_1 = 1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_USER_LOGIN_ID = 1 << 1;
+    private static final int HAS_CATEGORY_ID = 1 << 2;
+    private static final int HAS_TITLE = 1 << 3;
+    private static final int HAS_CONTENT = 1 << 4;
+    private static final int HAS_CREATED_AT = 1 << 5;
+    private static final int HAS_MODIFIED_AT = 1 << 6;
+    private static final int HAS_DELETED_AT = 1 << 7;
+
+    private static final int CONTENT_DEFLATED = 1;
+
+    private final Jackson2JsonRedisSerializer<RedisPost> jsonSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+    private final boolean binary;
+    private final int compressThreshold;
+
+    /**
+     * @param binary            true면 바이너리 형식으로 쓴다.
+     * @param compressThreshold 내용이 이 바이트 수 이상이면 압축한다.
+     */
+    public RedisPostSerializer(boolean binary, int compressThreshold) {
+        this.binary = binary;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(RedisPost post) throws SerializationException {
+        if (post == null || !binary) {
+            return jsonSerializer.serialize(post);
+        }
+
+        byte[] content = post.getContent() == null ? null : post.getContent().getBytes(StandardCharsets.UTF_8);
+        byte[] deflated = content != null && content.length >= compressThreshold ? deflate(content) : null;
+        boolean isDeflated = deflated != null && deflated.length < content.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + (content == null ? 0 : content.length));
+        out.write(VERSION_1);
+        out.write(presenceBits(post));
+        out.write(isDeflated ? CONTENT_DEFLATED : 0);
+
+        writeVarLong(out, post.getId());
+        writeString(out, post.getUserLoginId());
+        writeVarLong(out, post.getCategoryId());
+        writeString(out, post.getTitle());
+
+        if (isDeflated) {
+            writeVarLong(out, (long) content.length);
+            writeBytes(out, deflated);
+        } else if (content != null) {
+            writeBytes(out, content);
+        }
+
+        writeVarLong(out, toMillis(post.getCreatedAt()));
+        writeVarLong(out, toMillis(post.getModifiedAt()));
+        writeVarLong(out, toMillis(post.getDeletedAt()));
+
+        return out.toByteArray();
+    }
+
+    @Override
+    public RedisPost deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] == JSON_START) {
+            return jsonSerializer.deserialize(bytes);
+        }
+
+        if (bytes[0] != VERSION_1) {
+            throw new SerializationException("Unknown RedisPost format: " + bytes[0]);
+        }
+
+        try {
+            return readVersion1(new Reader(bytes, 1));
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated RedisPost value", e);
+        }
+    }
+
+    private RedisPost readVersion1(Reader in) {
+        int presence = in.readByte();
+        int flags = in.readByte();
+
+        Long id = (presence & HAS_ID) != 0 ? in.readVarLong() : null;
+        String userLoginId = (presence & HAS_USER_LOGIN_ID) != 0 ? in.readString() : null;
+        Long categoryId = (presence & HAS_CATEGORY_ID) != 0 ? in.readVarLong() : null;
+        String title = (presence & HAS_TITLE) != 0 ? in.readString() : null;
+        String content = null;
+
+        if ((presence & HAS_CONTENT) != 0) {
+            if ((flags & CONTENT_DEFLATED) != 0) {
+                int length = (int) in.readVarLong();
+                content = new String(inflate(in.readBytes(), length), StandardCharsets.UTF_8);
+            } else {
+                content = new String(in.readBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        Timestamp createdAt = (presence & HAS_CREATED_AT) != 0 ? new Timestamp(in.readVarLong()) : null;
+        Timestamp modifiedAt = (presence & HAS_MODIFIED_AT) != 0 ? new Timestamp(in.readVarLong()) : null;
+        Timestamp deletedAt = (presence & HAS_DELETED_AT) != 0 ? new Timestamp(in.readVarLong()) : null;
+
+        return new RedisPost(id, userLoginId, categoryId, title, content, createdAt, modifiedAt, deletedAt);
+    }
+
+    private static int presenceBits(RedisPost post) {
+        int bits = 0;
+        bits |= post.getId() != null ? HAS_ID : 0;
+        bits |= post.getUserLoginId() != null ? HAS_USER_LOGIN_ID : 0;
+        bits |= post.getCategoryId() != null ? HAS_CATEGORY_ID : 0;
+        bits |= post.getTitle() != null ? HAS_TITLE : 0;
+        bits |= post.getContent() != null ? HAS_CONTENT : 0;
+        bits |= post.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+        bits |= post.getModifiedAt() != null ? HAS_MODIFIED_AT : 0;
+        bits |= post.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+        return bits;
+    }
+
+    private static Long toMillis(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.getTime();
+    }
+
+    /**
+     * 값이 없으면 쓰지 않는다. (필드 존재 비트로 구분)
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, Long value) {
+        if (value == null) {
+            return;
+        }
+
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value != null) {
+            writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] value) {
+        writeVarLong(out, (long) value.length);
+        out.write(value, 0, value.length);
+    }
+
+    private static byte[] deflate(byte[] value) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(value.length / 2);
+            byte[] buffer = new byte[4096];
+
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] value, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(value);
+            byte[] result = new byte[length];
+            int offset = 0;
+
+            while (offset < length && !inflater.finished()) {
+                int read = inflater.inflate(result, offset, length - offset);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                offset += read;
+            }
+
+            if (offset != length) {
+                throw new SerializationException("Corrupted RedisPost content");
+            }
+
+            return result;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted RedisPost content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            int shift = 0;
+            int b;
+
+            do {
+                b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            return result;
+        }
+
+        private byte[] readBytes() {
+            int length = (int) readVarLong();
+            byte[] result = new byte[length];
+            System.arraycopy(bytes, position, result, 0, length);
+            position += length;
+            return result;
+        }
+
+        private String readString() {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
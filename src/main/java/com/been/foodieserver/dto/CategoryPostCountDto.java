@@ -0,0 +1,17 @@
+package com.been.foodieserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 카테고리별 게시글 수
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class CategoryPostCountDto {
+
+    private Long categoryId;
+    private Long count;
+}
@@ -0,0 +1,27 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.domain.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * 댓글 목록 조회 결과 (엔티티 대신 응답에 필요한 컬럼만 조회)
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class CommentSummaryDto {
+
+    private String categoryName;
+    private Long postId;
+    private Long commentId;
+    private String writerLoginId;
+    private String writerNickname;
+    private Role writerRole;
+    private String content;
+    private Timestamp createdAt;
+    private Timestamp modifiedAt;
+}
@@ -0,0 +1,20 @@
+package com.been.foodieserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * 팔로워 목록 조회 결과
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class FollowerSummaryDto {
+
+    private String loginId;
+    private String nickname;
+    private Timestamp followStartDate;
+}
@@ -0,0 +1,25 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.domain.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 알림 목록 조회 결과. 알림을 발생시킨 유저가 없으면 fromUserNickname은 null
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class NotificationSummaryDto {
+
+    private Long id;
+    private NotificationType type;
+    private Long receiverId;
+    private String receiverLoginId;
+    private String receiverNickname;
+    private Long fromUserId;
+    private String fromUserNickname;
+    private Long targetId;
+    private Boolean isRead;
+}
@@ -6,18 +6,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PageDto<T> {
 
-    private int currentPage; //현재 페이지
+    private Integer currentPage; //현재 페이지
     private int totalPages; //전체 페이지 수
     private long totalElements; //전체 데이터 수
     private int pageSize; //한 페이지 당 데이터 개수
     private Boolean hasPrevious;
     private Boolean hasNext;
+    private String nextCursor; //다음 페이지 커서 (커서 방식 조회)
     private List<T> content;
 
     private PageDto(int pageNum, int pageSize, long totalElements, List<T> content) {
@@ -30,7 +32,33 @@ public class PageDto<T> {
         this.content = content;
     }
 
+    private PageDto(int pageSize, long totalElements, String nextCursor, List<T> content) {
+        this.totalPages = pageSize == 0 ? 1 : (int) Math.ceil((double) totalElements / (double) pageSize);
+        this.totalElements = totalElements;
+        this.pageSize = pageSize;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.content = content;
+    }
+
     public static <T> PageDto<T> of(int pageNum, int pageSize, long totalElements, List<T> content) {
         return new PageDto<>(pageNum, pageSize, totalElements, content);
     }
+
+    /**
+     * 커서 방식 페이지
+     *
+     * @param nextCursor 다음 페이지가 없으면 null
+     */
+    public static <T> PageDto<T> ofCursor(int pageSize, long totalElements, String nextCursor, List<T> content) {
+        return new PageDto<>(pageSize, totalElements, nextCursor, content);
+    }
+
+    /**
+     * 페이지 정보는 그대로 두고 content만 변환한다.
+     */
+    public <R> PageDto<R> map(Function<? super T, ? extends R> mapper) {
+        return new PageDto<>(currentPage, totalPages, totalElements, pageSize, hasPrevious, hasNext, nextCursor,
+                content.stream().<R>map(mapper).toList());
+    }
 }
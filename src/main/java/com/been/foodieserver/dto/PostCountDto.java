@@ -0,0 +1,17 @@
+package com.been.foodieserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글별 개수 (좋아요 수, 댓글 수 집계용)
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class PostCountDto {
+
+    private Long postId;
+    private Long count;
+}
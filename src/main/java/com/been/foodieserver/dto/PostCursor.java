@@ -0,0 +1,53 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서
+ * <p>
+ * 마지막으로 조회한 게시글의 score(작성 시각)와 ID를 인코딩한 문자열을 클라이언트에 전달한다.
+ */
+@ToString
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final long score;
+    private final long postId;
+
+    public static PostCursor of(long score, long postId) {
+        return new PostCursor(score, postId);
+    }
+
+    /**
+     * @return 빈 문자열이면 첫 페이지를 의미하는 null
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new PostCursor(Long.parseLong(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = score + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.PostEventType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 이벤트. 게시글 ID를 키로 보내 토픽을 compact해도 게시글마다 마지막 상태가 남는다.
+ * <p>
+ * 삭제는 값이 없는 tombstone으로 보내고 버전, 카테고리 ID, 작성자는 헤더에 담는다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostEventDto {
+
+    public static final String VERSION_HEADER = "post-version";
+    public static final String CATEGORY_ID_HEADER = "post-category-id";
+    public static final String WRITER_HEADER = "post-writer";
+
+    private PostEventType type;
+    private long version; //마지막 수정 시각(ms)
+    private Post post;
+
+    public static PostEventDto of(PostEventType type, Post post) {
+        return new PostEventDto(type, getVersion(post), post);
+    }
+
+    /**
+     * 삭제된 게시글은 삭제 시각, 아니면 마지막 수정 시각
+     */
+    public static long getVersion(Post post) {
+        Timestamp version = post.getDeletedAt() != null ? post.getDeletedAt()
+                : post.getModifiedAt() != null ? post.getModifiedAt() : post.getCreatedAt();
+        return version != null ? version.getTime() : System.currentTimeMillis();
+    }
+}
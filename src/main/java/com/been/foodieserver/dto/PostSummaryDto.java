@@ -0,0 +1,31 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.domain.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 목록 조회 결과 (엔티티 대신 응답에 필요한 컬럼과 좋아요/댓글 수만 조회)
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+
+    private Long postId;
+    private String writerLoginId;
+    private String writerNickname;
+    private String writerProfileImage;
+    private Role writerRole;
+    private String categoryName;
+    private String title;
+    private String content;
+    private Long likeCount;
+    private Long commentCount;
+    private Timestamp createdAt;
+    private Timestamp modifiedAt;
+    private Timestamp deletedAt;
+}
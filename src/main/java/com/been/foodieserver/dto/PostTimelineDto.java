@@ -0,0 +1,19 @@
+package com.been.foodieserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 ID와 작성 시각 (작성자별 게시글 ID 캐시용)
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class PostTimelineDto {
+
+    private Long postId;
+    private Timestamp createdAt;
+}
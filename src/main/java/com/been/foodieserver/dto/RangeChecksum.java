@@ -0,0 +1,32 @@
+package com.been.foodieserver.dto;
+
+import java.util.Map;
+
+/**
+ * ID 범위의 체크섬. 캐시와 DB의 체크섬이 같으면 범위 안의 데이터를 비교하지 않는다.
+ * <p>
+ * 해시는 순서와 관계없이 (ID, 버전)마다 계산한 값을 더한 것으로, scripts/post-checksum.lua와 같은 방식으로 계산한다.
+ *
+ * @param count      항목 수
+ * @param maxVersion 가장 최근 버전 (수정 시각 ms 또는 개수)
+ * @param hash       (ID, 버전) 해시의 합
+ */
+public record RangeChecksum(long count, long maxVersion, long hash) {
+
+    private static final long MOD = 2147483647L;
+
+    /**
+     * @param versions ID별 버전
+     */
+    public static RangeChecksum of(Map<Long, Long> versions) {
+        long maxVersion = 0;
+        long hash = 0;
+
+        for (Map.Entry<Long, Long> entry : versions.entrySet()) {
+            maxVersion = Math.max(maxVersion, entry.getValue());
+            hash = (hash + (entry.getKey() * 1000003 + entry.getValue()) % MOD) % MOD;
+        }
+
+        return new RangeChecksum(versions.size(), maxVersion, hash);
+    }
+}
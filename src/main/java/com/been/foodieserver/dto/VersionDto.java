@@ -0,0 +1,28 @@
+package com.been.foodieserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.sql.Timestamp;
+
+/**
+ * ID와 마지막 수정 시각 (캐시와 DB 비교용)
+ */
+@ToString
+@Getter
+@AllArgsConstructor
+public class VersionDto {
+
+    private Long id;
+    private String key; //캐시 키에 쓰는 값 (유저는 로그인 ID). 없으면 null
+    private Timestamp modifiedAt;
+
+    public VersionDto(Long id, Timestamp modifiedAt) {
+        this(id, null, modifiedAt);
+    }
+
+    public long getVersion() {
+        return modifiedAt == null ? 0 : modifiedAt.getTime();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -45,8 +46,11 @@ public class ApiResponse<T> {
         return new ApiResponse<>(STATUS_SUCCESS, null, pageDto.getContent(), Pagination.of(pageDto));
     }
 
-    public static <T> ApiResponse<List<T>> success(Page<T> page) {
-        return new ApiResponse<>(STATUS_SUCCESS, null, page.getContent(), Pagination.of(page));
+    /**
+     * {@link Page}가 아니면 전체 개수 없이 다음 페이지 존재 여부만 반환한다.
+     */
+    public static <T> ApiResponse<List<T>> success(Slice<T> slice) {
+        return new ApiResponse<>(STATUS_SUCCESS, null, slice.getContent(), Pagination.of(slice));
     }
 
     public static <T> ApiResponse<T> fail(String message) {
@@ -66,22 +70,27 @@ public class ApiResponse<T> {
     }
 
     @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Pagination {
 
-        private int currentPage; //현재 페이지
-        private int totalPages; //전체 페이지 수
-        private long totalElements; //전체 데이터 수
+        private Integer currentPage; //현재 페이지
+        private Integer totalPages; //전체 페이지 수 (slice 방식 조회는 null)
+        private Long totalElements; //전체 데이터 수 (slice 방식 조회는 null)
         private int pageSize; //한 페이지 당 데이터 개수
         private Boolean hasPrevious;
         private Boolean hasNext;
+        private String nextCursor; //다음 페이지 커서 (커서 방식 조회)
 
-        public static Pagination of(Page<?> page) {
-            return new Pagination(page.getNumber() + 1, page.getTotalPages(), page.getTotalElements(), page.getSize(), page.hasPrevious(), page.hasNext());
+        public static Pagination of(Slice<?> slice) {
+            if (slice instanceof Page<?> page) {
+                return new Pagination(page.getNumber() + 1, page.getTotalPages(), page.getTotalElements(), page.getSize(), page.hasPrevious(), page.hasNext(), null);
+            }
+            return new Pagination(slice.getNumber() + 1, null, null, slice.getSize(), slice.hasPrevious(), slice.hasNext(), null);
         }
 
         public static Pagination of(PageDto<?> page) {
-            return new Pagination(page.getCurrentPage(), page.getTotalPages(), page.getTotalElements(), page.getPageSize(), page.getHasPrevious(), page.getHasNext());
+            return new Pagination(page.getCurrentPage(), page.getTotalPages(), page.getTotalElements(), page.getPageSize(), page.getHasPrevious(), page.getHasNext(), page.getNextCursor());
         }
     }
 }
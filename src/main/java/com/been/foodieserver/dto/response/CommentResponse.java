@@ -2,6 +2,7 @@ package com.been.foodieserver.dto.response;
 
 import com.been.foodieserver.domain.Comment;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.CommentSummaryDto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -34,6 +35,18 @@ public class CommentResponse {
         );
     }
 
+    public static CommentResponse of(CommentSummaryDto dto) {
+        return new CommentResponse(
+                dto.getCategoryName(),
+                dto.getPostId(),
+                dto.getCommentId(),
+                new Writer(dto.getWriterLoginId(), dto.getWriterNickname(), dto.getWriterRole().getRoleName()),
+                dto.getContent(),
+                dto.getCreatedAt(),
+                dto.getModifiedAt()
+        );
+    }
+
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class Writer {
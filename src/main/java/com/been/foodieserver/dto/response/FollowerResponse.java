@@ -1,6 +1,7 @@
 package com.been.foodieserver.dto.response;
 
 import com.been.foodieserver.domain.Follow;
+import com.been.foodieserver.dto.FollowerSummaryDto;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,4 +21,8 @@ public class FollowerResponse {
                 follow.getFollower().getNickname(),
                 follow.getCreatedAt());
     }
+
+    public static FollowerResponse of(FollowerSummaryDto dto) {
+        return new FollowerResponse(dto.getLoginId(), dto.getNickname(), dto.getFollowStartDate());
+    }
 }
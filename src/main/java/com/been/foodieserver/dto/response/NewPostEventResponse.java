@@ -0,0 +1,16 @@
+package com.been.foodieserver.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NewPostEventResponse {
+
+    private int count; //마지막 이벤트 이후 새로 작성된 게시글 수
+
+    public static NewPostEventResponse of(int count) {
+        return new NewPostEventResponse(count);
+    }
+}
@@ -2,6 +2,7 @@ package com.been.foodieserver.dto.response;
 
 import com.been.foodieserver.domain.Notification;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.NotificationSummaryDto;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,6 +11,8 @@ import lombok.Getter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class NotificationResponse {
 
+    public static final String UNKNOWN_USER_NICKNAME = "Unknown User";
+
     private Long id;
     private String type;
     private String content;
@@ -28,6 +31,18 @@ public class NotificationResponse {
                 notification.getIsRead());
     }
 
+    public static NotificationResponse of(NotificationSummaryDto dto) {
+        String fromUserNickname = dto.getFromUserNickname() != null ? dto.getFromUserNickname() : UNKNOWN_USER_NICKNAME;
+
+        return new NotificationResponse(dto.getId(),
+                dto.getType().name(),
+                String.format(dto.getType().getNotificationText(), fromUserNickname),
+                new ToUserResponse(dto.getReceiverId(), dto.getReceiverLoginId(), dto.getReceiverNickname()),
+                dto.getFromUserId(),
+                dto.getTargetId(),
+                dto.getIsRead());
+    }
+
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public static class ToUserResponse {
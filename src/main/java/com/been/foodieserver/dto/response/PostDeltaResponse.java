@@ -0,0 +1,28 @@
+package com.been.foodieserver.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 커서 이후 새 게시글
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostDeltaResponse {
+
+    private List<PostResponse> posts; //오래된 순
+    private String cursor; //다음 조회에 사용할 커서
+    private boolean hasMore; //조회하지 못한 새 게시글이 더 있으면 true
+
+    public static PostDeltaResponse of(List<PostResponse> posts, String cursor, boolean hasMore) {
+        return new PostDeltaResponse(posts, cursor, hasMore);
+    }
+
+    public PostDeltaResponse map(UnaryOperator<PostResponse> mapper) {
+        return new PostDeltaResponse(posts.stream().map(mapper).toList(), cursor, hasMore);
+    }
+}
@@ -4,6 +4,9 @@ import com.been.foodieserver.domain.Category;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.domain.redis.RedisPost;
+import com.been.foodieserver.dto.PostSummaryDto;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -11,6 +14,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.sql.Timestamp;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -18,13 +23,27 @@ import java.sql.Timestamp;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class PostResponse {
 
+    /**
+     * 목록 조회 시 content는 이 길이까지만 반환한다.
+     */
+    public static final int PREVIEW_LENGTH = 200;
+
+    /**
+     * 목록 조회 시 fields로 고를 수 있는 필드
+     */
+    public static final Set<String> LIST_FIELDS = Set.of("postId", "writer", "categoryName", "title", "content",
+            "likeCount", "commentCount", "createdAt", "modifiedAt", "deletedAt");
+
     private Long postId;
     private Writer writer;
     private String categoryName;
     private String title;
     private String content;
-    private int likeCount;
-    private int commentCount;
+    private Boolean contentTruncated; //목록 조회 시 content가 잘렸으면 true
+    private Integer likeCount;
+    private Integer commentCount;
+    private Long viewCount;
+    private Long viewerCount;
     private Timestamp createdAt;
     private Timestamp modifiedAt;
     private Timestamp deletedAt;
@@ -39,26 +58,114 @@ public class PostResponse {
                 category.getName(),
                 post.getTitle(),
                 post.getContent(),
+                null,
                 post.getLikes().size(),
                 post.getComments().size(),
+                null,
+                null,
                 post.getCreatedAt(),
                 post.getModifiedAt(),
                 post.getDeletedAt());
     }
 
+    public static PostResponse of(PostSummaryDto dto) {
+        return new PostResponse(dto.getPostId(),
+                new Writer(dto.getWriterLoginId(), dto.getWriterNickname(), dto.getWriterProfileImage(), dto.getWriterRole().getRoleName()),
+                dto.getCategoryName(),
+                dto.getTitle(),
+                dto.getContent(),
+                null,
+                dto.getLikeCount().intValue(),
+                dto.getCommentCount().intValue(),
+                null,
+                null,
+                dto.getCreatedAt(),
+                dto.getModifiedAt(),
+                dto.getDeletedAt());
+    }
+
     public static PostResponse of(User user, Category category, RedisPost post, int likeCount, int commentCount) {
         return new PostResponse(post.getId(),
                 Writer.of(user),
                 category.getName(),
                 post.getTitle(),
                 post.getContent(),
+                null,
                 likeCount,
                 commentCount,
+                null,
+                null,
                 post.getCreatedAt(),
                 post.getModifiedAt(),
                 post.getDeletedAt());
     }
 
+    /**
+     * 조회수와 조회자 수를 채운 응답. 게시글 상세 조회에서만 채운다.
+     */
+    public PostResponse withViewCount(long viewCount, long viewerCount) {
+        return new PostResponse(postId, writer, categoryName, title, content, contentTruncated, likeCount, commentCount,
+                viewCount, viewerCount, createdAt, modifiedAt, deletedAt);
+    }
+
+    /**
+     * 목록 조회용 응답. content를 PREVIEW_LENGTH까지 자르고 잘렸는지 표시한다.
+     */
+    public PostResponse toPreview() {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return this;
+        }
+        return new PostResponse(postId, writer, categoryName, title, cutContent(content, PREVIEW_LENGTH), true, likeCount, commentCount,
+                viewCount, viewerCount, createdAt, modifiedAt, deletedAt);
+    }
+
+    /**
+     * fields에 없는 필드를 뺀 응답
+     *
+     * @param fields null이거나 비어 있으면 모든 필드
+     */
+    public PostResponse select(Set<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return this;
+        }
+        return new PostResponse(fields.contains("postId") ? postId : null,
+                fields.contains("writer") ? writer : null,
+                fields.contains("categoryName") ? categoryName : null,
+                fields.contains("title") ? title : null,
+                fields.contains("content") ? content : null,
+                fields.contains("content") ? contentTruncated : null,
+                fields.contains("likeCount") ? likeCount : null,
+                fields.contains("commentCount") ? commentCount : null,
+                viewCount,
+                viewerCount,
+                fields.contains("createdAt") ? createdAt : null,
+                fields.contains("modifiedAt") ? modifiedAt : null,
+                fields.contains("deletedAt") ? deletedAt : null);
+    }
+
+    /**
+     * 목록 조회용 응답으로 바꾸는 함수
+     *
+     * @param fields 응답에 포함할 필드. null이면 모든 필드
+     */
+    public static UnaryOperator<PostResponse> listView(Set<String> fields) {
+        if (fields != null && !LIST_FIELDS.containsAll(fields)) {
+            throw new CustomException(ErrorCode.INVALID_POST_FIELD);
+        }
+        return response -> response.toPreview().select(fields);
+    }
+
+    /**
+     * 서로게이트 쌍이 나뉘지 않도록 length 이하로 자른다.
+     */
+    public static String cutContent(String content, int length) {
+        if (content == null || content.length() <= length) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(length - 1)) ? length - 1 : length;
+        return content.substring(0, end);
+    }
+
     @Getter
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
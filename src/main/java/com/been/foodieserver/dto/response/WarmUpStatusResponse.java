@@ -0,0 +1,32 @@
+package com.been.foodieserver.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Timestamp;
+
+/**
+ * 게시글 캐시 채우기 작업 상태
+ * <p>
+ * 게시글 이벤트 재생은 반영한 이벤트 수, 끝까지 읽은 파티션 수, 전체 파티션 수를 같은 필드로 보여준다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WarmUpStatusResponse {
+
+    private String state; //IDLE, RUNNING, COMPLETED, FAILED
+    private long loadedCount; //지금까지 캐시한 게시글 수
+    private int completedRanges; //다 채운 ID 범위 수
+    private int totalRanges; //나눈 ID 범위 수
+    private Timestamp startedAt;
+    private Timestamp finishedAt;
+    private String error;
+
+    public static WarmUpStatusResponse of(String state, long loadedCount, int completedRanges, int totalRanges,
+                                          Timestamp startedAt, Timestamp finishedAt, String error) {
+        return new WarmUpStatusResponse(state, loadedCount, completedRanges, totalRanges, startedAt, finishedAt, error);
+    }
+}
@@ -24,14 +24,21 @@ public enum ErrorCode {
 
     CATEGORY_NOT_FOUND(HttpStatus.BAD_REQUEST, "카테고리를 찾을 수 없습니다."),
     POST_NOT_FOUND(HttpStatus.BAD_REQUEST, "게시글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    TOO_MANY_POST_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시글 수를 초과했습니다."),
+    INVALID_POST_FIELD(HttpStatus.BAD_REQUEST, "조회할 수 없는 게시글 필드입니다."),
     COMMENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "댓글을 찾을 수 없습니다."),
 
     LIKE_OWN_POST(HttpStatus.BAD_REQUEST, "자신의 게시글은 좋아요할 수 없습니다."),
     ALREADY_LIKED(HttpStatus.BAD_REQUEST, "이미 좋아요한 게시글입니다."),
     LIKE_NOT_FOUND(HttpStatus.BAD_REQUEST, "좋아요 정보를 찾을 수 없습니다."),
 
+    WARM_UP_ALREADY_RUNNING(HttpStatus.CONFLICT, "게시글 캐시를 채우는 중입니다."),
+    REPLAY_ALREADY_RUNNING(HttpStatus.CONFLICT, "게시글 이벤트를 재생하는 중입니다."),
+
     IMAGE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패하였습니다."),
     CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "연결에 실패하였습니다."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal server error");
 
     private final HttpStatus status;
@@ -1,12 +1,20 @@
 package com.been.foodieserver.producer;
 
 import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.PostEventType;
+import com.been.foodieserver.dto.PostEventDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 ID를 키로 게시글 이벤트를 보낸다. 같은 게시글의 이벤트는 같은 파티션에 순서대로 쌓인다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -15,10 +23,35 @@ public class PostProducer {
     @Value("${spring.kafka.topic.post}")
     private String topic;
 
-    private final KafkaTemplate<Long, Post> kafkaTemplate;
+    private final KafkaTemplate<Long, PostEventDto> kafkaTemplate;
 
     public void send(Post post) {
-        kafkaTemplate.send(topic, post);
-        log.info("[produce] postId={}", post.getId());
+        send(PostEventType.CREATED, post);
+    }
+
+    public void sendModified(Post post) {
+        send(PostEventType.MODIFIED, post);
+    }
+
+    /**
+     * compact되면 게시글이 토픽에서 사라지도록 값이 없는 tombstone을 보낸다.
+     */
+    public void sendDeleted(Post post) {
+        ProducerRecord<Long, PostEventDto> record = new ProducerRecord<>(topic, post.getId(), null);
+        record.headers().add(PostEventDto.VERSION_HEADER, encode(PostEventDto.getVersion(post)));
+        record.headers().add(PostEventDto.CATEGORY_ID_HEADER, encode(post.getCategory().getId()));
+        record.headers().add(PostEventDto.WRITER_HEADER, encode(post.getUser().getLoginId()));
+
+        kafkaTemplate.send(record);
+        log.info("[produce] [DELETED] postId={}", post.getId());
+    }
+
+    private void send(PostEventType type, Post post) {
+        kafkaTemplate.send(topic, post.getId(), PostEventDto.of(type, post));
+        log.info("[produce] [{}] postId={}", type.name(), post.getId());
+    }
+
+    private static byte[] encode(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
     }
 }
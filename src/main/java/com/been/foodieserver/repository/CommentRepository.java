@@ -1,29 +1,39 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.Comment;
-import org.springframework.data.domain.Page;
+import com.been.foodieserver.dto.CommentSummaryDto;
+import com.been.foodieserver.dto.PostCountDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("select c from Comment c join fetch c.post")
-    List<Comment> findAllWithPost();
+    int countByPost_Id(Long postId);
 
-    @Query(value = "select c from Comment c " +
-            "join fetch c.user u " +
-            "join fetch c.post p " +
-            "join fetch p.category " +
-            "where p.id = :postId",
-            countQuery = "select count(c) from Comment c " +
-                    "where c.post.id = :postId")
-    Page<Comment> findAllWithUserAndPostAndCategoryByPostId(Pageable pageable, @Param("postId") Long postId);
+    @Query("select new com.been.foodieserver.dto.PostCountDto(c.post.id, count(c)) from Comment c group by c.post.id")
+    List<PostCountDto> countGroupByPostId();
+
+    @Query("select new com.been.foodieserver.dto.PostCountDto(c.post.id, count(c)) from Comment c where c.post.id in :postIds group by c.post.id")
+    List<PostCountDto> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select new com.been.foodieserver.dto.PostCountDto(c.post.id, count(c)) from Comment c where c.post.id > :afterPostId and c.post.id <= :toPostId group by c.post.id")
+    List<PostCountDto> countGroupByPostIdInRange(@Param("afterPostId") long afterPostId, @Param("toPostId") long toPostId);
+
+    @Query("select new com.been.foodieserver.dto.CommentSummaryDto(cat.name, p.id, c.id, u.loginId, u.nickname, u.role, c.content, c.createdAt, c.modifiedAt) " +
+            "from Comment c " +
+            "join c.user u " +
+            "join c.post p " +
+            "join p.category cat " +
+            "where p.id = :postId")
+    Slice<CommentSummaryDto> findSummariesByPostId(Pageable pageable, @Param("postId") Long postId);
 
     @Query("select c from Comment c " +
             "join fetch c.user u " +
@@ -1,14 +1,16 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.Follow;
-import org.springframework.data.domain.Page;
+import com.been.foodieserver.dto.FollowerSummaryDto;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
@@ -22,8 +24,11 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     /**
      * 해당 유저를 팔로우한 유저 페이징 조회
      */
-    @EntityGraph(attributePaths = {"follower", "followee"})
-    Page<Follow> findAllWithFollowerAndFolloweeByFollowee_LoginId(String loginId, Pageable pageable);
+    @Query("select new com.been.foodieserver.dto.FollowerSummaryDto(fr.loginId, fr.nickname, f.createdAt) " +
+            "from Follow f " +
+            "join f.follower fr " +
+            "where f.followee.loginId = :loginId")
+    Slice<FollowerSummaryDto> findSummariesByFolloweeLoginId(@Param("loginId") String loginId, Pageable pageable);
 
     /**
      * 유저가 팔로우한 사람 수 조회
@@ -35,6 +40,24 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      */
     int countByFollowee_LoginId(String loginId);
 
+    /**
+     * 해당 유저를 팔로우한 유저의 아이디 조회
+     */
+    @Query("select f.follower.loginId from Follow f where f.followee.loginId = :loginId")
+    List<String> findFollowerLoginIdsByFolloweeLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 해당 유저가 팔로우한 유저의 아이디 조회
+     */
+    @Query("select f.followee.loginId from Follow f where f.follower.loginId = :loginId")
+    List<String> findFolloweeLoginIdsByFollowerLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 주어진 유저 중 팔로워가 limit명보다 많은 유저의 아이디 조회
+     */
+    @Query("select f.followee.loginId from Follow f where f.followee.loginId in :loginIds group by f.followee.loginId having count(f) > :limit")
+    List<String> findLoginIdsHavingFollowersMoreThan(@Param("loginIds") Collection<String> loginIds, @Param("limit") long limit);
+
     boolean existsByFollower_LoginIdAndFollowee_LoginId(String followerLoginId, String followeeLoginId);
 
     void deleteByFollower_LoginIdAndFollowee_LoginId(String followerLoginId, String followeeLoginId);
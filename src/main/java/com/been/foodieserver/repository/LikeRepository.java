@@ -1,11 +1,13 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.Like;
+import com.been.foodieserver.dto.PostCountDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -14,6 +16,14 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     List<Like> findByUser_LoginId(String userLoginId);
 
+    int countByPost_Id(Long postId);
+
+    @Query("select new com.been.foodieserver.dto.PostCountDto(l.post.id, count(l)) from Like l group by l.post.id")
+    List<PostCountDto> countGroupByPostId();
+
+    @Query("select new com.been.foodieserver.dto.PostCountDto(l.post.id, count(l)) from Like l where l.post.id in :postIds group by l.post.id")
+    List<PostCountDto> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     @Modifying
     @Query("delete from Like l where l.user.loginId = :loginId and l.post.id = :postId")
     int deleteByUserLoginIdAndPostId(@Param("loginId") String userLoginId, @Param("postId") Long postId);
@@ -1,13 +1,24 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.Notification;
-import org.springframework.data.domain.Page;
+import com.been.foodieserver.dto.NotificationSummaryDto;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    @EntityGraph(attributePaths = {"receiver"})
-    Page<Notification> findAllWithReceiverByReceiver_LoginId(Pageable pageable, String loginId);
+    /**
+     * 알림을 발생시킨 유저의 닉네임도 함께 조회한다.
+     */
+    @Query("select new com.been.foodieserver.dto.NotificationSummaryDto(n.id, n.type, r.id, r.loginId, r.nickname, n.fromUserId, fu.nickname, n.targetId, n.isRead) " +
+            "from Notification n " +
+            "join n.receiver r " +
+            "left join User fu on fu.id = n.fromUserId " +
+            "where r.loginId = :loginId")
+    Slice<NotificationSummaryDto> findSummariesByReceiverLoginId(Pageable pageable, @Param("loginId") String loginId);
+
+    long countByReceiver_LoginId(String loginId);
 }
@@ -1,23 +1,28 @@
 package com.been.foodieserver.repository;
 
-import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.dto.PostSearchDto;
+import com.been.foodieserver.dto.PostSummaryDto;
 import com.been.foodieserver.repository.cache.PostSearchCacheRepository;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.been.foodieserver.domain.QCategory.category;
+import static com.been.foodieserver.domain.QComment.comment;
+import static com.been.foodieserver.domain.QLike.like;
 import static com.been.foodieserver.domain.QPost.post;
 import static com.been.foodieserver.domain.QUser.user;
 
@@ -28,59 +33,167 @@ public class PostQueryRepository {
     private final JPAQueryFactory queryFactory;
     private final PostSearchCacheRepository postSearchCacheRepository;
 
-    public Page<Post> findAllByUserNicknameContainsIgnoreCase(PostSearchDto dto) {
+    public Slice<PostSummaryDto> findAllByUserNicknameContainsIgnoreCase(PostSearchDto dto) {
         if (dto.getKeyword() == null || dto.getKeyword().isBlank()) {
-            return Page.empty();
+            return new SliceImpl<>(List.of());
         }
 
-        Pageable pageable = getPageable(dto);
-
-        List<Post> content = queryFactory
-                .selectFrom(post)
-                .join(post.category, category).fetchJoin()
-                .join(post.user, user).fetchJoin()
-                .where(writerNicknameContainsIgnoreCase(dto.getKeyword()))
-                .orderBy(post.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        return findSummaries(writerNicknameContainsIgnoreCase(dto.getKeyword()), getPageable(dto));
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
+    public long countByUserNicknameContainsIgnoreCase(String keyword) {
+        Long count = queryFactory
                 .select(post.count())
                 .from(post)
-                .leftJoin(post.category, category)
-                .leftJoin(post.user, user)
-                .where(writerNicknameContainsIgnoreCase(dto.getKeyword()));
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                .join(post.user, user)
+                .where(writerNicknameContainsIgnoreCase(keyword))
+                .fetchOne();
+        return count == null ? 0 : count;
     }
 
-    public Page<Post> findAllByTitleContainsIgnoreCase(PostSearchDto dto) {
+    public Slice<PostSummaryDto> findAllByTitleContainsIgnoreCase(PostSearchDto dto) {
         if (dto.getKeyword() == null || dto.getKeyword().isBlank()) {
-            return Page.empty();
+            return new SliceImpl<>(List.of());
         }
 
         postSearchCacheRepository.incrementSearchKeywordCount(dto.getKeyword());
 
-        Pageable pageable = getPageable(dto);
+        return findSummaries(postTitleContainsIgnoreCase(dto.getKeyword()), getPageable(dto));
+    }
+
+    public long countByTitleContainsIgnoreCase(String keyword) {
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(postTitleContainsIgnoreCase(keyword))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
 
-        List<Post> content = queryFactory
-                .selectFrom(post)
-                .join(post.category, category).fetchJoin()
-                .join(post.user, user).fetchJoin()
-                .where(postTitleContainsIgnoreCase(dto.getKeyword()))
+    public Slice<PostSummaryDto> findSummariesByIdIn(Collection<Long> postIds, Pageable pageable) {
+        return findSummaries(post.id.in(postIds), pageable);
+    }
+
+    /**
+     * 주어진 ID의 게시글을 최신순으로 모두 조회 (캐시에 없는 게시글을 채울 때 사용)
+     */
+    public List<PostSummaryDto> findSummariesByIdIn(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(summary())
+                .from(post)
+                .join(post.user, user)
+                .join(post.category, category)
+                .where(post.id.in(postIds))
                 .orderBy(post.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
                 .fetch();
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(post.count())
+    public Slice<PostSummaryDto> findSummariesByUserLoginIdIn(Collection<String> loginIds, Pageable pageable) {
+        return findSummaries(user.loginId.in(loginIds), pageable);
+    }
+
+    /**
+     * postId보다 이전 게시글을 최신순으로 offset부터 limit개 조회 (postId가 null이면 처음부터, categoryId가 null이면 전체 카테고리)
+     * <p>
+     * OFFSET으로 건너뛰는 행은 게시글 ID만 읽고, 응답에 필요한 컬럼과 좋아요/댓글 수는 페이지의 게시글 ID로만 조회한다.
+     */
+    public List<PostSummaryDto> findSummariesByIdLessThan(Long categoryId, Long postId, long offset, int limit) {
+        List<Long> postIds = queryFactory
+                .select(post.id)
+                .from(post)
+                .where(categoryIdEq(categoryId), postIdLessThan(postId))
+                .orderBy(post.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(summary())
                 .from(post)
-                .leftJoin(post.category, category)
-                .leftJoin(post.user, user)
-                .where(postTitleContainsIgnoreCase(dto.getKeyword()));
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                .join(post.user, user)
+                .join(post.category, category)
+                .where(post.id.in(postIds))
+                .orderBy(post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * postId 이후 게시글을 오래된 순으로 limit개 조회 (categoryId가 null이면 전체 카테고리)
+     */
+    public List<PostSummaryDto> findSummariesByIdGreaterThan(Long categoryId, Long postId, int limit) {
+        return queryFactory
+                .select(summary())
+                .from(post)
+                .join(post.user, user)
+                .join(post.category, category)
+                .where(categoryIdEq(categoryId), post.id.gt(postId))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 작성자의 postId 이전 게시글을 최신순으로 limit개 조회 (postId가 null이면 처음부터)
+     * <p>
+     * OFFSET 없이 마지막으로 읽은 ID 다음부터 이어서 읽으므로 모든 게시글을 끝까지 읽어도 뒤로 갈수록 느려지지 않는다.
+     */
+    public List<PostSummaryDto> findSummariesByUserIdAndIdLessThan(Long userId, Long postId, int limit) {
+        return queryFactory
+                .select(summary())
+                .from(post)
+                .join(post.user, user)
+                .join(post.category, category)
+                .where(post.user.id.eq(userId), postIdLessThan(postId))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 게시글 목록을 최신순으로 조회한다.
+     * 다음 페이지 존재 여부를 알기 위해 pageSize + 1개를 조회하고, 전체 개수는 세지 않는다.
+     */
+    private Slice<PostSummaryDto> findSummaries(BooleanExpression condition, Pageable pageable) {
+        List<PostSummaryDto> content = queryFactory
+                .select(summary())
+                .from(post)
+                .join(post.user, user)
+                .join(post.category, category)
+                .where(condition)
+                .orderBy(post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return toSlice(content, pageable);
+    }
+
+    /**
+     * 엔티티 대신 응답에 필요한 컬럼만 조회하고, 좋아요/댓글 수는 컬렉션을 로딩하지 않고 상관 서브쿼리로 센다.
+     */
+    private static ConstructorExpression<PostSummaryDto> summary() {
+        return Projections.constructor(PostSummaryDto.class,
+                post.id,
+                user.loginId,
+                user.nickname,
+                user.profileImage,
+                user.role,
+                category.name,
+                post.title,
+                post.content,
+                JPAExpressions.select(like.count()).from(like).where(like.post.id.eq(post.id)),
+                JPAExpressions.select(comment.count()).from(comment).where(comment.post.id.eq(post.id)),
+                post.createdAt,
+                post.modifiedAt,
+                post.deletedAt);
     }
 
     private BooleanExpression writerNicknameContainsIgnoreCase(String nickname) {
@@ -91,6 +204,19 @@ public class PostQueryRepository {
         return StringUtils.hasText(title) ? post.title.containsIgnoreCase(title.trim()) : null;
     }
 
+    private BooleanExpression categoryIdEq(Long categoryId) {
+        return categoryId != null ? post.category.id.eq(categoryId) : null;
+    }
+
+    private BooleanExpression postIdLessThan(Long postId) {
+        return postId != null ? post.id.lt(postId) : null;
+    }
+
+    private static <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
     private static PageRequest getPageable(PostSearchDto dto) {
         return PageRequest.of(dto.getPageNum() - 1, dto.getPageSize(), Sort.by(Sort.Direction.DESC, "id"));
     }
@@ -1,7 +1,9 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.Post;
-import org.springframework.data.domain.Page;
+import com.been.foodieserver.dto.CategoryPostCountDto;
+import com.been.foodieserver.dto.PostTimelineDto;
+import com.been.foodieserver.dto.VersionDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,27 +12,55 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     int countByUser_LoginId(String loginId);
 
-    @Query("select p from Post p " +
-            "join fetch p.user " +
-            "join fetch p.category")
-    List<Post> findAllWithUserAndCategory();
+    long countByUser_LoginIdIn(Collection<String> loginIds);
 
-    @EntityGraph(attributePaths = {"user", "category"})
-    Page<Post> findAllWithUserAndCategoryByIdIn(Pageable pageable, List<Long> postIds);
+    long countByCategory_Id(Long categoryId);
 
-    @EntityGraph(attributePaths = {"user", "category"})
-    Page<Post> findAllWithUserAndCategoryByUser_LoginId(Pageable pageable, String loginId);
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("select p.id from Post p where p.createdAt > :createdAt order by p.id desc")
+    List<Long> findIdsByCreatedAtAfter(@Param("createdAt") Timestamp createdAt, Pageable pageable);
+
+    @Query("select min(p.id) from Post p where p.createdAt > :createdAt")
+    Optional<Long> findMinIdByCreatedAtAfter(@Param("createdAt") Timestamp createdAt);
+
+    /**
+     * (afterId, toId] 범위의 게시글을 ID 오름차순으로 조회한다. 다음 조회는 마지막 게시글 ID를 afterId로 넘긴다.
+     */
+    @Query("select p from Post p join fetch p.user join fetch p.category where p.id > :afterId and p.id <= :toId and p.createdAt > :createdAt order by p.id asc")
+    List<Post> findChunkWithUserAndCategory(@Param("afterId") long afterId, @Param("toId") long toId, @Param("createdAt") Timestamp createdAt, Pageable pageable);
+
+    @Query("select max(p.id) from Post p where p.createdAt <= :createdAt")
+    Optional<Long> findMaxIdByCreatedAtBefore(@Param("createdAt") Timestamp createdAt);
+
+    /**
+     * (afterId, toId] 범위의 게시글 ID와 수정 시각 (캐시 비교용)
+     */
+    @Query("select new com.been.foodieserver.dto.VersionDto(p.id, p.modifiedAt) from Post p where p.id > :afterId and p.id <= :toId and p.createdAt > :createdAt")
+    List<VersionDto> findVersionsInRange(@Param("afterId") long afterId, @Param("toId") long toId, @Param("createdAt") Timestamp createdAt);
+
+    @Query("select p.id from Post p where p.id in :postIds")
+    List<Long> findIdsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select new com.been.foodieserver.dto.CategoryPostCountDto(p.category.id, count(p)) from Post p group by p.category.id")
+    List<CategoryPostCountDto> countGroupByCategoryId();
+
+    @Query("select new com.been.foodieserver.dto.PostTimelineDto(p.id, p.createdAt) from Post p where p.user.loginId = :loginId order by p.createdAt desc, p.id desc")
+    List<PostTimelineDto> findTimelineByUserLoginId(@Param("loginId") String loginId);
+
+    @Query("select new com.been.foodieserver.dto.PostTimelineDto(p.id, p.createdAt) from Post p where p.user.loginId in :loginIds order by p.createdAt desc, p.id desc")
+    List<PostTimelineDto> findTimelineByUserLoginIdIn(@Param("loginIds") Collection<String> loginIds, Pageable pageable);
 
     @EntityGraph(attributePaths = {"user", "category"})
-    Page<Post> findAllWithUserAndCategoryByUser_LoginIdIn(Pageable pageable, Set<String> loginIds);
+    List<Post> findAllWithUserAndCategoryByIdIn(List<Long> postIds);
 
     @Query(nativeQuery = true, value = "select p.id from posts p where p.user_id in :userIds")
     List<Long> findAllByUserIdIn(@Param("userIds") List<Long> userIds);
@@ -38,14 +68,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(nativeQuery = true, value = "select p.id from posts p where p.deleted_at <= :deletedAt")
     List<Long> findAllByDeletedAtBefore(@Param("deletedAt") Timestamp deletedAt);
 
-    Optional<Post> findByIdAndUser_LoginId(Long postId, String userLoginId);
-
     @EntityGraph(attributePaths = {"user", "category"})
     Optional<Post> findWithUserAndCategoryById(Long postId);
 
     @EntityGraph(attributePaths = {"user", "category"})
     Optional<Post> findWithUserAndCategoryByIdAndUser_LoginId(Long postId, String userLoginId);
 
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + :count where p.id in :postIds")
+    int increaseViewCount(@Param("postIds") Collection<Long> postIds, @Param("count") long count);
+
     @Modifying
     @Query(nativeQuery = true, value = "delete from posts p where p.id in :postIds")
     int hardDeleteByPostIdIn(@Param("postIds") List<Long> postIds);
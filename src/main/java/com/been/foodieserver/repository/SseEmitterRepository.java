@@ -25,6 +25,10 @@ public class SseEmitterRepository {
         return Optional.ofNullable(sseEmitterMap.get(userId));
     }
 
+    public Map<Long, SseEmitter> findAll() {
+        return Map.copyOf(sseEmitterMap);
+    }
+
     public void deleteEmitterByUserId(Long userId) {
         sseEmitterMap.remove(userId);
     }
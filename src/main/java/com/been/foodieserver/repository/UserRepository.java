@@ -1,6 +1,7 @@
 package com.been.foodieserver.repository;
 
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.VersionDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,6 +21,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByLoginId(String loginId);
 
+    @Query("select max(u.id) from User u")
+    Optional<Long> findMaxId();
+
+    /**
+     * (afterId, toId] 범위의 유저 ID, 로그인 ID, 수정 시각 (캐시 비교용)
+     */
+    @Query("select new com.been.foodieserver.dto.VersionDto(u.id, u.loginId, u.modifiedAt) from User u where u.id > :afterId and u.id <= :toId")
+    List<VersionDto> findVersionsInRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    @Query(nativeQuery = true, value = "select u.login_id from users u where u.id > :afterId and u.id <= :toId and u.deleted_at is not null")
+    List<String> findDeletedLoginIdsInRange(@Param("afterId") long afterId, @Param("toId") long toId);
+
     @Query(nativeQuery = true, value = "select u.id from users u where u.deleted_at <= :deletedAt")
     List<Long> findAllByDeletedAtBefore(@Param("deletedAt") Timestamp deletedAt);
 
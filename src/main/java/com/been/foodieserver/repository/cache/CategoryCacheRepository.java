@@ -23,7 +23,7 @@ public class CategoryCacheRepository {
         return redisTemplate.opsForValue().get(key);
     }
 
-    private String getKey(Long categoryId) {
+    static String getKey(Long categoryId) {
         return "cat:" + categoryId;
     }
 }
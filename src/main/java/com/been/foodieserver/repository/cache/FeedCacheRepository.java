@@ -0,0 +1,126 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.dto.PostTimelineDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 팔로우한 유저의 게시글 피드
+ * <p>
+ * feed:{loginId} : 팔로워가 적은 작성자의 게시글 ID (새 게시글 작성 시 팔로워 피드에 넣는다)
+ * <p>
+ * feed:{loginId}:pull : 팔로워가 많아 피드 조회 시 작성자별 게시글 ID에서 가져와 합칠 작성자. 피드가 만들어졌음을 표시하는 '*'를 항상 가진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class FeedCacheRepository {
+
+    private static final String FEED_CREATED_MARKER = "*";
+    private static final int PUSH_BATCH_SIZE = 500;
+
+    private static final RedisScript<Long> FEED_PUSH_SCRIPT = RedisScript.of(new ClassPathResource("scripts/feed-push.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${cache.feed.inbox-size:800}")
+    private int inboxSize;
+    @Value("${cache.feed.fan-out-limit:5000}")
+    private int fanOutLimit;
+    @Value("${cache.feed.ttl:7d}")
+    private Duration ttl;
+
+    /**
+     * 피드에 넣어 두는 최대 게시글 수. 이후 페이지는 DB에서 조회한다.
+     */
+    public int getInboxSize() {
+        return inboxSize;
+    }
+
+    /**
+     * 팔로워가 이보다 많은 작성자의 게시글은 팔로워 피드에 넣지 않고 조회 시 가져와 합친다.
+     */
+    public int getFanOutLimit() {
+        return fanOutLimit;
+    }
+
+    /**
+     * DB 기준으로 피드를 새로 만든다.
+     *
+     * @param inbox             팔로워가 적은 작성자의 최근 게시글
+     * @param pullWriterLoginIds 팔로워가 많은 작성자
+     */
+    public void saveFeed(String loginId, List<PostTimelineDto> inbox, Collection<String> pullWriterLoginIds) {
+        byte[] inboxKey = encode(getInboxKey(loginId));
+        byte[] pullKey = encode(getPullKey(loginId));
+        Set<Tuple> tuples = inbox.stream()
+                .map(entry -> (Tuple) new DefaultTuple(encode(String.valueOf(entry.getPostId())), (double) entry.getCreatedAt().getTime()))
+                .collect(Collectors.toSet());
+        byte[][] pullMembers = Stream.concat(Stream.of(FEED_CREATED_MARKER), pullWriterLoginIds.stream())
+                .map(FeedCacheRepository::encode)
+                .toArray(byte[][]::new);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(inboxKey, pullKey);
+            if (!tuples.isEmpty()) {
+                connection.zSetCommands().zAdd(inboxKey, tuples);
+                connection.keyCommands().pExpire(inboxKey, ttl.toMillis());
+            }
+            connection.setCommands().sAdd(pullKey, pullMembers);
+            connection.keyCommands().pExpire(pullKey, ttl.toMillis());
+            return null;
+        });
+    }
+
+    /**
+     * 새 게시글 ID를 팔로워들의 피드에 넣는다. 피드가 만들어지지 않은 팔로워는 건너뛴다.
+     */
+    public void push(List<String> followerLoginIds, Long postId, long score) {
+        for (int from = 0; from < followerLoginIds.size(); from += PUSH_BATCH_SIZE) {
+            List<String> keys = new ArrayList<>();
+
+            followerLoginIds.subList(from, Math.min(from + PUSH_BATCH_SIZE, followerLoginIds.size())).forEach(loginId -> {
+                keys.add(getInboxKey(loginId));
+                keys.add(getPullKey(loginId));
+            });
+
+            redisTemplate.execute(FEED_PUSH_SCRIPT, keys, String.valueOf(postId), String.valueOf(score), String.valueOf(inboxSize));
+        }
+    }
+
+    /**
+     * 팔로우 관계가 바뀌면 피드를 지우고 다음 조회 시 다시 만든다.
+     */
+    public void delete(String loginId) {
+        redisTemplate.delete(List.of(getInboxKey(loginId), getPullKey(loginId)));
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String getInboxKey(String loginId) {
+        return "feed:" + loginId;
+    }
+
+    static String getPullKey(String loginId) {
+        return "feed:" + loginId + ":pull";
+    }
+}
@@ -3,29 +3,38 @@ package com.been.foodieserver.repository.cache;
 import com.been.foodieserver.domain.Like;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @Repository
 public class LikeCacheRepository {
 
+    private static final RedisScript<Long> POST_LIKE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-like.lua"), Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final PostVersionCacheRepository postVersionCacheRepository;
 
+    /**
+     * 좋아요한 사용자 추가와 좋아요 수 증가를 원자적으로 처리
+     */
     public void save(Like like) {
-        String key = getKey(like.getPost().getId());
-        redisTemplate.opsForSet().add(key, like.getUser().getLoginId());
-    }
-
-    public int countByPostId(Long postId) {
-        String key = getKey(postId);
-        Long likeCount = redisTemplate.opsForSet().size(key);
-        return likeCount == null ? 0 : likeCount.intValue();
+        Long postId = like.getPost().getId();
+        redisTemplate.execute(POST_LIKE_SCRIPT, List.of(getKey(postId), PostStatsCacheRepository.getKey(postId)), "add", like.getUser().getLoginId());
+        postVersionCacheRepository.bumpPost(postId);
     }
 
+    /**
+     * 좋아요한 사용자 삭제와 좋아요 수 감소를 원자적으로 처리
+     */
     public void deleteByUserLoginIdAndPostId(String loginId, Long postId) {
-        redisTemplate.opsForSet().remove(getKey(postId), loginId);
+        redisTemplate.execute(POST_LIKE_SCRIPT, List.of(getKey(postId), PostStatsCacheRepository.getKey(postId)), "remove", loginId);
+        postVersionCacheRepository.bumpPost(postId);
     }
 
     public boolean existsByUserLoginIdAndPostId(String loginId, Long postId) {
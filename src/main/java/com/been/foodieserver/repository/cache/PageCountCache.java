@@ -0,0 +1,73 @@
+package com.been.foodieserver.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * DB 페이징 조회의 전체 개수를 서버 메모리에 짧게 보관하는 캐시
+ * <p>
+ * 전체 개수가 필요한 페이지 조회도 같은 조건의 COUNT 쿼리는 ttl에 한 번만 실행한다.
+ * 그 사이 추가/삭제된 데이터는 전체 개수에 반영되지 않을 수 있다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PageCountCache {
+
+    private static final String CACHE_NAME = "pageCount";
+
+    private final MeterRegistry meterRegistry;
+    private Cache<String, Long> cache;
+
+    @Value("${cache.page-count.max-size:10000}")
+    private long maxSize;
+    @Value("${cache.page-count.ttl:10s}")
+    private Duration ttl;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 개수가 없으면 counter로 센 후 저장한다.
+     */
+    public long get(String key, LongSupplier counter) {
+        return cache.get(key, k -> counter.getAsLong());
+    }
+
+    /**
+     * 다음 페이지가 없으면 조회한 개수로 전체 개수를 알 수 있으므로 세지 않는다.
+     */
+    public <T> Page<T> toPage(Slice<T> slice, String key, LongSupplier counter) {
+        Pageable pageable = slice.getPageable();
+
+        if (!slice.hasNext() && (slice.hasContent() || pageable.isUnpaged() || pageable.getOffset() == 0)) {
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            return new PageImpl<>(slice.getContent(), pageable, offset + slice.getNumberOfElements());
+        }
+
+        return new PageImpl<>(slice.getContent(), pageable, get(key, counter));
+    }
+
+    public void evict(String key) {
+        cache.invalidate(key);
+    }
+}
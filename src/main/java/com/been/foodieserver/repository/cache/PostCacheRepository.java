@@ -5,16 +5,41 @@ import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.domain.redis.RedisPost;
 import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.PostCursor;
+import com.been.foodieserver.dto.PostTimelineDto;
+import com.been.foodieserver.dto.RangeChecksum;
 import com.been.foodieserver.dto.response.PostResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.ObjectUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -22,72 +47,901 @@ import java.util.Set;
 public class PostCacheRepository {
 
     private static final String POST_ALL_KEY = "post:all";
+    private static final String POST_COUNT_KEY = "post:count";
+    private static final String POST_COUNT_ALL_FIELD = "all";
+    private static final String POST_CATEGORY_KEY = "post:category";
+    private static final String POST_VERSION_KEY = "post:version";
+    private static final String MODE_OFFSET = "offset";
+    private static final String MODE_CURSOR = "cursor";
+    private static final String MODE_FEED = "feed";
+    private static final String MODE_SINCE = "since";
+    private static final String MODE_SAVE = "save";
+    private static final String MODE_MODIFY = "modify";
+    private static final String VIEW_PREVIEW = "preview";
+    private static final String VIEW_JSON = "json";
+    private static final String FRAGMENT_WRITER_FIELD = "writer";
+    private static final String FRAGMENT_JSON_FIELD = "json";
+    //잘렸는지 알 수 있도록 미리보기보다 길게 저장한다. 서로게이트 쌍이 나뉘지 않게 줄여도 한 글자 이상 남는다.
+    private static final int PREVIEW_CACHE_LENGTH = PostResponse.PREVIEW_LENGTH + 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POST_PAGE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-page.lua"), List.class);
+    private static final RedisScript<Long> POST_SAVE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-save.lua"), Long.class);
+    private static final RedisScript<Long> POST_DELETE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-delete.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POST_CHECKSUM_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-checksum.lua"), List.class);
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
 
     private final RedisTemplate<String, RedisPost> redisPostRedisTemplate;
     private final RedisTemplate<String, String> allPostStringRedisTemplate;
+    //워밍업 파이프라인, 체크섬처럼 오래 걸리는 명령은 긴 타임아웃으로 보낸다.
+    @Qualifier("batchStringRedisTemplate")
+    private final RedisTemplate<String, String> batchStringRedisTemplate;
+    private final RedisTemplate<String, User> userRedisTemplate;
+    private final RedisTemplate<String, Category> categoryRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostVersionCacheRepository postVersionCacheRepository;
 
-    private final UserCacheRepository userCacheRepository;
-    private final CategoryCacheRepository categoryCacheRepository;
-    private final LikeCacheRepository likeCacheRepository;
-    private final CommentCacheRepository commentCacheRepository;
+    @Value("${cache.post-page.fragment-enabled:false}")
+    private boolean fragmentEnabled;
+    @Value("${cache.post.hot-window.max-size:10000}")
+    private long hotWindowMaxSize;
+    @Value("${cache.post.hot-window.days:30}")
+    private int hotWindowDays;
+    @Value("${cache.post.writer-timeline.ttl:1d}")
+    private Duration writerTimelineTtl;
+    @Value("${cache.post.detail.ttl:10m}")
+    private Duration detailTtl;
 
+    /**
+     * 최근 게시글(hot window)만 캐시한다.
+     * <p>
+     * 게시글은 작성 후 hot-window.days가 지나면 만료되고, post:all은 최신 hot-window.max-size개만 유지한다.
+     */
     public void save(Post post) {
+        write(MODE_SAVE, post, post.getCategory().getId());
+        postVersionCacheRepository.bump(post.getId());
+    }
+
+    public void saveTotalCount(long count) {
+        allPostStringRedisTemplate.opsForHash().put(POST_COUNT_KEY, POST_COUNT_ALL_FIELD, String.valueOf(count));
+    }
+
+    public void saveCategoryCount(Long categoryId, long count) {
+        allPostStringRedisTemplate.opsForHash().put(POST_COUNT_KEY, getCountField(categoryId), String.valueOf(count));
+    }
+
+    /**
+     * 캐시된 게시글 수
+     *
+     * @param categoryId 전체 게시글이면 null
+     * @return 캐시되지 않았으면 null
+     */
+    public Long findCount(Long categoryId) {
+        Object count = allPostStringRedisTemplate.opsForHash().get(POST_COUNT_KEY, getCountField(categoryId));
+        return count == null ? null : Long.parseLong((String) count);
+    }
+
+    /**
+     * 이 시각 이후 작성된 게시글만 캐시한다.
+     */
+    public Timestamp getHotWindowStart() {
+        return new Timestamp(System.currentTimeMillis() - Duration.ofDays(hotWindowDays).toMillis());
+    }
+
+    public long getHotWindowMaxSize() {
+        return hotWindowMaxSize;
+    }
+
+    /**
+     * 현재 캐시된 게시글 수와 가장 오래된 게시글 ID
+     * <p>
+     * 기간이 지난 게시글은 다음 저장 때까지 Sorted Set에 남아 있지만 본문이 만료되었으므로 세지 않는다.
+     *
+     * @param categoryId 전체 게시글이면 null
+     */
+    public HotWindow getHotWindow(Long categoryId) {
+        String key = getTimelineKey(categoryId);
+        double windowStart = getHotWindowStart().getTime();
+        Long size = allPostStringRedisTemplate.opsForZSet().count(key, windowStart, Double.POSITIVE_INFINITY);
+        Set<String> oldest = allPostStringRedisTemplate.opsForZSet().rangeByScore(key, windowStart, Double.POSITIVE_INFINITY, 0, 1);
+
+        return new HotWindow(size == null ? 0 : size,
+                oldest == null || oldest.isEmpty() ? null : Long.parseLong(oldest.iterator().next()));
+    }
+
+    /**
+     * 게시글 응답을 JSON 조각 모드 목록과 같은 형태(미리보기)로 변환
+     */
+    public RawValue toJson(PostResponse response) {
+        return new RawValue(objectMapper.valueToTree(response.toPreview()).toString());
+    }
+
+    /**
+     * 게시글 JSON 조각 모드 사용 여부
+     */
+    public boolean isFragmentEnabled() {
+        return fragmentEnabled;
+    }
+
+    /**
+     * 게시글 목록 조회
+     * <p>
+     * 1. Lua 스크립트로 게시글 ID, 전체 개수, 게시글 미리보기(post:{id}:preview), 좋아요/댓글 수를 한 번에 조회
+     * <p>
+     * 2. 파이프라인으로 작성자, 카테고리를 한 번에 조회
+     * <p>
+     * 목록 조회는 모두 본문 대신 미리보기를 읽으므로 content는 {@link PostResponse#PREVIEW_LENGTH}까지만 채운다.
+     *
+     * @param categoryId 전체 게시글이면 null
+     */
+    public PageDto<PostResponse> findAll(Long categoryId, int pageNum, int pageSize) {
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        PostPage page = findPage(List.of(getTimelineKey(categoryId), POST_COUNT_KEY), getCountField(categoryId), MODE_OFFSET, String.valueOf(start), String.valueOf(end), "", VIEW_PREVIEW, getMinScore());
+
+        return PageDto.of(pageNum, pageSize, page.total(), toResponses(page.entries(), true));
+    }
+
+    /**
+     * 게시글 목록을 응답 JSON 그대로 조회
+     * <p>
+     * 저장 시 미리 만들어 둔 게시글 JSON 조각에 작성자와 좋아요/댓글 수만 이어 붙인다.
+     * 조각이 없는 게시글은 게시글로 조각을 만든다.
+     */
+    public PageDto<RawValue> findAllAsJson(Long categoryId, int pageNum, int pageSize) {
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        PostPage page = findPage(List.of(getTimelineKey(categoryId), POST_COUNT_KEY), getCountField(categoryId), MODE_OFFSET, String.valueOf(start), String.valueOf(end), "", VIEW_JSON, getMinScore());
+
+        return PageDto.of(pageNum, pageSize, page.total(), toFragments(page.entries()));
+    }
+
+    /**
+     * 커서 방식 게시글 목록 조회
+     * <p>
+     * 다음 페이지 존재 여부를 알기 위해 pageSize + 1개를 조회한다.
+     *
+     * @param categoryId 전체 게시글이면 null
+     * @param cursor     첫 페이지는 null
+     */
+    public PageDto<PostResponse> findAllByCursor(Long categoryId, PostCursor cursor, int pageSize) {
+        String score = cursor == null ? "" : String.valueOf(cursor.getScore());
+        String postId = cursor == null ? "" : String.valueOf(cursor.getPostId());
+
+        PostPage page = findPage(List.of(getTimelineKey(categoryId), POST_COUNT_KEY), getCountField(categoryId), MODE_CURSOR, score, postId, String.valueOf(pageSize + 1), VIEW_PREVIEW, getMinScore());
+
+        List<PostEntry> entries = page.entries();
+        String nextCursor = null;
+
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            PostEntry last = entries.get(pageSize - 1);
+            nextCursor = PostCursor.of(last.score(), last.id()).encode();
+        }
+
+        return PageDto.ofCursor(pageSize, page.total(), nextCursor, toResponses(entries, true));
+    }
+
+    /**
+     * 커서 이후 작성된 게시글을 오래된 순으로 최대 limit개 조회
+     *
+     * @param categoryId 전체 게시글이면 null
+     * @param cursor     null이면 게시글 없이 가장 최근 게시글의 커서만 반환
+     * @return hot window가 잘려 커서 이후 게시글이 모두 캐시되어 있지 않으면 null
+     */
+    public PostDelta findAllSince(Long categoryId, PostCursor cursor, int limit) {
+        String score = cursor == null ? "" : String.valueOf(cursor.getScore());
+        String postId = cursor == null ? "" : String.valueOf(cursor.getPostId());
+
+        PostPage page = findPage(List.of(getTimelineKey(categoryId), POST_COUNT_KEY), getCountField(categoryId), MODE_SINCE, score, postId, String.valueOf(limit + 1), VIEW_PREVIEW, getMinScore());
+
+        if (page.total() < 0) {
+            return null;
+        }
+
+        List<PostEntry> entries = page.entries();
+
+        if (cursor == null) {
+            PostCursor latest = entries.isEmpty() ? null : PostCursor.of(entries.get(0).score(), entries.get(0).id());
+            return new PostDelta(List.of(), latest, false);
+        }
+
+        boolean hasMore = entries.size() > limit;
+
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        PostEntry last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+        PostCursor latest = last == null ? cursor : PostCursor.of(last.score(), last.id());
+
+        return new PostDelta(toResponses(entries, true), latest, hasMore);
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회
+     * <p>
+     * 작성자별 게시글 ID는 작성자의 모든 게시글을 가지므로 전체 게시글 수는 ZCARD로 구한다.
+     * hot window 밖이라 캐시되지 않은 게시글은 cachedPosts에 없다.
+     *
+     * @return 작성자별 게시글 ID가 캐시되지 않았으면 null
+     */
+    public PostIdPage findAllByWriter(String loginId, int pageNum, int pageSize) {
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        PostPage page = findPage(List.of(getWriterTimelineKey(loginId), POST_COUNT_KEY), "", MODE_OFFSET, String.valueOf(start), String.valueOf(end), "", VIEW_PREVIEW, "");
+
+        if (page.total() < 0) {
+            return null;
+        }
+
+        return toPostIdPage(page);
+    }
+
+    /**
+     * 피드 조회
+     * <p>
+     * 팔로워가 적은 작성자의 게시글 ID는 피드(feed:{loginId})에 미리 넣어 두고,
+     * 팔로워가 많은 작성자(feed:{loginId}:pull)의 게시글 ID는 작성자별 게시글 ID에서 가져와 합친다.
+     *
+     * @return 피드가 캐시되지 않았으면 null
+     */
+    public PostIdPage findFeed(String loginId, int pageNum, int pageSize) {
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        PostPage page = findPage(List.of(FeedCacheRepository.getInboxKey(loginId), POST_COUNT_KEY, FeedCacheRepository.getPullKey(loginId)),
+                "", MODE_FEED, String.valueOf(start), String.valueOf(end), "", VIEW_PREVIEW, "");
+
+        if (page.total() < 0) {
+            return null;
+        }
+
+        return toPostIdPage(page);
+    }
+
+    /**
+     * 인기 게시글 조회
+     * <p>
+     * 점수 순으로 게시글 ID를 조회하고 게시글 목록과 같은 방식으로 게시글을 채운다.
+     * hot window 밖이라 캐시되지 않은 게시글은 cachedPosts에 없다.
+     */
+    public PostIdPage findTrending(int pageNum, int pageSize) {
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        PostPage page = findPage(List.of(TrendingCacheRepository.TRENDING_KEY, POST_COUNT_KEY), "", MODE_OFFSET, String.valueOf(start), String.valueOf(end), "", VIEW_PREVIEW, "");
+
+        //아직 점수가 쌓인 게시글이 없음
+        if (page.total() < 0) {
+            return new PostIdPage(0, List.of(), List.of(), List.of());
+        }
+
+        return toPostIdPage(page);
+    }
+
+    /**
+     * DB에서 조회한 작성자의 모든 게시글 ID를 캐시한다.
+     */
+    public void saveWriterTimeline(String loginId, List<PostTimelineDto> timeline) {
+        byte[] key = encode(getWriterTimelineKey(loginId));
+        Set<Tuple> tuples = timeline.stream()
+                .map(entry -> (Tuple) new DefaultTuple(encode(entry.getPostId()), (double) entry.getCreatedAt().getTime()))
+                .collect(Collectors.toSet());
+
+        allPostStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, tuples);
+            connection.keyCommands().pExpire(key, writerTimelineTtl.toMillis());
+            return null;
+        });
+    }
+
+    /**
+     * 여러 게시글을 파이프라인 1번으로 저장한다. hot window 밖의 게시글은 건너뛴다.
+     * <p>
+     * 작성자, 카테고리도 캐시되지 않았으면 함께 캐시하고, 통계가 없으면 주어진 좋아요/댓글 수와 DB 조회수로 채운다.
+     * 게시글 수는 늘어나므로 저장이 끝나면 DB 기준으로 다시 채워야 한다.
+     */
+    @SuppressWarnings("unchecked")
+    public void saveAll(List<Post> posts, Map<Long, Long> likeCounts, Map<Long, Long> commentCounts) {
+        long windowStart = getHotWindowStart().getTime();
+        List<Post> targets = posts.stream().filter(post -> post.getCreatedAt().getTime() > windowStart).toList();
+
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<User> userSerializer = (RedisSerializer<User>) userRedisTemplate.getValueSerializer();
+        RedisSerializer<Category> categorySerializer = (RedisSerializer<Category>) categoryRedisTemplate.getValueSerializer();
+        Map<String, User> writers = new HashMap<>();
+        Map<Long, Category> categories = new HashMap<>();
+        targets.forEach(post -> {
+            writers.putIfAbsent(post.getUser().getLoginId(), post.getUser());
+            categories.putIfAbsent(post.getCategory().getId(), post.getCategory());
+        });
+
+        batchStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            //파이프라인 안에서는 EVALSHA 실패 시 EVAL로 다시 보낼 수 없어 스크립트를 먼저 올린다.
+            connection.scriptingCommands().scriptLoad(encode(POST_SAVE_SCRIPT.getScriptAsString()));
+
+            writers.forEach((loginId, user) -> connection.stringCommands().set(encode(UserCacheRepository.getKey(loginId)),
+                    userSerializer.serialize(user), Expiration.persistent(), RedisStringCommands.SetOption.ifAbsent()));
+            categories.forEach((categoryId, category) -> connection.stringCommands().set(encode(CategoryCacheRepository.getKey(categoryId)),
+                    categorySerializer.serialize(category), Expiration.persistent(), RedisStringCommands.SetOption.ifAbsent()));
+
+            for (Post post : targets) {
+                byte[] statsKey = encode(PostStatsCacheRepository.getKey(post.getId()));
+                connection.hashCommands().hSetNX(statsKey, encode(PostStatsCacheRepository.LIKES_FIELD), encode(likeCounts.getOrDefault(post.getId(), 0L)));
+                connection.hashCommands().hSetNX(statsKey, encode(PostStatsCacheRepository.COMMENTS_FIELD), encode(commentCounts.getOrDefault(post.getId(), 0L)));
+
+                Long categoryId = post.getCategory().getId();
+                byte[][] keys = toRawKeys(getSaveKeys(post, categoryId));
+                byte[][] args = getSaveArgs(MODE_SAVE, post, categoryId, windowStart);
+                byte[][] keysAndArgs = new byte[keys.length + args.length][];
+                System.arraycopy(keys, 0, keysAndArgs, 0, keys.length);
+                System.arraycopy(args, 0, keysAndArgs, keys.length, args.length);
+
+                connection.scriptingCommands().evalSha(POST_SAVE_SCRIPT.getSha1(), ReturnType.INTEGER, keys.length, keysAndArgs);
+            }
+            return null;
+        });
+
+        postVersionCacheRepository.bump(targets.stream().map(Post::getId).toList());
+    }
+
+    /**
+     * 게시글 통계는 유지하고 게시글만 덮어쓴다. hot window 밖의 게시글은 캐시하지 않는다.
+     * <p>
+     * 카테고리가 바뀌면 카테고리별 게시글 ID와 게시글 수도 옮긴다.
+     */
+    public void modify(Post post, Long previousCategoryId) {
+        write(MODE_MODIFY, post, previousCategoryId);
+        postVersionCacheRepository.bump(post.getId());
+    }
+
+    /**
+     * 게시글 상세 조회
+     *
+     * @return 게시글, 통계, 작성자, 카테고리 중 하나라도 캐시되지 않았으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public PostResponse findById(Long postId) {
+        List<Object> results = allPostStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(encode(getKey(postId)));
+            connection.hashCommands().hMGet(encode(PostStatsCacheRepository.getKey(postId)), encode(PostStatsCacheRepository.LIKES_FIELD), encode(PostStatsCacheRepository.COMMENTS_FIELD));
+            return null;
+        }, RedisSerializer.byteArray());
+
+        byte[] rawPost = (byte[]) results.get(0);
+        List<byte[]> stats = (List<byte[]>) results.get(1);
+
+        if (rawPost == null || stats.get(0) == null) {
+            return null;
+        }
+
+        RedisPost post = (RedisPost) redisPostRedisTemplate.getValueSerializer().deserialize(rawPost);
+        List<PostResponse> responses = toResponses(List.of(new PostEntry(postId, 0, post, toCount(stats.get(0)), toCount(stats.get(1)), post.getUserLoginId(), null)), false);
+
+        return responses.isEmpty() ? null : responses.get(0);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회한다. 게시글은 MGET, 통계는 HMGET을 파이프라인으로 한 번에 보낸다.
+     *
+     * @return 캐시된 게시글 (게시글, 통계, 작성자, 카테고리 중 하나라도 캐시되지 않은 게시글은 제외)
+     */
+    @SuppressWarnings("unchecked")
+    public List<PostResponse> findAllByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        byte[][] postKeys = postIds.stream().map(postId -> encode(getKey(postId))).toArray(byte[][]::new);
+        byte[] likesField = encode(PostStatsCacheRepository.LIKES_FIELD);
+        byte[] commentsField = encode(PostStatsCacheRepository.COMMENTS_FIELD);
+
+        List<Object> results = allPostStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(postKeys);
+            postIds.forEach(postId -> connection.hashCommands().hMGet(encode(PostStatsCacheRepository.getKey(postId)), likesField, commentsField));
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<byte[]> rawPosts = (List<byte[]>) results.get(0);
+        List<PostEntry> entries = new ArrayList<>(postIds.size());
+
+        for (int i = 0; i < postIds.size(); i++) {
+            List<byte[]> stats = (List<byte[]>) results.get(i + 1);
+
+            if (rawPosts.get(i) == null || stats.get(0) == null) {
+                continue;
+            }
+
+            RedisPost post = (RedisPost) redisPostRedisTemplate.getValueSerializer().deserialize(rawPosts.get(i));
+            entries.add(new PostEntry(postIds.get(i), 0, post, toCount(stats.get(0)), toCount(stats.get(1)), post.getUserLoginId(), null));
+        }
+
+        return toResponses(entries, false);
+    }
+
+    /**
+     * 상세 조회 시 DB에서 읽은 게시글을 detail.ttl 동안 캐시한다. hot window 게시글은 이미 캐시되어 있으므로 덮어쓰지 않는다.
+     *
+     * @return 통계가 캐시되지 않았으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public PostResponse saveDetail(Post post) {
+        RedisPost redisPost = RedisPost.of(post);
+        byte[] key = encode(getKey(post.getId()));
+        byte[] value = serialize(redisPost);
+
+        List<Object> results = allPostStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(key, value, Expiration.from(detailTtl), RedisStringCommands.SetOption.ifAbsent());
+            connection.hashCommands().hMGet(encode(PostStatsCacheRepository.getKey(post.getId())), encode(PostStatsCacheRepository.LIKES_FIELD), encode(PostStatsCacheRepository.COMMENTS_FIELD));
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<byte[]> stats = (List<byte[]>) results.get(1);
+
+        if (stats.get(0) == null) {
+            return null;
+        }
+
+        return PostResponse.of(post.getUser(), post.getCategory(), redisPost, toCount(stats.get(0)), toCount(stats.get(1)));
+    }
+
+    /**
+     * post:all, 카테고리/작성자별 게시글 ID, 인기 게시글, 게시글, 미리보기, JSON 조각, 통계, 조회자를 한 번에 삭제하고 게시글 수를 줄인다.
+     */
+    public void delete(Post post) {
+        delete(post.getId(), post.getCategory().getId(), post.getUser().getLoginId());
+    }
+
+    /**
+     * 게시글 엔티티 없이 삭제한다. 게시글 이벤트 tombstone처럼 ID, 카테고리, 작성자만 알 때 사용한다.
+     */
+    public void delete(Long postId, Long categoryId, String writerLoginId) {
+        List<String> keys = new ArrayList<>(getWriteKeys(postId));
+        keys.add(getTimelineKey(categoryId));
+        keys.add(POST_CATEGORY_KEY);
+        keys.add(getWriterTimelineKey(writerLoginId));
+        keys.add(TrendingCacheRepository.TRENDING_KEY);
+        keys.add(PostViewCacheRepository.getViewersKey(postId));
+        keys.add(POST_VERSION_KEY);
+        keys.add(getPreviewKey(postId));
+
+        allPostStringRedisTemplate.execute(POST_DELETE_SCRIPT,
+                RedisSerializer.string(),
+                LONG_SERIALIZER,
+                keys,
+                String.valueOf(postId), POST_COUNT_ALL_FIELD, getCountField(categoryId));
+        postVersionCacheRepository.bump(postId);
+    }
+
+    /**
+     * 캐시된 게시글 중 가장 작은 ID
+     *
+     * @return 캐시된 게시글이 없으면 null
+     */
+    public Long findLowestCachedId() {
+        Set<String> lowest = allPostStringRedisTemplate.opsForZSet().range(POST_VERSION_KEY, 0, 0);
+        return lowest == null || lowest.isEmpty() ? null : Long.parseLong(lowest.iterator().next().split(":")[0]);
+    }
+
+    /**
+     * (afterId, toId] 범위에 캐시된 게시글의 체크섬. 게시글은 읽지 않고 post:version만 읽는다.
+     */
+    @SuppressWarnings("unchecked")
+    public RangeChecksum findChecksum(long afterId, long toId) {
+        List<Long> result = batchStringRedisTemplate.execute(POST_CHECKSUM_SCRIPT, List.of(POST_VERSION_KEY), String.valueOf(afterId), String.valueOf(toId));
+
+        if (result == null) {
+            return new RangeChecksum(0, 0, 0);
+        }
+        return new RangeChecksum(result.get(0), result.get(1), result.get(2));
+    }
+
+    /**
+     * (afterId, toId] 범위에 캐시된 게시글의 수정 시각(ms)
+     */
+    public Map<Long, Long> findVersions(long afterId, long toId) {
+        Set<String> members = allPostStringRedisTemplate.opsForZSet().rangeByScore(POST_VERSION_KEY, afterId + 1, toId);
+        Map<Long, Long> versions = new HashMap<>();
+
+        if (members != null) {
+            for (String member : members) {
+                String[] parts = member.split(":");
+                versions.put(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            }
+        }
+
+        return versions;
+    }
+
+    /**
+     * (afterId, toId] 범위에 캐시된(hot window) 게시글 ID
+     */
+    public List<Long> findCachedIds(long afterId, long toId) {
+        return new ArrayList<>(findVersions(afterId, toId).keySet());
+    }
+
+    /**
+     * 캐시된 게시글의 카테고리 ID. 캐시되지 않은 게시글은 빠진다.
+     */
+    public Map<Long, Long> findCachedCategoryIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> fields = new ArrayList<>(postIds);
+        fields.replaceAll(String::valueOf);
+        List<Object> categoryKeys = allPostStringRedisTemplate.opsForHash().multiGet(POST_CATEGORY_KEY, fields);
+        Map<Long, Long> categoryIds = new HashMap<>();
+
+        int i = 0;
+        for (Long postId : postIds) {
+            Object categoryKey = categoryKeys.get(i++);
+            if (categoryKey != null) {
+                String key = (String) categoryKey;
+                categoryIds.put(postId, Long.parseLong(key.substring(key.lastIndexOf(':') + 1)));
+            }
+        }
+
+        return categoryIds;
+    }
+
+    /**
+     * DB에 없는 게시글을 캐시에서 삭제한다. 카테고리와 작성자는 캐시된 값을 사용한다.
+     */
+    public void deleteAll(Collection<Long> postIds) {
+        Map<Long, Long> categoryIds = findCachedCategoryIds(postIds);
+        List<RedisPost> posts = redisPostRedisTemplate.opsForValue().multiGet(postIds.stream().map(this::getKey).toList());
+        Map<Long, RedisPost> cachedPosts = new HashMap<>();
+
+        if (posts != null) {
+            posts.stream().filter(Objects::nonNull).forEach(post -> cachedPosts.put(post.getId(), post));
+        }
+
+        for (Long postId : postIds) {
+            RedisPost cached = cachedPosts.get(postId);
+            Long categoryId = categoryIds.getOrDefault(postId, cached == null ? null : cached.getCategoryId());
+
+            if (categoryId == null) {
+                //카테고리를 알 수 없으면 게시글 수는 그대로 두고 버전만 지운다.
+                allPostStringRedisTemplate.opsForZSet().removeRangeByScore(POST_VERSION_KEY, postId, postId);
+                continue;
+            }
+
+            delete(postId, categoryId, cached == null ? "" : cached.getUserLoginId());
+        }
+    }
+
+    /**
+     * Lua 스크립트로 post:all, 카테고리별 게시글 ID, 게시글, 미리보기, JSON 조각, 통계 초기화, 게시글 수, hot window 정리를 한 번에 처리한다.
+     */
+    private void write(String mode, Post post, Long previousCategoryId) {
+        Long categoryId = post.getCategory().getId();
         long score = post.getCreatedAt().getTime();
+        long windowStart = getHotWindowStart().getTime();
+        long ttl = score - windowStart;
+
+        //hot window 밖의 게시글은 카테고리가 바뀐 경우에만 게시글 수를 옮긴다.
+        if (ttl <= 0 && (MODE_SAVE.equals(mode) || categoryId.equals(previousCategoryId))) {
+            if (MODE_MODIFY.equals(mode)) {
+                //상세 조회로 캐시된 게시글은 지우고 다음 조회 시 다시 읽는다.
+                allPostStringRedisTemplate.delete(List.of(getKey(post.getId()), getPreviewKey(post.getId()), getJsonKey(post.getId())));
+            }
+            return;
+        }
+
+        allPostStringRedisTemplate.execute(POST_SAVE_SCRIPT,
+                RedisSerializer.byteArray(),
+                LONG_SERIALIZER,
+                getSaveKeys(post, previousCategoryId),
+                (Object[]) getSaveArgs(mode, post, previousCategoryId, windowStart));
+    }
+
+    private List<String> getSaveKeys(Post post, Long previousCategoryId) {
+        List<String> keys = new ArrayList<>(getWriteKeys(post.getId()));
+        keys.add(getTimelineKey(post.getCategory().getId()));
+        keys.add(getTimelineKey(previousCategoryId));
+        keys.add(POST_CATEGORY_KEY);
+        keys.add(getWriterTimelineKey(post.getUser().getLoginId()));
+        keys.add(POST_VERSION_KEY);
+        keys.add(getPreviewKey(post.getId()));
+        keys.add(PostViewCacheRepository.PENDING_KEY);
+        keys.add(PostViewCacheRepository.PERSISTING_KEY);
+        return keys;
+    }
+
+    private byte[][] getSaveArgs(String mode, Post post, Long previousCategoryId, long windowStart) {
         RedisPost redisPost = RedisPost.of(post);
+        RedisPost preview = redisPost.withContent(PostResponse.cutContent(redisPost.getContent(), PREVIEW_CACHE_LENGTH));
+        long score = post.getCreatedAt().getTime();
+        String writer = "";
+        String fragment = "";
+
+        if (fragmentEnabled) {
+            writer = redisPost.getUserLoginId();
+            fragment = renderFragment(objectMapper, PostResponse.of(post.getUser(), post.getCategory(), preview, 0, 0).toPreview());
+        }
+
+        return new byte[][]{encode(mode), encode(post.getId()), encode(score), encode(score - windowStart), serialize(redisPost),
+                encode(writer), encode(fragment), encode(POST_COUNT_ALL_FIELD), encode(windowStart), encode(hotWindowMaxSize),
+                encode(getCountField(post.getCategory().getId())), encode(getCountField(previousCategoryId)),
+                encode(post.getModifiedAt() == null ? 0 : post.getModifiedAt().getTime()), serialize(preview), encode(post.getViewCount())};
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(RedisPost redisPost) {
+        return ((RedisSerializer<RedisPost>) redisPostRedisTemplate.getValueSerializer()).serialize(redisPost);
+    }
+
+    private List<String> getWriteKeys(Long postId) {
+        return List.of(POST_ALL_KEY, POST_COUNT_KEY, getKey(postId), getJsonKey(postId), PostStatsCacheRepository.getKey(postId));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PostPage findPage(List<String> keys, String countField, String mode, String from, String to, String count, String view, String minScore) {
+        List<Object> result = allPostStringRedisTemplate.execute(POST_PAGE_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer<List>) (RedisSerializer<?>) RedisSerializer.byteArray(),
+                keys,
+                mode, from, to, count, view, countField, minScore);
+
+        if (result == null) {
+            return new PostPage(0L, List.of(), List.of());
+        }
+
+        long total = (Long) result.get(0);
+        List<byte[]> ids = (List<byte[]>) result.get(1);
+        List<byte[]> scores = (List<byte[]>) result.get(2);
+        List<byte[]> rawPosts = (List<byte[]>) result.get(3);
+        List<Long> likeCounts = (List<Long>) result.get(4);
+        List<Long> commentCounts = (List<Long>) result.get(5);
+        List<byte[]> writers = (List<byte[]>) result.get(6);
+        List<byte[]> fragments = (List<byte[]>) result.get(7);
+        List<String> uncachedWriters = result.size() > 8 ? ((List<byte[]>) result.get(8)).stream().map(PostCacheRepository::decode).toList() : List.of();
+
+        List<PostEntry> entries = new ArrayList<>(ids.size());
+
+        for (int i = 0; i < ids.size(); i++) {
+            RedisPost post = rawPosts.get(i) == null ? null : (RedisPost) redisPostRedisTemplate.getValueSerializer().deserialize(rawPosts.get(i));
+            String fragment = fragments.isEmpty() || fragments.get(i) == null ? null : decode(fragments.get(i));
+            String writerLoginId = fragment != null ? decode(writers.get(i)) : post == null ? null : post.getUserLoginId();
+
+            entries.add(new PostEntry(Long.parseLong(decode(ids.get(i))),
+                    (long) Double.parseDouble(decode(scores.get(i))),
+                    post,
+                    likeCounts.get(i).intValue(),
+                    commentCounts.get(i).intValue(),
+                    writerLoginId,
+                    fragment));
+        }
 
-        allPostStringRedisTemplate.opsForZSet().add(POST_ALL_KEY, String.valueOf(post.getId()), score);
-        redisPostRedisTemplate.opsForValue().set(getKey(post.getId()), redisPost);
+        return new PostPage(total, entries, uncachedWriters);
     }
 
-    public PageDto<PostResponse> findAll(int pageNum, int pageSize) {
-        int start = (pageNum - 1) * pageSize;
-        int end = start + pageSize - 1;
-        Set<String> postIds = allPostStringRedisTemplate.opsForZSet().reverseRange(POST_ALL_KEY, start, end);
+    private PostIdPage toPostIdPage(PostPage page) {
+        return new PostIdPage(page.total(), page.entries().stream().map(PostEntry::id).toList(), toResponses(page.entries(), true), page.uncachedWriters());
+    }
+
+    /**
+     * @param preview 목록 조회면 true. 미리보기가 없어 게시글을 읽은 경우에도 content를 자른다.
+     */
+    private List<PostResponse> toResponses(List<PostEntry> entries, boolean preview) {
+        //만료되었거나 삭제된 게시글은 제외
+        List<PostEntry> cachedEntries = entries.stream().filter(entry -> entry.post() != null).toList();
+
+        if (cachedEntries.isEmpty()) {
+            return List.of();
+        }
+
+        Lookup lookup = lookup(cachedEntries);
+        List<PostResponse> content = new ArrayList<>(cachedEntries.size());
+
+        for (PostEntry entry : cachedEntries) {
+            RedisPost post = entry.post();
+            User user = lookup.users().get(UserCacheRepository.getKey(post.getUserLoginId()));
+            Category category = lookup.categories().get(CategoryCacheRepository.getKey(post.getCategoryId()));
+
+            if (user == null || category == null) {
+                log.warn("[post cache] writer or category not found. postId={}", post.getId());
+                continue;
+            }
 
-        if (ObjectUtils.isEmpty(postIds)) {
-            return PageDto.of(pageNum, pageSize, count(), List.of());
+            PostResponse response = PostResponse.of(user, category, post, entry.likeCount(), entry.commentCount());
+            content.add(preview ? response.toPreview() : response);
         }
 
-        List<String> keys = postIds.stream().map(Long::valueOf).map(this::getKey).toList();
-        List<RedisPost> posts = redisPostRedisTemplate.opsForValue().multiGet(keys);
+        return content;
+    }
+
+    private List<RawValue> toFragments(List<PostEntry> entries) {
+        //만료되었거나 삭제된 게시글은 제외
+        List<PostEntry> cachedEntries = entries.stream().filter(entry -> entry.fragment() != null || entry.post() != null).toList();
 
-        if (ObjectUtils.isEmpty(posts)) {
-            return PageDto.of(pageNum, pageSize, count(), List.of());
+        if (cachedEntries.isEmpty()) {
+            return List.of();
         }
 
-        Category category = categoryCacheRepository.findById(1L);
+        Lookup lookup = lookup(cachedEntries);
+        Map<String, String> writerJsonMap = new HashMap<>();
+        List<RawValue> content = new ArrayList<>(cachedEntries.size());
+
+        for (PostEntry entry : cachedEntries) {
+            User user = lookup.users().get(UserCacheRepository.getKey(entry.writerLoginId()));
+
+            if (user == null) {
+                log.warn("[post cache] writer not found. postId={}", entry.id());
+                continue;
+            }
+
+            String fragment = entry.fragment();
+
+            if (fragment == null) {
+                Category category = lookup.categories().get(CategoryCacheRepository.getKey(entry.post().getCategoryId()));
+
+                if (category == null) {
+                    log.warn("[post cache] category not found. postId={}", entry.id());
+                    continue;
+                }
 
-        List<String> userLoginIdList = posts.stream().map(RedisPost::getUserLoginId).toList();
-        Map<String, User> userLoginIdMap = userCacheRepository.getLoginIdMap(userLoginIdList);
+                fragment = renderFragment(objectMapper, PostResponse.of(user, category, entry.post(), 0, 0).toPreview());
+            }
 
-        List<PostResponse> content = posts.stream()
-                .map(post -> {
-                    int likeCount = likeCacheRepository.countByPostId(post.getId());
-                    int commentCount = commentCacheRepository.countByPostId(post.getId());
-                    return PostResponse.of(userLoginIdMap.get(post.getUserLoginId()), category, post, likeCount, commentCount);
-                })
+            String writerJson = writerJsonMap.computeIfAbsent(user.getLoginId(), loginId -> objectMapper.valueToTree(PostResponse.Writer.of(user)).toString());
+            content.add(new RawValue(splice(fragment, writerJson, entry.likeCount(), entry.commentCount())));
+        }
+
+        return content;
+    }
+
+    /**
+     * 작성자와 카테고리(JSON 조각이 없는 게시글만)를 파이프라인으로 한 번에 조회
+     */
+    private Lookup lookup(List<PostEntry> entries) {
+        List<String> userKeys = entries.stream().map(PostEntry::writerLoginId).distinct().map(UserCacheRepository::getKey).toList();
+        List<String> categoryKeys = entries.stream()
+                .filter(entry -> entry.fragment() == null)
+                .map(entry -> entry.post().getCategoryId())
+                .distinct()
+                .map(CategoryCacheRepository::getKey)
                 .toList();
 
-        return PageDto.of(pageNum, pageSize, count(), content);
+        List<Object> lookups = allPostStringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(toRawKeys(userKeys));
+            if (!categoryKeys.isEmpty()) {
+                connection.stringCommands().mGet(toRawKeys(categoryKeys));
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        Map<String, User> userMap = toMap(userKeys, lookups.get(0), userRedisTemplate.getValueSerializer());
+        Map<String, Category> categoryMap = categoryKeys.isEmpty() ? Map.of() : toMap(categoryKeys, lookups.get(1), categoryRedisTemplate.getValueSerializer());
+
+        return new Lookup(userMap, categoryMap);
+    }
+
+    /**
+     * 작성자와 좋아요/댓글 수를 뺀 게시글 응답 JSON
+     */
+    static String renderFragment(ObjectMapper objectMapper, PostResponse response) {
+        ObjectNode node = objectMapper.valueToTree(response);
+        node.remove(List.of("writer", "likeCount", "commentCount"));
+        return node.toString();
     }
 
-    public void modify(Post post) {
-        deleteById(post.getId());
-        save(post);
+    /**
+     * 게시글 JSON 조각 끝에 작성자와 좋아요/댓글 수를 이어 붙인다.
+     */
+    static String splice(String fragment, String writerJson, int likeCount, int commentCount) {
+        return new StringBuilder(fragment.length() + writerJson.length() + 48)
+                .append(fragment, 0, fragment.length() - 1)
+                .append(",\"writer\":").append(writerJson)
+                .append(",\"likeCount\":").append(likeCount)
+                .append(",\"commentCount\":").append(commentCount)
+                .append('}')
+                .toString();
     }
 
-    public void deleteById(Long postId) {
-        String key = getKey(postId);
-        allPostStringRedisTemplate.delete(key);
-        redisPostRedisTemplate.opsForZSet().remove(key, String.valueOf(postId));
+    @SuppressWarnings("unchecked")
+    private static <T> Map<String, T> toMap(List<String> keys, Object rawValues, RedisSerializer<?> serializer) {
+        List<byte[]> values = (List<byte[]>) rawValues;
+        Map<String, T> map = new HashMap<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) != null) {
+                map.put(keys.get(i), (T) serializer.deserialize(values.get(i)));
+            }
+        }
+
+        return map;
     }
 
-    private long count() {
-        Long postCount = redisPostRedisTemplate.opsForZSet().zCard(POST_ALL_KEY);
-        return postCount == null ? 0L : postCount;
+    private static byte[][] toRawKeys(List<String> keys) {
+        return keys.stream().map(key -> key.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+    }
+
+    private static byte[] encode(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int toCount(byte[] value) {
+        return value == null ? 0 : Integer.parseInt(decode(value));
+    }
+
+    private static String decode(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 게시글 ID Sorted Set 키. 전체 게시글이면 post:all
+     */
+    /**
+     * 게시글 목록 조회 시 이보다 오래된 게시글은 본문이 만료되었으므로 조회하지 않는다.
+     */
+    private String getMinScore() {
+        return String.valueOf(getHotWindowStart().getTime());
+    }
+
+    private static String getTimelineKey(Long categoryId) {
+        return categoryId == null ? POST_ALL_KEY : "post:cat:" + categoryId;
+    }
+
+    private static String getWriterTimelineKey(String loginId) {
+        return "post:user:" + loginId;
+    }
+
+    private static String getCountField(Long categoryId) {
+        return categoryId == null ? POST_COUNT_ALL_FIELD : "cat:" + categoryId;
     }
 
     private String getKey(Long postId) {
         return "post:" + postId;
     }
+
+    private String getPreviewKey(Long postId) {
+        return "post:" + postId + ":preview";
+    }
+
+    private String getJsonKey(Long postId) {
+        return "post:" + postId + ":json";
+    }
+
+    /**
+     * @param size         캐시된 게시글 수
+     * @param oldestPostId 캐시된 게시글 중 가장 오래된 게시글 ID. 캐시된 게시글이 없으면 null
+     */
+    public record HotWindow(long size, Long oldestPostId) {
+    }
+
+    /**
+     * @param total           전체 게시글 수
+     * @param postIds         페이지의 게시글 ID (최신순)
+     * @param cachedPosts     캐시된 게시글
+     * @param uncachedWriters 피드 조회 시 작성자별 게시글 ID가 캐시되지 않아 합치지 못한 작성자
+     */
+    public record PostIdPage(long total, List<Long> postIds, List<PostResponse> cachedPosts, List<String> uncachedWriters) {
+    }
+
+    /**
+     * @param posts   커서 이후 게시글 (오래된 순)
+     * @param latest  다음 조회에 사용할 커서 (조회한 가장 최근 게시글, 없으면 요청한 커서)
+     * @param hasMore limit보다 많은 게시글이 있으면 true
+     */
+    public record PostDelta(List<PostResponse> posts, PostCursor latest, boolean hasMore) {
+    }
+
+    private record PostPage(long total, List<PostEntry> entries, List<String> uncachedWriters) {
+    }
+
+    private record PostEntry(long id, long score, RedisPost post, int likeCount, int commentCount, String writerLoginId, String fragment) {
+    }
+
+    private record Lookup(Map<String, User> users, Map<String, Category> categories) {
+    }
 }
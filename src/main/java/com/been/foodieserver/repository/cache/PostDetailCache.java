@@ -0,0 +1,153 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.dto.response.PostResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 조회 캐시
+ * <p>
+ * 캐시되지 않은 게시글은 DB에서 읽어 캐시한다. 같은 게시글을 동시에 조회하면 서버 안에서는 한 요청만 조회하고,
+ * 서버 간에는 Redis 락(post:{postId}:lock)을 잡은 서버만 DB를 조회하고 나머지 서버는 캐시가 채워지길 기다린다.
+ * <p>
+ * 캐시 조회는 서킷 브레이커를 거치므로, Redis 장애 시에는 타임아웃을 기다리지 않고 캐시 없이 DB에서 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostDetailCache {
+
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+    private static final String POST_DETAIL_CALL = "post-detail";
+
+    private final PostCacheRepository postCacheRepository;
+    private final RedisTemplate<String, String> allPostStringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Map<Long, CompletableFuture<PostResponse>> loads = new ConcurrentHashMap<>();
+
+    @Value("${cache.post.detail.lock-ttl:3s}")
+    private Duration lockTtl;
+    @Value("${cache.post.detail.lock-wait:1s}")
+    private Duration lockWait;
+    @Value("${cache.post.detail.retry-interval:50ms}")
+    private Duration retryInterval;
+
+    /**
+     * 캐시된 게시글이 없으면 loader로 조회한다. loader는 조회한 게시글을 캐시해야 한다.
+     *
+     * @param fallback Redis 장애로 캐시를 조회할 수 없을 때 캐시 없이 조회
+     */
+    public PostResponse get(Long postId, Supplier<PostResponse> loader, Supplier<PostResponse> fallback) {
+        CacheLookup lookup = find(postId);
+
+        if (!lookup.available()) {
+            return fallback.get();
+        }
+
+        if (lookup.response() != null) {
+            return lookup.response();
+        }
+
+        CompletableFuture<PostResponse> load = new CompletableFuture<>();
+        CompletableFuture<PostResponse> inFlight = loads.putIfAbsent(postId, load);
+
+        //같은 서버에서 이미 조회 중이면 그 결과를 기다린다.
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            PostResponse response = loadWithLock(postId, loader, fallback);
+            load.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(postId, load);
+        }
+    }
+
+    private PostResponse loadWithLock(Long postId, Supplier<PostResponse> loader, Supplier<PostResponse> fallback) {
+        String lockKey = getLockKey(postId);
+        String token = UUID.randomUUID().toString();
+
+        if (Boolean.TRUE.equals(allPostStringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl))) {
+            try {
+                return loader.get();
+            } finally {
+                allPostStringRedisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(lockKey), token);
+            }
+        }
+
+        //다른 서버가 조회 중이면 캐시가 채워지길 기다리고, lock-wait이 지나면 직접 조회한다.
+        long deadline = System.nanoTime() + lockWait.toNanos();
+
+        while (System.nanoTime() < deadline && sleep(retryInterval)) {
+            CacheLookup lookup = find(postId);
+
+            if (!lookup.available()) {
+                return fallback.get();
+            }
+
+            if (lookup.response() != null) {
+                return lookup.response();
+            }
+        }
+
+        log.warn("[post detail cache] lock wait timeout. postId={}", postId);
+        return loader.get();
+    }
+
+    private CacheLookup find(Long postId) {
+        return redisCircuitBreaker.call(POST_DETAIL_CALL,
+                () -> new CacheLookup(postCacheRepository.findById(postId), true),
+                () -> new CacheLookup(null, false));
+    }
+
+    private static PostResponse await(CompletableFuture<PostResponse> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String getLockKey(Long postId) {
+        return "post:" + postId + ":lock";
+    }
+
+    /**
+     * @param response  캐시된 게시글. 캐시되지 않았으면 null
+     * @param available Redis 장애로 조회하지 못했으면 false
+     */
+    private record CacheLookup(PostResponse response, boolean available) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.dto.PageDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 앞 페이지를 서버 메모리에 짧게 보관하는 캐시
+ * <p>
+ * 게시글이 저장/수정/삭제되면 Redis pub/sub으로 모든 서버의 캐시를 비운다.
+ * 게시글 목록 버전을 함께 주면 버전별로 캐시해, 버전이 바뀐 뒤에는 이전 버전으로 만든 페이지를 반환하지 않는다.
+ * <p>
+ * Redis 장애 때 대신 보여줄 수 있도록 마지막으로 조회한 페이지를 stale-ttl 동안 따로 보관한다. 이 사본은 비우지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostPageNearCache implements MessageListener {
+
+    public static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("post:page:invalidate");
+    private static final String CACHE_NAME = "postPage";
+
+    private final RedisTemplate<String, String> allPostStringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private Cache<VersionedPageKey, PageDto<?>> cache;
+    private Cache<PageKey, PageDto<?>> staleCache;
+
+    @Value("${cache.post-page.max-size:100}")
+    private long maxSize;
+    @Value("${cache.post-page.ttl:3s}")
+    private Duration ttl;
+    @Value("${cache.post-page.max-page-num:3}")
+    private int maxPageNum;
+    @Value("${cache.post-page.stale-ttl:10m}")
+    private Duration staleTtl;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        staleCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 페이지가 없으면 loader로 조회 후 저장한다. max-page-num 이후 페이지는 캐시하지 않는다.
+     *
+     * @param categoryId  전체 게시글이면 null
+     * @param contentType 페이지 내용 타입. 같은 페이지라도 내용 타입(게시글 객체, JSON 조각)이 다르면 따로 캐시한다.
+     */
+    public <T> PageDto<T> get(Long categoryId, int pageNum, int pageSize, Class<T> contentType, Supplier<PageDto<T>> loader) {
+        return get(categoryId, pageNum, pageSize, null, contentType, loader);
+    }
+
+    /**
+     * @param version loader로 조회하기 전에 읽은 게시글 목록 버전. 모르면 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PageDto<T> get(Long categoryId, int pageNum, int pageSize, Long version, Class<T> contentType, Supplier<PageDto<T>> loader) {
+        if (pageNum > maxPageNum) {
+            return loader.get();
+        }
+        return (PageDto<T>) cache.get(new VersionedPageKey(new PageKey(categoryId, pageNum, pageSize, contentType), version), key -> {
+            PageDto<T> page = loader.get();
+            staleCache.put(key.page(), page);
+            return page;
+        });
+    }
+
+    /**
+     * 만료되었거나 비워진 페이지라도 stale-ttl 안에 같은 내용 타입으로 조회한 적이 있으면 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<PageDto<T>> getStale(Long categoryId, int pageNum, int pageSize, Class<T> contentType) {
+        return Optional.ofNullable((PageDto<T>) staleCache.getIfPresent(new PageKey(categoryId, pageNum, pageSize, contentType)));
+    }
+
+    /**
+     * 현재 서버의 캐시를 비우고 다른 서버에도 알린다.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        allPostStringRedisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), "");
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        log.debug("[post page cache] invalidated");
+        cache.invalidateAll();
+    }
+
+    private record PageKey(Long categoryId, int pageNum, int pageSize, Class<?> contentType) {
+    }
+
+    private record VersionedPageKey(PageKey page, Long version) {
+    }
+}
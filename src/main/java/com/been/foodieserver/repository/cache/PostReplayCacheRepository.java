@@ -0,0 +1,79 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 이벤트 재생 상태
+ * <p>
+ * post:replay:state : 게시글 ID별 마지막으로 반영한 이벤트의 "버전:카테고리 ID:삭제 여부(0/1)".
+ * 순서가 뒤바뀐 이벤트를 건너뛰는 데 사용하고, 재생이 끝나면 지운다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class PostReplayCacheRepository {
+
+    private static final String STATE_KEY = "post:replay:state";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Map<Long, ReplayState> findStates(Collection<Long> postIds) {
+        Map<Long, ReplayState> states = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return states;
+        }
+
+        List<Object> fields = new ArrayList<>(postIds.size());
+        postIds.forEach(postId -> fields.add(String.valueOf(postId)));
+        List<Object> values = hashOps().multiGet(STATE_KEY, fields);
+
+        int i = 0;
+        for (Long postId : postIds) {
+            Object value = values.get(i++);
+            if (value != null) {
+                states.put(postId, ReplayState.parse((String) value));
+            }
+        }
+
+        return states;
+    }
+
+    public void saveStates(Map<Long, ReplayState> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> values = new HashMap<>();
+        states.forEach((postId, state) -> values.put(String.valueOf(postId), state.format()));
+        hashOps().putAll(STATE_KEY, values);
+    }
+
+    public void clear() {
+        redisTemplate.delete(STATE_KEY);
+    }
+
+    private HashOperations<String, Object, Object> hashOps() {
+        return redisTemplate.opsForHash();
+    }
+
+    public record ReplayState(long version, Long categoryId, boolean deleted) {
+
+        private static ReplayState parse(String value) {
+            String[] parts = value.split(":");
+            return new ReplayState(Long.parseLong(parts[0]), Long.parseLong(parts[1]), "1".equals(parts[2]));
+        }
+
+        private String format() {
+            return version + ":" + categoryId + ":" + (deleted ? "1" : "0");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 통계 (좋아요 수, 댓글 수, 조회수)
+ * <p>
+ * post:stats:{postId} 해시 하나에 저장하고 HINCRBY로 원자적으로 증감한다.
+ * 댓글 수를 바꾸면 게시글 버전을 올린다. 조회수는 매 조회마다 바뀌므로 버전에 반영하지 않는다.
+ * 통계는 게시글이 캐시에서 제거될 때 함께 지우고, 통계가 없는 게시글의 댓글 수는 증감하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class PostStatsCacheRepository {
+
+    static final String LIKES_FIELD = "likes";
+    static final String COMMENTS_FIELD = "comments";
+    static final String VIEWS_FIELD = "views";
+    private static final RedisScript<Long> POST_STATS_INCREMENT_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-stats-increment.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostVersionCacheRepository postVersionCacheRepository;
+
+    public void increaseCommentCount(Long postId) {
+        redisTemplate.execute(POST_STATS_INCREMENT_SCRIPT, List.of(getKey(postId)), COMMENTS_FIELD, "1");
+        postVersionCacheRepository.bumpPost(postId);
+    }
+
+    public void decreaseCommentCount(Long postId) {
+        redisTemplate.execute(POST_STATS_INCREMENT_SCRIPT, List.of(getKey(postId)), COMMENTS_FIELD, "-1");
+        postVersionCacheRepository.bumpPost(postId);
+    }
+
+    public int getLikeCount(Long postId) {
+        return getCount(postId, LIKES_FIELD);
+    }
+
+    public int getCommentCount(Long postId) {
+        return getCount(postId, COMMENTS_FIELD);
+    }
+
+    /**
+     * DB 기준으로 좋아요/댓글 수를 덮어쓴다. 조회수는 유지한다.
+     */
+    public void saveCounts(Long postId, long likeCount, long commentCount) {
+        redisTemplate.opsForHash().putAll(getKey(postId),
+                Map.of(LIKES_FIELD, String.valueOf(likeCount), COMMENTS_FIELD, String.valueOf(commentCount)));
+    }
+
+    /**
+     * 여러 게시글의 댓글 수를 파이프라인 1번으로 조회한다.
+     *
+     * @return 게시글 ID별 댓글 수. 통계가 없는 게시글은 빠진다.
+     */
+    public Map<Long, Long> findCommentCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>();
+
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+
+        byte[] field = COMMENTS_FIELD.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            postIds.forEach(postId -> connection.hashCommands().hGet(getKey(postId).getBytes(StandardCharsets.UTF_8), field));
+            return null;
+        }, RedisSerializer.string());
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Object count = results.get(i);
+            if (count != null) {
+                counts.put(postIds.get(i), Long.parseLong((String) count));
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * DB 기준으로 여러 게시글의 댓글 수를 파이프라인 1번으로 덮어쓴다.
+     */
+    public void saveCommentCounts(Map<Long, Long> commentCounts) {
+        byte[] field = COMMENTS_FIELD.getBytes(StandardCharsets.UTF_8);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commentCounts.forEach((postId, count) -> connection.hashCommands().hSet(getKey(postId).getBytes(StandardCharsets.UTF_8),
+                    field, String.valueOf(count).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+        postVersionCacheRepository.bumpPosts(commentCounts.keySet());
+    }
+
+    public void deleteByPostId(Long postId) {
+        redisTemplate.delete(getKey(postId));
+    }
+
+    private int getCount(Long postId, String field) {
+        Object count = redisTemplate.opsForHash().get(getKey(postId), field);
+        return count == null ? 0 : Integer.parseInt((String) count);
+    }
+
+    static String getKey(Long postId) {
+        return "post:stats:" + postId;
+    }
+}
@@ -0,0 +1,124 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 목록/게시글 버전. 조건부 조회(ETag, Last-Modified)에 사용한다.
+ * <p>
+ * 게시글 캐시를 저장/수정/삭제하면 게시글 목록 버전과 해당 게시글 버전을 올리고, 좋아요 수나 댓글 수만 바뀌면 게시글 버전만 올린다.
+ * 목록에 보이는 좋아요/댓글 수 변경은 표시만 해 두고 {@link #flushListVersion()}에서 한 번에 목록 버전에 반영한다.
+ * <p>
+ * 조회는 GET으로 하고, 버전이 없으면(만료, Redis 초기화) SET NX로 현재 시각을 버전으로 만든다.
+ * 버전은 밀리초 시각이라 다시 만들어도 이전에 응답한 버전과 겹치지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class PostVersionCacheRepository {
+
+    static final String LIST_KEY = "post:all:version";
+    static final String LIST_STALE_KEY = "post:all:version:stale";
+    private static final RedisScript<Long> POST_VERSION_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-version.lua"), Long.class);
+    private static final String MODE_LIST = "list";
+    private static final String MODE_POSTS = "posts";
+    private static final String MODE_FLUSH = "flush";
+
+    private final RedisTemplate<String, String> allPostStringRedisTemplate;
+
+    @Value("${cache.post.version.ttl:1d}")
+    private Duration ttl;
+
+    public Long getListVersion() {
+        return getOrCreate(LIST_KEY, null);
+    }
+
+    public Long getVersion(Long postId) {
+        return getOrCreate(getKey(postId), ttl);
+    }
+
+    public void bump(Long postId) {
+        bump(List.of(postId));
+    }
+
+    /**
+     * 게시글 목록 버전과 게시글 버전들을 한 번에 올린다. 목록에 보이는 게시글이 추가/수정/삭제될 때 사용한다.
+     */
+    public void bump(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        execute(postIds, MODE_LIST);
+    }
+
+    public void bumpPost(Long postId) {
+        bumpPosts(List.of(postId));
+    }
+
+    /**
+     * 게시글 버전들을 올리고, 목록 버전은 다음 {@link #flushListVersion()}에서 올리도록 표시한다.
+     * 좋아요 수, 댓글 수처럼 자주 바뀌어 바뀔 때마다 목록 버전을 올리면 목록 캐시가 남지 않는 변경에 사용한다.
+     */
+    public void bumpPosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        execute(postIds, MODE_POSTS);
+    }
+
+    /**
+     * 마지막으로 목록 버전을 올린 뒤 좋아요/댓글 수가 바뀌었으면 목록 버전을 올린다.
+     *
+     * @return 목록 버전을 올렸으면 true
+     */
+    public boolean flushListVersion() {
+        return Long.valueOf(1).equals(execute(List.of(), MODE_FLUSH));
+    }
+
+    private Long execute(Collection<Long> postIds, String mode) {
+        List<String> keys = new ArrayList<>(postIds.size() + 2);
+        keys.add(LIST_KEY);
+        keys.add(LIST_STALE_KEY);
+        postIds.forEach(postId -> keys.add(getKey(postId)));
+
+        return allPostStringRedisTemplate.execute(POST_VERSION_SCRIPT, keys, String.valueOf(ttl.toMillis()), mode);
+    }
+
+    /**
+     * 버전이 없으면 현재 시각으로 만든다. 다른 서버가 먼저 만들었으면 그 버전을 반환한다.
+     *
+     * @param ttl 만료 없이 저장하면 null
+     */
+    private Long getOrCreate(String key, Duration ttl) {
+        Long version = parse(allPostStringRedisTemplate.opsForValue().get(key));
+
+        if (version != null) {
+            return version;
+        }
+
+        String now = String.valueOf(System.currentTimeMillis());
+        Boolean created = ttl == null
+                ? allPostStringRedisTemplate.opsForValue().setIfAbsent(key, now)
+                : allPostStringRedisTemplate.opsForValue().setIfAbsent(key, now, ttl);
+
+        return Boolean.TRUE.equals(created) ? Long.valueOf(now) : parse(allPostStringRedisTemplate.opsForValue().get(key));
+    }
+
+    private static Long parse(String version) {
+        return version == null ? null : Long.valueOf(version);
+    }
+
+    static String getKey(Long postId) {
+        return "post:" + postId + ":version";
+    }
+}
@@ -0,0 +1,157 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 조회수
+ * <p>
+ * post:stats:{postId}의 views : 전체 조회수
+ * <p>
+ * post:{postId}:viewers : 조회한 유저 HyperLogLog. 마지막으로 조회자를 반영한 뒤 cache.post.view.viewers-ttl이 지나면 만료된다.
+ * <p>
+ * post:view:pending : 아직 DB에 반영하지 않은 게시글별 조회수. 주기적으로 post:view:persisting으로 옮겨 DB에 반영한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class PostViewCacheRepository {
+
+    static final String PENDING_KEY = "post:view:pending";
+    static final String PERSISTING_KEY = "post:view:persisting";
+    private static final String PERSIST_LOCK_KEY = "post:view:persist:lock";
+    private static final String MODE_ADD = "add";
+    private static final String MODE_SEED = "seed";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POST_VIEW_DRAIN_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-view-drain.lua"), List.class);
+    private static final RedisScript<Long> POST_VIEW_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-view.lua"), Long.class);
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${cache.post.view.viewers-ttl:7d}")
+    private Duration viewersTtl;
+
+    /**
+     * 서버에 모아 둔 조회수와 조회자를 스크립트 1번으로 반영한다.
+     */
+    public void saveViews(List<PostViews> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(views.size() * 2 + 2);
+        List<String> args = new ArrayList<>();
+        keys.add(PENDING_KEY);
+        keys.add(PERSISTING_KEY);
+        args.add(MODE_ADD);
+        args.add(String.valueOf(viewersTtl.toMillis()));
+
+        for (PostViews view : views) {
+            keys.add(PostStatsCacheRepository.getKey(view.postId()));
+            keys.add(getViewersKey(view.postId()));
+            args.add(String.valueOf(view.postId()));
+            args.add(String.valueOf(view.count()));
+            args.add(String.valueOf(view.viewers().size()));
+            args.addAll(view.viewers());
+        }
+
+        redisTemplate.execute(POST_VIEW_SCRIPT, keys, args.toArray());
+    }
+
+    /**
+     * 조회수와 조회자 수를 조회한다.
+     *
+     * @return 통계에 조회수가 없으면 viewCount는 null
+     */
+    public ViewCount findViewCount(Long postId) {
+        byte[] statsKey = encode(PostStatsCacheRepository.getKey(postId));
+        byte[] viewersKey = encode(getViewersKey(postId));
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hGet(statsKey, encode(PostStatsCacheRepository.VIEWS_FIELD));
+            connection.hyperLogLogCommands().pfCount(viewersKey);
+            return null;
+        }, RedisSerializer.string());
+
+        String viewCount = (String) results.get(0);
+        Long viewerCount = (Long) results.get(1);
+
+        return new ViewCount(viewCount == null ? null : Long.parseLong(viewCount), viewerCount == null ? 0 : viewerCount);
+    }
+
+    /**
+     * 통계에 조회수가 없으면 DB 조회수에 아직 반영하지 않은 조회수를 더해 채운다.
+     *
+     * @return 통계의 조회수
+     */
+    public long seedViewCount(Long postId, long persistedViewCount) {
+        Long viewCount = redisTemplate.execute(POST_VIEW_SCRIPT, List.of(PENDING_KEY, PERSISTING_KEY, PostStatsCacheRepository.getKey(postId)),
+                MODE_SEED, String.valueOf(postId), String.valueOf(persistedViewCount));
+        return viewCount == null ? persistedViewCount : viewCount;
+    }
+
+    /**
+     * DB에 반영할 조회수를 꺼낸다. 반영이 끝나면 {@link #completePersist()}를 호출해야 한다.
+     *
+     * @return 게시글 ID별 조회수
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Long> drainPending() {
+        List<String> entries = redisTemplate.execute(POST_VIEW_DRAIN_SCRIPT, List.of(PENDING_KEY, PERSISTING_KEY));
+        Map<Long, Long> pending = new HashMap<>();
+
+        if (entries == null) {
+            return pending;
+        }
+
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            pending.put(Long.parseLong(entries.get(i)), Long.parseLong(entries.get(i + 1)));
+        }
+
+        return pending;
+    }
+
+    public void completePersist() {
+        redisTemplate.delete(PERSISTING_KEY);
+    }
+
+    /**
+     * 여러 서버가 같은 조회수를 중복으로 반영하지 않도록 락을 잡는다.
+     */
+    public boolean tryLockPersist(String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(PERSIST_LOCK_KEY, token, ttl));
+    }
+
+    public void unlockPersist(String token) {
+        redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(PERSIST_LOCK_KEY), token);
+    }
+
+    static String getViewersKey(Long postId) {
+        return "post:" + postId + ":viewers";
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record PostViews(Long postId, long count, Set<String> viewers) {
+    }
+
+    public record ViewCount(Long viewCount, long viewerCount) {
+    }
+}
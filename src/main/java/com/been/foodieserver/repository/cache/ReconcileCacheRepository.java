@@ -0,0 +1,46 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시-DB 비교 진행 상황
+ * <p>
+ * reconcile:cursor : 대상별로 마지막으로 비교한 ID. 서버가 바뀌어도 이어서 비교한다.
+ * <p>
+ * reconcile:lock : 여러 서버가 같은 범위를 동시에 비교하지 않도록 잡는 락
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReconcileCacheRepository {
+
+    private static final String CURSOR_KEY = "reconcile:cursor";
+    private static final String LOCK_KEY = "reconcile:lock";
+
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long getCursor(String target) {
+        Object cursor = redisTemplate.opsForHash().get(CURSOR_KEY, target);
+        return cursor == null ? 0 : Long.parseLong((String) cursor);
+    }
+
+    public void saveCursor(String target, long cursor) {
+        redisTemplate.opsForHash().put(CURSOR_KEY, target, String.valueOf(cursor));
+    }
+
+    public boolean tryLock(String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, ttl));
+    }
+
+    public void unlock(String token) {
+        redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+    }
+}
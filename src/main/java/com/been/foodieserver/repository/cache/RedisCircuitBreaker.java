@@ -0,0 +1,209 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Redis 장애 시 DB로 우회하는 서킷 브레이커
+ * <p>
+ * 최근 window-size번의 Redis 호출 중 실패(연결 실패, 명령 타임아웃, slow-call-duration보다 느린 호출) 비율이
+ * failure-rate-threshold% 이상이면 open-duration 동안 Redis를 호출하지 않고 바로 fallback을 실행한다.
+ * 그 후 half-open-calls번 시험 호출이 모두 성공하면 다시 Redis를 호출한다.
+ * <p>
+ * fallback은 동시에 fallback.max-concurrent개까지만 실행하고, 넘는 요청은 DB 커넥션을 기다리지 않고 바로 거절한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RedisCircuitBreaker {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.redis.circuit-breaker.window-size:20}")
+    private int windowSize;
+    @Value("${cache.redis.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+    @Value("${cache.redis.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+    @Value("${cache.redis.circuit-breaker.slow-call-duration:200ms}")
+    private Duration slowCallDuration;
+    @Value("${cache.redis.circuit-breaker.open-duration:5s}")
+    private Duration openDuration;
+    @Value("${cache.redis.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+    @Value("${cache.redis.fallback.max-concurrent:20}")
+    private int maxConcurrentFallbacks;
+
+    private boolean[] outcomes;
+    private int index;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long generation;
+    private Semaphore fallbackPermits;
+
+    @PostConstruct
+    public void init() {
+        outcomes = new boolean[windowSize];
+        fallbackPermits = new Semaphore(maxConcurrentFallbacks);
+        meterRegistry.gauge("cache.redis.circuit.state", this, breaker -> breaker.getState().ordinal());
+    }
+
+    /**
+     * 서킷이 닫혀 있으면 cacheCall을 실행하고, 열려 있거나 Redis 호출이 실패하면 fallback을 실행한다.
+     *
+     * @param name 메트릭에 남길 호출 이름
+     */
+    public <T> T call(String name, Supplier<T> cacheCall, Supplier<T> fallback) {
+        Permit permit = tryAcquirePermission();
+
+        if (permit == null) {
+            return fallback(name, fallback);
+        }
+
+        long start = System.nanoTime();
+        boolean recorded = false;
+
+        try {
+            T result = cacheCall.get();
+            onResult(System.nanoTime() - start <= slowCallDuration.toNanos());
+            recorded = true;
+            return result;
+        } catch (RedisConnectionFailureException | QueryTimeoutException | RedisSystemException e) {
+            onResult(false);
+            recorded = true;
+            log.warn("[redis circuit] {} failed. {}", name, e.getMessage());
+            return fallback(name, fallback);
+        } finally {
+            //Redis 장애가 아닌 예외는 결과로 세지 않고, 시험 호출 허가만 돌려준다.
+            if (!recorded) {
+                releasePermission(permit);
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private <T> T fallback(String name, Supplier<T> fallback) {
+        if (!fallbackPermits.tryAcquire()) {
+            meterRegistry.counter("cache.redis.shed", "name", name).increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            meterRegistry.counter("cache.redis.fallback", "name", name).increment();
+            return fallback.get();
+        } finally {
+            fallbackPermits.release();
+        }
+    }
+
+    /**
+     * @return 호출할 수 없으면 null
+     */
+    private synchronized Permit tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDuration.toNanos()) {
+                return null;
+            }
+            transition(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return null;
+            }
+            halfOpenPermits--;
+            return new Permit(true, generation);
+        }
+
+        return new Permit(false, generation);
+    }
+
+    /**
+     * 허가를 받은 뒤 상태가 바뀌지 않았으면 시험 호출 허가를 돌려준다.
+     */
+    private synchronized void releasePermission(Permit permit) {
+        if (permit.halfOpen() && state == State.HALF_OPEN && generation == permit.generation()) {
+            halfOpenPermits++;
+        }
+    }
+
+    private synchronized void onResult(boolean success) {
+        if (state == State.HALF_OPEN) {
+            if (!success) {
+                transition(State.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+
+        //서킷이 열리기 전에 시작한 호출
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (calls == windowSize) {
+            if (!outcomes[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+
+        outcomes[index] = success;
+        if (!success) {
+            failures++;
+        }
+        index = (index + 1) % windowSize;
+
+        if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            transition(State.OPEN);
+        }
+    }
+
+    private void transition(State next) {
+        log.warn("[redis circuit] {} -> {}", state, next);
+        state = next;
+        generation++;
+        openedAt = System.nanoTime();
+        halfOpenPermits = halfOpenCalls;
+        halfOpenSuccesses = 0;
+
+        if (next == State.CLOSED) {
+            index = 0;
+            calls = 0;
+            failures = 0;
+        }
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * @param halfOpen   시험 호출 허가인지 여부
+     * @param generation 허가를 받을 때의 상태 전환 횟수
+     */
+    private record Permit(boolean halfOpen, long generation) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.been.foodieserver.repository.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인기 게시글 점수
+ * <p>
+ * post:trending : 게시글 ID별 시간 감쇠 점수. 이벤트마다 기준 시각(post:trending:base) 대비 지금의 가중치를 더하므로
+ * 점수를 모두 다시 쓰지 않아도 오래된 이벤트의 비중이 반감기마다 절반으로 줄어든다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class TrendingCacheRepository {
+
+    static final String TRENDING_KEY = "post:trending";
+    private static final String TRENDING_BASE_KEY = "post:trending:base";
+
+    private static final RedisScript<Long> TRENDING_INCR_SCRIPT = RedisScript.of(new ClassPathResource("scripts/trending-incr.lua"), Long.class);
+    private static final RedisScript<Long> TRENDING_RENORMALIZE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/trending-renormalize.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    //재계산은 모든 점수를 다시 쓰므로 긴 타임아웃으로 보낸다.
+    @Qualifier("batchStringRedisTemplate")
+    private final RedisTemplate<String, String> batchStringRedisTemplate;
+
+    @Value("${cache.post.trending.half-life:6h}")
+    private Duration halfLife;
+    @Value("${cache.post.trending.min-score:0.01}")
+    private double minScore;
+    @Value("${cache.post.trending.max-size:10000}")
+    private long maxSize;
+
+    /**
+     * 게시글 점수에 이벤트 가중치를 더한다. 점수가 0 이하가 되면 순위에서 뺀다.
+     */
+    public void incrementScore(Long postId, double weight) {
+        redisTemplate.execute(TRENDING_INCR_SCRIPT, List.of(TRENDING_KEY, TRENDING_BASE_KEY),
+                String.valueOf(postId), String.valueOf(weight), String.valueOf(halfLife.toMillis()));
+    }
+
+    /**
+     * 모든 점수에 기준 시각 이후의 감쇠를 반영하고 기준 시각을 지금으로 옮긴다.
+     * 점수가 낮은 게시글과 최대 게시글 수를 넘는 게시글은 뺀다.
+     *
+     * @return 남은 게시글 수
+     */
+    public Long renormalize() {
+        return batchStringRedisTemplate.execute(TRENDING_RENORMALIZE_SCRIPT, List.of(TRENDING_KEY, TRENDING_BASE_KEY),
+                String.valueOf(halfLife.toMillis()), String.valueOf(minScore), String.valueOf(maxSize));
+    }
+}
@@ -7,12 +7,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,11 +25,6 @@ public class UserCacheRepository {
         redisTemplate.opsForValue().set(key, user);
     }
 
-    public Map<String, User> getLoginIdMap(Collection<String> userLoginIds) {
-        List<User> users = userLoginIds.stream().map(this::findByLoginId).map(user -> user.orElse(null)).toList();
-        return users.stream().collect(Collectors.toMap(User::getLoginId, Function.identity(), (oldV, newV) -> oldV));
-    }
-
     public Optional<User> findByLoginId(String loginId) {
         String key = getKey(loginId);
         User user = redisTemplate.opsForValue().get(key);
@@ -42,6 +36,25 @@ public class UserCacheRepository {
         save(user);
     }
 
+    /**
+     * @return 로그인 ID별 캐시된 유저. 캐시되지 않은 유저는 빠진다.
+     */
+    public Map<String, User> findAllByLoginIds(Collection<String> loginIds) {
+        Map<String, User> users = new HashMap<>();
+
+        if (loginIds.isEmpty()) {
+            return users;
+        }
+
+        List<User> values = redisTemplate.opsForValue().multiGet(loginIds.stream().map(UserCacheRepository::getKey).toList());
+
+        if (values != null) {
+            values.stream().filter(Objects::nonNull).forEach(user -> users.put(user.getLoginId(), user));
+        }
+
+        return users;
+    }
+
     public boolean existsByLoginId(String loginId) {
         Long size = redisTemplate.opsForValue().size(getKey(loginId));
         return size != null && !Objects.equals(size, 0L);
@@ -52,7 +65,7 @@ public class UserCacheRepository {
         redisTemplate.delete(key);
     }
 
-    private String getKey(String loginId) {
+    static String getKey(String loginId) {
         return "user:" + loginId;
     }
 }
@@ -0,0 +1,343 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.CategoryPostCountDto;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.RangeChecksum;
+import com.been.foodieserver.dto.VersionDto;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.repository.cache.ReconcileCacheRepository;
+import com.been.foodieserver.repository.cache.UserCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시와 DB 비교
+ * <p>
+ * 게시글, 유저, 캐시된 게시글별 댓글 수를 ID 범위(cache.reconcile.range-size)로 나눠 차례로 비교한다.
+ * 범위마다 (개수, 최대 수정 시각, 해시) 체크섬을 먼저 비교하고, 다른 범위만 항목별로 비교해 다른 항목만 고친다.
+ * <p>
+ * 주기마다 대상별로 ranges-per-run개 범위까지, 전체로 max-repairs-per-run개 항목까지만 고치고 나머지는 다음 주기에 이어서 비교한다.
+ * 반영 중일 수 있는 최근 settle-time 안에 작성된 게시글과 캐시가 DB보다 최신인 항목은 고치지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CacheReconcileService {
+
+    static final String TARGET_POST = "post";
+    static final String TARGET_USER = "user";
+    static final String TARGET_COMMENT = "comment";
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final PostCacheRepository postCacheRepository;
+    private final PostStatsCacheRepository postStatsCacheRepository;
+    private final UserCacheRepository userCacheRepository;
+    private final ReconcileCacheRepository reconcileCacheRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.reconcile.enabled:false}")
+    private boolean enabled;
+    @Value("${cache.reconcile.range-size:1000}")
+    private long rangeSize;
+    @Value("${cache.reconcile.ranges-per-run:10}")
+    private int rangesPerRun;
+    @Value("${cache.reconcile.max-repairs-per-run:1000}")
+    private int maxRepairsPerRun;
+    @Value("${cache.reconcile.settle-time:1m}")
+    private Duration settleTime;
+    @Value("${cache.reconcile.lock-ttl:5m}")
+    private Duration lockTtl;
+
+    @Scheduled(fixedDelayString = "${cache.reconcile.interval:60000}", initialDelayString = "${cache.reconcile.interval:60000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+
+        if (!reconcileCacheRepository.tryLock(token, lockTtl)) {
+            return;
+        }
+
+        try {
+            RepairBudget budget = new RepairBudget(maxRepairsPerRun);
+            long settledPostId = postRepository.findMaxIdByCreatedAtBefore(new Timestamp(System.currentTimeMillis() - settleTime.toMillis())).orElse(0L);
+            Long lowestCachedPostId = postCacheRepository.findLowestCachedId();
+
+            if (lowestCachedPostId != null) {
+                Timestamp windowStart = postCacheRepository.getHotWindowStart();
+                boolean completed = walk(TARGET_POST, lowestCachedPostId - 1, settledPostId, budget,
+                        (afterId, toId) -> reconcilePosts(afterId, toId, windowStart));
+
+                if (completed) {
+                    reconcilePostCounts(budget);
+                }
+            }
+
+            walk(TARGET_USER, 0, userRepository.findMaxId().orElse(0L), budget, this::reconcileUsers);
+
+            if (lowestCachedPostId != null) {
+                walk(TARGET_COMMENT, lowestCachedPostId - 1, settledPostId, budget, this::reconcileCommentCounts);
+            }
+        } finally {
+            reconcileCacheRepository.unlock(token);
+        }
+    }
+
+    /**
+     * 저장된 위치부터 (lowerId, upperId] 범위를 차례로 비교한다.
+     *
+     * @return 끝까지 비교해 처음으로 돌아갔으면 true
+     */
+    private boolean walk(String target, long lowerId, long upperId, RepairBudget budget, RangeReconciler reconciler) {
+        long cursor = Math.max(reconcileCacheRepository.getCursor(target), lowerId);
+        boolean completed = false;
+
+        for (int i = 0; i < rangesPerRun && budget.remaining() > 0; i++) {
+            if (cursor >= upperId) {
+                cursor = lowerId;
+                completed = true;
+                break;
+            }
+
+            long toId = Math.min(cursor + rangeSize, upperId);
+            int repaired = reconciler.reconcile(cursor, toId);
+
+            if (repaired < 0) {
+                meterRegistry.counter("cache.reconcile.ranges", "target", target, "result", "match").increment();
+            } else {
+                meterRegistry.counter("cache.reconcile.ranges", "target", target, "result", "drift").increment();
+                meterRegistry.counter("cache.reconcile.repaired", "target", target).increment(repaired);
+                budget.use(repaired);
+                log.info("[cache drift] target={}, range=({}, {}], repaired={}", target, cursor, toId, repaired);
+            }
+
+            cursor = toId;
+        }
+
+        reconcileCacheRepository.saveCursor(target, cursor);
+        return completed;
+    }
+
+    /**
+     * hot window에 캐시된 게시글과 DB의 수정 시각을 비교한다. 없거나 오래된 게시글은 다시 저장하고, DB에서 삭제된 게시글은 캐시에서 삭제한다.
+     *
+     * @return 체크섬이 같으면 -1, 다르면 고친 게시글 수
+     */
+    private int reconcilePosts(long afterId, long toId, Timestamp windowStart) {
+        Map<Long, Long> expected = toVersionMap(postRepository.findVersionsInRange(afterId, toId, windowStart));
+
+        if (postCacheRepository.findChecksum(afterId, toId).equals(RangeChecksum.of(expected))) {
+            return -1;
+        }
+
+        Map<Long, Long> cached = postCacheRepository.findVersions(afterId, toId);
+        List<Long> staleIds = findStaleIds(expected, cached);
+        List<Long> deletedIds = new ArrayList<>(cached.keySet());
+        deletedIds.removeAll(expected.keySet());
+
+        //hot window 밖으로 밀려났지만 DB에 남아 있는 게시글은 다음 저장 때 정리된다.
+        if (!deletedIds.isEmpty()) {
+            deletedIds.removeAll(postRepository.findIdsByIdIn(deletedIds));
+        }
+
+        if (!staleIds.isEmpty()) {
+            Map<Long, Long> cachedCategoryIds = postCacheRepository.findCachedCategoryIds(staleIds);
+            List<Post> uncached = new ArrayList<>();
+
+            for (Post post : postRepository.findAllWithUserAndCategoryByIdIn(staleIds)) {
+                Long previousCategoryId = cachedCategoryIds.get(post.getId());
+
+                if (previousCategoryId == null) {
+                    uncached.add(post);
+                } else {
+                    postCacheRepository.modify(post, previousCategoryId);
+                }
+            }
+
+            if (!uncached.isEmpty()) {
+                List<Long> uncachedIds = uncached.stream().map(Post::getId).toList();
+                postCacheRepository.saveAll(uncached,
+                        toCountMap(likeRepository.countGroupByPostIdIn(uncachedIds)),
+                        toCountMap(commentRepository.countGroupByPostIdIn(uncachedIds)));
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            postCacheRepository.deleteAll(deletedIds);
+        }
+
+        return staleIds.size() + deletedIds.size();
+    }
+
+    /**
+     * 모든 유저는 캐시되어 있어야 한다. 없거나 오래된 유저는 다시 저장하고, 탈퇴한 유저는 캐시에서 삭제한다.
+     *
+     * @return 체크섬이 같으면 -1, 다르면 고친 유저 수
+     */
+    private int reconcileUsers(long afterId, long toId) {
+        List<VersionDto> rows = userRepository.findVersionsInRange(afterId, toId);
+        List<String> withdrawnLoginIds = userRepository.findDeletedLoginIdsInRange(afterId, toId);
+
+        List<String> loginIds = new ArrayList<>(rows.size() + withdrawnLoginIds.size());
+        rows.forEach(row -> loginIds.add(row.getKey()));
+        loginIds.addAll(withdrawnLoginIds);
+
+        Map<String, User> cachedUsers = userCacheRepository.findAllByLoginIds(loginIds);
+        Map<Long, Long> expected = toVersionMap(rows);
+        Map<Long, Long> cached = cachedUsers.values().stream()
+                .collect(Collectors.toMap(User::getId, user -> user.getModifiedAt() == null ? 0 : user.getModifiedAt().getTime()));
+
+        if (RangeChecksum.of(cached).equals(RangeChecksum.of(expected))) {
+            return -1;
+        }
+
+        List<Long> staleIds = findStaleIds(expected, cached);
+        List<String> cachedWithdrawnLoginIds = withdrawnLoginIds.stream().filter(cachedUsers::containsKey).toList();
+
+        if (!staleIds.isEmpty()) {
+            userRepository.findAllById(staleIds).forEach(userCacheRepository::save);
+        }
+        cachedWithdrawnLoginIds.forEach(userCacheRepository::deleteByLoginId);
+
+        return staleIds.size() + cachedWithdrawnLoginIds.size();
+    }
+
+    /**
+     * hot window에 캐시된 게시글 통계의 댓글 수를 DB와 비교한다. 통계가 없으면 0으로 본다.
+     * hot window 밖의 게시글은 통계를 새로 만들지 않도록 비교하지 않는다.
+     *
+     * @return 체크섬이 같으면 -1, 다르면 고친 게시글 수
+     */
+    private int reconcileCommentCounts(long afterId, long toId) {
+        List<Long> postIds = postCacheRepository.findCachedIds(afterId, toId);
+
+        if (postIds.isEmpty()) {
+            return -1;
+        }
+
+        Map<Long, Long> counts = toCountMap(commentRepository.countGroupByPostIdInRange(afterId, toId));
+        Map<Long, Long> cachedCounts = postStatsCacheRepository.findCommentCounts(postIds);
+
+        Map<Long, Long> expected = new HashMap<>();
+        Map<Long, Long> cached = new HashMap<>();
+        postIds.forEach(postId -> {
+            expected.put(postId, counts.getOrDefault(postId, 0L));
+            cached.put(postId, cachedCounts.getOrDefault(postId, 0L));
+        });
+
+        if (RangeChecksum.of(cached).equals(RangeChecksum.of(expected))) {
+            return -1;
+        }
+
+        List<Long> driftIds = postIds.stream().filter(postId -> !expected.get(postId).equals(cached.get(postId))).toList();
+
+        //비교하는 사이 달린 댓글을 덮어쓰지 않도록 다시 센 댓글 수로 고친다.
+        Map<Long, Long> latest = toCountMap(commentRepository.countGroupByPostIdIn(driftIds));
+        Map<Long, Long> repairs = new HashMap<>();
+        driftIds.forEach(postId -> repairs.put(postId, latest.getOrDefault(postId, 0L)));
+        postStatsCacheRepository.saveCommentCounts(repairs);
+
+        return repairs.size();
+    }
+
+    /**
+     * 게시글을 한 바퀴 다 비교하면 게시글 수도 비교한다.
+     */
+    private void reconcilePostCounts(RepairBudget budget) {
+        int repaired = 0;
+        long total = postRepository.count();
+
+        if (!Objects.equals(postCacheRepository.findCount(null), total)) {
+            postCacheRepository.saveTotalCount(total);
+            repaired++;
+        }
+
+        for (CategoryPostCountDto count : postRepository.countGroupByCategoryId()) {
+            if (!Objects.equals(postCacheRepository.findCount(count.getCategoryId()), count.getCount())) {
+                postCacheRepository.saveCategoryCount(count.getCategoryId(), count.getCount());
+                repaired++;
+            }
+        }
+
+        if (repaired > 0) {
+            meterRegistry.counter("cache.reconcile.repaired", "target", "post-count").increment(repaired);
+            budget.use(repaired);
+            log.info("[cache drift] target=post-count, repaired={}", repaired);
+        }
+    }
+
+    /**
+     * 캐시에 없거나 버전이 다른 ID. 캐시가 DB보다 최신이면 아직 커밋되지 않은 변경일 수 있어 제외한다.
+     */
+    private static List<Long> findStaleIds(Map<Long, Long> expected, Map<Long, Long> cached) {
+        return expected.entrySet().stream()
+                .filter(entry -> {
+                    Long cachedVersion = cached.get(entry.getKey());
+                    return cachedVersion == null || cachedVersion < entry.getValue();
+                })
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Map<Long, Long> toVersionMap(List<VersionDto> versions) {
+        return versions.stream().collect(Collectors.toMap(VersionDto::getId, VersionDto::getVersion));
+    }
+
+    private static Map<Long, Long> toCountMap(List<PostCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCountDto::getPostId, PostCountDto::getCount));
+    }
+
+    @FunctionalInterface
+    private interface RangeReconciler {
+
+        /**
+         * (afterId, toId] 범위를 비교한다.
+         *
+         * @return 체크섬이 같으면 -1, 다르면 고친 항목 수
+         */
+        int reconcile(long afterId, long toId);
+    }
+
+    private static class RepairBudget {
+
+        private int remaining;
+
+        private RepairBudget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private int remaining() {
+            return remaining;
+        }
+
+        private void use(int repaired) {
+            remaining -= repaired;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.been.foodieserver.service;
 import com.been.foodieserver.dto.CustomUserDetails;
 import com.been.foodieserver.exception.CustomException;
 import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
 import com.been.foodieserver.repository.cache.UserCacheRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,11 +16,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final String USER_DETAILS_CALL = "user-details";
+
     private final UserCacheRepository userCacheRepository;
+    private final UserRepository userRepository;
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
+    /**
+     * Redis 장애 시 DB에서 조회한다.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userCacheRepository.findByLoginId(username).map(CustomUserDetails::from)
+        return redisCircuitBreaker.call(USER_DETAILS_CALL, () -> userCacheRepository.findByLoginId(username), () -> userRepository.findByLoginId(username))
+                .map(CustomUserDetails::from)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 }
@@ -0,0 +1,68 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.PostTimelineDto;
+import com.been.foodieserver.repository.FollowRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.FeedCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 팔로우한 유저의 게시글 피드 관리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class FeedService {
+
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final FeedCacheRepository feedCacheRepository;
+
+    public int getInboxSize() {
+        return feedCacheRepository.getInboxSize();
+    }
+
+    /**
+     * 새 게시글을 작성자 팔로워들의 피드에 넣는다.
+     * 팔로워가 많은 작성자의 게시글은 넣지 않고 피드 조회 시 작성자별 게시글 ID에서 가져와 합친다.
+     */
+    public void fanOut(Post post) {
+        String writerLoginId = post.getUser().getLoginId();
+        List<String> followerLoginIds = followRepository.findFollowerLoginIdsByFolloweeLoginId(writerLoginId);
+
+        if (followerLoginIds.isEmpty() || followerLoginIds.size() > feedCacheRepository.getFanOutLimit()) {
+            return;
+        }
+
+        feedCacheRepository.push(followerLoginIds, post.getId(), post.getCreatedAt().getTime());
+    }
+
+    /**
+     * DB 기준으로 유저의 피드를 만든다.
+     */
+    public void buildFeed(String loginId) {
+        List<String> followeeLoginIds = followRepository.findFolloweeLoginIdsByFollowerLoginId(loginId);
+
+        Set<String> pullWriterLoginIds = followeeLoginIds.isEmpty() ? Set.of()
+                : new HashSet<>(followRepository.findLoginIdsHavingFollowersMoreThan(followeeLoginIds, feedCacheRepository.getFanOutLimit()));
+        List<String> pushWriterLoginIds = followeeLoginIds.stream()
+                .filter(followeeLoginId -> !pullWriterLoginIds.contains(followeeLoginId))
+                .toList();
+
+        List<PostTimelineDto> inbox = pushWriterLoginIds.isEmpty() ? List.of()
+                : postRepository.findTimelineByUserLoginIdIn(pushWriterLoginIds, PageRequest.of(0, feedCacheRepository.getInboxSize()));
+
+        feedCacheRepository.saveFeed(loginId, inbox, pullWriterLoginIds);
+        log.info("[build feed] loginId={}, inbox={}, pullWriters={}", loginId, inbox.size(), pullWriterLoginIds.size());
+    }
+}
@@ -11,11 +11,14 @@ import com.been.foodieserver.exception.ErrorCode;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.FollowRepository;
 import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.FeedCacheRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,14 +32,27 @@ import java.util.stream.Collectors;
 @Service
 public class FollowService {
 
+    private static final String COUNT_KEY = "follower:";
+
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final NotificationProducer notificationProducer;
+    private final FeedCacheRepository feedCacheRepository;
+    private final PageCountCache pageCountCache;
 
     @Transactional(readOnly = true)
     public Page<FollowerResponse> getFollowerList(String loginId, int pageNum, int pageSize) {
+        return pageCountCache.toPage(getFollowerSlice(loginId, pageNum, pageSize), COUNT_KEY + loginId,
+                () -> followRepository.countByFollowee_LoginId(loginId));
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<FollowerResponse> getFollowerSlice(String loginId, int pageNum, int pageSize) {
         Pageable pageable = makePageable(pageNum, pageSize);
-        return followRepository.findAllWithFollowerAndFolloweeByFollowee_LoginId(loginId, pageable)
+        return followRepository.findSummariesByFolloweeLoginId(loginId, pageable)
                 .map(FollowerResponse::of);
     }
 
@@ -55,6 +71,8 @@ public class FollowService {
         User follower = getFollowerOrException(followerLoginId);
 
         followRepository.save(Follow.of(follower, followee));
+        feedCacheRepository.delete(followerLoginId);
+        pageCountCache.evict(COUNT_KEY + followeeLoginId);
 
         //event send
         notificationProducer.send(NotificationEventDto.of(followee,
@@ -75,6 +93,8 @@ public class FollowService {
         }
 
         followRepository.deleteByFollower_LoginIdAndFollowee_LoginId(followerLoginId, followeeLoginId);
+        feedCacheRepository.delete(followerLoginId);
+        pageCountCache.evict(COUNT_KEY + followeeLoginId);
         return FollowResponse.unfollow(followerLoginId, followeeLoginId);
     }
 
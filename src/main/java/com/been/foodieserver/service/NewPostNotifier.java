@@ -0,0 +1,58 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.response.NewPostEventResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 게시글 수를 SSE로 알린다.
+ * <p>
+ * 게시글을 캐시한 서버가 Redis pub/sub으로 모든 서버에 알리고, 각 서버는 sse.new-post.interval 동안 모인 수를
+ * 연결된 클라이언트에 한 번에 보낸다. 클라이언트는 이벤트를 받으면 GET /posts/since로 새 게시글을 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NewPostNotifier implements MessageListener {
+
+    public static final ChannelTopic NEW_POST_TOPIC = new ChannelTopic("post:new");
+    private static final String NEW_POSTS_NAME = "new-posts";
+
+    private final RedisTemplate<String, String> allPostStringRedisTemplate;
+    private final SseService sseService;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    @Value("${sse.new-post.enabled:true}")
+    private boolean enabled;
+
+    public void publish(Post post) {
+        if (enabled) {
+            allPostStringRedisTemplate.convertAndSend(NEW_POST_TOPIC.getTopic(), String.valueOf(post.getId()));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        pendingCount.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${sse.new-post.interval:1000}")
+    public void flush() {
+        int count = pendingCount.getAndSet(0);
+
+        if (count > 0) {
+            log.debug("[new posts] count={}", count);
+            sseService.broadcast(NEW_POSTS_NAME, NewPostEventResponse.of(count));
+        }
+    }
+}
@@ -1,47 +1,43 @@
 package com.been.foodieserver.service;
 
-import com.been.foodieserver.domain.Notification;
-import com.been.foodieserver.domain.User;
 import com.been.foodieserver.dto.response.NotificationResponse;
 import com.been.foodieserver.repository.NotificationRepository;
-import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class NotificationService {
 
+    private static final String COUNT_KEY = "notification:";
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
 
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getNotificationList(String loginId, int pageNum, int pageSize) {
-        Pageable pageable = makePageable(pageNum, pageSize);
-        Page<Notification> notifications = notificationRepository.findAllWithReceiverByReceiver_LoginId(pageable, loginId);
-
-        //알림을 발생시킨 유저 id 리스트 생성
-        List<Long> userIds = notifications.getContent().stream()
-                .map(Notification::getFromUserId)
-                .toList();
+        return pageCountCache.toPage(getNotificationSlice(loginId, pageNum, pageSize), COUNT_KEY + loginId,
+                () -> notificationRepository.countByReceiver_LoginId(loginId));
+    }
 
-        //알림을 발생시킨 유저 id:nickname Map 생성
-        Map<Long, String> userIdToNicknameMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, User::getNickname));
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<NotificationResponse> getNotificationSlice(String loginId, int pageNum, int pageSize) {
+        Pageable pageable = makePageable(pageNum, pageSize);
 
-        return notifications.map(notification ->
-                NotificationResponse.of(notification, userIdToNicknameMap.getOrDefault(notification.getFromUserId(), "Unknown User")));
+        //알림을 발생시킨 유저의 닉네임도 같은 쿼리에서 조회
+        return notificationRepository.findSummariesByReceiverLoginId(pageable, loginId).map(NotificationResponse::of);
     }
 
     private static PageRequest makePageable(int pageNum, int pageSize) {
@@ -0,0 +1,277 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.PostEventDto;
+import com.been.foodieserver.dto.response.WarmUpStatusResponse;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.repository.cache.PostReplayCacheRepository;
+import com.been.foodieserver.repository.cache.PostReplayCacheRepository.ReplayState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 토픽 재생으로 게시글 캐시 다시 만들기
+ * <p>
+ * 게시글 토픽은 게시글 ID별로 compact되므로 처음부터 읽으면 게시글마다 마지막 상태만 남는다. 게시글은 DB에서 읽지 않는다.
+ * 한 번에 읽은 이벤트는 게시글별 마지막 버전만 남겨 파이프라인으로 저장하고, 이미 반영한 버전보다 오래된 이벤트는 건너뛴다.
+ * 시작할 때의 토픽 끝까지 읽으면 게시글 수를 DB 기준으로 다시 채우고 멈춘다.
+ * 토픽에는 토픽을 도입한 뒤 작성된 게시글만 있으므로 게시글 수를 재생한 이벤트로 세면 안 된다.
+ * 좋아요/댓글 수는 이벤트에 없으므로 새로 저장하는 게시글의 통계는 DB에서 세어 채운다. 이미 있는 통계는 덮어쓰지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostCacheReplayService {
+
+    public static final String LISTENER_ID = "post-replay";
+
+    private final ConsumerFactory<Long, PostEventDto> consumerFactory;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PostCacheRepository postCacheRepository;
+    private final PostReplayCacheRepository postReplayCacheRepository;
+    private final PostPageNearCache postPageNearCache;
+    private final AtomicReference<ReplayJob> job = new AtomicReference<>(new ReplayJob(JobState.IDLE));
+
+    @Value("${spring.kafka.topic.post}")
+    private String topic;
+
+    /**
+     * 재생을 시작한다. 이미 실행 중이면 예외가 발생한다.
+     */
+    public WarmUpStatusResponse start() {
+        ReplayJob current = job.get();
+        ReplayJob next = new ReplayJob(JobState.RUNNING);
+
+        if (current.state == JobState.RUNNING || !job.compareAndSet(current, next)) {
+            throw new CustomException(ErrorCode.REPLAY_ALREADY_RUNNING);
+        }
+
+        try {
+            next.endOffsets = findEndOffsets();
+            postReplayCacheRepository.clear();
+        } catch (RuntimeException e) {
+            next.finish(e);
+            throw e;
+        }
+
+        log.info("[post replay] start. endOffsets={}", next.endOffsets);
+
+        if (next.endOffsets.values().stream().allMatch(offset -> offset == 0)) {
+            next.finish(null);
+            return next.toResponse();
+        }
+
+        getContainer().start();
+        return next.toResponse();
+    }
+
+    public WarmUpStatusResponse getStatus() {
+        return job.get().toResponse();
+    }
+
+    /**
+     * 한 번에 읽은 이벤트를 반영한다. 시작할 때의 토픽 끝까지 읽었으면 재생을 마친다.
+     */
+    public void apply(List<ConsumerRecord<Long, PostEventDto>> records, Consumer<?, ?> consumer) {
+        ReplayJob current = job.get();
+
+        if (current.state != JobState.RUNNING) {
+            return;
+        }
+
+        try {
+            current.appliedCount.addAndGet(applyLatest(records));
+
+            if (isCaughtUp(current, consumer)) {
+                complete(current);
+            }
+        } catch (RuntimeException e) {
+            current.finish(e);
+            getContainer().stop(() -> log.info("[post replay] stopped"));
+            throw e;
+        }
+    }
+
+    private int applyLatest(List<ConsumerRecord<Long, PostEventDto>> records) {
+        //같은 게시글은 마지막 버전만 반영한다.
+        Map<Long, ConsumerRecord<Long, PostEventDto>> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<Long, PostEventDto> record : records) {
+            if (record.key() != null) {
+                latest.merge(record.key(), record, (prev, next) -> getVersion(next) >= getVersion(prev) ? next : prev);
+            }
+        }
+
+        Map<Long, ReplayState> states = postReplayCacheRepository.findStates(latest.keySet());
+        Map<Long, ReplayState> applied = new HashMap<>();
+        List<Post> posts = new ArrayList<>();
+
+        latest.forEach((postId, record) -> {
+            long version = getVersion(record);
+            ReplayState prev = states.get(postId);
+
+            if (prev != null && prev.version() >= version) {
+                return;
+            }
+
+            if (record.value() == null) {
+                Long categoryId = Long.parseLong(getHeader(record, PostEventDto.CATEGORY_ID_HEADER));
+                postCacheRepository.delete(postId, categoryId, getHeader(record, PostEventDto.WRITER_HEADER));
+                applied.put(postId, new ReplayState(version, categoryId, true));
+                return;
+            }
+
+            Post post = record.value().getPost();
+            Long categoryId = post.getCategory().getId();
+
+            //먼저 반영한 버전과 카테고리가 다르면 카테고리별 게시글 ID를 옮긴다.
+            if (prev != null && !prev.deleted() && !prev.categoryId().equals(categoryId)) {
+                postCacheRepository.modify(post, prev.categoryId());
+            } else {
+                posts.add(post);
+            }
+            applied.put(postId, new ReplayState(version, categoryId, false));
+        });
+
+        saveAll(posts);
+        postReplayCacheRepository.saveStates(applied);
+        return applied.size();
+    }
+
+    /**
+     * 통계가 없는 게시글은 DB 기준 좋아요/댓글 수로 채우도록 함께 센다.
+     */
+    private void saveAll(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        postCacheRepository.saveAll(posts,
+                toCountMap(likeRepository.countGroupByPostIdIn(postIds)),
+                toCountMap(commentRepository.countGroupByPostIdIn(postIds)));
+    }
+
+    private boolean isCaughtUp(ReplayJob job, Consumer<?, ?> consumer) {
+        int caughtUp = 0;
+
+        for (Map.Entry<TopicPartition, Long> endOffset : job.endOffsets.entrySet()) {
+            if (endOffset.getValue() == 0 || (consumer.assignment().contains(endOffset.getKey())
+                    && consumer.position(endOffset.getKey()) >= endOffset.getValue())) {
+                caughtUp++;
+            }
+        }
+
+        job.caughtUpPartitions.set(caughtUp);
+        return caughtUp == job.endOffsets.size();
+    }
+
+    /**
+     * 재생하면서 늘어난 게시글 수를 DB 기준으로 다시 채우고 재생을 멈춘다.
+     */
+    private void complete(ReplayJob job) {
+        postCacheRepository.saveTotalCount(postRepository.count());
+        postRepository.countGroupByCategoryId()
+                .forEach(count -> postCacheRepository.saveCategoryCount(count.getCategoryId(), count.getCount()));
+        postReplayCacheRepository.clear();
+        postPageNearCache.evictAll();
+
+        job.finish(null);
+        getContainer().stop(() -> log.info("[post replay] stopped"));
+    }
+
+    private Map<TopicPartition, Long> findEndOffsets() {
+        try (Consumer<Long, PostEventDto> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                    .map(partition -> new TopicPartition(topic, partition.partition()))
+                    .toList();
+            return new HashMap<>(consumer.endOffsets(partitions));
+        }
+    }
+
+    private MessageListenerContainer getContainer() {
+        return kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+    }
+
+    private static Map<Long, Long> toCountMap(List<PostCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCountDto::getPostId, PostCountDto::getCount));
+    }
+
+    private static long getVersion(ConsumerRecord<Long, PostEventDto> record) {
+        return record.value() != null ? record.value().getVersion() : Long.parseLong(getHeader(record, PostEventDto.VERSION_HEADER));
+    }
+
+    private static String getHeader(ConsumerRecord<Long, PostEventDto> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header == null ? "0" : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private enum JobState {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    private static class ReplayJob {
+
+        private final AtomicLong appliedCount = new AtomicLong();
+        private final AtomicInteger caughtUpPartitions = new AtomicInteger();
+        private final Timestamp startedAt;
+        private volatile Map<TopicPartition, Long> endOffsets = Map.of();
+        private volatile JobState state;
+        private volatile Timestamp finishedAt;
+        private volatile String error;
+
+        private ReplayJob(JobState state) {
+            this.state = state;
+            this.startedAt = state == JobState.RUNNING ? new Timestamp(System.currentTimeMillis()) : null;
+        }
+
+        private void finish(Throwable e) {
+            finishedAt = new Timestamp(System.currentTimeMillis());
+
+            if (e != null) {
+                error = e.getMessage();
+                state = JobState.FAILED;
+                log.error("[post replay] failed. applied={}", appliedCount.get(), e);
+                return;
+            }
+
+            caughtUpPartitions.set(endOffsets.size());
+            state = JobState.COMPLETED;
+            log.info("[post replay] complete. applied={}, elapsed={}ms", appliedCount.get(), finishedAt.getTime() - startedAt.getTime());
+        }
+
+        private WarmUpStatusResponse toResponse() {
+            return WarmUpStatusResponse.of(state.name(), appliedCount.get(), caughtUpPartitions.get(), endOffsets.size(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.response.WarmUpStatusResponse;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.repository.CategoryRepository;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.CategoryCacheRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * hot window 게시글 캐시 채우기
+ * <p>
+ * hot window에 들어갈 게시글의 ID 범위를 cache.post.warm-up.parallelism개로 나눠 병렬로 읽는다.
+ * 각 범위는 ID 기준으로 cache.post.warm-up.chunk-size개씩 끊어 읽고, 읽은 게시글은 파이프라인으로 한 번에 저장한다.
+ * 작업은 별도 스레드에서 실행되고 진행 상황은 {@link #getStatus()}로 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostCacheWarmUpService {
+
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final CategoryCacheRepository categoryCacheRepository;
+    private final PostCacheRepository postCacheRepository;
+    private final AtomicReference<WarmUpJob> job = new AtomicReference<>(new WarmUpJob(WarmUpState.IDLE));
+
+    @Value("${cache.post.warm-up.parallelism:4}")
+    private int parallelism;
+    @Value("${cache.post.warm-up.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${cache.post.warm-up.auto-start:false}")
+    private boolean autoStart;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("post-warm-up-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 서버가 뜰 때 캐시된 게시글이 없으면 캐시를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (autoStart && postCacheRepository.getHotWindow(null).size() == 0) {
+            log.info("[post warm-up] no cached posts. start warm-up");
+            start();
+        }
+    }
+
+    /**
+     * 캐시 채우기를 시작한다. 이미 실행 중이면 예외가 발생한다.
+     */
+    public WarmUpStatusResponse start() {
+        WarmUpJob current = job.get();
+        WarmUpJob next = new WarmUpJob(WarmUpState.RUNNING);
+
+        if (current.state == WarmUpState.RUNNING || !job.compareAndSet(current, next)) {
+            throw new CustomException(ErrorCode.WARM_UP_ALREADY_RUNNING);
+        }
+
+        CompletableFuture.supplyAsync(() -> plan(next), executor)
+                .thenCompose(plan -> CompletableFuture.allOf(plan.ranges().stream()
+                        .map(range -> CompletableFuture.runAsync(() -> loadRange(next, plan.windowStart(), range), executor))
+                        .toArray(CompletableFuture[]::new)))
+                .thenRun(this::saveCounts)
+                .whenComplete((ignored, e) -> next.finish(e));
+
+        return next.toResponse();
+    }
+
+    public WarmUpStatusResponse getStatus() {
+        return job.get().toResponse();
+    }
+
+    /**
+     * hot window에 들어갈 게시글의 ID 범위를 나눈다. hot window 최대 크기를 넘는 오래된 게시글은 읽지 않는다.
+     */
+    private WarmUpPlan plan(WarmUpJob job) {
+        log.info("[post warm-up] start");
+        categoryRepository.findAll().forEach(categoryCacheRepository::save);
+
+        Timestamp windowStart = postCacheRepository.getHotWindowStart();
+        List<Long> newest = postRepository.findIdsByCreatedAtAfter(windowStart, PageRequest.of(0, 1));
+
+        if (newest.isEmpty()) {
+            return new WarmUpPlan(windowStart, List.of());
+        }
+
+        long maxId = newest.get(0);
+        List<Long> oldest = postRepository.findIdsByCreatedAtAfter(windowStart, PageRequest.of((int) postCacheRepository.getHotWindowMaxSize() - 1, 1));
+        long minId = oldest.isEmpty() ? postRepository.findMinIdByCreatedAtAfter(windowStart).orElse(maxId) : oldest.get(0);
+
+        long afterId = minId - 1;
+        long step = Math.max(1, (maxId - afterId + parallelism - 1) / parallelism);
+        List<IdRange> ranges = new ArrayList<>(parallelism);
+
+        for (long from = afterId; from < maxId; from += step) {
+            ranges.add(new IdRange(from, Math.min(from + step, maxId)));
+        }
+
+        job.totalRanges = ranges.size();
+        return new WarmUpPlan(windowStart, ranges);
+    }
+
+    private void loadRange(WarmUpJob job, Timestamp windowStart, IdRange range) {
+        long afterId = range.afterId();
+
+        while (true) {
+            List<Post> chunk = postRepository.findChunkWithUserAndCategory(afterId, range.toId(), windowStart, PageRequest.of(0, chunkSize));
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> postIds = chunk.stream().map(Post::getId).toList();
+            postCacheRepository.saveAll(chunk,
+                    toCountMap(likeRepository.countGroupByPostIdIn(postIds)),
+                    toCountMap(commentRepository.countGroupByPostIdIn(postIds)));
+
+            job.loadedCount.addAndGet(chunk.size());
+            afterId = postIds.get(postIds.size() - 1);
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        job.completedRanges.incrementAndGet();
+    }
+
+    /**
+     * 저장하면서 늘어난 게시글 수를 DB 기준으로 다시 채운다.
+     */
+    private void saveCounts() {
+        postCacheRepository.saveTotalCount(postRepository.count());
+        postRepository.countGroupByCategoryId()
+                .forEach(count -> postCacheRepository.saveCategoryCount(count.getCategoryId(), count.getCount()));
+    }
+
+    private Map<Long, Long> toCountMap(List<PostCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCountDto::getPostId, PostCountDto::getCount));
+    }
+
+    private enum WarmUpState {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    private record WarmUpPlan(Timestamp windowStart, List<IdRange> ranges) {
+    }
+
+    /**
+     * (afterId, toId] 범위
+     */
+    private record IdRange(long afterId, long toId) {
+    }
+
+    private static class WarmUpJob {
+
+        private final AtomicLong loadedCount = new AtomicLong();
+        private final AtomicInteger completedRanges = new AtomicInteger();
+        private final Timestamp startedAt;
+        private volatile int totalRanges;
+        private volatile WarmUpState state;
+        private volatile Timestamp finishedAt;
+        private volatile String error;
+
+        private WarmUpJob(WarmUpState state) {
+            this.state = state;
+            this.startedAt = state == WarmUpState.RUNNING ? new Timestamp(System.currentTimeMillis()) : null;
+        }
+
+        private void finish(Throwable e) {
+            finishedAt = new Timestamp(System.currentTimeMillis());
+
+            if (e != null) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                error = cause.getMessage();
+                state = WarmUpState.FAILED;
+                log.error("[post warm-up] failed. loaded={}", loadedCount.get(), cause);
+                return;
+            }
+
+            state = WarmUpState.COMPLETED;
+            log.info("[post warm-up] complete. loaded={}, elapsed={}ms", loadedCount.get(), finishedAt.getTime() - startedAt.getTime());
+        }
+
+        private WarmUpStatusResponse toResponse() {
+            return WarmUpStatusResponse.of(state.name(), loadedCount.get(), completedRanges.get(), totalRanges, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -12,12 +12,15 @@ import com.been.foodieserver.exception.ErrorCode;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.CommentRepository;
 import com.been.foodieserver.repository.PostRepository;
-import com.been.foodieserver.repository.cache.CommentCacheRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,19 +31,32 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PostCommentService {
 
+    private static final String COUNT_KEY = "comment:post:";
+
     private final UserService userService;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
-    private final CommentCacheRepository commentCacheRepository;
+    private final PostStatsCacheRepository postStatsCacheRepository;
     private final NotificationProducer notificationProducer;
+    private final TrendingService trendingService;
+    private final PageCountCache pageCountCache;
 
     @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentList(Long postId, int pageNum, int pageSize) {
+        return pageCountCache.toPage(getCommentSlice(postId, pageNum, pageSize), COUNT_KEY + postId,
+                () -> commentRepository.countByPost_Id(postId));
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<CommentResponse> getCommentSlice(Long postId, int pageNum, int pageSize) {
         validatePostExistsById(postId);
 
         Pageable pageable = PageRequest.of(pageNum - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
 
-        return commentRepository.findAllWithUserAndPostAndCategoryByPostId(pageable, postId).map(CommentResponse::of);
+        return commentRepository.findSummariesByPostId(pageable, postId).map(CommentResponse::of);
     }
 
     public CommentResponse writeComment(String loginId, Long postId, CommentDto dto) {
@@ -50,7 +66,8 @@ public class PostCommentService {
         User user = userService.getUserOrException(loginId);
 
         Comment savedComment = commentRepository.save(dto.toEntity(post, user));
-        commentCacheRepository.saveId(savedComment); //redis save
+        postStatsCacheRepository.increaseCommentCount(post.getId()); //redis save
+        pageCountCache.evict(COUNT_KEY + post.getId());
 
         //event send
         notificationProducer.send(NotificationEventDto.of(post.getUser(),
@@ -82,8 +99,10 @@ public class PostCommentService {
         if (resultCount == 0) {
             throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
         }
-        
-        commentCacheRepository.deleteByPostIdAndId(postId, commentId); //redis delete
+
+        postStatsCacheRepository.decreaseCommentCount(postId); //redis delete
+        pageCountCache.evict(COUNT_KEY + postId);
+        trendingService.record(postId, TrendingEvent.COMMENT_DELETE);
     }
 
     private void validatePostExistsById(Long postId) {
@@ -0,0 +1,80 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.dto.PostSummaryDto;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.repository.PostQueryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 작성자의 게시글 내보내기
+ * <p>
+ * 게시글을 chunk-size개씩 ID 키셋으로 이어서 조회해 NDJSON(한 줄에 게시글 하나)으로 쓴다.
+ * 엔티티 대신 DTO로 조회해 영속성 컨텍스트에 쌓이는 것이 없고, 트랜잭션 없이 조회할 때마다 커넥션을 반납하므로
+ * 느린 클라이언트에 응답을 쓰는 동안 DB 커넥션을 잡고 있지 않는다. 게시글 수와 관계없이 chunk 하나만큼의 메모리만 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostExportService {
+
+    private final UserService userService;
+    private final PostQueryRepository postQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.post.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 응답을 쓰기 전에 작성자를 확인한다.
+     */
+    public Long getWriterId(String loginId) {
+        return userService.getUserOrException(loginId).getId();
+    }
+
+    /**
+     * 작성자의 게시글을 최신순으로 모두 쓴다. chunk마다 flush해 클라이언트가 바로 받을 수 있게 한다.
+     *
+     * @return 쓴 게시글 수
+     */
+    public long writeByUser(Long userId, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        Long lastPostId = null;
+        List<PostSummaryDto> chunk;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            //응답 스트림은 호출한 쪽에서 닫는다. 게시글 사이에는 공백 대신 줄바꿈만 쓴다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            do {
+                chunk = postQueryRepository.findSummariesByUserIdAndIdLessThan(userId, lastPostId, chunkSize);
+
+                for (PostSummaryDto post : chunk) {
+                    writer.writeValue(generator, PostResponse.of(post));
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+
+                count += chunk.size();
+                if (!chunk.isEmpty()) {
+                    lastPostId = chunk.get(chunk.size() - 1).getPostId();
+                }
+            } while (chunk.size() == chunkSize);
+        }
+
+        log.info("[post export] userId={}, count={}", userId, count);
+        return count;
+    }
+}
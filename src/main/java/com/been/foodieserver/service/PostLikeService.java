@@ -11,6 +11,7 @@ import com.been.foodieserver.exception.ErrorCode;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.LikeRepository;
 import com.been.foodieserver.repository.cache.LikeCacheRepository;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ public class PostLikeService {
     private final LikeRepository likeRepository;
     private final LikeCacheRepository likeCacheRepository;
     private final NotificationProducer notificationProducer;
+    private final TrendingService trendingService;
 
     public LikeResponse like(String loginId, Long postId) {
         if (hasUserLikedPost(loginId, postId)) {
@@ -60,6 +62,7 @@ public class PostLikeService {
         }
 
         likeCacheRepository.deleteByUserLoginIdAndPostId(loginId, postId); //redis delete
+        trendingService.record(postId, TrendingEvent.UNLIKE);
     }
 
     private boolean hasUserLikedPost(String loginId, Long postId) {
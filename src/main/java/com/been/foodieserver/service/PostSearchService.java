@@ -4,9 +4,11 @@ import com.been.foodieserver.dto.PostSearchDto;
 import com.been.foodieserver.dto.response.PostResponse;
 import com.been.foodieserver.dto.response.PostSearchRankResponse;
 import com.been.foodieserver.repository.PostQueryRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
 import com.been.foodieserver.repository.cache.PostSearchCacheRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +20,28 @@ public class PostSearchService {
 
     private final PostQueryRepository postQueryRepository;
     private final PostSearchCacheRepository postSearchCacheRepository;
+    private final PageCountCache pageCountCache;
 
+    /**
+     * 전체 개수는 page-count 캐시에서 가져온다.
+     */
     @Transactional(readOnly = true)
     public Page<PostResponse> search(PostSearchDto dto) {
+        String keyword = dto.getKeyword() == null ? "" : dto.getKeyword().trim().toLowerCase();
+
+        return switch (dto.getSearchType()) {
+            case WRITER_NICKNAME -> pageCountCache.toPage(searchSlice(dto), "post:search:writer:" + keyword,
+                    () -> postQueryRepository.countByUserNicknameContainsIgnoreCase(keyword));
+            case TITLE -> pageCountCache.toPage(searchSlice(dto), "post:search:title:" + keyword,
+                    () -> postQueryRepository.countByTitleContainsIgnoreCase(keyword));
+        };
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<PostResponse> searchSlice(PostSearchDto dto) {
         return switch (dto.getSearchType()) {
             case WRITER_NICKNAME -> postQueryRepository.findAllByUserNicknameContainsIgnoreCase(dto).map(PostResponse::of);
             case TITLE -> postQueryRepository.findAllByTitleContainsIgnoreCase(dto).map(PostResponse::of);
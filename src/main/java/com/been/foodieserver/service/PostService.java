@@ -4,8 +4,12 @@ import com.been.foodieserver.domain.Category;
 import com.been.foodieserver.domain.Like;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.domain.redis.RedisPost;
 import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.PostCursor;
 import com.been.foodieserver.dto.PostDto;
+import com.been.foodieserver.dto.PostTimelineDto;
+import com.been.foodieserver.dto.response.PostDeltaResponse;
 import com.been.foodieserver.dto.response.PostResponse;
 import com.been.foodieserver.exception.CustomException;
 import com.been.foodieserver.exception.ErrorCode;
@@ -13,22 +17,47 @@ import com.been.foodieserver.producer.PostProducer;
 import com.been.foodieserver.repository.CategoryRepository;
 import com.been.foodieserver.repository.CommentRepository;
 import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostQueryRepository;
 import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
 import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository.HotWindow;
+import com.been.foodieserver.repository.cache.PostCacheRepository.PostDelta;
+import com.been.foodieserver.repository.cache.PostCacheRepository.PostIdPage;
+import com.been.foodieserver.repository.cache.PostDetailCache;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.repository.cache.PostVersionCacheRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.ViewCount;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -36,24 +65,163 @@ import java.util.Set;
 @Service
 public class PostService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final String POST_LIST_CALL = "post-list";
+    private static final String POST_VERSION_CALL = "post-version";
+    private static final String POST_DETAIL_CALL = "post-detail";
+    private static final String POST_FEED_CALL = "post-feed";
+    private static final PostIdPage FEED_UNAVAILABLE = new PostIdPage(-1, List.of(), List.of(), List.of());
+    private static final String FOLLOWEES_COUNT_KEY = "post:followees:";
+    private static final String LIKED_COUNT_KEY = "post:liked:";
+
     private final UserService userService;
     private final FollowService followService;
+    private final FeedService feedService;
     private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
     private final PostCacheRepository postCacheRepository;
+    private final PostPageNearCache postPageNearCache;
+    private final PostVersionCacheRepository postVersionCacheRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostStatsCacheRepository postStatsCacheRepository;
     private final LikeRepository likeRepository;
     private final CommentRepository commentRepository;
     private final PostProducer postProducer;
+    private final ViewCountService viewCountService;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final PageCountCache pageCountCache;
+
+    @Value("${cache.redis.fallback.max-page-num:10}")
+    private int fallbackMaxPageNum;
+
+    /**
+     * 게시글 목록 버전. 게시글이 저장/수정/삭제되면 올라가고, 좋아요/댓글 수가 바뀌면 {@link #flushPostListVersion()}에서 모아서 올라간다.
+     *
+     * @return Redis 장애로 조회하지 못했으면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long getPostListVersion() {
+        return redisCircuitBreaker.call(POST_VERSION_CALL, () -> postVersionCacheRepository.getListVersion(), () -> null);
+    }
+
+    /**
+     * 게시글 버전. 게시글이 수정/삭제되거나 좋아요/댓글 수가 바뀌면 올라간다.
+     *
+     * @return Redis 장애로 조회하지 못했으면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long getPostVersion(Long postId) {
+        return redisCircuitBreaker.call(POST_VERSION_CALL, () -> postVersionCacheRepository.getVersion(postId), () -> null);
+    }
+
+    /**
+     * 좋아요/댓글 수가 바뀌었으면 게시글 목록 버전을 올린다. 바뀔 때마다 올리지 않고 주기마다 한 번만 올린다.
+     */
+    @Scheduled(fixedDelayString = "${cache.post.version.list-flush-interval:1000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void flushPostListVersion() {
+        redisCircuitBreaker.call(POST_VERSION_CALL, () -> postVersionCacheRepository.flushListVersion(), () -> false);
+    }
+
+    /**
+     * @param categoryId 전체 게시글이면 null
+     * @param version    조회 전에 읽은 게시글 목록 버전. 버전이 바뀌기 전에 캐시한 페이지는 반환하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public PageDto<PostResponse> getPostList(Long categoryId, int pageNum, int pageSize, Long version) {
+        return postPageNearCache.get(categoryId, pageNum, pageSize, version, PostResponse.class, () -> fillFromDb(categoryId, redisCircuitBreaker.call(POST_LIST_CALL,
+                () -> withHotWindow(categoryId, postCacheRepository.findAll(categoryId, pageNum, pageSize)),
+                () -> new CachedPage<>(getPostListFallback(categoryId, pageNum, pageSize, PostResponse.class, Function.identity()), null)), Function.identity()));
+    }
+
+    /**
+     * 게시글 JSON 조각 모드 게시글 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public PageDto<RawValue> getPostListAsJson(Long categoryId, int pageNum, int pageSize, Long version) {
+        return postPageNearCache.get(categoryId, pageNum, pageSize, version, RawValue.class, () -> fillFromDb(categoryId, redisCircuitBreaker.call(POST_LIST_CALL,
+                () -> withHotWindow(categoryId, postCacheRepository.findAllAsJson(categoryId, pageNum, pageSize)),
+                () -> new CachedPage<>(getPostListFallback(categoryId, pageNum, pageSize, RawValue.class, postCacheRepository::toJson), null)), postCacheRepository::toJson));
+    }
+
+    public boolean isPostFragmentEnabled() {
+        return postCacheRepository.isFragmentEnabled();
+    }
 
+    /**
+     * Redis에 캐시된 게시글 다음부터는 DB에서 키셋 방식으로 조회한다. Redis 장애 시에는 커서 다음부터 모두 DB에서 조회한다.
+     */
     @Transactional(readOnly = true)
-    public PageDto<PostResponse> getPostList(int pageNum, int pageSize) {
-        return postCacheRepository.findAll(pageNum, pageSize);
+    public PageDto<PostResponse> getPostListByCursor(Long categoryId, String cursor, int pageSize) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        CachedPage<PostResponse> cached = redisCircuitBreaker.call(POST_LIST_CALL, () -> {
+            PageDto<PostResponse> cachedPage = postCacheRepository.findAllByCursor(categoryId, postCursor, pageSize);
+            return new CachedPage<>(cachedPage, cachedPage.getHasNext() ? null : postCacheRepository.getHotWindow(categoryId));
+        }, () -> new CachedPage<>(PageDto.ofCursor(pageSize, countPosts(categoryId), null, List.of()), new HotWindow(0, null)));
+        PageDto<PostResponse> page = cached.page();
+
+        if (cached.window() == null || cached.window().size() >= page.getTotalElements()) {
+            return page;
+        }
+
+        List<PostResponse> content = new ArrayList<>(page.getContent());
+        Long lastPostId = content.isEmpty() ? (postCursor == null ? null : postCursor.getPostId()) : content.get(content.size() - 1).getPostId();
+
+        postQueryRepository.findSummariesByIdLessThan(categoryId, lastPostId, 0, pageSize - content.size() + 1).stream()
+                .map(PostResponse::of)
+                .forEach(content::add);
+
+        if (content.size() <= pageSize) {
+            return PageDto.ofCursor(pageSize, page.getTotalElements(), null, content);
+        }
+
+        content = content.subList(0, pageSize);
+        PostResponse last = content.get(pageSize - 1);
+        String nextCursor = PostCursor.of(last.getCreatedAt().getTime(), last.getPostId()).encode();
+
+        return PageDto.ofCursor(pageSize, page.getTotalElements(), nextCursor, content);
+    }
+
+    /**
+     * 커서 이후 작성된 게시글을 오래된 순으로 조회한다. 커서가 없으면 게시글 없이 가장 최근 게시글의 커서만 반환한다.
+     * hot window가 잘려 커서 이후 게시글이 모두 캐시되어 있지 않거나 Redis 장애 시에는 DB에서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PostDeltaResponse getPostsSince(Long categoryId, String cursor, int limit) {
+        PostCursor postCursor = PostCursor.decode(cursor);
+        PostDelta delta = redisCircuitBreaker.call(POST_LIST_CALL, () -> postCacheRepository.findAllSince(categoryId, postCursor, limit), () -> null);
+
+        if (delta != null) {
+            return PostDeltaResponse.of(delta.posts(), delta.latest() == null ? null : delta.latest().encode(), delta.hasMore());
+        }
+
+        if (postCursor == null) {
+            String latestCursor = postQueryRepository.findSummariesByIdLessThan(categoryId, null, 0, 1).stream()
+                    .findFirst()
+                    .map(latest -> PostCursor.of(latest.getCreatedAt().getTime(), latest.getPostId()).encode())
+                    .orElse(null);
+            return PostDeltaResponse.of(List.of(), latestCursor, false);
+        }
+
+        List<PostResponse> posts = postQueryRepository.findSummariesByIdGreaterThan(categoryId, postCursor.getPostId(), limit + 1).stream()
+                .map(PostResponse::of)
+                .toList();
+        boolean hasMore = posts.size() > limit;
+
+        if (hasMore) {
+            posts = posts.subList(0, limit);
+        }
+
+        PostResponse last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+        String latestCursor = last == null ? cursor : PostCursor.of(last.getCreatedAt().getTime(), last.getPostId()).encode();
+
+        return PostDeltaResponse.of(posts, latestCursor, hasMore);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getMyPostList(String loginId, int pageNum, int pageSize) {
-        Pageable pageable = makePageable(pageNum, pageSize);
-        return postRepository.findAllWithUserAndCategoryByUser_LoginId(pageable, loginId).map(PostResponse::of);
+        return getPostListByWriter(loginId, pageNum, pageSize);
     }
 
     @Transactional(readOnly = true)
@@ -62,8 +230,7 @@ public class PostService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        PageRequest pageable = makePageable(pageNum, pageSize);
-        return postRepository.findAllWithUserAndCategoryByUser_LoginId(pageable, writerLoginId).map(PostResponse::of);
+        return getPostListByWriter(writerLoginId, pageNum, pageSize);
     }
 
     /**
@@ -72,13 +239,88 @@ public class PostService {
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostsByFollowees(String loginId, int pageNum, int pageSize) {
         Pageable pageable = makePageable(pageNum, pageSize);
+        PostIdPage page = findFeed(loginId, pageable);
+
+        if (page == null) {
+            return pageCountCache.toPage(getPostsByFolloweesFromDb(loginId, pageable), FOLLOWEES_COUNT_KEY + loginId,
+                    () -> countPostsByFollowees(loginId));
+        }
+
+        // 피드에는 최근 게시글만 들어 있어 피드가 가득 차면 전체 개수는 DB에서 센다.
+        long total = page.total() < feedService.getInboxSize() ? page.total()
+                : pageCountCache.get(FOLLOWEES_COUNT_KEY + loginId, () -> countPostsByFollowees(loginId));
+        return toPage(page.postIds(), page.cachedPosts(), pageable, total);
+    }
+
+    /**
+     * 팔로우한 유저의 게시글 목록을 전체 개수 없이 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<PostResponse> getPostsByFolloweesSlice(String loginId, int pageNum, int pageSize) {
+        Pageable pageable = makePageable(pageNum, pageSize);
+        PostIdPage page = findFeed(loginId, pageable);
+
+        if (page == null) {
+            return getPostsByFolloweesFromDb(loginId, pageable);
+        }
+
+        // 피드가 가득 차 있으면 피드 밖의 DB에 게시글이 더 있다.
+        boolean hasNext = pageable.getOffset() + pageSize < page.total() || page.total() >= feedService.getInboxSize();
+        return new SliceImpl<>(toResponsesInOrder(page.postIds(), page.cachedPosts()), pageable, hasNext);
+    }
+
+    /**
+     * 피드에서 조회할 수 없으면(Redis 장애 포함) null을 반환한다.
+     */
+    private PostIdPage findFeed(String loginId, Pageable pageable) {
+        int pageNum = pageable.getPageNumber() + 1;
+        int pageSize = pageable.getPageSize();
+
+        if (pageable.getOffset() + pageSize > feedService.getInboxSize()) {
+            return null;
+        }
+
+        PostIdPage page = findCachedFeed(loginId, pageNum, pageSize);
+
+        if (page == null) {
+            feedService.buildFeed(loginId);
+            page = findCachedFeed(loginId, pageNum, pageSize);
+        }
+
+        if (page != null && !page.uncachedWriters().isEmpty()) {
+            for (String writerLoginId : page.uncachedWriters()) {
+                List<PostTimelineDto> timeline = postRepository.findTimelineByUserLoginId(writerLoginId);
+
+                if (!timeline.isEmpty()) {
+                    postCacheRepository.saveWriterTimeline(writerLoginId, timeline);
+                }
+            }
+            page = findCachedFeed(loginId, pageNum, pageSize);
+        }
+
+        return page == FEED_UNAVAILABLE ? null : page;
+    }
+
+    /**
+     * @return 피드가 캐시되지 않았으면 null, Redis 장애로 조회하지 못했으면 FEED_UNAVAILABLE
+     */
+    private PostIdPage findCachedFeed(String loginId, int pageNum, int pageSize) {
+        return redisCircuitBreaker.call(POST_FEED_CALL, () -> postCacheRepository.findFeed(loginId, pageNum, pageSize), () -> FEED_UNAVAILABLE);
+    }
+
+    private Slice<PostResponse> getPostsByFolloweesFromDb(String loginId, Pageable pageable) {
         Set<String> followeeLoginIdSet = followService.getFolloweeLoginIds(loginId);
 
         if (followeeLoginIdSet.isEmpty()) {
-            return Page.empty(pageable);
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        return postRepository.findAllWithUserAndCategoryByUser_LoginIdIn(pageable, followeeLoginIdSet).map(PostResponse::of);
+        return postQueryRepository.findSummariesByUserLoginIdIn(followeeLoginIdSet, pageable).map(PostResponse::of);
+    }
+
+    private long countPostsByFollowees(String loginId) {
+        Set<String> followeeLoginIdSet = followService.getFolloweeLoginIds(loginId);
+        return followeeLoginIdSet.isEmpty() ? 0 : postRepository.countByUser_LoginIdIn(followeeLoginIdSet);
     }
 
     /**
@@ -86,22 +328,79 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getLikedPostList(String loginId, int pageNum, int pageSize) {
-        Pageable pageable = makePageable(pageNum, pageSize);
+        List<Long> likedPostIds = getLikedPostIds(loginId);
+        return pageCountCache.toPage(getLikedPostSlice(likedPostIds, makePageable(pageNum, pageSize)), LIKED_COUNT_KEY + loginId,
+                () -> likedPostIds.isEmpty() ? 0 : postRepository.countByIdIn(likedPostIds));
+    }
+
+    /**
+     * 좋아요한 게시글 목록을 전체 개수 없이 조회
+     */
+    @Transactional(readOnly = true)
+    public Slice<PostResponse> getLikedPostSlice(String loginId, int pageNum, int pageSize) {
+        return getLikedPostSlice(getLikedPostIds(loginId), makePageable(pageNum, pageSize));
+    }
 
-        List<Like> likes = likeRepository.findByUser_LoginId(loginId);
+    private List<Long> getLikedPostIds(String loginId) {
+        return likeRepository.findByUser_LoginId(loginId).stream().map(Like::getPost).map(Post::getId).toList();
+    }
 
-        if (likes.isEmpty()) {
-            return Page.empty(pageable);
+    private Slice<PostResponse> getLikedPostSlice(List<Long> likedPostIds, Pageable pageable) {
+        if (likedPostIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        List<Long> likedPostIds = likes.stream().map(Like::getPost).map(Post::getId).toList();
-        return postRepository.findAllWithUserAndCategoryByIdIn(pageable, likedPostIds).map(PostResponse::of);
+        return postQueryRepository.findSummariesByIdIn(likedPostIds, pageable).map(PostResponse::of);
     }
 
+    /**
+     * 인기 게시글 목록 조회. 좋아요, 댓글, 조회로 쌓이고 시간이 지날수록 줄어드는 점수 순으로 조회한다.
+     * 점수는 Redis에만 있으므로 Redis 장애 시에는 빈 페이지를 반환한다.
+     */
     @Transactional(readOnly = true)
-    public PostResponse getPost(Long postId) {
-        Post post = getPostWithFetchJoinOrException(postId);
-        return PostResponse.of(post);
+    public Page<PostResponse> getTrendingPostList(int pageNum, int pageSize) {
+        Pageable pageable = makePageable(pageNum, pageSize);
+        PostIdPage page = redisCircuitBreaker.call(POST_LIST_CALL, () -> postCacheRepository.findTrending(pageNum, pageSize),
+                () -> new PostIdPage(0, List.of(), List.of(), List.of()));
+
+        return toPage(page.postIds(), page.cachedPosts(), pageable, page.total());
+    }
+
+    /**
+     * 여러 게시글을 요청한 순서대로 조회한다. 캐시되지 않은 게시글만 DB에서 한 번에 조회하고, 없거나 삭제된 게시글은 제외한다.
+     * Redis 장애 시에는 모두 DB에서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPostsByIds(List<Long> postIds) {
+        List<Long> distinctPostIds = postIds.stream().filter(Objects::nonNull).distinct().toList();
+
+        if (distinctPostIds.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(ErrorCode.TOO_MANY_POST_IDS);
+        }
+
+        return toResponsesInOrder(distinctPostIds, redisCircuitBreaker.call(POST_LIST_CALL, () -> postCacheRepository.findAllByIds(distinctPostIds), List::of));
+    }
+
+    /**
+     * 게시글 상세 조회. 캐시에서 조회할 때는 DB 커넥션을 잡지 않는다.
+     * 조회수는 모아 두었다가 반영하고, 응답에는 지금까지의 조회수와 조회자 수를 채운다.
+     * Redis 장애 시에는 캐시 없이 DB에서 조회하고, 조회수는 DB에 반영된 조회수로 응답한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse getPost(Long postId, String loginId) {
+        PostResponse response = postDetailCache.get(postId, () -> loadPost(postId), () -> loadPostFromDb(postId));
+        viewCountService.record(postId, loginId);
+
+        ViewCount viewCount = redisCircuitBreaker.call(POST_DETAIL_CALL, () -> viewCountService.getViewCount(postId), () -> null);
+        return viewCount == null ? response : response.withViewCount(viewCount.viewCount(), viewCount.viewerCount());
+    }
+
+    /**
+     * 게시글을 다시 보내지 않는 조건부 조회(304)도 조회수에 반영한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(Long postId, String loginId) {
+        viewCountService.record(postId, loginId);
     }
 
     public PostResponse writePost(String loginId, PostDto dto) {
@@ -116,14 +415,19 @@ public class PostService {
 
     public PostResponse modifyPost(String loginId, Long postId, PostDto dto) {
         Category category = getCategoryOrException(dto.getCategoryId());
-        Post post = getPostByUserOrException(postId, loginId);
+        Post post = getPostWithFetchJoinByUserOrException(postId, loginId);
         User user = userService.getUserOrException(loginId);
+        Long previousCategoryId = post.getCategory().getId();
 
         post.modify(category, dto.getTitle(), dto.getContent());
 
         postRepository.flush();
 
-        postCacheRepository.modify(post);
+        afterCommit(() -> {
+            postCacheRepository.modify(post, previousCategoryId);
+            postPageNearCache.evictAll();
+            postProducer.sendModified(post);
+        });
         return PostResponse.of(user, category, post);
     }
 
@@ -132,7 +436,11 @@ public class PostService {
         post.delete();
 
         postRepository.flush();
-        postCacheRepository.deleteById(postId);
+        afterCommit(() -> {
+            postCacheRepository.delete(post);
+            postPageNearCache.evictAll();
+            postProducer.sendDeleted(post);
+        });
 
         return PostResponse.of(post);
     }
@@ -159,10 +467,189 @@ public class PostService {
         }
     }
 
+    /**
+     * 트랜잭션이 커밋된 뒤에 실행한다. 커밋 전에 캐시를 바꾸면, 그 사이 DB에서 이전 게시글을 읽은 조회가 다시 캐시할 수 있다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private static PageRequest makePageable(int pageNum, int pageSize) {
         return PageRequest.of(pageNum - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
     }
 
+    /**
+     * 캐시된 페이지가 덜 찼으면 DB로 채울 때 필요한 hot window도 함께 조회한다.
+     * 서킷 브레이커가 Redis 호출 시간만 재도록 DB는 조회하지 않는다.
+     */
+    private <T> CachedPage<T> withHotWindow(Long categoryId, PageDto<T> page) {
+        long start = (long) (page.getCurrentPage() - 1) * page.getPageSize();
+
+        if (page.getContent().size() >= page.getPageSize() || start >= page.getTotalElements()) {
+            return new CachedPage<>(page, null);
+        }
+
+        return new CachedPage<>(page, postCacheRepository.getHotWindow(categoryId));
+    }
+
+    /**
+     * hot window 밖의 페이지는 캐시된 가장 오래된 게시글 다음부터 DB에서 채운다.
+     * 캐시 조회와 hot window는 모두 기간이 지나지 않은 게시글만 세므로, 만료된 게시글의 순위도 DB에서 채운다.
+     */
+    private <T> PageDto<T> fillFromDb(Long categoryId, CachedPage<T> cached, Function<PostResponse, T> mapper) {
+        PageDto<T> page = cached.page();
+        HotWindow window = cached.window();
+
+        if (window == null) {
+            return page;
+        }
+
+        int pageNum = page.getCurrentPage();
+        int pageSize = page.getPageSize();
+        long start = (long) (pageNum - 1) * pageSize;
+        long end = start + pageSize - 1;
+
+        //캐시에 모든 게시글이 있거나, 조회 중 삭제된 게시글 때문에 덜 채워진 페이지
+        if (window.size() >= page.getTotalElements() || end < window.size()) {
+            return page;
+        }
+
+        long offset = Math.max(0, start - window.size());
+        int limit = (int) (end + 1 - Math.max(start, window.size()));
+
+        List<T> content = new ArrayList<>(page.getContent());
+        postQueryRepository.findSummariesByIdLessThan(categoryId, window.oldestPostId(), offset, limit).stream()
+                .map(PostResponse::of)
+                .map(mapper)
+                .forEach(content::add);
+
+        return PageDto.of(pageNum, pageSize, page.getTotalElements(), content);
+    }
+
+    /**
+     * Redis 장애 시 마지막으로 조회한 페이지가 있으면 반환하고, 없으면 DB에서 조회한다.
+     * DB 부하를 막기 위해 fallback.max-page-num 이후 페이지는 조회하지 않는다.
+     */
+    private <T> PageDto<T> getPostListFallback(Long categoryId, int pageNum, int pageSize, Class<T> contentType, Function<PostResponse, T> mapper) {
+        Optional<PageDto<T>> stale = postPageNearCache.getStale(categoryId, pageNum, pageSize, contentType);
+
+        if (stale.isPresent()) {
+            return stale.get();
+        }
+
+        if (pageNum > fallbackMaxPageNum) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        long total = countPosts(categoryId);
+        List<T> content = postQueryRepository.findSummariesByIdLessThan(categoryId, null, (long) (pageNum - 1) * pageSize, pageSize).stream()
+                .map(PostResponse::of)
+                .map(mapper)
+                .toList();
+
+        return PageDto.of(pageNum, pageSize, total, content);
+    }
+
+    /**
+     * 작성자별 게시글 ID가 캐시되지 않았으면 DB에서 작성자의 게시글 ID를 조회해 캐시한다.
+     * 캐시되지 않은 게시글은 DB에서 ID로 조회한다.
+     */
+    private Page<PostResponse> getPostListByWriter(String loginId, int pageNum, int pageSize) {
+        Pageable pageable = makePageable(pageNum, pageSize);
+        PostIdPage page = postCacheRepository.findAllByWriter(loginId, pageNum, pageSize);
+
+        if (page == null) {
+            List<PostTimelineDto> timeline = postRepository.findTimelineByUserLoginId(loginId);
+
+            if (timeline.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            postCacheRepository.saveWriterTimeline(loginId, timeline);
+
+            List<Long> postIds = timeline.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageSize)
+                    .map(PostTimelineDto::getPostId)
+                    .toList();
+            page = new PostIdPage(timeline.size(), postIds, List.of(), List.of());
+        }
+
+        return toPage(page.postIds(), page.cachedPosts(), pageable, page.total());
+    }
+
+    /**
+     * 캐시되지 않은 게시글은 DB에서 ID로 조회해 postIds 순서대로 페이지를 만든다.
+     */
+    private Page<PostResponse> toPage(List<Long> postIds, List<PostResponse> cachedPosts, Pageable pageable, long total) {
+        return new PageImpl<>(toResponsesInOrder(postIds, cachedPosts), pageable, total);
+    }
+
+    /**
+     * 캐시되지 않은 게시글은 DB에서 ID로 한 번에 조회해 postIds 순서대로 반환한다.
+     */
+    private List<PostResponse> toResponsesInOrder(List<Long> postIds, List<PostResponse> cachedPosts) {
+        Map<Long, PostResponse> postMap = new HashMap<>();
+        cachedPosts.forEach(post -> postMap.put(post.getPostId(), post));
+
+        List<Long> missingPostIds = postIds.stream().filter(postId -> !postMap.containsKey(postId)).toList();
+
+        if (!missingPostIds.isEmpty()) {
+            postQueryRepository.findSummariesByIdIn(missingPostIds)
+                    .forEach(post -> postMap.put(post.getPostId(), PostResponse.of(post)));
+        }
+
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Redis 장애 시 캐시하지 않고 DB에서 게시글과 좋아요/댓글 수, DB에 반영된 조회수를 읽는다.
+     */
+    private PostResponse loadPostFromDb(Long postId) {
+        Post post = getPostWithFetchJoinOrException(postId);
+        int likeCount = likeRepository.countByPost_Id(postId);
+        int commentCount = commentRepository.countByPost_Id(postId);
+
+        return PostResponse.of(post.getUser(), post.getCategory(), RedisPost.of(post), likeCount, commentCount)
+                .withViewCount(post.getViewCount(), 0);
+    }
+
+    /**
+     * DB에서 게시글을 읽어 캐시한다. 통계가 캐시되지 않았으면 DB의 좋아요/댓글 수로, 조회수가 없으면 DB 조회수로 채운다.
+     */
+    private PostResponse loadPost(Long postId) {
+        Post post = getPostWithFetchJoinOrException(postId);
+        PostResponse response = postCacheRepository.saveDetail(post);
+
+        if (response == null) {
+            int likeCount = likeRepository.countByPost_Id(postId);
+            int commentCount = commentRepository.countByPost_Id(postId);
+            postStatsCacheRepository.saveCounts(postId, likeCount, commentCount);
+            response = PostResponse.of(post.getUser(), post.getCategory(), RedisPost.of(post), likeCount, commentCount);
+        }
+
+        //DB에서 읽은 김에 통계에 조회수가 없으면 채운다.
+        viewCountService.seedViewCount(postId, post.getViewCount());
+        return response;
+    }
+
+    private long countPosts(Long categoryId) {
+        return categoryId == null ? postRepository.count() : postRepository.countByCategory_Id(categoryId);
+    }
+
     public Post getPostWithFetchJoinOrException(Long postId) {
         return postRepository.findWithUserAndCategoryById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
@@ -173,13 +660,16 @@ public class PostService {
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
     }
 
-    private Post getPostByUserOrException(Long postId, String loginId) {
-        return postRepository.findByIdAndUser_LoginId(postId, loginId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-    }
-
     private Category getCategoryOrException(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
     }
+
+    /**
+     * Redis에서 조회한 페이지
+     *
+     * @param window DB로 채워야 할 수 있으면 hot window, 아니면 null
+     */
+    private record CachedPage<T>(PageDto<T> page, HotWindow window) {
+    }
 }
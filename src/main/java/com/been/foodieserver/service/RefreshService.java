@@ -1,13 +1,13 @@
 package com.been.foodieserver.service;
 
 import com.been.foodieserver.domain.User;
-import com.been.foodieserver.repository.CategoryRepository;
+import com.been.foodieserver.dto.PostCountDto;
 import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
 import com.been.foodieserver.repository.PostRepository;
 import com.been.foodieserver.repository.UserRepository;
-import com.been.foodieserver.repository.cache.CategoryCacheRepository;
-import com.been.foodieserver.repository.cache.CommentCacheRepository;
 import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
 import com.been.foodieserver.repository.cache.UserCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,20 +18,24 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class RefreshService {
 
-    private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
-    private final CategoryCacheRepository categoryCacheRepository;
-    private final PostCacheRepository postCacheRepository;
+    private final LikeRepository likeRepository;
     private final UserCacheRepository userCacheRepository;
-    private final CommentCacheRepository commentCacheRepository;
+    private final PostCacheRepository postCacheRepository;
+    private final PostStatsCacheRepository postStatsCacheRepository;
 
     public void refreshUsers() {
         boolean hasNext = true;
@@ -50,16 +54,31 @@ public class RefreshService {
         log.info("set users to redis complete");
     }
 
-    public void refreshPosts() {
-        categoryRepository.findAll().forEach(categoryCacheRepository::save);
-        log.info("set posts to redis start");
-        postRepository.findAllWithUserAndCategory().forEach(postCacheRepository::save);
-        log.info("set posts to redis complete");
+    /**
+     * DB의 좋아요/댓글 수로 캐시된(hot window) 게시글의 통계 채우기
+     * <p>
+     * hot window 밖의 게시글 통계는 상세 조회할 때 DB로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public void refreshPostStats() {
+        log.info("set post stats to redis start");
+        Set<Long> cachedPostIds = postCacheRepository.findVersions(0, Long.MAX_VALUE).keySet();
+
+        if (cachedPostIds.isEmpty()) {
+            log.info("set post stats to redis complete (no cached post)");
+            return;
+        }
+
+        Map<Long, Long> likeCountMap = toCountMap(likeRepository.countGroupByPostId());
+        Map<Long, Long> commentCountMap = toCountMap(commentRepository.countGroupByPostId());
+
+        postRepository.findIdsByIdIn(cachedPostIds).forEach(postId -> postStatsCacheRepository.saveCounts(postId,
+                likeCountMap.getOrDefault(postId, 0L),
+                commentCountMap.getOrDefault(postId, 0L)));
+        log.info("set post stats to redis complete");
     }
 
-    public void refreshComments() {
-        log.info("set comments to redis start");
-        commentRepository.findAllWithPost().forEach(commentCacheRepository::saveId);
-        log.info("set comments to redis complete");
+    private Map<Long, Long> toCountMap(List<PostCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(PostCountDto::getPostId, PostCountDto::getCount));
     }
 }
@@ -40,6 +40,22 @@ public class SseService {
         }, () -> log.info("[No emitter founded] userId={}", userId));
     }
 
+    /**
+     * 현재 서버에 연결된 모든 클라이언트에 이벤트를 보낸다. 보내지 못한 연결은 삭제한다.
+     */
+    public void broadcast(String name, Object data) {
+        sseEmitterRepository.findAll().forEach((userId, sseEmitter) -> {
+            try {
+                sseEmitter.send(SseEmitter.event()
+                        .name(name)
+                        .data(data));
+            } catch (Exception ex) {
+                log.info("[Broadcast failed] userId={}", userId);
+                sseEmitterRepository.deleteEmitterByUserId(userId);
+            }
+        });
+    }
+
     public SseEmitter subscribe(Long userId) {
         SseEmitter sseEmitter = sseEmitterRepository.save(userId, new SseEmitter(DEFAULT_TIMEOUT));
 
@@ -0,0 +1,68 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.NotificationType;
+import com.been.foodieserver.repository.cache.TrendingCacheRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 좋아요, 댓글, 조회 이벤트로 인기 게시글 점수를 관리한다.
+ * <p>
+ * 좋아요와 댓글은 알림 이벤트를 받아 반영하고, 좋아요 취소와 댓글 삭제는 요청을 처리한 서비스에서 바로,
+ * 조회는 {@link ViewCountService}가 모아 둔 조회수를 Redis에 반영할 때 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TrendingService {
+
+    private final TrendingCacheRepository trendingCacheRepository;
+
+    public void record(Long postId, TrendingEvent event) {
+        record(postId, event, 1);
+    }
+
+    /**
+     * 모아 둔 같은 이벤트를 한 번에 반영한다.
+     */
+    public void record(Long postId, TrendingEvent event, long times) {
+        trendingCacheRepository.incrementScore(postId, event.getWeight() * times);
+    }
+
+    /**
+     * 알림 이벤트 중 게시글에 대한 좋아요, 댓글만 반영한다.
+     */
+    public void record(NotificationType type, Long targetId) {
+        switch (type) {
+            case NEW_LIKE_ON_POST -> record(targetId, TrendingEvent.LIKE);
+            case NEW_COMMENT_ON_POST -> record(targetId, TrendingEvent.COMMENT);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 기준 시각이 멀어져 새 이벤트의 가중치가 너무 커지기 전에 점수를 다시 계산한다.
+     */
+    @Scheduled(fixedDelayString = "${cache.post.trending.renormalize-interval:600000}")
+    public void renormalize() {
+        Long size = trendingCacheRepository.renormalize();
+        log.debug("[trending renormalized] size={}", size);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum TrendingEvent {
+
+        VIEW(1),
+        LIKE(3),
+        UNLIKE(-3),
+        COMMENT(5),
+        COMMENT_DELETE(-5);
+
+        private final double weight;
+    }
+}
@@ -14,6 +14,7 @@ import com.been.foodieserver.repository.FollowRepository;
 import com.been.foodieserver.repository.LikeRepository;
 import com.been.foodieserver.repository.PostRepository;
 import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
 import com.been.foodieserver.repository.cache.UserCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,8 @@ import static com.been.foodieserver.service.SlackService.SlackChannel;
 @Service
 public class UserService {
 
+    private static final String USER_CALL = "user";
+
     private final PasswordEncoder encoder;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
@@ -44,6 +47,7 @@ public class UserService {
     private final SlackProducer slackProducer;
     private final ImageService imageService;
     private final UserCacheRepository userCacheRepository;
+    private final RedisCircuitBreaker redisCircuitBreaker;
 
     public void signUp(UserDto userDto) {
         if (isLoginIdExist(userDto.getLoginId())) {
@@ -200,7 +204,7 @@ public class UserService {
     }
 
     public User getUserOrException(String loginId) {
-        return userCacheRepository.findByLoginId(loginId)
+        return redisCircuitBreaker.call(USER_CALL, () -> userCacheRepository.findByLoginId(loginId), () -> userRepository.findByLoginId(loginId))
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 }
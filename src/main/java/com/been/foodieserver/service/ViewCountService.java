@@ -0,0 +1,196 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.PostViews;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.ViewCount;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 조회수
+ * <p>
+ * 조회할 때마다 Redis나 DB에 쓰지 않고 서버에 모아 두었다가 cache.post.view.flush-interval마다 Redis에 한 번에 반영하고,
+ * Redis에 모인 조회수는 cache.post.view.persist-interval마다 같은 조회수를 가진 게시글끼리 묶어 DB에 반영한다.
+ * <p>
+ * 게시글별로 모아 둔 조회수는 compute와 remove로만 바꿔, 반영하려고 꺼내는 중에 들어온 조회가 빠지지 않게 한다.
+ * Redis에 반영하지 못한 조회수는 다시 모아 두고, 인기 게시글 점수는 Redis에 반영한 조회수로만 올린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ViewCountService {
+
+    private static final int FLUSH_BATCH_SIZE = 200;
+    private static final int PERSIST_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final PostViewCacheRepository postViewCacheRepository;
+    private final TrendingService trendingService;
+    private final Map<Long, PendingViews> buffer = new ConcurrentHashMap<>();
+
+    @Value("${cache.post.view.max-viewers-per-flush:10000}")
+    private int maxViewersPerFlush;
+    @Value("${cache.post.view.persist-lock-ttl:1m}")
+    private Duration persistLockTtl;
+
+    public void record(Long postId, String loginId) {
+        buffer.compute(postId, (id, views) -> {
+            PendingViews pending = views == null ? new PendingViews() : views;
+            pending.count().increment();
+
+            //한 번에 너무 많은 조회자를 모으지 않도록 나머지는 조회수만 센다.
+            if (loginId != null && pending.viewers().size() < maxViewersPerFlush) {
+                pending.viewers().add(loginId);
+            }
+            return pending;
+        });
+    }
+
+    /**
+     * 조회수와 조회자 수. 조회수에는 아직 Redis에 반영하지 않은 이 서버의 조회수도 더한다.
+     * <p>
+     * 캐시 조회 경로에서 DB를 읽지 않도록, 통계에 조회수가 없으면 이 서버의 조회수만 반환한다.
+     * 통계의 조회수는 게시글을 캐시하거나 DB에서 상세 조회할 때 {@link #seedViewCount(Long, long)}로 채운다.
+     */
+    public ViewCount getViewCount(Long postId) {
+        ViewCount viewCount = postViewCacheRepository.findViewCount(postId);
+        long count = viewCount.viewCount() == null ? 0 : viewCount.viewCount();
+
+        PendingViews pending = buffer.get(postId);
+        long pendingCount = pending == null ? 0 : pending.count().sum();
+
+        return new ViewCount(count + pendingCount, viewCount.viewerCount());
+    }
+
+    /**
+     * 통계에 조회수가 없으면 DB에서 읽은 조회수에 아직 DB에 반영하지 않은 조회수를 더해 채운다.
+     */
+    public void seedViewCount(Long postId, long persistedViewCount) {
+        postViewCacheRepository.seedViewCount(postId, persistedViewCount);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.post.view.flush-interval:3000}")
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        List<PostViews> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+        int flushed = 0;
+
+        for (Long postId : buffer.keySet()) {
+            //꺼낸 뒤 들어온 조회는 새로 만든 항목에 모여 다음 반영에 포함된다.
+            PendingViews views = buffer.remove(postId);
+
+            if (views == null) {
+                continue;
+            }
+
+            batch.add(new PostViews(postId, views.count().sum(), views.viewers()));
+            flushed++;
+
+            if (batch.size() == FLUSH_BATCH_SIZE) {
+                saveViews(batch);
+                batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+            }
+        }
+
+        saveViews(batch);
+        log.debug("[views flushed] posts={}", flushed);
+    }
+
+    /**
+     * 꺼낸 조회수를 Redis에 반영한다. 실패하면 다음 반영에 포함되도록 꺼낸 조회수를 다시 모아 둔다.
+     */
+    private void saveViews(List<PostViews> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            postViewCacheRepository.saveViews(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(this::restore);
+            throw e;
+        }
+
+        batch.forEach(views -> trendingService.record(views.postId(), TrendingEvent.VIEW, views.count()));
+    }
+
+    private void restore(PostViews views) {
+        buffer.compute(views.postId(), (id, current) -> {
+            PendingViews pending = current == null ? new PendingViews() : current;
+            pending.count().add(views.count());
+
+            for (String viewer : views.viewers()) {
+                if (pending.viewers().size() >= maxViewersPerFlush) {
+                    break;
+                }
+                pending.viewers().add(viewer);
+            }
+            return pending;
+        });
+    }
+
+    /**
+     * Redis에 모인 조회수를 DB에 반영한다. 같은 조회수를 가진 게시글은 update 한 번으로 반영한다.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${cache.post.view.persist-interval:60000}")
+    public void persist() {
+        String token = UUID.randomUUID().toString();
+
+        if (!postViewCacheRepository.tryLockPersist(token, persistLockTtl)) {
+            return;
+        }
+
+        //커밋된 뒤에만 꺼낸 조회수를 지우고, 실패하면 다음 반영에서 다시 반영한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    postViewCacheRepository.completePersist();
+                }
+                postViewCacheRepository.unlockPersist(token);
+            }
+        });
+
+        Map<Long, Long> pending = postViewCacheRepository.drainPending();
+
+        Map<Long, List<Long>> postIdsByCount = pending.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        postIdsByCount.forEach((count, postIds) -> {
+            for (int from = 0; from < postIds.size(); from += PERSIST_BATCH_SIZE) {
+                postRepository.increaseViewCount(postIds.subList(from, Math.min(from + PERSIST_BATCH_SIZE, postIds.size())), count);
+            }
+        });
+
+        log.info("[views persisted] posts={}, updates={}", pending.size(), postIdsByCount.size());
+    }
+
+    private record PendingViews(LongAdder count, Set<String> viewers) {
+
+        private PendingViews() {
+            this(new LongAdder(), ConcurrentHashMap.newKeySet());
+        }
+    }
+}
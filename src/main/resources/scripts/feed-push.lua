@@ -0,0 +1,19 @@
+-- 새 게시글 ID를 팔로워들의 피드에 넣는다. 피드가 만들어지지 않은 팔로워는 피드 조회 시 DB에서 만든다.
+-- KEYS[2i-1] : 팔로워의 피드 Sorted Set (feed:{loginId})
+-- KEYS[2i]   : 팔로워의 가져와 합칠 작성자 Set (feed:{loginId}:pull). 있으면 피드가 만들어진 것
+-- ARGV[1] : 게시글 ID
+-- ARGV[2] : score (작성 시각)
+-- ARGV[3] : 피드 최대 크기
+-- 반환값  : 게시글 ID를 넣은 피드 수
+
+local pushed = 0
+
+for i = 1, #KEYS, 2 do
+    if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+        redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+        redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1))
+        pushed = pushed + 1
+    end
+end
+
+return pushed
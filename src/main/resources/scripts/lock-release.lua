@@ -0,0 +1,10 @@
+-- 락을 잡은 요청만 락을 푼다.
+-- KEYS[1] : 락
+-- ARGV[1] : 락을 잡을 때 저장한 토큰
+-- 반환값  : 풀었으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
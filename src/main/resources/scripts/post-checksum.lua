@@ -0,0 +1,22 @@
+-- 게시글 ID 범위에 캐시된 게시글의 체크섬을 계산한다. 게시글은 읽지 않는다.
+-- KEYS[1] : 게시글 ID별 버전 Sorted Set (post:version). score: 게시글 ID, member: "{게시글 ID}:{수정 시각(ms)}"
+-- ARGV[1] : 시작 ID (미포함)
+-- ARGV[2] : 끝 ID (포함)
+-- 반환값  : {게시글 수, 최대 수정 시각, 해시}. 해시는 RangeChecksum과 같은 방식으로 계산한다.
+
+local MOD = 2147483647
+local count, maxVersion, hash = 0, 0, 0
+
+for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], ARGV[2])) do
+    local id, version = string.match(member, '(%d+):(%d+)')
+    id = tonumber(id)
+    version = tonumber(version)
+
+    count = count + 1
+    if version > maxVersion then
+        maxVersion = version
+    end
+    hash = (hash + (id * 1000003 + version) % MOD) % MOD
+end
+
+return {count, maxVersion, hash}
@@ -0,0 +1,31 @@
+-- 게시글 캐시를 원자적으로 삭제한다.
+-- KEYS[1] : 게시글 ID Sorted Set (post:all)
+-- KEYS[2] : 게시글 수 Hash (post:count)
+-- KEYS[3] : 게시글 (post:{postId})
+-- KEYS[4] : 게시글 JSON 조각 Hash (post:{postId}:json)
+-- KEYS[5] : 게시글 통계 Hash (post:stats:{postId})
+-- KEYS[6] : 카테고리별 게시글 ID Sorted Set (post:cat:{categoryId})
+-- KEYS[7] : 게시글 ID별 카테고리 Sorted Set 키 Hash (post:category)
+-- KEYS[8] : 작성자별 게시글 ID Sorted Set (post:user:{loginId})
+-- KEYS[9] : 인기 게시글 Sorted Set (post:trending)
+-- KEYS[10] : 조회자 HyperLogLog (post:{postId}:viewers)
+-- KEYS[11] : 게시글 ID별 버전 Sorted Set (post:version)
+-- KEYS[12] : 게시글 미리보기 (post:{postId}:preview)
+-- ARGV[1] : 게시글 ID
+-- ARGV[2] : 전체 게시글 수 필드
+-- ARGV[3] : 카테고리 게시글 수 필드
+-- 반환값  : post:all에서 제거되었으면 1, 아니면 0
+
+local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('ZREM', KEYS[6], ARGV[1])
+redis.call('ZREM', KEYS[8], ARGV[1])
+redis.call('ZREM', KEYS[9], ARGV[1])
+redis.call('HDEL', KEYS[7], ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[11], ARGV[1], ARGV[1])
+redis.call('DEL', KEYS[3], KEYS[4], KEYS[5], KEYS[10], KEYS[12])
+
+-- 게시글 수는 hot window 밖의 게시글도 포함한다.
+redis.call('HINCRBY', KEYS[2], ARGV[2], -1)
+redis.call('HINCRBY', KEYS[2], ARGV[3], -1)
+
+return removed
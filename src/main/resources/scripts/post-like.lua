@@ -0,0 +1,23 @@
+-- 좋아요한 사용자 Set과 게시글 통계의 좋아요 수를 함께 변경한다.
+-- 통계가 없는 게시글(캐시에서 제거된 게시글)은 좋아요 수만 있는 통계를 만들지 않고, 다음 조회 때 DB로 채운다.
+-- KEYS[1] : 좋아요한 사용자 Set (post:like:{postId})
+-- KEYS[2] : 게시글 통계 Hash (post:stats:{postId})
+-- ARGV[1] : add 또는 remove
+-- ARGV[2] : 사용자 로그인 ID
+-- 반환값  : 변경 후 좋아요 수
+
+local delta = 0
+
+if ARGV[1] == 'add' then
+    if redis.call('SADD', KEYS[1], ARGV[2]) == 1 then
+        delta = 1
+    end
+elseif redis.call('SREM', KEYS[1], ARGV[2]) == 1 then
+    delta = -1
+end
+
+if delta ~= 0 and redis.call('EXISTS', KEYS[2]) == 1 then
+    return redis.call('HINCRBY', KEYS[2], 'likes', delta)
+end
+
+return tonumber(redis.call('HGET', KEYS[2], 'likes') or 0)
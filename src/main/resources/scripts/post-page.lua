@@ -0,0 +1,218 @@
+-- 게시글 목록 한 페이지에 필요한 데이터를 한 번의 왕복으로 조회한다.
+-- KEYS[1] : 게시글 ID Sorted Set (post:all, post:cat:{categoryId}, post:user:{loginId} 또는 feed:{loginId})
+-- KEYS[2] : 게시글 수 Hash (post:count)
+-- KEYS[3] : feed - 피드 조회 시 가져와 합칠 작성자 Set (feed:{loginId}:pull)
+-- ARGV[1] : 조회 방식 (offset: 순위 범위로 조회, cursor: 커서 다음부터 조회, feed: 피드와 작성자별 게시글 ID를 합쳐 순위 범위로 조회,
+--           since: 커서 이후 작성된 게시글을 오래된 순으로 조회)
+-- ARGV[2] : offset, feed - 시작 순위 / cursor, since - 커서의 score (cursor는 첫 페이지, since는 가장 최근 게시글 하나면 빈 문자열)
+-- ARGV[3] : offset, feed - 종료 순위 / cursor, since - 커서의 게시글 ID
+-- ARGV[4] : cursor, since - 조회할 개수
+-- ARGV[5] : 게시글 형태 (preview: 내용을 자른 게시글 미리보기, json: 미리 만든 JSON 조각. 조각이 없는 게시글은 미리보기를 반환)
+--           미리보기가 없는 게시글(미리보기 도입 전에 캐시된 게시글)은 게시글을 반환
+-- ARGV[6] : 게시글 수 필드 (all 또는 cat:{categoryId}). 필드 값이 없으면 Sorted Set 크기를 전체 게시글 수로 사용
+--           빈 문자열이면 Sorted Set 크기를 전체 게시글 수로 사용하고, Sorted Set이 없으면 전체 게시글 수로 -1 반환
+--           since는 Sorted Set이 잘려 커서 이후 게시글이 모두 캐시되어 있지 않으면 전체 게시글 수로 -1 반환
+-- ARGV[7] : offset, cursor, since - hot window 시작 score. 빈 문자열이 아니면 이보다 오래된(본문이 만료된) 게시글은 없는 것으로 보고
+--           Sorted Set 크기도 이후 게시글 수로 센다. since는 커서가 이보다 오래되었으면 전체 게시글 수로 -1 반환
+-- 반환값  : { 전체 게시글 수, 게시글 ID 목록, score 목록, 게시글 목록, 좋아요 수 목록, 댓글 수 목록, 작성자 목록, JSON 조각 목록,
+--            작성자별 게시글 ID가 캐시되지 않은 작성자 목록 (feed) }
+
+local hasMinScore = ARGV[7] ~= nil and ARGV[7] ~= ''
+local minScore = hasMinScore and ARGV[7] or '-inf'
+
+-- score 내림차순, 같은 score 안에서는 member 내림차순(ZREVRANGE 순서)으로 커서 다음 게시글을 조회
+local function rangeByCursor(key, score, member, count)
+    if score == '' then
+        return redis.call('ZREVRANGEBYSCORE', key, '+inf', minScore, 'WITHSCORES', 'LIMIT', 0, count)
+    end
+
+    if hasMinScore and tonumber(score) < tonumber(minScore) then
+        return {}
+    end
+
+    local result = {}
+    local ties = redis.call('ZREVRANGEBYSCORE', key, score, score, 'WITHSCORES')
+
+    for i = 1, #ties, 2 do
+        if #result >= count * 2 then
+            return result
+        end
+        if ties[i] < member then
+            table.insert(result, ties[i])
+            table.insert(result, ties[i + 1])
+        end
+    end
+
+    local remaining = count - #result / 2
+    if remaining <= 0 then
+        return result
+    end
+
+    local rest = redis.call('ZREVRANGEBYSCORE', key, '(' .. score, minScore, 'WITHSCORES', 'LIMIT', 0, remaining)
+
+    for i = 1, #rest do
+        table.insert(result, rest[i])
+    end
+
+    return result
+end
+
+-- score 오름차순, 같은 score 안에서는 member 오름차순(ZRANGEBYSCORE 순서)으로 커서 이후 게시글을 조회
+-- 같은 score의 member는 사전순으로 반환되므로 숫자가 아닌 문자열로 비교해야 LIMIT으로 자른 뒤 건너뛰는 게시글이 없다.
+local function rangeSince(key, score, member, count)
+    if score == '' then
+        return redis.call('ZREVRANGE', key, 0, 0, 'WITHSCORES')
+    end
+
+    local result = {}
+    local ties = redis.call('ZRANGEBYSCORE', key, score, score, 'WITHSCORES')
+
+    for i = 1, #ties, 2 do
+        if #result >= count * 2 then
+            return result
+        end
+        if ties[i] > member then
+            table.insert(result, ties[i])
+            table.insert(result, ties[i + 1])
+        end
+    end
+
+    local remaining = count - #result / 2
+    if remaining <= 0 then
+        return result
+    end
+
+    local rest = redis.call('ZRANGEBYSCORE', key, '(' .. score, '+inf', 'WITHSCORES', 'LIMIT', 0, remaining)
+
+    for i = 1, #rest do
+        table.insert(result, rest[i])
+    end
+
+    return result
+end
+
+-- 피드와 팔로워가 많은 작성자의 게시글 ID를 합쳐 score 내림차순, 같은 score 안에서는 게시글 ID 내림차순으로 정렬 후 범위 조회
+local function rangeByFeed(inboxKey, pullKey, startRank, endRank)
+    local merged = {}
+    local total = redis.call('ZCARD', inboxKey)
+    local uncached = {}
+
+    local function collect(key)
+        local range = redis.call('ZREVRANGE', key, 0, endRank, 'WITHSCORES')
+        for i = 1, #range, 2 do
+            table.insert(merged, { range[i], tonumber(range[i + 1]) })
+        end
+    end
+
+    collect(inboxKey)
+
+    -- '*'는 피드가 만들어졌음을 표시하는 값
+    for _, writer in ipairs(redis.call('SMEMBERS', pullKey)) do
+        if writer ~= '*' then
+            local writerKey = 'post:user:' .. writer
+            if redis.call('EXISTS', writerKey) == 1 then
+                total = total + redis.call('ZCARD', writerKey)
+                collect(writerKey)
+            else
+                table.insert(uncached, writer)
+            end
+        end
+    end
+
+    table.sort(merged, function(a, b)
+        if a[2] ~= b[2] then
+            return a[2] > b[2]
+        end
+        return tonumber(a[1]) > tonumber(b[1])
+    end)
+
+    local result = {}
+    for i = startRank + 1, math.min(endRank + 1, #merged) do
+        table.insert(result, merged[i][1])
+        table.insert(result, merged[i][2])
+    end
+
+    return result, total, uncached
+end
+
+local entries
+local total
+local uncached = {}
+
+if ARGV[1] == 'feed' then
+    if redis.call('EXISTS', KEYS[3]) == 0 then
+        return { -1, {}, {}, {}, {}, {}, {}, {}, {} }
+    end
+
+    entries, total, uncached = rangeByFeed(KEYS[1], KEYS[3], tonumber(ARGV[2]), tonumber(ARGV[3]))
+else
+    -- 작성자별 게시글 ID처럼 전체가 캐시되거나 아예 없는 Sorted Set은 캐시 여부를 구분한다.
+    if ARGV[6] == '' and redis.call('EXISTS', KEYS[1]) == 0 then
+        return { -1, {}, {}, {}, {}, {}, {}, {}, {} }
+    end
+
+    -- Sorted Set에는 최근 게시글만 있으므로 전체 게시글 수는 따로 관리한다.
+    -- 기간이 지난 게시글은 다음 저장 때 제거되므로 그 전까지는 hot window 시작 이후 게시글만 센다.
+    local size = hasMinScore and redis.call('ZCOUNT', KEYS[1], minScore, '+inf') or redis.call('ZCARD', KEYS[1])
+    total = (ARGV[6] ~= '' and tonumber(redis.call('HGET', KEYS[2], ARGV[6]))) or size
+
+    if ARGV[1] == 'since' and ARGV[2] ~= '' then
+        -- 커서 이후에 본문이 만료된 게시글이 있을 수 있다.
+        if hasMinScore and tonumber(ARGV[2]) < tonumber(minScore) then
+            return { -1, {}, {}, {}, {}, {}, {}, {}, {} }
+        end
+
+        -- 커서가 가장 오래된 캐시 게시글보다 이전이고 잘려 나간 게시글이 있으면 커서 이후 게시글을 모두 알 수 없다.
+        if size < total then
+            local oldest = redis.call('ZRANGEBYSCORE', KEYS[1], minScore, '+inf', 'WITHSCORES', 'LIMIT', 0, 1)
+            if #oldest == 0 or tonumber(oldest[2]) > tonumber(ARGV[2]) then
+                return { -1, {}, {}, {}, {}, {}, {}, {}, {} }
+            end
+        end
+    end
+
+    if ARGV[1] == 'cursor' then
+        entries = rangeByCursor(KEYS[1], ARGV[2], ARGV[3], tonumber(ARGV[4]))
+    elseif ARGV[1] == 'since' then
+        entries = rangeSince(KEYS[1], ARGV[2], ARGV[3], tonumber(ARGV[4]))
+    elseif hasMinScore then
+        local startRank = tonumber(ARGV[2])
+        entries = redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', minScore, 'WITHSCORES', 'LIMIT', startRank, tonumber(ARGV[3]) - startRank + 1)
+    else
+        entries = redis.call('ZREVRANGE', KEYS[1], ARGV[2], ARGV[3], 'WITHSCORES')
+    end
+end
+
+local ids = {}
+local scores = {}
+local posts = {}
+local likeCounts = {}
+local commentCounts = {}
+local writers = {}
+local fragments = {}
+
+for i = 1, #entries, 2 do
+    local id = entries[i]
+    local n = #ids + 1
+
+    ids[n] = id
+    scores[n] = tostring(entries[i + 1])
+
+    if ARGV[5] == 'json' then
+        local fragment = redis.call('HMGET', 'post:' .. id .. ':json', 'writer', 'json')
+        writers[n] = fragment[1]
+        fragments[n] = fragment[2]
+    end
+
+    if fragments[n] then
+        posts[n] = false
+    else
+        posts[n] = redis.call('GET', 'post:' .. id .. ':preview') or redis.call('GET', 'post:' .. id)
+    end
+
+    local stats = redis.call('HMGET', 'post:stats:' .. id, 'likes', 'comments')
+    likeCounts[n] = tonumber(stats[1]) or 0
+    commentCounts[n] = tonumber(stats[2]) or 0
+end
+
+return { total, ids, scores, posts, likeCounts, commentCounts, writers, fragments, uncached }
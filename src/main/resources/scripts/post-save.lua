@@ -0,0 +1,105 @@
+-- 게시글 캐시를 원자적으로 저장/수정한다.
+-- KEYS[1] : 게시글 ID Sorted Set (post:all)
+-- KEYS[2] : 게시글 수 Hash (post:count)
+-- KEYS[3] : 게시글 (post:{postId})
+-- KEYS[4] : 게시글 JSON 조각 Hash (post:{postId}:json)
+-- KEYS[5] : 게시글 통계 Hash (post:stats:{postId})
+-- KEYS[6] : 카테고리별 게시글 ID Sorted Set (post:cat:{categoryId})
+-- KEYS[7] : 수정 전 카테고리별 게시글 ID Sorted Set (카테고리가 그대로면 KEYS[6]과 같음)
+-- KEYS[8] : 게시글 ID별 카테고리 Sorted Set 키 Hash (post:category)
+-- KEYS[9] : 작성자별 게시글 ID Sorted Set (post:user:{loginId}). 작성자의 모든 게시글 ID를 가지며 hot window와 무관하다.
+-- KEYS[10] : 게시글 ID별 버전 Sorted Set (post:version). score: 게시글 ID, member: "{게시글 ID}:{수정 시각(ms)}"
+-- KEYS[11] : 목록 조회용 게시글 미리보기 (post:{postId}:preview)
+-- KEYS[12] : DB 반영 대기 조회수 Hash (post:view:pending)
+-- KEYS[13] : DB 반영 중 조회수 Hash (post:view:persisting)
+-- ARGV[1] : save: 저장, modify: 캐시된 게시글만 덮어쓰기
+-- ARGV[2] : 게시글 ID
+-- ARGV[3] : score (작성 시각)
+-- ARGV[4] : 만료 시간 (ms)
+-- ARGV[5] : 직렬화한 게시글
+-- ARGV[6] : 작성자 로그인 ID (JSON 조각 모드가 아니면 빈 문자열)
+-- ARGV[7] : 게시글 JSON 조각 (JSON 조각 모드가 아니면 빈 문자열)
+-- ARGV[8] : 전체 게시글 수 필드
+-- ARGV[9] : hot window 시작 score. 이보다 오래된 게시글은 제거
+-- ARGV[10] : Sorted Set 최대 크기
+-- ARGV[11] : 카테고리 게시글 수 필드
+-- ARGV[12] : 수정 전 카테고리 게시글 수 필드
+-- ARGV[13] : 수정 시각 (ms)
+-- ARGV[14] : 직렬화한 게시글 미리보기 (내용을 자른 게시글)
+-- ARGV[15] : DB 조회수
+-- 반환값  : 1: 새로 저장, 0: 덮어씀, -1: 캐시되지 않은 게시글이라 수정하지 않음
+
+local id = ARGV[2]
+
+-- post:all, 카테고리 Sorted Set, 버전, 게시글, 미리보기, JSON 조각, 통계, 조회자에서 제거
+-- 통계를 남겨 두면 hot window를 벗어난 게시글마다 통계가 쌓이므로 함께 지우고, 다시 조회할 때 DB로 채운다.
+local function evict(ids)
+    for _, evictId in ipairs(ids) do
+        redis.call('ZREM', KEYS[1], evictId)
+
+        local categoryKey = redis.call('HGET', KEYS[8], evictId)
+        if categoryKey then
+            redis.call('ZREM', categoryKey, evictId)
+            redis.call('HDEL', KEYS[8], evictId)
+        end
+
+        redis.call('ZREMRANGEBYSCORE', KEYS[10], evictId, evictId)
+        redis.call('DEL', 'post:' .. evictId, 'post:' .. evictId .. ':preview', 'post:' .. evictId .. ':json', 'post:stats:' .. evictId, 'post:' .. evictId .. ':viewers')
+    end
+end
+
+if ARGV[1] == 'modify' then
+    -- 카테고리 게시글 수는 hot window 밖의 게시글도 포함한다.
+    if KEYS[7] ~= KEYS[6] then
+        redis.call('HINCRBY', KEYS[2], ARGV[12], -1)
+        redis.call('HINCRBY', KEYS[2], ARGV[11], 1)
+        redis.call('ZREM', KEYS[7], id)
+        redis.call('HDEL', KEYS[8], id)
+    end
+
+    if tonumber(ARGV[4]) <= 0 or not redis.call('ZSCORE', KEYS[1], id) then
+        -- 상세 조회로 캐시된 게시글은 지우고 다음 조회 시 다시 읽는다.
+        redis.call('DEL', KEYS[3], KEYS[4], KEYS[11])
+        return -1
+    end
+end
+
+local added = redis.call('ZADD', KEYS[1], ARGV[3], id)
+redis.call('ZADD', KEYS[6], ARGV[3], id)
+redis.call('HSET', KEYS[8], id, KEYS[6])
+redis.call('ZREMRANGEBYSCORE', KEYS[10], id, id)
+redis.call('ZADD', KEYS[10], id, id .. ':' .. ARGV[13])
+redis.call('SET', KEYS[3], ARGV[5], 'PX', ARGV[4])
+redis.call('SET', KEYS[11], ARGV[14], 'PX', ARGV[4])
+
+if ARGV[7] ~= '' then
+    redis.call('HSET', KEYS[4], 'writer', ARGV[6], 'json', ARGV[7])
+    redis.call('PEXPIRE', KEYS[4], ARGV[4])
+end
+
+-- 작성자별 게시글 ID는 조회 시 DB에서 한 번에 채우므로, 이미 캐시된 경우에만 추가
+if ARGV[1] == 'save' and redis.call('EXISTS', KEYS[9]) == 1 then
+    redis.call('ZADD', KEYS[9], ARGV[3], id)
+end
+
+-- 통계는 유지하고 없을 때만 초기화. 조회수는 아직 DB에 반영되지 않은 조회수를 더해 채운다.
+redis.call('HSETNX', KEYS[5], 'likes', 0)
+redis.call('HSETNX', KEYS[5], 'comments', 0)
+if redis.call('HEXISTS', KEYS[5], 'views') == 0 then
+    redis.call('HSET', KEYS[5], 'views', tonumber(ARGV[15])
+        + (tonumber(redis.call('HGET', KEYS[12], id)) or 0)
+        + (tonumber(redis.call('HGET', KEYS[13], id)) or 0))
+end
+
+if added == 0 then
+    return 0
+end
+
+redis.call('HINCRBY', KEYS[2], ARGV[8], 1)
+redis.call('HINCRBY', KEYS[2], ARGV[11], 1)
+
+-- 기간이 지난 게시글과 최신 ARGV[10]개를 넘는 게시글 제거
+evict(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[9]))
+evict(redis.call('ZRANGE', KEYS[1], 0, -(tonumber(ARGV[10]) + 1)))
+
+return 1
@@ -0,0 +1,12 @@
+-- 게시글 통계가 있을 때만 필드 값을 증감한다.
+-- 통계가 없는 게시글(캐시에서 제거된 게시글)은 일부 필드만 있는 통계를 만들지 않고, 다음 조회 때 DB로 채운다.
+-- KEYS[1] : 게시글 통계 Hash (post:stats:{postId})
+-- ARGV[1] : 필드
+-- ARGV[2] : 증감할 값
+-- 반환값  : 변경 후 값. 통계가 없으면 nil
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return nil
+end
+
+return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
@@ -0,0 +1,39 @@
+-- 게시글 목록 버전과 게시글 버전을 올린다. 조회는 스크립트 없이 GET으로 한다.
+-- 버전은 밀리초 시각으로, 올릴 때마다 max(이전 버전 + 1, 현재 시각)이 된다.
+-- KEYS[1] : 게시글 목록 버전 (post:all:version). 만료 없이 저장
+-- KEYS[2] : 목록 버전에 아직 반영하지 않은 좋아요/댓글 수 변경 표시 (post:all:version:stale)
+-- KEYS[3..] : 올릴 게시글 버전 (post:{postId}:version)
+-- ARGV[1] : 게시글 버전 만료 시간 (ms)
+-- ARGV[2] : list: 목록 버전과 게시글 버전을 올리고 변경 표시를 지움,
+--           posts: 게시글 버전만 올리고 변경 표시를 남김,
+--           flush: 변경 표시가 있으면 지우고 목록 버전을 올림
+-- 반환값  : 목록 버전을 올렸으면 1, 아니면 0
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local function bump(key, ttl)
+    local version = math.max((tonumber(redis.call('GET', key)) or 0) + 1, now)
+
+    if ttl then
+        redis.call('SET', key, version, 'PX', ttl)
+    else
+        redis.call('SET', key, version)
+    end
+end
+
+for i = 3, #KEYS do
+    bump(KEYS[i], ARGV[1])
+end
+
+if ARGV[2] == 'posts' then
+    redis.call('SET', KEYS[2], 1)
+    return 0
+end
+
+if redis.call('DEL', KEYS[2]) == 0 and ARGV[2] == 'flush' then
+    return 0
+end
+
+bump(KEYS[1], nil)
+return 1
@@ -0,0 +1,15 @@
+-- DB에 반영할 조회수를 꺼낸다.
+-- 반영 대기 조회수를 반영 중 Hash로 옮겨, DB에 반영하는 동안 들어온 조회수는 다음 반영으로 넘긴다.
+-- 이전 반영이 실패해 반영 중 Hash가 남아 있으면 그것부터 다시 반영한다.
+-- KEYS[1] : DB 반영 대기 조회수 Hash (post:view:pending)
+-- KEYS[2] : DB 반영 중 조회수 Hash (post:view:persisting)
+-- 반환값  : { 게시글 ID, 조회수, ... }
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+
+return redis.call('HGETALL', KEYS[2])
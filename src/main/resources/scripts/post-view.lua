@@ -0,0 +1,63 @@
+-- 서버에 모아 둔 조회수를 한 번에 반영한다.
+-- KEYS[1] : DB 반영 대기 조회수 Hash (post:view:pending)
+-- KEYS[2] : DB 반영 중 조회수 Hash (post:view:persisting)
+-- ARGV[1] : 반영 방식 (add: 모아 둔 조회수 반영, seed: 통계에 조회수가 없으면 DB 조회수로 채움)
+-- add  - KEYS[3..] : 게시글마다 통계 Hash (post:stats:{postId}), 조회자 HyperLogLog (post:{postId}:viewers) 순서
+--        ARGV[2]   : 조회자 HyperLogLog 만료 시간 (ms)
+--        ARGV[3..] : 게시글마다 게시글 ID, 조회수, 조회자 수, 조회자 loginId 목록 순서
+-- seed - KEYS[3]   : 통계 Hash (post:stats:{postId})
+--        ARGV[2]   : 게시글 ID
+--        ARGV[3]   : DB 조회수
+-- 반환값  : add - 반영한 게시글 수 / seed - 통계의 조회수. 통계가 캐시되지 않았으면 DB 조회수와 반영 전 조회수의 합
+
+if ARGV[1] == 'seed' then
+    local views = redis.call('HGET', KEYS[3], 'views')
+    if views then
+        return tonumber(views)
+    end
+
+    -- 아직 DB에 반영되지 않은 조회수를 더한다.
+    views = tonumber(ARGV[3])
+        + (tonumber(redis.call('HGET', KEYS[1], ARGV[2])) or 0)
+        + (tonumber(redis.call('HGET', KEYS[2], ARGV[2])) or 0)
+
+    -- 통계가 없을 때 조회수만 넣으면 좋아요/댓글 수 없이 통계가 만들어지므로 채우지 않는다.
+    if redis.call('EXISTS', KEYS[3]) == 1 then
+        redis.call('HSET', KEYS[3], 'views', views)
+    end
+
+    return views
+end
+
+local argIndex = 3
+local keyIndex = 3
+local count = 0
+
+while argIndex <= #ARGV do
+    local postId = ARGV[argIndex]
+    local views = tonumber(ARGV[argIndex + 1])
+    local viewerCount = tonumber(ARGV[argIndex + 2])
+
+    redis.call('HINCRBY', KEYS[1], postId, views)
+
+    -- 조회수가 채워진 통계만 올린다. 채워지지 않은 통계는 조회 시 DB 조회수와 반영 대기 조회수로 채운다.
+    if redis.call('HEXISTS', KEYS[keyIndex], 'views') == 1 then
+        redis.call('HINCRBY', KEYS[keyIndex], 'views', views)
+    end
+
+    -- unpack 한 번에 넘길 수 있는 인자 수가 제한되어 나눠서 넣는다.
+    for from = argIndex + 3, argIndex + 2 + viewerCount, 500 do
+        redis.call('PFADD', KEYS[keyIndex + 1], unpack(ARGV, from, math.min(from + 499, argIndex + 2 + viewerCount)))
+    end
+
+    -- 더 이상 조회되지 않는 게시글의 조회자가 계속 남지 않도록 만료 시간을 둔다.
+    if viewerCount > 0 then
+        redis.call('PEXPIRE', KEYS[keyIndex + 1], ARGV[2])
+    end
+
+    argIndex = argIndex + 3 + viewerCount
+    keyIndex = keyIndex + 2
+    count = count + 1
+end
+
+return count
@@ -0,0 +1,27 @@
+-- 인기 게시글 점수를 올리거나 내린다.
+-- 점수는 기준 시각(KEYS[2]) 대비 지금의 가중치로 더해, 시간이 지날수록 예전 이벤트의 비중이 반감기마다 절반으로 줄어든다.
+-- KEYS[1] : 인기 게시글 Sorted Set (post:trending)
+-- KEYS[2] : 점수 기준 시각 (post:trending:base, ms)
+-- ARGV[1] : 게시글 ID
+-- ARGV[2] : 이벤트 가중치 (좋아요 취소, 댓글 삭제는 음수)
+-- ARGV[3] : 반감기 (ms)
+-- 반환값  : 더한 뒤의 점수 (소수점 이하 버림)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local base = tonumber(redis.call('GET', KEYS[2]))
+if not base then
+    base = now
+    redis.call('SET', KEYS[2], base)
+end
+
+local increment = tonumber(ARGV[2]) * math.pow(2, (now - base) / tonumber(ARGV[3]))
+local score = tonumber(redis.call('ZINCRBY', KEYS[1], increment, ARGV[1]))
+
+-- 취소 이벤트로 점수가 0 이하가 되면 순위에서 뺀다.
+if score <= 0 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+end
+
+return math.floor(score)
@@ -0,0 +1,38 @@
+-- 인기 게시글 점수를 지금 시각 기준으로 다시 계산한다.
+-- 기준 시각이 멀어질수록 새 이벤트의 가중치가 커지므로 주기적으로 모든 점수에 감쇠를 반영하고 기준 시각을 옮긴다.
+-- KEYS[1] : 인기 게시글 Sorted Set (post:trending)
+-- KEYS[2] : 점수 기준 시각 (post:trending:base, ms)
+-- ARGV[1] : 반감기 (ms)
+-- ARGV[2] : 최소 점수. 감쇠 후 이보다 낮은 게시글은 순위에서 뺀다.
+-- ARGV[3] : 최대 게시글 수
+-- 반환값  : 남은 게시글 수
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local base = tonumber(redis.call('GET', KEYS[2]))
+if not base then
+    redis.call('SET', KEYS[2], now)
+    return redis.call('ZCARD', KEYS[1])
+end
+
+-- 점수가 낮은 게시글부터 잘라 다시 계산할 게시글 수를 줄인다.
+local maxSize = tonumber(ARGV[3])
+redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1))
+
+local factor = math.pow(2, -(now - base) / tonumber(ARGV[1]))
+local minScore = tonumber(ARGV[2])
+local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+
+for i = 1, #entries, 2 do
+    local score = tonumber(entries[i + 1]) * factor
+    if score < minScore then
+        redis.call('ZREM', KEYS[1], entries[i])
+    else
+        redis.call('ZADD', KEYS[1], score, entries[i])
+    end
+end
+
+redis.call('SET', KEYS[2], now)
+
+return redis.call('ZCARD', KEYS[1])
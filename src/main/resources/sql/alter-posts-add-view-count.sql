@@ -0,0 +1,3 @@
+-- 게시글 조회수 컬럼 추가 (Post.viewCount)
+-- 기존 게시글은 0으로 채운다.
+ALTER TABLE posts ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0;
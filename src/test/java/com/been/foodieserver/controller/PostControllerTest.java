@@ -5,10 +5,14 @@ import com.been.foodieserver.dto.PageDto;
 import com.been.foodieserver.dto.PostDto;
 import com.been.foodieserver.dto.request.PostWriteRequest;
 import com.been.foodieserver.dto.response.ApiResponse;
+import com.been.foodieserver.dto.response.PostDeltaResponse;
 import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.exception.ErrorCode;
 import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.service.PostExportService;
 import com.been.foodieserver.service.PostService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,24 +23,37 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
@@ -52,6 +69,9 @@ class PostControllerTest {
     @MockBean
     private PostService postService;
 
+    @MockBean
+    private PostExportService postExportService;
+
     @Value("${api.endpoint.base-url}")
     private String baseUrl;
 
@@ -77,7 +97,8 @@ class PostControllerTest {
 
         PageDto<PostResponse> postPageDto = PageDto.of(pageNum, pageSize, content.size(), content);
 
-        when(postService.getPostList(pageNum, pageSize)).thenReturn(postPageDto);
+        when(postService.getPostListVersion()).thenReturn(1L);
+        when(postService.getPostList(null, pageNum, pageSize, 1L)).thenReturn(postPageDto);
 
         //When & Then
         mockMvc.perform(get(postApi)
@@ -90,9 +111,218 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data[0].title").value(post2.getTitle()))
                 .andExpect(jsonPath("$.pagination").exists())
                 .andExpect(jsonPath("$.pagination.currentPage").value(pageNum))
-                .andExpect(jsonPath("$.pagination.pageSize").value(pageSize));
+                .andExpect(jsonPath("$.pagination.pageSize").value(pageSize))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+        then(postService).should().getPostList(null, pageNum, pageSize, 1L);
+    }
+
+    @WithMockUser
+    @DisplayName("게시글 목록 버전이 If-None-Match와 같으면 목록을 조회하지 않고 304 응답")
+    @Test
+    void getPostList_ReturnsNotModified_IfEtagMatches() throws Exception {
+        //Given
+        when(postService.getPostListVersion()).thenReturn(1L);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(content().string(""));
+
+        then(postService).should(never()).getPostList(any(), anyInt(), anyInt(), any());
+        then(postService).should(never()).getPostListAsJson(any(), anyInt(), anyInt(), any());
+    }
+
+    @WithMockUser
+    @DisplayName("게시글 목록 버전이 바뀌었으면 If-None-Match가 있어도 목록 조회")
+    @Test
+    void getPostList_IfEtagDoesNotMatch() throws Exception {
+        //Given
+        PageDto<PostResponse> postPageDto = PageDto.of(1, 10, 0, List.of());
+
+        when(postService.getPostListVersion()).thenReturn(2L);
+        when(postService.getPostList(null, 1, 10, 2L)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        then(postService).should().getPostList(null, 1, 10, 2L);
+    }
+
+    @WithMockUser
+    @DisplayName("Redis 장애로 게시글 목록 버전을 모르면 ETag 없이 목록 조회")
+    @Test
+    void getPostList_WithoutEtag_IfVersionIsUnknown() throws Exception {
+        //Given
+        PageDto<PostResponse> postPageDto = PageDto.of(1, 10, 0, List.of());
+
+        when(postService.getPostListVersion()).thenReturn(null);
+        when(postService.getPostList(null, 1, 10, null)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        then(postService).should().getPostList(null, 1, 10, null);
+    }
+
+    @WithMockUser
+    @DisplayName("JSON 조각 모드면 캐시된 게시글 JSON을 그대로 응답")
+    @Test
+    void getPostListAsJson_IfFragmentEnabled() throws Exception {
+        //Given
+        int pageNum = 1;
+        int pageSize = 1;
+        String postJson = "{\"postId\":1,\"title\":\"title1\",\"writer\":{\"loginId\":\"user\"},\"likeCount\":2,\"commentCount\":0}";
+
+        PageDto<RawValue> postPageDto = PageDto.of(pageNum, pageSize, 1, List.of(new RawValue(postJson)));
 
-        then(postService).should().getPostList(pageNum, pageSize);
+        when(postService.isPostFragmentEnabled()).thenReturn(true);
+        when(postService.getPostListVersion()).thenReturn(1L);
+        when(postService.getPostListAsJson(null, pageNum, pageSize, 1L)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .param("pageNum", String.valueOf(pageNum))
+                        .param("pageSize", String.valueOf(pageSize))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data[0].title").value("title1"))
+                .andExpect(jsonPath("$.data[0].writer.loginId").value("user"))
+                .andExpect(jsonPath("$.data[0].likeCount").value(2))
+                .andExpect(jsonPath("$.pagination.currentPage").value(pageNum));
+
+        then(postService).should().getPostListAsJson(null, pageNum, pageSize, 1L);
+        then(postService).should(never()).getPostList(null, pageNum, pageSize, 1L);
+    }
+
+    @WithMockUser
+    @DisplayName("게시글 목록의 내용은 미리보기 길이까지만 응답")
+    @Test
+    void getPostList_ReturnsContentPreview() throws Exception {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "가".repeat(PostResponse.PREVIEW_LENGTH + 100), "user", "자유 게시판");
+        PageDto<PostResponse> postPageDto = PageDto.of(1, 10, 1, List.of(PostResponse.of(post)));
+
+        when(postService.getPostListVersion()).thenReturn(1L);
+        when(postService.getPostList(null, 1, 10, 1L)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].content").value("가".repeat(PostResponse.PREVIEW_LENGTH)))
+                .andExpect(jsonPath("$.data[0].contentTruncated").value(true));
+    }
+
+    @WithMockUser
+    @DisplayName("fields가 주어지면 JSON 조각 모드여도 해당 필드만 응답")
+    @Test
+    void getPostList_ReturnsOnlyGivenFields() throws Exception {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "user", "자유 게시판");
+        PageDto<PostResponse> postPageDto = PageDto.of(1, 10, 1, List.of(PostResponse.of(post)));
+
+        when(postService.isPostFragmentEnabled()).thenReturn(true);
+        when(postService.getPostListVersion()).thenReturn(1L);
+        when(postService.getPostList(null, 1, 10, 1L)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .param("fields", "postId,title")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].postId").value(1))
+                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
+                .andExpect(jsonPath("$.data[0].content").doesNotExist())
+                .andExpect(jsonPath("$.data[0].writer").doesNotExist())
+                .andExpect(jsonPath("$.data[0].likeCount").doesNotExist());
+
+        then(postService).should().getPostList(null, 1, 10, 1L);
+        then(postService).should(never()).getPostListAsJson(null, 1, 10, 1L);
+    }
+
+    @WithMockUser
+    @DisplayName("fields에 게시글 필드가 아닌 값이 있으면 게시글 목록 조회 실패")
+    @Test
+    void failToGetPostList_IfFieldIsInvalid() throws Exception {
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .param("fields", "postId,password")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_FAIL))
+                .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_POST_FIELD.getMessage()));
+
+        then(postService).shouldHaveNoInteractions();
+    }
+
+    @WithMockUser
+    @DisplayName("카테고리 ID가 주어지면 해당 카테고리 게시글 목록 조회 성공")
+    @Test
+    void getPostList_IfCategoryIdIsGiven() throws Exception {
+        //Given
+        Post post = PostFixture.get("title1", "user", "자유 게시판");
+
+        List<PostResponse> content = List.of(PostResponse.of(post));
+        PageDto<PostResponse> postPageDto = PageDto.of(1, 10, content.size(), content);
+
+        when(postService.getPostListVersion()).thenReturn(1L);
+        when(postService.getPostList(3L, 1, 10, 1L)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .param("categoryId", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()));
+
+        then(postService).should().getPostList(3L, 1, 10, 1L);
+    }
+
+    @WithMockUser
+    @DisplayName("커서가 주어지면 커서 방식으로 게시글 목록 조회 성공")
+    @Test
+    void getPostListByCursor_IfRequestIsValid() throws Exception {
+        //Given
+        Post post = PostFixture.get("title1", "user", "자유 게시판");
+
+        List<PostResponse> content = List.of(PostResponse.of(post));
+
+        int pageSize = 1;
+        String nextCursor = "MTcxNjAwMDAwMDAwMDox";
+
+        PageDto<PostResponse> postPageDto = PageDto.ofCursor(pageSize, 2, nextCursor, content);
+
+        when(postService.getPostListByCursor(null, "", pageSize)).thenReturn(postPageDto);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .param("cursor", "")
+                        .param("pageSize", String.valueOf(pageSize))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data[0].title").value(post.getTitle()))
+                .andExpect(jsonPath("$.pagination.currentPage").doesNotExist())
+                .andExpect(jsonPath("$.pagination.hasNext").value(true))
+                .andExpect(jsonPath("$.pagination.nextCursor").value(nextCursor));
+
+        then(postService).should().getPostListByCursor(null, "", pageSize);
     }
 
     @WithMockUser
@@ -165,6 +395,34 @@ class PostControllerTest {
         then(postService).should().getPostListByUserLoginId(postWriterLoginId, pageNum, pageSize);
     }
 
+    @WithMockUser
+    @DisplayName("요청이 유효하면 인기 게시글 목록 조회 성공")
+    @Test
+    void getTrendingPostList_IfRequestIsValid() throws Exception {
+        //Given
+        Post post1 = PostFixture.get("title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get("title2", "writer", "자유 게시판");
+
+        Page<PostResponse> postResponsePage = new PageImpl<>(List.of(PostResponse.of(post2), PostResponse.of(post1)));
+
+        int pageNum = 1;
+        int pageSize = postResponsePage.getSize();
+
+        when(postService.getTrendingPostList(pageNum, pageSize)).thenReturn(postResponsePage);
+
+        //When & Then
+        mockMvc.perform(get(postApi + "/trending")
+                        .param("pageNum", String.valueOf(pageNum))
+                        .param("pageSize", String.valueOf(pageSize))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data[0].title").value(post2.getTitle()))
+                .andExpect(jsonPath("$.pagination.currentPage").value(pageNum));
+
+        then(postService).should().getTrendingPostList(pageNum, pageSize);
+    }
+
     @WithMockUser
     @DisplayName("요청이 유효하면 피드 조회 성공")
     @Test
@@ -245,7 +503,7 @@ class PostControllerTest {
 
         PostResponse response = PostResponse.of(post.getUser(), post.getCategory(), post);
 
-        when(postService.getPost(postId)).thenReturn(response);
+        when(postService.getPost(postId, "user")).thenReturn(response);
 
         //When & Then
         mockMvc.perform(get(postApi + "/" + postId)
@@ -256,7 +514,108 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.title").value(response.getTitle()))
                 .andExpect(jsonPath("$.data.writer.loginId").value(response.getWriter().getLoginId()));
 
-        then(postService).should().getPost(postId);
+        then(postService).should().getPost(postId, "user");
+    }
+
+    @WithMockUser
+    @DisplayName("게시글 버전이 If-None-Match와 같으면 게시글을 조회하지 않고 조회수만 올린 뒤 304 응답")
+    @Test
+    void getPost_ReturnsNotModified_IfEtagMatches() throws Exception {
+        //Given
+        Long postId = 1L;
+
+        when(postService.getPostVersion(postId)).thenReturn(5L);
+
+        //When & Then
+        mockMvc.perform(get(postApi + "/" + postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"5\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"5\""));
+
+        then(postService).should().recordView(postId, "user");
+        then(postService).should(never()).getPost(any(), any());
+    }
+
+    @WithMockUser
+    @DisplayName("gzip이 true면 작성자의 게시글을 gzip으로 압축한 NDJSON으로 응답")
+    @Test
+    void exportPostsByUser_IfGzipIsTrue() throws Exception {
+        //Given
+        String line = "{\"postId\":1}\n";
+
+        when(postExportService.getWriterId("writer")).thenReturn(1L);
+        when(postExportService.writeByUser(eq(1L), any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(line.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        //When
+        MvcResult result = mockMvc.perform(get(postApi + "/users/writer/export")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(line);
+        }
+    }
+
+    @WithMockUser
+    @DisplayName("게시글 ID 목록이 주어지면 여러 게시글 조회 성공")
+    @Test
+    void getPostsByIds_IfRequestIsValid() throws Exception {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "user", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "user", "자유 게시판");
+
+        List<PostResponse> response = List.of(PostResponse.of(post2.getUser(), post2.getCategory(), post2), PostResponse.of(post1.getUser(), post1.getCategory(), post1));
+
+        when(postService.getPostsByIds(List.of(2L, 1L))).thenReturn(response);
+
+        //When & Then
+        mockMvc.perform(get(postApi)
+                        .queryParam("ids", "2,1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data[0].postId").value(2))
+                .andExpect(jsonPath("$.data[1].postId").value(1));
+
+        then(postService).should().getPostsByIds(List.of(2L, 1L));
+        then(postService).should(never()).getPostList(any(), eq(1), eq(10), any());
+    }
+
+    @WithMockUser
+    @DisplayName("커서가 주어지면 커서 이후 새 게시글 조회 성공")
+    @Test
+    void getPostsSince_IfRequestIsValid() throws Exception {
+        //Given
+        Post post = PostFixture.get(2L, "title2", "user", "자유 게시판");
+        String cursor = "cursor";
+
+        PostDeltaResponse response = PostDeltaResponse.of(List.of(PostResponse.of(post.getUser(), post.getCategory(), post)), "next", false);
+
+        when(postService.getPostsSince(null, cursor, 20)).thenReturn(response);
+
+        //When & Then
+        mockMvc.perform(get(postApi + "/since")
+                        .queryParam("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ApiResponse.STATUS_SUCCESS))
+                .andExpect(jsonPath("$.data.posts[0].postId").value(2))
+                .andExpect(jsonPath("$.data.cursor").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+
+        then(postService).should().getPostsSince(null, cursor, 20);
     }
 
     @WithMockUser
@@ -0,0 +1,100 @@
+package com.been.foodieserver.controller;
+
+import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostVersionCacheRepository;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시글 목록 서버 메모리 캐시를 거쳐 JSON 조각 모드와 fields 모드를 번갈아 조회한다.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest
+class PostListViewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PostCacheRepository postCacheRepository;
+
+    @MockBean
+    private PostVersionCacheRepository postVersionCacheRepository;
+
+    @Value("${api.endpoint.base-url}")
+    private String baseUrl;
+
+    private String postApi;
+
+    @BeforeEach
+    void setUp() {
+        postApi = baseUrl + "/posts";
+    }
+
+    @WithMockUser
+    @DisplayName("같은 페이지를 JSON 조각 모드와 fields 모드로 번갈아 조회해도 모드마다 따로 캐시된 페이지로 응답")
+    @Test
+    void getPostList_AlternatesFragmentAndFieldsModes() throws Exception {
+        //Given
+        String postJson = "{\"postId\":1,\"title\":\"title1\",\"writer\":{\"loginId\":\"user\"},\"likeCount\":2,\"commentCount\":0}";
+        PageDto<RawValue> jsonPage = PageDto.of(1, 1, 1, List.of(new RawValue(postJson)));
+        PageDto<PostResponse> postPage = PageDto.of(1, 1, 1, List.of(PostResponse.of(PostFixture.get(1L, "title1", "user", "자유 게시판"))));
+
+        when(postCacheRepository.isFragmentEnabled()).thenReturn(true);
+        when(postVersionCacheRepository.getListVersion()).thenReturn(1L);
+        when(postCacheRepository.findAllAsJson(null, 1, 1)).thenReturn(jsonPage);
+        when(postCacheRepository.findAll(null, 1, 1)).thenReturn(postPage);
+
+        //When & Then
+        for (int i = 0; i < 2; i++) {
+            getPostList(null)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].title").value("title1"))
+                    .andExpect(jsonPath("$.data[0].writer.loginId").value("user"));
+
+            getPostList("postId,title")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].postId").value(1))
+                    .andExpect(jsonPath("$.data[0].title").value("title1"))
+                    .andExpect(jsonPath("$.data[0].writer").doesNotExist());
+        }
+
+        then(postCacheRepository).should().findAllAsJson(null, 1, 1);
+        then(postCacheRepository).should().findAll(null, 1, 1);
+    }
+
+    private ResultActions getPostList(String fields) throws Exception {
+        MockHttpServletRequestBuilder request = get(postApi)
+                .param("pageNum", "1")
+                .param("pageSize", "1")
+                .accept(MediaType.APPLICATION_JSON);
+
+        if (fields != null) {
+            request.param("fields", fields);
+        }
+        return mockMvc.perform(request);
+    }
+}
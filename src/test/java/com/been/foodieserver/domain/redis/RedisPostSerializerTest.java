@@ -0,0 +1,81 @@
+package com.been.foodieserver.domain.redis;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.fixture.PostFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisPostSerializerTest {
+
+    private final RedisPostSerializer binarySerializer = new RedisPostSerializer(true, 1024);
+
+    @DisplayName("바이너리로 직렬화한 게시글을 역직렬화하면 모든 필드가 복원됨")
+    @Test
+    void deserialize_ReturnsSamePost_IfSerializedAsBinary() {
+        //Given
+        RedisPost post = redisPost(12345L, "맛집 후기");
+
+        //When
+        byte[] bytes = binarySerializer.serialize(post);
+        RedisPost result = binarySerializer.deserialize(bytes);
+
+        //Then
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(result).usingRecursiveComparison().isEqualTo(post);
+    }
+
+    @DisplayName("내용이 압축 기준보다 길면 압축해서 저장하고, 역직렬화하면 내용이 복원됨")
+    @Test
+    void serialize_CompressesContent_IfContentIsLongerThanThreshold() {
+        //Given
+        RedisPost post = redisPost(1L, "맛있어요 ".repeat(1000));
+
+        //When
+        byte[] compressed = binarySerializer.serialize(post);
+        byte[] uncompressed = new RedisPostSerializer(true, Integer.MAX_VALUE).serialize(post);
+
+        //Then
+        assertThat(compressed.length).isLessThan(uncompressed.length);
+        assertThat(binarySerializer.deserialize(compressed).getContent()).isEqualTo(post.getContent());
+    }
+
+    @DisplayName("기존 JSON 형식으로 저장된 게시글도 역직렬화됨")
+    @Test
+    void deserialize_ReadsLegacyJson() {
+        //Given
+        RedisPost post = redisPost(1L, "내용");
+        byte[] json = new Jackson2JsonRedisSerializer<>(RedisPost.class).serialize(post);
+
+        //When
+        RedisPost result = binarySerializer.deserialize(json);
+
+        //Then
+        assertThat(result).usingRecursiveComparison().isEqualTo(post);
+    }
+
+    @DisplayName("알 수 없는 형식이면 예외 발생")
+    @Test
+    void deserialize_ThrowsException_IfUnknownFormat() {
+        //Given
+        byte[] bytes = {9, 0, 0};
+
+        //When & Then
+        assertThatThrownBy(() -> binarySerializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static RedisPost redisPost(Long postId, String content) {
+        Post post = PostFixture.get(postId, "title", content, "user", "category");
+        ReflectionTestUtils.setField(post, "createdAt", new Timestamp(1716000000123L));
+        ReflectionTestUtils.setField(post, "modifiedAt", new Timestamp(1716000100456L));
+        return RedisPost.of(post);
+    }
+}
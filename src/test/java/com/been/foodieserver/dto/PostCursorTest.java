@@ -0,0 +1,44 @@
+package com.been.foodieserver.dto;
+
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 score와 게시글 ID가 복원됨")
+    @Test
+    void decode_ReturnsSameCursor_IfEncoded() {
+        //Given
+        PostCursor cursor = PostCursor.of(1716000000000L, 12345L);
+
+        //When
+        PostCursor result = PostCursor.decode(cursor.encode());
+
+        //Then
+        assertThat(result.getScore()).isEqualTo(cursor.getScore());
+        assertThat(result.getPostId()).isEqualTo(cursor.getPostId());
+    }
+
+    @DisplayName("빈 커서는 첫 페이지를 의미하는 null로 디코딩됨")
+    @Test
+    void decode_ReturnsNull_IfCursorIsBlank() {
+        assertThat(PostCursor.decode("")).isNull();
+        assertThat(PostCursor.decode(null)).isNull();
+    }
+
+    @DisplayName("형식이 잘못된 커서를 디코딩하면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "MTIz", "YTpi"})
+    void throwsException_IfCursorIsInvalid(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.INVALID_CURSOR.getMessage());
+    }
+}
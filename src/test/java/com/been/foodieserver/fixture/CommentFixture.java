@@ -3,6 +3,7 @@ package com.been.foodieserver.fixture;
 import com.been.foodieserver.domain.Comment;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.CommentSummaryDto;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class CommentFixture {
@@ -12,4 +13,11 @@ public class CommentFixture {
         ReflectionTestUtils.setField(comment, "id", commentId);
         return comment;
     }
+
+    public static CommentSummaryDto getSummary(Comment comment) {
+        User user = comment.getUser();
+        Post post = comment.getPost();
+        return new CommentSummaryDto(post.getCategory().getName(), post.getId(), comment.getId(), user.getLoginId(), user.getNickname(),
+                user.getRole(), comment.getContent(), comment.getCreatedAt(), comment.getModifiedAt());
+    }
 }
@@ -2,6 +2,7 @@ package com.been.foodieserver.fixture;
 
 import com.been.foodieserver.domain.Follow;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.FollowerSummaryDto;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class FollowFixture {
@@ -14,4 +15,8 @@ public class FollowFixture {
         ReflectionTestUtils.setField(follow, "id", followId);
         return follow;
     }
+
+    public static FollowerSummaryDto getSummary(Follow follow) {
+        return new FollowerSummaryDto(follow.getFollower().getLoginId(), follow.getFollower().getNickname(), follow.getCreatedAt());
+    }
 }
@@ -3,6 +3,7 @@ package com.been.foodieserver.fixture;
 import com.been.foodieserver.domain.Notification;
 import com.been.foodieserver.domain.NotificationType;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.NotificationSummaryDto;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class NotificationFixture {
@@ -19,4 +20,13 @@ public class NotificationFixture {
 
         return notification;
     }
+
+    /**
+     * @param fromUserNickname 알림을 발생시킨 유저가 없으면 null
+     */
+    public static NotificationSummaryDto getSummary(Notification notification, String fromUserNickname) {
+        User receiver = notification.getReceiver();
+        return new NotificationSummaryDto(notification.getId(), notification.getType(), receiver.getId(), receiver.getLoginId(), receiver.getNickname(),
+                notification.getFromUserId(), fromUserNickname, notification.getTargetId(), notification.getIsRead());
+    }
 }
@@ -4,6 +4,7 @@ import com.been.foodieserver.domain.Category;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.Role;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.PostSummaryDto;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class PostFixture {
@@ -27,4 +28,11 @@ public class PostFixture {
 
         return post;
     }
+
+    public static PostSummaryDto getSummary(Post post, long likeCount, long commentCount) {
+        User user = post.getUser();
+        return new PostSummaryDto(post.getId(), user.getLoginId(), user.getNickname(), user.getProfileImage(), user.getRole(),
+                post.getCategory().getName(), post.getTitle(), post.getContent(), likeCount, commentCount,
+                post.getCreatedAt(), post.getModifiedAt(), post.getDeletedAt());
+    }
 }
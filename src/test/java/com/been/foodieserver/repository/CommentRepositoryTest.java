@@ -6,6 +6,7 @@ import com.been.foodieserver.domain.Comment;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.Role;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.CommentSummaryDto;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
@@ -67,7 +69,7 @@ class CommentRepositoryTest {
         assertThat(result.get().getPost().getCategory().getName()).isEqualTo(category.getName());
     }
 
-    @DisplayName("댓글 목록을 조회(페치 조인)하면 유저, 게시글, 카테고리가 페치 조인된 댓글 목록 결과 반환")
+    @DisplayName("댓글 목록을 조회하면 엔티티 대신 유저, 게시글, 카테고리 컬럼이 담긴 댓글 목록 결과 반환")
     @Test
     void returnCommentListWithUserAndPostAndCategory_WhenFetched() {
         //Given
@@ -86,15 +88,40 @@ class CommentRepositoryTest {
         Pageable pageable = PageRequest.of(pageNum, pageSize, Sort.by(Sort.Direction.DESC, "id"));
 
         //When
-        Page<Comment> result = commentRepository.findAllWithUserAndPostAndCategoryByPostId(pageable, post.getId());
+        Slice<CommentSummaryDto> result = commentRepository.findSummariesByPostId(pageable, post.getId());
 
         //Then
-        List<Comment> resultContent = result.getContent();
-        Comment firstComment = resultContent.get(0);
+        List<CommentSummaryDto> resultContent = result.getContent();
+        CommentSummaryDto firstComment = resultContent.get(0);
 
         assertThat(resultContent).hasSize(3);
-        assertThat(firstComment.getUser().getLoginId()).isEqualTo(user.getLoginId());
-        assertThat(firstComment.getPost().getId()).isEqualTo(post.getId());
-        assertThat(firstComment.getPost().getCategory().getName()).isEqualTo(category.getName());
+        assertThat(result.hasNext()).isFalse();
+        assertThat(firstComment.getContent()).isEqualTo(comment3.getContent());
+        assertThat(firstComment.getWriterLoginId()).isEqualTo(user.getLoginId());
+        assertThat(firstComment.getWriterRole()).isEqualTo(user.getRole());
+        assertThat(firstComment.getPostId()).isEqualTo(post.getId());
+        assertThat(firstComment.getCategoryName()).isEqualTo(category.getName());
+    }
+
+    @DisplayName("댓글 목록을 조회하면 다음 페이지가 있는지만 확인하고 전체 개수는 세지 않음")
+    @Test
+    void returnCommentSlice_WithNextPage() {
+        //Given
+        em.persist(Comment.of(post, user, "comment2"));
+        em.persist(Comment.of(post, user, "comment3"));
+
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+        //When
+        Slice<CommentSummaryDto> result = commentRepository.findSummariesByPostId(pageable, post.getId());
+
+        //Then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(commentRepository.countByPost_Id(post.getId())).isEqualTo(3);
     }
 }
@@ -2,16 +2,20 @@ package com.been.foodieserver.repository;
 
 import com.been.foodieserver.config.JpaConfig;
 import com.been.foodieserver.domain.Category;
+import com.been.foodieserver.domain.Comment;
+import com.been.foodieserver.domain.Like;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.Role;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.dto.PostSearchDto;
 import com.been.foodieserver.dto.PostSearchType;
+import com.been.foodieserver.dto.PostSummaryDto;
 import com.been.foodieserver.repository.cache.PostSearchCacheRepository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -21,7 +25,9 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -49,6 +55,12 @@ class PostQueryRepositoryTest {
     @Autowired
     private PostQueryRepository postQueryRepository;
 
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
     @MockBean
     private PostSearchCacheRepository postSearchCacheRepository;
 
@@ -99,9 +111,9 @@ class PostQueryRepositoryTest {
                 .build();
 
         //When
-        Page<Post> result = postQueryRepository.findAllByUserNicknameContainsIgnoreCase(dto);
+        Slice<PostSummaryDto> result = postQueryRepository.findAllByUserNicknameContainsIgnoreCase(dto);
         List<String> actual = result.getContent().stream()
-                .map(Post::getTitle)
+                .map(PostSummaryDto::getTitle)
                 .toList();
 
         //Then
@@ -122,9 +134,9 @@ class PostQueryRepositoryTest {
                 .build();
 
         //When
-        Page<Post> result = postQueryRepository.findAllByTitleContainsIgnoreCase(dto);
+        Slice<PostSummaryDto> result = postQueryRepository.findAllByTitleContainsIgnoreCase(dto);
         List<String> actual = result.getContent().stream()
-                .map(Post::getTitle)
+                .map(PostSummaryDto::getTitle)
                 .toList();
 
         //Then
@@ -134,6 +146,127 @@ class PostQueryRepositoryTest {
         }
     }
 
+    @DisplayName("게시글 ID로 조회하면 엔티티 대신 응답에 필요한 컬럼과 좋아요/댓글 수를 최신순으로 조회")
+    @Test
+    void findSummariesByIdIn() {
+        //Given
+        List<Post> posts = findLatestPosts(2);
+        Post latestPost = posts.get(0);
+        User writer = latestPost.getUser();
+
+        likeRepository.saveAndFlush(Like.of(writer, latestPost));
+        commentRepository.saveAllAndFlush(List.of(Comment.of(latestPost, writer, "comment1"), Comment.of(latestPost, writer, "comment2")));
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        //When
+        Slice<PostSummaryDto> result = postQueryRepository.findSummariesByIdIn(postIds, PageRequest.of(0, 1));
+
+        //Then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(1);
+
+        PostSummaryDto summary = result.getContent().get(0);
+        assertThat(summary.getPostId()).isEqualTo(latestPost.getId());
+        assertThat(summary.getWriterLoginId()).isEqualTo(writer.getLoginId());
+        assertThat(summary.getCategoryName()).isEqualTo(latestPost.getCategory().getName());
+        assertThat(summary.getLikeCount()).isEqualTo(1);
+        assertThat(summary.getCommentCount()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글 ID로 페이지 없이 조회하면 주어진 게시글을 모두 최신순으로 조회")
+    @Test
+    void findSummariesByIdIn_WithoutPageable() {
+        //Given
+        List<Post> posts = findLatestPosts(3);
+        Post post = posts.get(1);
+        likeRepository.saveAndFlush(Like.of(post.getUser(), post));
+
+        List<Long> postIds = List.of(posts.get(2).getId(), post.getId(), posts.get(0).getId());
+
+        //When
+        List<PostSummaryDto> result = postQueryRepository.findSummariesByIdIn(postIds);
+        List<PostSummaryDto> emptyResult = postQueryRepository.findSummariesByIdIn(List.of());
+
+        //Then
+        assertThat(result).extracting(PostSummaryDto::getPostId)
+                .containsExactly(posts.get(0).getId(), post.getId(), posts.get(2).getId());
+        assertThat(result.get(1).getLikeCount()).isEqualTo(1);
+        assertThat(emptyResult).isEmpty();
+    }
+
+    @DisplayName("작성자의 게시글을 마지막으로 읽은 게시글 ID 다음부터 최신순으로 이어서 조회")
+    @Test
+    void findSummariesByUserIdAndIdLessThan() {
+        //Given
+        Long writerId = userRepository.findByLoginId("writer2").orElseThrow().getId();
+
+        //When
+        List<PostSummaryDto> first = postQueryRepository.findSummariesByUserIdAndIdLessThan(writerId, null, 3);
+        List<PostSummaryDto> second = postQueryRepository.findSummariesByUserIdAndIdLessThan(writerId, first.get(2).getPostId(), 3);
+
+        //Then
+        assertThat(first).extracting(PostSummaryDto::getTitle).containsExactly(TITLE_7, TITLE_6, TITLE_5);
+        assertThat(second).extracting(PostSummaryDto::getTitle).containsExactly(TITLE_4);
+        assertThat(second).extracting(PostSummaryDto::getWriterLoginId).containsOnly("writer2");
+    }
+
+    @DisplayName("게시글 ID 이후 게시글을 오래된 순으로 응답에 필요한 컬럼과 좋아요/댓글 수만 조회")
+    @Test
+    void findSummariesByIdGreaterThan() {
+        //Given
+        List<Post> allPosts = findLatestPosts(10);
+        Long categoryId = allPosts.get(0).getCategory().getId();
+
+        //When
+        List<PostSummaryDto> result = postQueryRepository.findSummariesByIdGreaterThan(null, allPosts.get(6).getId(), 3);
+        List<PostSummaryDto> otherCategoryResult = postQueryRepository.findSummariesByIdGreaterThan(categoryId + 1, 0L, 10);
+
+        //Then
+        assertThat(result).extracting(PostSummaryDto::getPostId)
+                .containsExactly(allPosts.get(5).getId(), allPosts.get(4).getId(), allPosts.get(3).getId());
+        assertThat(otherCategoryResult).isEmpty();
+        then(postSearchCacheRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 ID보다 이전 게시글을 offset부터 최신순으로 응답에 필요한 컬럼과 좋아요/댓글 수만 조회")
+    @Test
+    void findSummariesByIdLessThan() {
+        //Given
+        List<Post> allPosts = findLatestPosts(10);
+        Post post = allPosts.get(4);
+        likeRepository.saveAndFlush(Like.of(post.getUser(), post));
+
+        //When
+        List<PostSummaryDto> result = postQueryRepository.findSummariesByIdLessThan(null, allPosts.get(2).getId(), 1, 3);
+        List<PostSummaryDto> otherCategoryResult = postQueryRepository.findSummariesByIdLessThan(post.getCategory().getId() + 1, null, 0, 10);
+
+        //Then
+        assertThat(result).extracting(PostSummaryDto::getPostId)
+                .containsExactly(post.getId(), allPosts.get(5).getId(), allPosts.get(6).getId());
+        assertThat(result.get(0).getLikeCount()).isEqualTo(1);
+        assertThat(otherCategoryResult).isEmpty();
+    }
+
+    @DisplayName("카테고리가 주어지면 해당 카테고리 게시글만 조회")
+    @Test
+    void findSummariesByIdLessThan_IfCategoryIdIsGiven() {
+        //Given
+        Long categoryId = findLatestPosts(1).get(0).getCategory().getId();
+
+        //When
+        List<PostSummaryDto> result = postQueryRepository.findSummariesByIdLessThan(categoryId, null, 0, 10);
+        List<PostSummaryDto> otherCategoryResult = postQueryRepository.findSummariesByIdLessThan(categoryId + 1, null, 0, 10);
+
+        //Then
+        assertThat(result).hasSize(10);
+        assertThat(otherCategoryResult).isEmpty();
+    }
+
+    private List<Post> findLatestPosts(int count) {
+        return postRepository.findAll(Sort.by(Sort.Direction.DESC, "id")).subList(0, count);
+    }
+
     static Stream<Arguments> findPostPageByWriterNickname() {
         /*
         Post post1 = Post.of(user1, category, "Hello World", "content");
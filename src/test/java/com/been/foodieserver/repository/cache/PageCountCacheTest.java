@@ -0,0 +1,100 @@
+package com.been.foodieserver.repository.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCountCacheTest {
+
+    private PageCountCache pageCountCache;
+    private AtomicInteger countCalls;
+
+    @BeforeEach
+    void setUp() {
+        pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
+        countCalls = new AtomicInteger();
+    }
+
+    @DisplayName("마지막 페이지면 세지 않고 조회한 개수로 전체 개수를 계산")
+    @Test
+    void toPage_DoesNotCount_IfLastPage() {
+        //Given
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 5), false);
+
+        //When
+        Page<String> result = pageCountCache.toPage(slice, "key", counter(100));
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(countCalls.get()).isZero();
+    }
+
+    @DisplayName("다음 페이지가 있으면 한 번 센 전체 개수를 ttl 동안 재사용")
+    @Test
+    void toPage_CountsOnce_IfNextPageExists() {
+        //Given
+        SliceImpl<String> first = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+        SliceImpl<String> second = new SliceImpl<>(List.of("c", "d"), PageRequest.of(1, 2), true);
+
+        //When
+        Page<String> firstPage = pageCountCache.toPage(first, "key", counter(7));
+        Page<String> secondPage = pageCountCache.toPage(second, "key", counter(7));
+
+        //Then
+        assertThat(firstPage.getTotalElements()).isEqualTo(7);
+        assertThat(secondPage.getTotalPages()).isEqualTo(4);
+        assertThat(countCalls.get()).isEqualTo(1);
+    }
+
+    @DisplayName("범위를 벗어난 빈 페이지는 전체 개수를 셈")
+    @Test
+    void toPage_Counts_IfPageIsOutOfRange() {
+        //Given
+        SliceImpl<String> slice = new SliceImpl<>(List.of(), PageRequest.of(9, 10), false);
+
+        //When
+        Page<String> result = pageCountCache.toPage(slice, "key", counter(15));
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(15);
+        assertThat(countCalls.get()).isEqualTo(1);
+    }
+
+    @DisplayName("전체 개수를 삭제하면 다음 조회 때 다시 셈")
+    @Test
+    void get_CountsAgain_IfEvicted() {
+        //Given
+        pageCountCache.get("key", counter(3));
+
+        //When
+        pageCountCache.evict("key");
+        long result = pageCountCache.get("key", counter(4));
+
+        //Then
+        assertThat(result).isEqualTo(4);
+        assertThat(countCalls.get()).isEqualTo(2);
+    }
+
+    private LongSupplier counter(long count) {
+        return () -> {
+            countCalls.incrementAndGet();
+            return count;
+        };
+    }
+}
@@ -0,0 +1,707 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.domain.Category;
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.domain.redis.RedisPost;
+import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.PostCursor;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.fixture.PostFixture;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, RedisPost> redisPostRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> batchStringRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, User> userRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, Category> categoryRedisTemplate;
+
+    @Mock
+    private PostVersionCacheRepository postVersionCacheRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PostCacheRepository postCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        postCacheRepository = new PostCacheRepository(redisPostRedisTemplate, stringRedisTemplate, batchStringRedisTemplate, userRedisTemplate, categoryRedisTemplate, objectMapper, postVersionCacheRepository);
+        ReflectionTestUtils.setField(postCacheRepository, "hotWindowMaxSize", 2L);
+        ReflectionTestUtils.setField(postCacheRepository, "hotWindowDays", 30);
+    }
+
+    @DisplayName("hot window 이전에 작성된 게시글은 캐시하지 않음")
+    @Test
+    void save_DoesNotCache_IfPostIsOutOfHotWindow() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", Timestamp.valueOf(LocalDateTime.now().minusDays(31)));
+
+        //When
+        postCacheRepository.save(post);
+
+        //Then
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+        then(redisPostRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("여러 게시글 저장 시 hot window 안의 게시글만 배치용 연결의 파이프라인 1번으로 저장")
+    @Test
+    void saveAll_UsesOnePipeline() {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post1, "createdAt", new Timestamp(System.currentTimeMillis()));
+        ReflectionTestUtils.setField(post2, "createdAt", Timestamp.valueOf(LocalDateTime.now().minusDays(31)));
+
+        willReturn(new Jackson2JsonRedisSerializer<>(User.class)).given(userRedisTemplate).getValueSerializer();
+
+        //When
+        postCacheRepository.saveAll(List.of(post1, post2), Map.of(1L, 3L), Map.of());
+
+        //Then
+        then(batchStringRedisTemplate).should().executePipelined(any(RedisCallback.class));
+        then(batchStringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+        then(postVersionCacheRepository).should().bump(List.of(1L));
+    }
+
+    @DisplayName("여러 게시글 저장 시 모두 hot window 밖이면 저장하지 않음")
+    @Test
+    void saveAll_DoesNothing_IfAllPostsAreOutOfHotWindow() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", Timestamp.valueOf(LocalDateTime.now().minusDays(31)));
+
+        //When
+        postCacheRepository.saveAll(List.of(post), Map.of(), Map.of());
+
+        //Then
+        then(batchStringRedisTemplate).shouldHaveNoInteractions();
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+        then(postVersionCacheRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 저장 시 post:all, 카테고리별 게시글 ID, 게시글, 통계, 게시글 수, hot window 정리를 스크립트 1번으로 처리")
+    @Test
+    void save_UsesOneScript() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", new Timestamp(System.currentTimeMillis()));
+
+        willReturn(new Jackson2JsonRedisSerializer<>(RedisPost.class)).given(redisPostRedisTemplate).getValueSerializer();
+
+        //When
+        postCacheRepository.save(post);
+
+        //Then
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(),
+                eq(writeKeys("post:cat:1", "post:cat:1")), eq(bytes("save")), eq(bytes("1")), any(byte[].class), any(byte[].class), any(byte[].class),
+                eq(bytes("")), eq(bytes("")), eq(bytes("all")), any(byte[].class), eq(bytes("2")), eq(bytes("cat:1")), eq(bytes("cat:1")), eq(bytes("0")), any(byte[].class), eq(bytes("0")));
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(redisPostRedisTemplate).should(never()).opsForValue();
+        then(postVersionCacheRepository).should().bump(1L);
+    }
+
+    @DisplayName("게시글 수정 시 캐시된 게시글만 덮어쓰도록 스크립트 1번으로 처리하고, 카테고리가 바뀌면 이전 카테고리도 전달")
+    @Test
+    void modify_UsesOneScript() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", new Timestamp(System.currentTimeMillis()));
+
+        willReturn(new Jackson2JsonRedisSerializer<>(RedisPost.class)).given(redisPostRedisTemplate).getValueSerializer();
+
+        //When
+        postCacheRepository.modify(post, 2L);
+
+        //Then
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(),
+                eq(writeKeys("post:cat:1", "post:cat:2")), eq(bytes("modify")), eq(bytes("1")), any(byte[].class), any(byte[].class), any(byte[].class),
+                eq(bytes("")), eq(bytes("")), eq(bytes("all")), any(byte[].class), eq(bytes("2")), eq(bytes("cat:1")), eq(bytes("cat:2")), eq(bytes("0")), any(byte[].class), eq(bytes("0")));
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글 저장 시 목록 조회용 미리보기는 내용을 잘라 함께 저장")
+    @Test
+    void save_SavesPreviewWithCutContent() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "가".repeat(1000), "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", new Timestamp(System.currentTimeMillis()));
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        ArgumentCaptor<byte[]> postCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> previewCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        //When
+        postCacheRepository.save(post);
+
+        //Then
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(),
+                eq(writeKeys("post:cat:1", "post:cat:1")), eq(bytes("save")), eq(bytes("1")), any(byte[].class), any(byte[].class), postCaptor.capture(),
+                eq(bytes("")), eq(bytes("")), eq(bytes("all")), any(byte[].class), eq(bytes("2")), eq(bytes("cat:1")), eq(bytes("cat:1")), eq(bytes("0")), previewCaptor.capture(), eq(bytes("0")));
+
+        assertThat(postSerializer.deserialize(postCaptor.getValue()).getContent()).hasSize(1000);
+        RedisPost preview = postSerializer.deserialize(previewCaptor.getValue());
+        assertThat(preview.getTitle()).isEqualTo(post.getTitle());
+        assertThat(preview.getContent()).hasSizeGreaterThan(PostResponse.PREVIEW_LENGTH).hasSizeLessThan(1000);
+    }
+
+    @DisplayName("hot window 밖의 게시글은 카테고리가 그대로면 상세 조회로 캐시된 게시글만 삭제")
+    @Test
+    void modify_DeletesOnlyDetail_IfPostIsOutOfHotWindowAndCategoryIsSame() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", Timestamp.valueOf(LocalDateTime.now().minusDays(31)));
+
+        //When
+        postCacheRepository.modify(post, 1L);
+
+        //Then
+        then(stringRedisTemplate).should().delete(List.of("post:1", "post:1:preview", "post:1:json"));
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(redisPostRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 상세 조회 시 게시글과 통계가 캐시되어 있으면 캐시에서 조회")
+    @Test
+    void findById_ReturnsCachedPost() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(postSerializer.serialize(RedisPost.of(post)), List.of(bytes("3"), bytes("2"))))
+                .willReturn(List.of(List.of(userSerializer.serialize(post.getUser())), List.of(categorySerializer.serialize(post.getCategory()))));
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        PostResponse result = postCacheRepository.findById(1L);
+
+        //Then
+        assertThat(result.getPostId()).isEqualTo(1L);
+        assertThat(result.getLikeCount()).isEqualTo(3);
+        assertThat(result.getCommentCount()).isEqualTo(2);
+        assertThat(result.getWriter().getLoginId()).isEqualTo("writer");
+    }
+
+    @DisplayName("여러 게시글 조회 시 게시글이나 통계가 캐시되지 않은 게시글은 제외")
+    @Test
+    void findAllByIds_ExcludesUncachedPosts() {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post3 = PostFixture.get(3L, "title3", "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(
+                        Arrays.asList(postSerializer.serialize(RedisPost.of(post3)), null, postSerializer.serialize(RedisPost.of(post1))),
+                        List.of(bytes("1"), bytes("0")),
+                        Arrays.asList(null, null),
+                        Arrays.asList(null, null)))
+                .willReturn(List.of(List.of(userSerializer.serialize(post1.getUser())), List.of(categorySerializer.serialize(post1.getCategory()))));
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        List<PostResponse> result = postCacheRepository.findAllByIds(List.of(3L, 2L, 1L));
+
+        //Then
+        assertThat(result).extracting(PostResponse::getPostId).containsExactly(3L);
+        assertThat(result.get(0).getLikeCount()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글 상세 조회 시 통계가 캐시되지 않았으면 null 반환")
+    @Test
+    void findById_ReturnsNull_IfStatsAreNotCached() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(postSerializer.serialize(RedisPost.of(post)), Arrays.asList(null, null)));
+
+        //When
+        PostResponse result = postCacheRepository.findById(1L);
+
+        //Then
+        assertThat(result).isNull();
+        then(redisPostRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 삭제 시 post:all, 카테고리/작성자별 게시글 ID, 인기 게시글, 게시글, 미리보기, JSON 조각, 통계, 조회자, 게시글 수를 스크립트 1번으로 처리")
+    @Test
+    void delete_UsesOneScript() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+
+        //When
+        postCacheRepository.delete(post);
+
+        //Then
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(),
+                eq(List.of("post:all", "post:count", "post:1", "post:1:json", "post:stats:1", "post:cat:1", "post:category", "post:user:writer", "post:trending", "post:1:viewers", "post:version", "post:1:preview")), eq("1"), eq("all"), eq("cat:1"));
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(redisPostRedisTemplate).shouldHaveNoInteractions();
+        then(postVersionCacheRepository).should().bump(1L);
+    }
+
+    @DisplayName("게시글 목록 조회 시 Redis 왕복은 스크립트 1번, 파이프라인 1번만 발생")
+    @Test
+    void findAll_UsesTwoRoundTripsPerPage() {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        List<Object> scriptResult = List.of(
+                2L,
+                List.of(bytes("2"), bytes("1")),
+                List.of(bytes("2000"), bytes("1000")),
+                List.of(postSerializer.serialize(RedisPost.of(post2)), postSerializer.serialize(RedisPost.of(post1))),
+                List.of(3L, 0L),
+                List.of(1L, 5L),
+                List.of(),
+                List.of());
+
+        List<Object> pipelineResult = List.of(
+                List.of(userSerializer.serialize(post1.getUser())),
+                List.of(categorySerializer.serialize(post1.getCategory())));
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(pipelineResult);
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAll(null, 1, 10);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).getTitle()).isEqualTo(post2.getTitle());
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(3);
+        assertThat(result.getContent().get(1).getCommentCount()).isEqualTo(5);
+        assertThat(result.getContent().get(1).getWriter().getLoginId()).isEqualTo("writer");
+        assertThat(result.getContent().get(1).getCategoryName()).isEqualTo("자유 게시판");
+
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), anyString());
+        then(stringRedisTemplate).should().executePipelined(any(RedisCallback.class), any(RedisSerializer.class));
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(redisPostRedisTemplate).should(never()).opsForValue();
+        then(userRedisTemplate).should(never()).opsForValue();
+        then(categoryRedisTemplate).should(never()).opsForValue();
+    }
+
+    @DisplayName("게시글 목록 조회 시 미리보기가 없어 게시글을 읽으면 내용을 미리보기 길이로 자름")
+    @Test
+    void findAll_CutsContent_IfPreviewIsNotCached() {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "가".repeat(1000), "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        List<Object> scriptResult = List.of(
+                1L,
+                List.of(bytes("1")),
+                List.of(bytes("1000")),
+                List.of(postSerializer.serialize(RedisPost.of(post))),
+                List.of(0L),
+                List.of(0L),
+                List.of(),
+                List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(List.of(userSerializer.serialize(post.getUser())), List.of(categorySerializer.serialize(post.getCategory()))));
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAll(null, 1, 10);
+
+        //Then
+        PostResponse response = result.getContent().get(0);
+        assertThat(response.getContent()).hasSize(PostResponse.PREVIEW_LENGTH);
+        assertThat(response.getContentTruncated()).isTrue();
+    }
+
+    @DisplayName("게시글 목록 조회 시 게시글이 없으면 스크립트 1번만 실행하고 빈 목록 반환")
+    @Test
+    void findAll_UsesOneRoundTrip_IfPageIsEmpty() {
+        //Given
+        List<Object> scriptResult = List.of(0L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAll(null, 1, 10);
+
+        //Then
+        assertThat(result.getTotalElements()).isZero();
+        assertThat(result.getContent()).isEmpty();
+
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), anyString());
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+        then(userRedisTemplate).shouldHaveNoInteractions();
+        then(categoryRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("카테고리 게시글 목록 조회 시 카테고리별 게시글 ID와 카테고리 게시글 수로 조회")
+    @Test
+    void findAll_UsesCategoryTimeline_IfCategoryIdIsGiven() {
+        //Given
+        List<Object> scriptResult = List.of(0L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:cat:3", "post:count")), eq("offset"), eq("10"), eq("19"), eq(""), eq("preview"), eq("cat:3"), anyString()))
+                .willReturn(scriptResult);
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAll(3L, 2, 10);
+
+        //Then
+        assertThat(result.getContent()).isEmpty();
+
+        then(stringRedisTemplate).should().execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:cat:3", "post:count")), eq("offset"), eq("10"), eq("19"), eq(""), eq("preview"), eq("cat:3"), anyString());
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글 목록 조회 시 hot window 시작 이후 게시글만 조회하도록 hot window 시작 score 전달")
+    @Test
+    void findAll_PassesHotWindowStartAsMinScore() {
+        //Given
+        List<Object> scriptResult = List.of(0L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+        ArgumentCaptor<String> minScore = ArgumentCaptor.forClass(String.class);
+        long windowStart = System.currentTimeMillis() - Duration.ofDays(30).toMillis();
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq("all"), minScore.capture()))
+                .willReturn(scriptResult);
+
+        //When
+        postCacheRepository.findAll(null, 1, 10);
+
+        //Then
+        assertThat(Long.parseLong(minScore.getValue())).isBetween(windowStart, windowStart + Duration.ofMinutes(1).toMillis());
+    }
+
+    @DisplayName("hot window는 기간이 지나 제거되기 전인 게시글을 빼고 세고, 가장 오래된 게시글도 hot window 시작 이후에서 찾음")
+    @Test
+    void getHotWindow_CountsOnlyPostsInHotWindow(@Mock ZSetOperations<String, String> zSetOperations) {
+        //Given
+        ArgumentCaptor<Double> windowStart = ArgumentCaptor.forClass(Double.class);
+        long expected = System.currentTimeMillis() - Duration.ofDays(30).toMillis();
+
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.count(eq("post:cat:3"), windowStart.capture(), eq(Double.POSITIVE_INFINITY))).willReturn(2L);
+        given(zSetOperations.rangeByScore(eq("post:cat:3"), anyDouble(), eq(Double.POSITIVE_INFINITY), eq(0L), eq(1L))).willReturn(Set.of("7"));
+
+        //When
+        PostCacheRepository.HotWindow window = postCacheRepository.getHotWindow(3L);
+
+        //Then
+        assertThat(window).isEqualTo(new PostCacheRepository.HotWindow(2, 7L));
+        assertThat(windowStart.getValue().longValue()).isBetween(expected, expected + Duration.ofMinutes(1).toMillis());
+        then(zSetOperations).should(never()).zCard(anyString());
+    }
+
+    @DisplayName("작성자별 게시글 목록 조회 시 작성자별 게시글 ID가 캐시되지 않았으면 null 반환")
+    @Test
+    void findAllByWriter_ReturnsNull_IfWriterTimelineIsNotCached() {
+        //Given
+        List<Object> scriptResult = List.of(-1L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:user:writer", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("preview"), eq(""), eq("")))
+                .willReturn(scriptResult);
+
+        //When
+        PostCacheRepository.PostIdPage result = postCacheRepository.findAllByWriter("writer", 1, 10);
+
+        //Then
+        assertThat(result).isNull();
+    }
+
+    @DisplayName("작성자별 게시글 목록 조회 시 hot window 밖이라 캐시되지 않은 게시글은 ID만 반환")
+    @Test
+    void findAllByWriter_ReturnsIdsOfUncachedPosts() {
+        //Given
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        List<Object> scriptResult = List.of(
+                7L,
+                List.of(bytes("2"), bytes("1")),
+                List.of(bytes("2000"), bytes("1000")),
+                Arrays.asList(postSerializer.serialize(RedisPost.of(post2)), null),
+                List.of(0L, 0L),
+                List.of(0L, 0L),
+                List.of(),
+                List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:user:writer", "post:count")), eq("offset"), eq("0"), eq("1"), eq(""), eq("preview"), eq(""), eq("")))
+                .willReturn(scriptResult);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(List.of(userSerializer.serialize(post2.getUser())), List.of(categorySerializer.serialize(post2.getCategory()))));
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        PostCacheRepository.PostIdPage result = postCacheRepository.findAllByWriter("writer", 1, 2);
+
+        //Then
+        assertThat(result.total()).isEqualTo(7L);
+        assertThat(result.postIds()).containsExactly(2L, 1L);
+        assertThat(result.cachedPosts()).extracting(PostResponse::getPostId).containsExactly(2L);
+    }
+
+    @DisplayName("인기 게시글 조회 시 점수가 쌓인 게시글이 없으면 빈 페이지 반환")
+    @Test
+    void findTrending_ReturnsEmptyPage_IfTrendingIsEmpty() {
+        //Given
+        List<Object> scriptResult = List.of(-1L, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:trending", "post:count")), eq("offset"), eq("10"), eq("19"), eq(""), eq("preview"), eq(""), eq("")))
+                .willReturn(scriptResult);
+
+        //When
+        PostCacheRepository.PostIdPage result = postCacheRepository.findTrending(2, 10);
+
+        //Then
+        assertThat(result.total()).isZero();
+        assertThat(result.postIds()).isEmpty();
+        then(redisPostRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("피드 조회 시 작성자별 게시글 ID가 캐시되지 않아 합치지 못한 작성자 반환")
+    @Test
+    void findFeed_ReturnsUncachedWriters() {
+        //Given
+        List<Object> scriptResult = List.of(
+                1L,
+                List.of(bytes("1")),
+                List.of(bytes("1000")),
+                Arrays.asList((Object) null),
+                List.of(0L),
+                List.of(0L),
+                List.of(),
+                List.of(),
+                List.of(bytes("celebrity")));
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("feed:follower", "post:count", "feed:follower:pull")), eq("feed"), eq("0"), eq("9"), eq(""), eq("preview"), eq(""), eq("")))
+                .willReturn(scriptResult);
+
+        //When
+        PostCacheRepository.PostIdPage result = postCacheRepository.findFeed("follower", 1, 10);
+
+        //Then
+        assertThat(result.total()).isEqualTo(1L);
+        assertThat(result.postIds()).containsExactly(1L);
+        assertThat(result.cachedPosts()).isEmpty();
+        assertThat(result.uncachedWriters()).containsExactly("celebrity");
+    }
+
+    @DisplayName("커서 방식 게시글 목록 조회 시 다음 게시글이 있으면 마지막 게시글의 커서 반환")
+    @Test
+    void findAllByCursor_ReturnsNextCursor_IfNextPostExists() {
+        //Given
+        PostCursor cursor = PostCursor.of(3000L, 3L);
+        List<Object> scriptResult = List.of(
+                3L,
+                List.of(bytes("2"), bytes("1")),
+                List.of(bytes("2000"), bytes("1000")),
+                Arrays.asList(null, null),
+                List.of(0L, 0L),
+                List.of(0L, 0L),
+                List.of(),
+                List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("cursor"), eq("3000"), eq("3"), eq("2"), eq("preview"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAllByCursor(null, cursor, 1);
+
+        //Then
+        assertThat(result.getCurrentPage()).isNull();
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(PostCursor.of(2000L, 2L).encode());
+
+        then(stringRedisTemplate).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("커서 방식 게시글 목록 조회 시 다음 게시글이 없으면 커서를 반환하지 않음")
+    @Test
+    void findAllByCursor_ReturnsNoCursor_IfLastPage() {
+        //Given
+        List<Object> scriptResult = List.of(1L, List.of(bytes("1")), List.of(bytes("1000")), Arrays.asList((Object) null), List.of(0L), List.of(0L), List.of(), List.of());
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("cursor"), eq(""), eq(""), eq("11"), eq("preview"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+
+        //When
+        PageDto<PostResponse> result = postCacheRepository.findAllByCursor(null, null, 10);
+
+        //Then
+        assertThat(result.getHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @DisplayName("JSON 조각 모드 게시글 목록 조회 시 조각에 작성자와 좋아요/댓글 수를 이어 붙이고, 조각이 없는 게시글은 게시글로 조각을 만듦")
+    @Test
+    void findAllAsJson_SplicesFragments() throws Exception {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+
+        Jackson2JsonRedisSerializer<RedisPost> postSerializer = new Jackson2JsonRedisSerializer<>(RedisPost.class);
+        Jackson2JsonRedisSerializer<User> userSerializer = new Jackson2JsonRedisSerializer<>(User.class);
+        Jackson2JsonRedisSerializer<Category> categorySerializer = new Jackson2JsonRedisSerializer<>(Category.class);
+
+        String fragment = PostCacheRepository.renderFragment(objectMapper, PostResponse.of(post2.getUser(), post2.getCategory(), RedisPost.of(post2), 0, 0));
+
+        List<Object> scriptResult = List.of(
+                2L,
+                List.of(bytes("2"), bytes("1")),
+                List.of(bytes("2000"), bytes("1000")),
+                Arrays.asList(null, postSerializer.serialize(RedisPost.of(post1))),
+                List.of(3L, 0L),
+                List.of(1L, 5L),
+                Arrays.asList(bytes("writer"), null),
+                Arrays.asList(bytes(fragment), null));
+
+        List<Object> pipelineResult = List.of(
+                List.of(userSerializer.serialize(post1.getUser())),
+                List.of(categorySerializer.serialize(post1.getCategory())));
+
+        given(stringRedisTemplate.execute(anyScript(), anySerializer(), anySerializer(), eq(List.of("post:all", "post:count")), eq("offset"), eq("0"), eq("9"), eq(""), eq("json"), eq("all"), anyString()))
+                .willReturn(scriptResult);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(pipelineResult);
+        willReturn(postSerializer).given(redisPostRedisTemplate).getValueSerializer();
+        willReturn(userSerializer).given(userRedisTemplate).getValueSerializer();
+        willReturn(categorySerializer).given(categoryRedisTemplate).getValueSerializer();
+
+        //When
+        PageDto<RawValue> result = postCacheRepository.findAllAsJson(null, 1, 10);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        assertThat(result.getContent()).hasSize(2);
+
+        JsonNode first = objectMapper.readTree((String) result.getContent().get(0).rawValue());
+        assertThat(first.get("postId").asLong()).isEqualTo(2L);
+        assertThat(first.get("title").asText()).isEqualTo(post2.getTitle());
+        assertThat(first.get("writer").get("loginId").asText()).isEqualTo("writer");
+        assertThat(first.get("likeCount").asInt()).isEqualTo(3);
+        assertThat(first.get("commentCount").asInt()).isEqualTo(1);
+
+        JsonNode second = objectMapper.readTree((String) result.getContent().get(1).rawValue());
+        assertThat(second.get("postId").asLong()).isEqualTo(1L);
+        assertThat(second.get("categoryName").asText()).isEqualTo("자유 게시판");
+        assertThat(second.get("commentCount").asInt()).isEqualTo(5);
+    }
+
+    @DisplayName("게시글 JSON 조각에는 작성자와 좋아요/댓글 수가 없음")
+    @Test
+    void renderFragment_ExcludesWriterAndCounters() throws Exception {
+        //Given
+        Post post = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+
+        //When
+        String fragment = PostCacheRepository.renderFragment(objectMapper, PostResponse.of(post));
+
+        //Then
+        JsonNode node = objectMapper.readTree(fragment);
+        assertThat(node.get("title").asText()).isEqualTo(post.getTitle());
+        assertThat(node.has("writer")).isFalse();
+        assertThat(node.has("likeCount")).isFalse();
+        assertThat(node.has("commentCount")).isFalse();
+    }
+
+    private static List<String> writeKeys(String categoryKey, String previousCategoryKey) {
+        return List.of("post:all", "post:count", "post:1", "post:1:json", "post:stats:1", categoryKey, previousCategoryKey, "post:category", "post:user:writer", "post:version", "post:1:preview",
+                "post:view:pending", "post:view:persisting");
+    }
+
+    private static <T> RedisScript<T> anyScript() {
+        return any();
+    }
+
+    private static <T> RedisSerializer<T> anySerializer() {
+        return any();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,228 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.dto.response.PostResponse;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.fixture.PostFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailCacheTest {
+
+    @Mock
+    private PostCacheRepository postCacheRepository;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    private PostDetailCache postDetailCache;
+    private PostResponse response;
+    private AtomicInteger loadCount;
+    private AtomicInteger fallbackCount;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = new PostDetailCache(postCacheRepository, stringRedisTemplate, redisCircuitBreaker);
+        ReflectionTestUtils.setField(postDetailCache, "lockTtl", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(postDetailCache, "lockWait", Duration.ofMillis(500));
+        ReflectionTestUtils.setField(postDetailCache, "retryInterval", Duration.ofMillis(10));
+        response = PostResponse.of(PostFixture.get(1L, "title", "writer", "자유 게시판"));
+        loadCount = new AtomicInteger();
+        fallbackCount = new AtomicInteger();
+    }
+
+    @DisplayName("캐시된 게시글이면 DB를 조회하지 않고 락도 잡지 않음")
+    @Test
+    void get_ReturnsCachedPost_IfPostIsCached() {
+        //Given
+        givenRedisIsAvailable();
+        given(postCacheRepository.findById(1L)).willReturn(response);
+
+        //When
+        PostResponse result = postDetailCache.get(1L, loader(), fallback());
+
+        //Then
+        assertThat(result).isSameAs(response);
+        assertThat(loadCount.get()).isZero();
+        assertThat(fallbackCount.get()).isZero();
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Redis 장애로 캐시를 조회할 수 없으면 락을 잡지 않고 캐시 없이 조회")
+    @Test
+    void get_UsesFallback_IfRedisIsUnavailable() {
+        //Given
+        given(redisCircuitBreaker.call(any(), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        //When
+        PostResponse result = postDetailCache.get(1L, loader(), fallback());
+
+        //Then
+        assertThat(result).isSameAs(response);
+        assertThat(loadCount.get()).isZero();
+        assertThat(fallbackCount.get()).isEqualTo(1);
+        then(postCacheRepository).shouldHaveNoInteractions();
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("같은 서버에서 캐시되지 않은 게시글을 동시에 조회하면 DB는 한 번만 조회")
+    @Test
+    void get_LoadsOnce_IfSamePostIsRequestedConcurrently() throws Exception {
+        //Given
+        givenRedisIsAvailable();
+        int requestCount = 8;
+        CountDownLatch checked = new CountDownLatch(requestCount);
+        CountDownLatch release = new CountDownLatch(1);
+
+        given(postCacheRepository.findById(1L)).willAnswer(invocation -> {
+            checked.countDown();
+            return null;
+        });
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)))).willReturn(true);
+
+        Supplier<PostResponse> blockingLoader = () -> {
+            loadCount.incrementAndGet();
+            await(release);
+            return response;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        List<Future<PostResponse>> futures = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executor.submit(() -> postDetailCache.get(1L, blockingLoader, fallback())));
+        }
+        checked.await(1, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        //Then
+        for (Future<PostResponse> future : futures) {
+            assertThat(future.get(1, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        executor.shutdown();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        then(valueOperations).should().setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)));
+        then(stringRedisTemplate).should().execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("post:1:lock")), anyString());
+    }
+
+    @DisplayName("다른 서버가 락을 잡고 있으면 DB를 조회하지 않고 캐시가 채워지길 기다림")
+    @Test
+    void get_WaitsForCache_IfOtherServerHoldsLock() {
+        //Given
+        givenRedisIsAvailable();
+        given(postCacheRepository.findById(1L)).willReturn(null, null, response);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)))).willReturn(false);
+
+        //When
+        PostResponse result = postDetailCache.get(1L, loader(), fallback());
+
+        //Then
+        assertThat(result).isSameAs(response);
+        assertThat(loadCount.get()).isZero();
+        then(stringRedisTemplate).should(never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString());
+    }
+
+    @DisplayName("다른 서버가 락을 잡고 있어도 lock-wait 동안 캐시가 채워지지 않으면 직접 조회")
+    @Test
+    void get_Loads_IfLockWaitTimesOut() {
+        //Given
+        givenRedisIsAvailable();
+        given(postCacheRepository.findById(1L)).willReturn(null);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)))).willReturn(false);
+
+        //When
+        PostResponse result = postDetailCache.get(1L, loader(), fallback());
+
+        //Then
+        assertThat(result).isSameAs(response);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("조회 중 예외가 발생하면 락을 풀고 예외를 그대로 던짐")
+    @Test
+    void get_ReleasesLockAndThrows_IfLoaderFails() {
+        //Given
+        givenRedisIsAvailable();
+        given(postCacheRepository.findById(1L)).willReturn(null);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("post:1:lock"), anyString(), eq(Duration.ofSeconds(3)))).willReturn(true);
+
+        //When & Then
+        assertThatThrownBy(() -> postDetailCache.get(1L, () -> {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }, fallback()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.POST_NOT_FOUND.getMessage());
+
+        then(stringRedisTemplate).should().execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("post:1:lock")), anyString());
+    }
+
+    private Supplier<PostResponse> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return response;
+        };
+    }
+
+    private Supplier<PostResponse> fallback() {
+        return () -> {
+            fallbackCount.incrementAndGet();
+            return response;
+        };
+    }
+
+    private void givenRedisIsAvailable() {
+        given(redisCircuitBreaker.call(any(), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.response.PostResponse;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PostPageNearCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    private MeterRegistry meterRegistry;
+    private PostPageNearCache postPageNearCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postPageNearCache = new PostPageNearCache(stringRedisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(postPageNearCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(postPageNearCache, "ttl", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(postPageNearCache, "maxPageNum", 3);
+        ReflectionTestUtils.setField(postPageNearCache, "staleTtl", Duration.ofMinutes(10));
+        postPageNearCache.init();
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 페이지를 다시 조회하면 Redis를 거치지 않고 캐시된 페이지 반환")
+    @Test
+    void get_ReturnsCachedPage_IfPageWasLoaded() {
+        //When
+        PageDto<PostResponse> first = postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+        PageDto<PostResponse> second = postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("페이지 크기가 다르면 다른 페이지로 캐시")
+    @Test
+    void get_LoadsPage_IfPageSizeIsDifferent() {
+        //When
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+        postPageNearCache.get(null, 1, 20, PostResponse.class, loader(1, 20));
+
+        //Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("카테고리가 다르면 다른 페이지로 캐시")
+    @Test
+    void get_LoadsPage_IfCategoryIsDifferent() {
+        //When
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+        postPageNearCache.get(1L, 1, 10, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글 목록 버전이 바뀌면 이전 버전으로 캐시된 페이지를 반환하지 않음")
+    @Test
+    void get_Reloads_IfVersionChanged() {
+        //Given
+        PageDto<PostResponse> first = postPageNearCache.get(null, 1, 10, 1L, PostResponse.class, loader(1, 10));
+
+        //When
+        PageDto<PostResponse> second = postPageNearCache.get(null, 1, 10, 2L, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(postPageNearCache.getStale(null, 1, 10, PostResponse.class)).containsSame(second);
+    }
+
+    @DisplayName("같은 페이지라도 내용 타입이 다르면 따로 캐시")
+    @Test
+    void get_CachesEachContentTypeSeparately() {
+        //Given
+        PageDto<PostResponse> posts = postPageNearCache.get(null, 1, 10, 1L, PostResponse.class, loader(1, 10));
+
+        //When
+        PageDto<RawValue> json = postPageNearCache.get(null, 1, 10, 1L, RawValue.class, () -> {
+            loadCount.incrementAndGet();
+            return PageDto.of(1, 10, 1, List.of(new RawValue("{}")));
+        });
+        PageDto<PostResponse> postsAgain = postPageNearCache.get(null, 1, 10, 1L, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(json.getContent()).hasSize(1);
+        assertThat(postsAgain).isSameAs(posts);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(postPageNearCache.getStale(null, 1, 10, PostResponse.class)).containsSame(posts);
+        assertThat(postPageNearCache.getStale(null, 1, 10, RawValue.class)).containsSame(json);
+    }
+
+    @DisplayName("max-page-num 이후 페이지는 캐시하지 않음")
+    @Test
+    void get_DoesNotCache_IfPageIsNotHot() {
+        //When
+        postPageNearCache.get(null, 4, 10, PostResponse.class, loader(4, 10));
+        postPageNearCache.get(null, 4, 10, PostResponse.class, loader(4, 10));
+
+        //Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("캐시를 비우면 다른 서버에 무효화 메시지를 발행하고 다음 조회 시 다시 로드")
+    @Test
+    void evictAll_PublishesInvalidationAndReloads() {
+        //Given
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //When
+        postPageNearCache.evictAll();
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(loadCount.get()).isEqualTo(2);
+        then(stringRedisTemplate).should().convertAndSend(PostPageNearCache.INVALIDATION_TOPIC.getTopic(), "");
+    }
+
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 캐시를 비움")
+    @Test
+    void onMessage_InvalidatesCache() {
+        //Given
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //When
+        postPageNearCache.onMessage(null, null);
+        postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //Then
+        assertThat(loadCount.get()).isEqualTo(2);
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("캐시를 비워도 Redis 장애 때 보여줄 마지막 페이지는 남아 있음")
+    @Test
+    void getStale_ReturnsLastLoadedPage_EvenIfCacheIsInvalidated() {
+        //Given
+        PageDto<PostResponse> page = postPageNearCache.get(null, 1, 10, PostResponse.class, loader(1, 10));
+
+        //When
+        postPageNearCache.onMessage(null, null);
+        Optional<PageDto<PostResponse>> stale = postPageNearCache.getStale(null, 1, 10, PostResponse.class);
+
+        //Then
+        assertThat(stale).containsSame(page);
+        assertThat(postPageNearCache.getStale(null, 2, 10, PostResponse.class)).isEmpty();
+    }
+
+    private Supplier<PageDto<PostResponse>> loader(int pageNum, int pageSize) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return PageDto.of(pageNum, pageSize, 0, List.of());
+        };
+    }
+}
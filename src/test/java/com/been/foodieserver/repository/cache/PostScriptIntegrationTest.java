@@ -0,0 +1,286 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.domain.Category;
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.RangeChecksum;
+import com.been.foodieserver.fixture.PostFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Redis에서 게시글 Lua 스크립트를 실행한다. post:*, feed:* 키는 테스트마다 지운다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "cache.post.hot-window.max-size=3"
+})
+class PostScriptIntegrationTest {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POST_PAGE_SCRIPT = RedisScript.of(new ClassPathResource("scripts/post-page.lua"), List.class);
+    private static final long SCORE = 1_700_000_000_000L;
+
+    @Autowired
+    private PostCacheRepository postCacheRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void clear() {
+        Set<String> keys = new HashSet<>();
+        keys.addAll(stringRedisTemplate.keys("post:*"));
+        keys.addAll(stringRedisTemplate.keys("feed:*"));
+        stringRedisTemplate.delete(keys);
+    }
+
+    @DisplayName("커서로 한 건씩 넘겨도 같은 score의 게시글을 건너뛰거나 반복하지 않음")
+    @Test
+    void cursor_WalksTiesInZrevrangeOrder() {
+        //Given
+        addAll("post:all", SCORE + 1, "12");
+        addAll("post:all", SCORE, "9", "10", "11", "100");
+        addAll("post:all", SCORE - 1, "8");
+        List<String> expected = new ArrayList<>(stringRedisTemplate.opsForZSet().reverseRange("post:all", 0, -1));
+
+        //When
+        List<String> walked = new ArrayList<>();
+        String score = "";
+        String member = "";
+
+        while (true) {
+            List<Object> result = page(List.of("post:all", "post:count"), "cursor", score, member, "1", "preview", "all");
+            if (ids(result).isEmpty()) {
+                break;
+            }
+            member = ids(result).get(0);
+            score = scores(result).get(0);
+            walked.add(member);
+        }
+
+        //Then
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("since로 한 건씩 넘겨도 같은 score의 게시글을 건너뛰거나 반복하지 않음")
+    @Test
+    void since_WalksTiesInZrangeOrder() {
+        //Given
+        addAll("post:all", SCORE - 1, "8");
+        addAll("post:all", SCORE, "9", "10", "11", "100");
+        addAll("post:all", SCORE + 1, "12");
+        List<String> expected = new ArrayList<>(stringRedisTemplate.opsForZSet().range("post:all", 1, -1));
+
+        //When
+        List<String> walked = new ArrayList<>();
+        String score = String.valueOf(SCORE - 1);
+        String member = "8";
+
+        while (true) {
+            List<Object> result = page(List.of("post:all", "post:count"), "since", score, member, "1", "preview", "all");
+            if (ids(result).isEmpty()) {
+                break;
+            }
+            member = ids(result).get(0);
+            score = scores(result).get(0);
+            walked.add(member);
+        }
+
+        //Then
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("since는 잘려 나간 게시글이 커서 이후에 있으면 -1, 커서가 캐시 범위 안이면 게시글을 반환")
+    @Test
+    void since_ReturnsMinusOne_IfCursorIsOlderThanTruncatedWindow() {
+        //Given
+        addAll("post:all", SCORE, "10");
+        addAll("post:all", SCORE + 1, "11");
+        stringRedisTemplate.opsForHash().put("post:count", "all", "5");
+
+        //When
+        List<Object> truncated = page(List.of("post:all", "post:count"), "since", String.valueOf(SCORE - 1), "9", "10", "preview", "all");
+        List<Object> covered = page(List.of("post:all", "post:count"), "since", String.valueOf(SCORE), "10", "10", "preview", "all");
+        List<Object> latest = page(List.of("post:all", "post:count"), "since", "", "", "10", "preview", "all");
+
+        //Then
+        assertThat(truncated.get(0)).isEqualTo(-1L);
+        assertThat(covered.get(0)).isEqualTo(5L);
+        assertThat(ids(covered)).containsExactly("11");
+        assertThat(ids(latest)).containsExactly("11");
+    }
+
+    @DisplayName("hot window 시작 score가 주어지면 아직 제거되지 않은 기간이 지난 게시글은 조회하지 않고 세지도 않음")
+    @Test
+    void offsetAndCursor_SkipExpiredPosts_IfMinScoreIsGiven() {
+        //Given
+        addAll("post:all", SCORE + 2, "12");
+        addAll("post:all", SCORE + 1, "11");
+        addAll("post:all", SCORE - 1, "9", "10");
+        String minScore = String.valueOf(SCORE);
+
+        //When
+        List<Object> offset = page(List.of("post:all", "post:count"), "offset", "0", "9", "", "preview", "", minScore);
+        List<Object> cursor = page(List.of("post:all", "post:count"), "cursor", String.valueOf(SCORE + 2), "12", "10", "preview", "", minScore);
+        List<Object> expiredCursor = page(List.of("post:all", "post:count"), "cursor", String.valueOf(SCORE - 1), "10", "10", "preview", "", minScore);
+        List<Object> expiredSince = page(List.of("post:all", "post:count"), "since", String.valueOf(SCORE - 1), "10", "10", "preview", "", minScore);
+
+        //Then
+        assertThat(offset.get(0)).isEqualTo(2L);
+        assertThat(ids(offset)).containsExactly("12", "11");
+        assertThat(ids(cursor)).containsExactly("11");
+        assertThat(ids(expiredCursor)).isEmpty();
+        assertThat(expiredSince.get(0)).isEqualTo(-1L);
+    }
+
+    @DisplayName("피드는 받은 게시글과 팔로워가 많은 작성자의 게시글을 score, ID 내림차순으로 합치고 캐시되지 않은 작성자를 반환")
+    @Test
+    void feed_MergesInboxAndPulledWriters() {
+        //Given
+        addAll(FeedCacheRepository.getInboxKey("reader"), SCORE, "9");
+        addAll(FeedCacheRepository.getInboxKey("reader"), SCORE - 2, "3");
+        addAll("post:user:big", SCORE, "10");
+        addAll("post:user:big", SCORE - 1, "5");
+        stringRedisTemplate.opsForSet().add(FeedCacheRepository.getPullKey("reader"), "*", "big", "uncached");
+
+        //When
+        List<Object> result = page(List.of(FeedCacheRepository.getInboxKey("reader"), "post:count", FeedCacheRepository.getPullKey("reader")),
+                "feed", "0", "2", "", "preview", "");
+        List<Object> secondPage = page(List.of(FeedCacheRepository.getInboxKey("reader"), "post:count", FeedCacheRepository.getPullKey("reader")),
+                "feed", "3", "5", "", "preview", "");
+
+        //Then
+        assertThat(result.get(0)).isEqualTo(4L);
+        assertThat(ids(result)).containsExactly("10", "9", "5");
+        assertThat(ids(secondPage)).containsExactly("3");
+        assertThat(result.get(8)).isEqualTo(List.of("uncached"));
+    }
+
+    @DisplayName("피드가 만들어지지 않았으면 -1")
+    @Test
+    void feed_ReturnsMinusOne_IfFeedIsNotCached() {
+        //When
+        List<Object> result = page(List.of(FeedCacheRepository.getInboxKey("reader"), "post:count", FeedCacheRepository.getPullKey("reader")),
+                "feed", "0", "9", "", "preview", "");
+
+        //Then
+        assertThat(result.get(0)).isEqualTo(-1L);
+    }
+
+    @DisplayName("hot window 최대 크기를 넘거나 기간이 지난 게시글은 게시글, 미리보기, 통계, 조회자, 버전, 카테고리에서 함께 제거")
+    @Test
+    void save_EvictsOldestAndExpiredPosts() {
+        //Given
+        long now = System.currentTimeMillis();
+        long expired = now - Duration.ofDays(31).toMillis();
+        addAll("post:all", expired, "50");
+        addAll("post:cat:1", expired, "50");
+        stringRedisTemplate.opsForHash().put("post:category", "50", "post:cat:1");
+        stringRedisTemplate.opsForValue().set("post:50", "expired");
+        stringRedisTemplate.opsForHash().put("post:stats:50", "likes", "1");
+
+        //When
+        for (long postId = 1; postId <= 4; postId++) {
+            postCacheRepository.save(post(postId, now - 10 + postId));
+            stringRedisTemplate.opsForSet().add("post:" + postId + ":viewers", "viewer");
+        }
+
+        //Then
+        assertThat(stringRedisTemplate.opsForZSet().reverseRange("post:all", 0, -1)).containsExactly("4", "3", "2");
+        assertThat(stringRedisTemplate.opsForZSet().reverseRange("post:cat:1", 0, -1)).containsExactly("4", "3", "2");
+        assertThat(stringRedisTemplate.hasKey("post:50")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("post:stats:50")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("post:1")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("post:1:preview")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("post:stats:1")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("post:1:viewers")).isFalse();
+        assertThat(stringRedisTemplate.opsForHash().hasKey("post:category", "1")).isFalse();
+        assertThat(postCacheRepository.findVersions(0, Long.MAX_VALUE)).containsOnlyKeys(2L, 3L, 4L);
+        assertThat(stringRedisTemplate.hasKey("post:4")).isTrue();
+        assertThat(stringRedisTemplate.opsForHash().get("post:stats:4", "likes")).isEqualTo("0");
+    }
+
+    @DisplayName("게시글의 카테고리를 바꾸면 카테고리별 게시글 ID와 게시글 수를 옮김")
+    @Test
+    void modify_MovesPostToNewCategory() {
+        //Given
+        Post post = post(1L, System.currentTimeMillis());
+        postCacheRepository.save(post);
+
+        Category category = Category.of("맛집 게시판", null);
+        ReflectionTestUtils.setField(category, "id", 2L);
+        ReflectionTestUtils.setField(post, "category", category);
+
+        //When
+        postCacheRepository.modify(post, 1L);
+
+        //Then
+        assertThat(stringRedisTemplate.opsForZSet().range("post:cat:1", 0, -1)).isEmpty();
+        assertThat(stringRedisTemplate.opsForZSet().range("post:cat:2", 0, -1)).containsExactly("1");
+        assertThat(stringRedisTemplate.opsForHash().get("post:category", "1")).isEqualTo("post:cat:2");
+        assertThat(postCacheRepository.findCount(1L)).isZero();
+        assertThat(postCacheRepository.findCount(2L)).isEqualTo(1L);
+        assertThat(postCacheRepository.findCount(null)).isEqualTo(1L);
+    }
+
+    @DisplayName("post-checksum.lua의 체크섬은 같은 범위의 버전으로 계산한 RangeChecksum과 같음")
+    @Test
+    void checksum_MatchesRangeChecksum() {
+        //Given
+        long now = System.currentTimeMillis();
+        postCacheRepository.save(post(2L, now - 3));
+        postCacheRepository.save(post(7L, now - 2));
+        postCacheRepository.save(post(5_000_000L, now - 1));
+
+        //When & Then
+        assertThat(postCacheRepository.findChecksum(0, Long.MAX_VALUE)).isEqualTo(RangeChecksum.of(postCacheRepository.findVersions(0, Long.MAX_VALUE)));
+        assertThat(postCacheRepository.findChecksum(2, 7)).isEqualTo(RangeChecksum.of(postCacheRepository.findVersions(2, 7)));
+        assertThat(postCacheRepository.findChecksum(2, 7).count()).isEqualTo(1);
+        assertThat(postCacheRepository.findChecksum(7, 10)).isEqualTo(new RangeChecksum(0, 0, 0));
+    }
+
+    private Post post(Long postId, long createdAt) {
+        Post post = PostFixture.get(postId, "title" + postId, "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post, "createdAt", new Timestamp(createdAt));
+        ReflectionTestUtils.setField(post, "modifiedAt", new Timestamp(createdAt + postId));
+        return post;
+    }
+
+    private void addAll(String key, long score, String... members) {
+        for (String member : members) {
+            stringRedisTemplate.opsForZSet().add(key, member, score);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> page(List<String> keys, String... args) {
+        return stringRedisTemplate.execute(POST_PAGE_SCRIPT, keys, (Object[]) args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> ids(List<Object> result) {
+        return (List<String>) result.get(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> scores(List<Object> result) {
+        return (List<String>) result.get(2);
+    }
+}
@@ -0,0 +1,123 @@
+package com.been.foodieserver.repository.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PostVersionCacheRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PostVersionCacheRepository postVersionCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        postVersionCacheRepository = new PostVersionCacheRepository(stringRedisTemplate);
+        ReflectionTestUtils.setField(postVersionCacheRepository, "ttl", Duration.ofDays(1));
+    }
+
+    @DisplayName("게시글 목록 버전이 있으면 GET으로만 조회")
+    @Test
+    void getListVersion_ReadsWithGetOnly() {
+        //Given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:all:version")).willReturn("1700000000000");
+
+        //When
+        Long version = postVersionCacheRepository.getListVersion();
+
+        //Then
+        assertThat(version).isEqualTo(1700000000000L);
+        then(valueOperations).shouldHaveNoMoreInteractions();
+    }
+
+    @DisplayName("게시글 버전이 만료되었으면 SET NX로 현재 시각을 만료 시간과 함께 버전으로 만듦")
+    @Test
+    void getVersion_CreatesVersion_IfVersionDoesNotExist() {
+        //Given
+        long now = System.currentTimeMillis();
+
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:1:version")).willReturn(null);
+        given(valueOperations.setIfAbsent(eq("post:1:version"), anyString(), eq(Duration.ofDays(1)))).willReturn(true);
+
+        //When
+        Long version = postVersionCacheRepository.getVersion(1L);
+
+        //Then
+        assertThat(version).isBetween(now, System.currentTimeMillis());
+    }
+
+    @DisplayName("다른 서버가 먼저 버전을 만들었으면 그 버전을 반환")
+    @Test
+    void getListVersion_ReturnsOtherVersion_IfSetIfAbsentFails() {
+        //Given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("post:all:version")).willReturn(null, "1700000000000");
+        given(valueOperations.setIfAbsent(eq("post:all:version"), anyString())).willReturn(false);
+
+        //When
+        Long version = postVersionCacheRepository.getListVersion();
+
+        //Then
+        assertThat(version).isEqualTo(1700000000000L);
+    }
+
+    @DisplayName("게시글 저장/수정/삭제 시 게시글 목록 버전과 게시글 버전을 함께 올림")
+    @Test
+    void bump_BumpsListAndPostVersions() {
+        //When
+        postVersionCacheRepository.bump(List.of(1L, 2L));
+
+        //Then
+        then(stringRedisTemplate).should().execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("post:all:version", "post:all:version:stale", "post:1:version", "post:2:version")),
+                eq("86400000"), eq("list"));
+    }
+
+    @DisplayName("좋아요/댓글 수가 바뀌면 게시글 버전만 올리고 목록 버전은 모아서 올리도록 표시")
+    @Test
+    void bumpPost_DefersListVersion() {
+        //When
+        postVersionCacheRepository.bumpPost(1L);
+
+        //Then
+        then(stringRedisTemplate).should().execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("post:all:version", "post:all:version:stale", "post:1:version")),
+                eq("86400000"), eq("posts"));
+    }
+
+    @DisplayName("표시된 좋아요/댓글 수 변경이 있어 목록 버전을 올렸으면 true")
+    @Test
+    void flushListVersion_ReturnsTrue_IfListVersionIsBumped() {
+        //Given
+        given(stringRedisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("post:all:version", "post:all:version:stale")), eq("86400000"), eq("flush")))
+                .willReturn(1L);
+
+        //When
+        boolean bumped = postVersionCacheRepository.flushListVersion();
+
+        //Then
+        assertThat(bumped).isTrue();
+    }
+}
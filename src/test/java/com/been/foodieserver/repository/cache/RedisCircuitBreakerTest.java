@@ -0,0 +1,204 @@
+package com.been.foodieserver.repository.cache;
+
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker.State;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    private MeterRegistry meterRegistry;
+    private RedisCircuitBreaker redisCircuitBreaker;
+    private AtomicInteger redisCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisCircuitBreaker = new RedisCircuitBreaker(meterRegistry);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "windowSize", 4);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "minimumCalls", 2);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "slowCallDuration", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openDuration", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(redisCircuitBreaker, "halfOpenCalls", 2);
+        ReflectionTestUtils.setField(redisCircuitBreaker, "maxConcurrentFallbacks", 1);
+        redisCircuitBreaker.init();
+        redisCalls = new AtomicInteger();
+    }
+
+    @DisplayName("Redis 호출이 성공하면 fallback을 실행하지 않음")
+    @Test
+    void call_ReturnsCacheResult_IfRedisSucceeds() {
+        //When
+        String result = redisCircuitBreaker.call("test", success(), () -> "db");
+
+        //Then
+        assertThat(result).isEqualTo("cache");
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("Redis 호출이 실패하면 fallback 결과를 반환하고, 실패율이 기준 이상이면 서킷을 열어 Redis를 호출하지 않음")
+    @Test
+    void call_OpensCircuit_IfFailureRateExceedsThreshold() {
+        //When
+        String first = redisCircuitBreaker.call("test", failure(), () -> "db");
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+        String afterOpen = redisCircuitBreaker.call("test", failure(), () -> "db");
+
+        //Then
+        assertThat(first).isEqualTo("db");
+        assertThat(afterOpen).isEqualTo("db");
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(redisCalls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("cache.redis.fallback", "name", "test").count()).isEqualTo(3);
+    }
+
+    @DisplayName("성공한 호출이 많으면 실패가 있어도 서킷을 열지 않음")
+    @Test
+    void call_KeepsCircuitClosed_IfFailureRateIsBelowThreshold() {
+        //When
+        redisCircuitBreaker.call("test", success(), () -> "db");
+        redisCircuitBreaker.call("test", success(), () -> "db");
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+
+        //Then
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("느린 Redis 호출은 결과를 반환하지만 실패로 셈")
+    @Test
+    void call_CountsSlowCallAsFailure() {
+        //Given
+        ReflectionTestUtils.setField(redisCircuitBreaker, "slowCallDuration", Duration.ofMillis(1));
+        Supplier<String> slow = () -> {
+            sleep(10);
+            return "cache";
+        };
+
+        //When
+        String result = redisCircuitBreaker.call("test", slow, () -> "db");
+        redisCircuitBreaker.call("test", slow, () -> "db");
+
+        //Then
+        assertThat(result).isEqualTo("cache");
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @DisplayName("open-duration이 지나면 시험 호출이 모두 성공할 때 서킷을 닫음")
+    @Test
+    void call_ClosesCircuit_IfHalfOpenCallsSucceed() {
+        //Given
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openDuration", Duration.ZERO);
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+
+        //When
+        redisCircuitBreaker.call("test", success(), () -> "db");
+        State halfOpen = redisCircuitBreaker.getState();
+        redisCircuitBreaker.call("test", success(), () -> "db");
+
+        //Then
+        assertThat(halfOpen).isEqualTo(State.HALF_OPEN);
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("시험 호출이 실패하면 다시 서킷을 엶")
+    @Test
+    void call_ReopensCircuit_IfHalfOpenCallFails() {
+        //Given
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openDuration", Duration.ZERO);
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+        redisCircuitBreaker.call("test", success(), () -> "db");
+
+        //When
+        String result = redisCircuitBreaker.call("test", failure(), () -> "db");
+
+        //Then
+        assertThat(result).isEqualTo("db");
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @DisplayName("Redis 장애가 아닌 예외는 결과로 세지 않고 시험 호출 허가를 돌려줌")
+    @Test
+    void call_ReleasesHalfOpenPermit_IfCallThrowsNonRedisException() {
+        //Given
+        ReflectionTestUtils.setField(redisCircuitBreaker, "openDuration", Duration.ZERO);
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+        redisCircuitBreaker.call("test", failure(), () -> "db");
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> redisCircuitBreaker.call("test", () -> {
+                throw new IllegalStateException("not a redis failure");
+            }, () -> "db")).isInstanceOf(IllegalStateException.class);
+        }
+        redisCircuitBreaker.call("test", success(), () -> "db");
+        redisCircuitBreaker.call("test", success(), () -> "db");
+
+        //Then
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(redisCalls.get()).isEqualTo(4);
+    }
+
+    @DisplayName("동시에 실행 중인 fallback이 max-concurrent개면 DB를 조회하지 않고 거절")
+    @Test
+    void call_ShedsLoad_IfTooManyFallbacksAreRunning() {
+        //Given
+        AtomicInteger dbCalls = new AtomicInteger();
+
+        //When & Then
+        assertThatThrownBy(() -> redisCircuitBreaker.call("test", failure(), () -> {
+            dbCalls.incrementAndGet();
+            return redisCircuitBreaker.call("test", failure(), () -> {
+                dbCalls.incrementAndGet();
+                return "db";
+            });
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.SERVICE_UNAVAILABLE.getMessage());
+        assertThat(dbCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.redis.shed", "name", "test").count()).isEqualTo(1);
+
+        //fallback이 끝나면 다시 실행할 수 있다.
+        assertThat(redisCircuitBreaker.call("test", failure(), () -> "db")).isEqualTo("db");
+    }
+
+    private Supplier<String> success() {
+        return () -> {
+            redisCalls.incrementAndGet();
+            return "cache";
+        };
+    }
+
+    private Supplier<String> failure() {
+        return () -> {
+            if (redisCalls.incrementAndGet() % 2 == 0) {
+                throw new QueryTimeoutException("Redis command timed out");
+            }
+            throw new RedisConnectionFailureException("Unable to connect to Redis");
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.RangeChecksum;
+import com.been.foodieserver.dto.VersionDto;
+import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.fixture.UserFixture;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.repository.cache.ReconcileCacheRepository;
+import com.been.foodieserver.repository.cache.UserCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class CacheReconcileServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private PostCacheRepository postCacheRepository;
+
+    @Mock
+    private PostStatsCacheRepository postStatsCacheRepository;
+
+    @Mock
+    private UserCacheRepository userCacheRepository;
+
+    @Mock
+    private ReconcileCacheRepository reconcileCacheRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private CacheReconcileService cacheReconcileService;
+
+    private final Timestamp windowStart = new Timestamp(0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheReconcileService = new CacheReconcileService(postRepository, userRepository, commentRepository, likeRepository,
+                postCacheRepository, postStatsCacheRepository, userCacheRepository, reconcileCacheRepository, meterRegistry);
+
+        ReflectionTestUtils.setField(cacheReconcileService, "enabled", true);
+        ReflectionTestUtils.setField(cacheReconcileService, "rangeSize", 10L);
+        ReflectionTestUtils.setField(cacheReconcileService, "rangesPerRun", 1);
+        ReflectionTestUtils.setField(cacheReconcileService, "maxRepairsPerRun", 100);
+        ReflectionTestUtils.setField(cacheReconcileService, "settleTime", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cacheReconcileService, "lockTtl", Duration.ofMinutes(5));
+
+        given(reconcileCacheRepository.tryLock(anyString(), any(Duration.class))).willReturn(true);
+        given(postCacheRepository.getHotWindowStart()).willReturn(windowStart);
+    }
+
+    @DisplayName("락을 잡지 못하면 비교하지 않음")
+    @Test
+    void reconcile_DoesNothing_IfLockIsNotAcquired() {
+        //Given
+        given(reconcileCacheRepository.tryLock(anyString(), any(Duration.class))).willReturn(false);
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(postRepository).shouldHaveNoInteractions();
+        then(postCacheRepository).shouldHaveNoInteractions();
+        then(reconcileCacheRepository).should(never()).unlock(anyString());
+    }
+
+    @DisplayName("게시글 범위의 체크섬이 같으면 게시글을 비교하지 않고 다음 범위로 넘어감")
+    @Test
+    void reconcile_SkipsPostRange_IfChecksumsMatch() {
+        //Given
+        given(postRepository.findMaxIdByCreatedAtBefore(any(Timestamp.class))).willReturn(Optional.of(10L));
+        given(postCacheRepository.findLowestCachedId()).willReturn(1L);
+        given(postRepository.findVersionsInRange(0L, 10L, windowStart)).willReturn(List.of(new VersionDto(1L, new Timestamp(100))));
+        given(postCacheRepository.findChecksum(0L, 10L)).willReturn(RangeChecksum.of(Map.of(1L, 100L)));
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(postCacheRepository).should(never()).findVersions(anyLong(), anyLong());
+        then(postCacheRepository).should(never()).saveAll(anyList(), any(), any());
+        then(reconcileCacheRepository).should().saveCursor(CacheReconcileService.TARGET_POST, 10L);
+        then(reconcileCacheRepository).should().unlock(anyString());
+        assertThat(meterRegistry.counter("cache.reconcile.ranges", "target", "post", "result", "match").count()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글 범위의 체크섬이 다르면 없는 게시글은 저장, 오래된 게시글은 수정, DB에서 삭제된 게시글은 캐시에서 삭제")
+    @Test
+    void reconcile_RepairsOnlyDriftedPosts_IfChecksumsDiffer() {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+
+        given(postRepository.findMaxIdByCreatedAtBefore(any(Timestamp.class))).willReturn(Optional.of(10L));
+        given(postCacheRepository.findLowestCachedId()).willReturn(1L);
+        given(postRepository.findVersionsInRange(0L, 10L, windowStart))
+                .willReturn(List.of(new VersionDto(1L, new Timestamp(200)), new VersionDto(2L, new Timestamp(300))));
+        given(postCacheRepository.findChecksum(0L, 10L)).willReturn(RangeChecksum.of(Map.of(1L, 100L, 3L, 50L)));
+        given(postCacheRepository.findVersions(0L, 10L)).willReturn(Map.of(1L, 100L, 3L, 50L));
+        given(postRepository.findIdsByIdIn(List.of(3L))).willReturn(List.of());
+        given(postCacheRepository.findCachedCategoryIds(anyList())).willReturn(Map.of(1L, 1L));
+        given(postRepository.findAllWithUserAndCategoryByIdIn(anyList())).willReturn(List.of(post1, post2));
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(postCacheRepository).should().modify(post1, 1L);
+        then(postCacheRepository).should().saveAll(List.of(post2), Map.of(), Map.of());
+        then(postCacheRepository).should().deleteAll(List.of(3L));
+        assertThat(meterRegistry.counter("cache.reconcile.ranges", "target", "post", "result", "drift").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.reconcile.repaired", "target", "post").count()).isEqualTo(3);
+    }
+
+    @DisplayName("캐시된 게시글이 DB보다 최신이면 커밋 전일 수 있어 고치지 않음")
+    @Test
+    void reconcile_DoesNotRepairPost_IfCacheIsNewer() {
+        //Given
+        given(postRepository.findMaxIdByCreatedAtBefore(any(Timestamp.class))).willReturn(Optional.of(10L));
+        given(postCacheRepository.findLowestCachedId()).willReturn(1L);
+        given(postRepository.findVersionsInRange(0L, 10L, windowStart)).willReturn(List.of(new VersionDto(1L, new Timestamp(100))));
+        given(postCacheRepository.findChecksum(0L, 10L)).willReturn(RangeChecksum.of(Map.of(1L, 200L)));
+        given(postCacheRepository.findVersions(0L, 10L)).willReturn(Map.of(1L, 200L));
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(postRepository).should(never()).findAllWithUserAndCategoryByIdIn(anyList());
+        then(postCacheRepository).should(never()).deleteAll(anyList());
+    }
+
+    @DisplayName("캐시되지 않았거나 오래된 유저는 다시 저장하고, 탈퇴한 유저는 캐시에서 삭제")
+    @Test
+    void reconcile_RepairsDriftedUsers() {
+        //Given
+        User user1 = UserFixture.get(1L, "user1");
+        User user2 = UserFixture.get(2L, "user2");
+        User withdrawn = UserFixture.get(3L, "user3");
+        ReflectionTestUtils.setField(user1, "modifiedAt", new Timestamp(100));
+
+        given(userRepository.findMaxId()).willReturn(Optional.of(3L));
+        given(userRepository.findVersionsInRange(0L, 3L))
+                .willReturn(List.of(new VersionDto(1L, "user1", new Timestamp(100)), new VersionDto(2L, "user2", new Timestamp(200))));
+        given(userRepository.findDeletedLoginIdsInRange(0L, 3L)).willReturn(List.of("user3"));
+        given(userCacheRepository.findAllByLoginIds(List.of("user1", "user2", "user3"))).willReturn(Map.of("user1", user1, "user3", withdrawn));
+        given(userRepository.findAllById(List.of(2L))).willReturn(List.of(user2));
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(userCacheRepository).should().save(user2);
+        then(userCacheRepository).should(never()).save(user1);
+        then(userCacheRepository).should().deleteByLoginId("user3");
+        then(reconcileCacheRepository).should().saveCursor(CacheReconcileService.TARGET_USER, 3L);
+        assertThat(meterRegistry.counter("cache.reconcile.repaired", "target", "user").count()).isEqualTo(2);
+    }
+
+    @DisplayName("hot window에 캐시된 게시글 중 댓글 수가 다른 게시글만 다시 센 댓글 수로 고침")
+    @Test
+    void reconcile_RepairsDriftedCommentCounts() {
+        //Given
+        given(postRepository.findMaxIdByCreatedAtBefore(any(Timestamp.class))).willReturn(Optional.of(10L));
+        given(postCacheRepository.findLowestCachedId()).willReturn(1L);
+        given(postCacheRepository.findChecksum(0L, 10L)).willReturn(RangeChecksum.of(Map.of()));
+        given(postCacheRepository.findCachedIds(0L, 10L)).willReturn(List.of(2L));
+        given(commentRepository.countGroupByPostIdInRange(0L, 10L)).willReturn(List.of(new PostCountDto(1L, 3L), new PostCountDto(2L, 1L)));
+        given(postStatsCacheRepository.findCommentCounts(List.of(2L))).willReturn(Map.of(2L, 5L));
+        given(commentRepository.countGroupByPostIdIn(List.of(2L))).willReturn(List.of(new PostCountDto(2L, 2L)));
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(postStatsCacheRepository).should().saveCommentCounts(Map.of(2L, 2L));
+        then(reconcileCacheRepository).should().saveCursor(CacheReconcileService.TARGET_COMMENT, 10L);
+    }
+
+    @DisplayName("캐시된 게시글이 없으면 댓글 수를 비교하지 않음")
+    @Test
+    void reconcile_SkipsCommentCounts_IfNoPostIsCached() {
+        //Given
+        given(postRepository.findMaxIdByCreatedAtBefore(any(Timestamp.class))).willReturn(Optional.of(10L));
+        given(postCacheRepository.findLowestCachedId()).willReturn(null);
+
+        //When
+        cacheReconcileService.reconcile();
+
+        //Then
+        then(commentRepository).shouldHaveNoInteractions();
+        then(postStatsCacheRepository).shouldHaveNoInteractions();
+    }
+}
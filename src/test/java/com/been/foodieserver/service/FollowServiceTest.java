@@ -3,6 +3,7 @@ package com.been.foodieserver.service;
 import com.been.foodieserver.domain.Follow;
 import com.been.foodieserver.domain.Role;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.FollowerSummaryDto;
 import com.been.foodieserver.dto.NotificationEventDto;
 import com.been.foodieserver.dto.response.FollowResponse;
 import com.been.foodieserver.dto.response.FollowerResponse;
@@ -13,19 +14,26 @@ import com.been.foodieserver.fixture.UserFixture;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.FollowRepository;
 import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.FeedCacheRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -51,6 +59,12 @@ class FollowServiceTest {
     @Mock
     private NotificationProducer notificationProducer;
 
+    @Mock
+    private FeedCacheRepository feedCacheRepository;
+
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private FollowService followService;
 
@@ -62,6 +76,9 @@ class FollowServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
         followerLoginId = "follower";
         followeeLoginId = "followee";
 
@@ -80,11 +97,11 @@ class FollowServiceTest {
         int pageNum = 1;
         int pageSize = 10;
 
-        List<Follow> content = List.of(follow2, follow1);
+        List<FollowerSummaryDto> content = List.of(FollowFixture.getSummary(follow2), FollowFixture.getSummary(follow1));
         Pageable pageable = PageRequest.of(pageNum - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Follow> followPage = new PageImpl<>(content, pageable, content.size());
+        Slice<FollowerSummaryDto> followSlice = new SliceImpl<>(content, pageable, false);
 
-        given(followRepository.findAllWithFollowerAndFolloweeByFollowee_LoginId(eq(loginId), any(Pageable.class))).willReturn(followPage);
+        given(followRepository.findSummariesByFolloweeLoginId(eq(loginId), any(Pageable.class))).willReturn(followSlice);
 
         //When
         Page<FollowerResponse> result = followService.getFollowerList(loginId, pageNum, pageSize);
@@ -96,7 +113,7 @@ class FollowServiceTest {
         assertThat(result.getSize()).isEqualTo(pageSize);
         assertThat(result.getContent().get(0).getLoginId()).isEqualTo(follow2.getFollower().getLoginId());
 
-        then(followRepository).should().findAllWithFollowerAndFolloweeByFollowee_LoginId(eq(loginId), any(Pageable.class));
+        then(followRepository).should().findSummariesByFolloweeLoginId(eq(loginId), any(Pageable.class));
     }
 
     @DisplayName("팔로우할 유저 로그인 아이디가 유효하면 팔로우 성공")
@@ -122,6 +139,7 @@ class FollowServiceTest {
         then(userRepository).should().findByLoginId(followerLoginId);
         then(followRepository).should().save(any(Follow.class));
         then(notificationProducer).should().send(any(NotificationEventDto.class));
+        then(feedCacheRepository).should().delete(followerLoginId);
     }
 
     @DisplayName("팔로우 시 팔로우할 유저 로그인 아이디가 존재하지 않으면 예외 발생")
@@ -195,6 +213,7 @@ class FollowServiceTest {
 
         then(followRepository).should().existsByFollower_LoginIdAndFollowee_LoginId(followerLoginId, followeeLoginId);
         then(followRepository).should().deleteByFollower_LoginIdAndFollowee_LoginId(followerLoginId, followeeLoginId);
+        then(feedCacheRepository).should().delete(followerLoginId);
     }
 
     @DisplayName("언팔로우 시 팔로우하지 않은 유저를 언팔로우하면 예외 발생")
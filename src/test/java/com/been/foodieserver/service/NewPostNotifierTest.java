@@ -0,0 +1,89 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.dto.response.NewPostEventResponse;
+import com.been.foodieserver.fixture.PostFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class NewPostNotifierTest {
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private SseService sseService;
+
+    private NewPostNotifier newPostNotifier;
+
+    @BeforeEach
+    void setUp() {
+        newPostNotifier = new NewPostNotifier(stringRedisTemplate, sseService);
+        ReflectionTestUtils.setField(newPostNotifier, "enabled", true);
+    }
+
+    @DisplayName("새 게시글을 모든 서버에 알림")
+    @Test
+    void publish() {
+        //When
+        newPostNotifier.publish(PostFixture.get(1L, "title", "writer", "자유 게시판"));
+
+        //Then
+        then(stringRedisTemplate).should().convertAndSend(NewPostNotifier.NEW_POST_TOPIC.getTopic(), "1");
+    }
+
+    @DisplayName("비활성화되어 있으면 알리지 않음")
+    @Test
+    void publish_DoesNothing_IfDisabled() {
+        //Given
+        ReflectionTestUtils.setField(newPostNotifier, "enabled", false);
+
+        //When
+        newPostNotifier.publish(PostFixture.get(1L, "title", "writer", "자유 게시판"));
+
+        //Then
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("주기 동안 모인 새 게시글 수를 이벤트 한 번으로 보냄")
+    @Test
+    void flush_SendsCoalescedCount() {
+        //Given
+        newPostNotifier.onMessage(mock(Message.class), null);
+        newPostNotifier.onMessage(mock(Message.class), null);
+        newPostNotifier.onMessage(mock(Message.class), null);
+
+        //When
+        newPostNotifier.flush();
+        newPostNotifier.flush();
+
+        //Then
+        ArgumentCaptor<NewPostEventResponse> captor = ArgumentCaptor.forClass(NewPostEventResponse.class);
+        then(sseService).should().broadcast(eq("new-posts"), captor.capture());
+        then(sseService).shouldHaveNoMoreInteractions();
+        assertThat(captor.getValue().getCount()).isEqualTo(3);
+    }
+
+    @DisplayName("새 게시글이 없으면 이벤트를 보내지 않음")
+    @Test
+    void flush_DoesNothing_IfNoNewPosts() {
+        //When
+        newPostNotifier.flush();
+
+        //Then
+        then(sseService).shouldHaveNoInteractions();
+    }
+}
@@ -3,21 +3,28 @@ package com.been.foodieserver.service;
 import com.been.foodieserver.domain.Notification;
 import com.been.foodieserver.domain.NotificationType;
 import com.been.foodieserver.domain.User;
+import com.been.foodieserver.dto.NotificationSummaryDto;
 import com.been.foodieserver.dto.response.NotificationResponse;
 import com.been.foodieserver.fixture.NotificationFixture;
 import com.been.foodieserver.fixture.UserFixture;
 import com.been.foodieserver.repository.NotificationRepository;
-import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,15 +36,22 @@ import static org.mockito.BDDMockito.then;
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private NotificationService notificationService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
+    }
+
     @DisplayName("알림 목록 조회 요청이 유효하면 알림 목록 조회 성공")
     @Test
     void getNotificationList_IfRequestIsValid() {
@@ -49,14 +63,14 @@ class NotificationServiceTest {
         Notification notification1 = NotificationFixture.get(1L, receiver, NotificationType.NEW_COMMENT_ON_POST, fromUser1.getId(), 1L);
         Notification notification2 = NotificationFixture.get(2L, receiver, NotificationType.NEW_FOLLOW, fromUser2.getId(), 1L);
 
-        List<Notification> content = List.of(notification2, notification1);
-        Page<Notification> notificationPage = new PageImpl<>(content);
+        List<NotificationSummaryDto> content = List.of(NotificationFixture.getSummary(notification2, fromUser2.getNickname()),
+                NotificationFixture.getSummary(notification1, fromUser1.getNickname()));
+        Slice<NotificationSummaryDto> notificationSlice = new SliceImpl<>(content);
 
         int pageNum = 1;
         int pageSize = content.size();
 
-        given(notificationRepository.findAllWithReceiverByReceiver_LoginId(any(Pageable.class), eq(receiver.getLoginId()))).willReturn(notificationPage);
-        given(userRepository.findAllById(List.of(fromUser2.getId(), fromUser1.getId()))).willReturn(List.of(fromUser2, fromUser1));
+        given(notificationRepository.findSummariesByReceiverLoginId(any(Pageable.class), eq(receiver.getLoginId()))).willReturn(notificationSlice);
 
         //When
         Page<NotificationResponse> result = notificationService.getNotificationList(receiver.getLoginId(), pageNum, pageSize);
@@ -70,11 +84,10 @@ class NotificationServiceTest {
         assertThat(result.getContent().get(0).getContent()).isEqualTo(String.format(notification2.getType().getNotificationText(), fromUser2.getNickname()));
         assertThat(result.getContent().get(1).getContent()).isEqualTo(String.format(notification1.getType().getNotificationText(), fromUser1.getNickname()));
 
-        then(notificationRepository).should().findAllWithReceiverByReceiver_LoginId(any(Pageable.class), eq(receiver.getLoginId()));
-        then(userRepository).should().findAllById(List.of(fromUser2.getId(), fromUser1.getId()));
+        then(notificationRepository).should().findSummariesByReceiverLoginId(any(Pageable.class), eq(receiver.getLoginId()));
     }
 
-    @DisplayName("알림 목록 조회 시 알림을 발생시킨 유저가 조회되지 않으면 Unknown User로 표기")
+    @DisplayName("알림 목록 조회 시 알림을 발생시킨 유저의 닉네임이 조회되지 않으면 Unknown User로 표기")
     @Test
     void markUnknownUser_IfFromUserNotFound_WhenGettingNotificationList() {
         //Given
@@ -85,14 +98,14 @@ class NotificationServiceTest {
         Notification notification1 = NotificationFixture.get(1L, receiver, NotificationType.NEW_COMMENT_ON_POST, fromUser1.getId(), 1L);
         Notification notification2 = NotificationFixture.get(2L, receiver, NotificationType.NEW_FOLLOW, UnknownFromUserId, 1L);
 
-        List<Notification> content = List.of(notification2, notification1);
-        Page<Notification> notificationPage = new PageImpl<>(content);
+        List<NotificationSummaryDto> content = List.of(NotificationFixture.getSummary(notification2, null),
+                NotificationFixture.getSummary(notification1, fromUser1.getNickname()));
+        Slice<NotificationSummaryDto> notificationSlice = new SliceImpl<>(content);
 
         int pageNum = 1;
         int pageSize = content.size();
 
-        given(notificationRepository.findAllWithReceiverByReceiver_LoginId(any(Pageable.class), eq(receiver.getLoginId()))).willReturn(notificationPage);
-        given(userRepository.findAllById(List.of(UnknownFromUserId, fromUser1.getId()))).willReturn(List.of(fromUser1));
+        given(notificationRepository.findSummariesByReceiverLoginId(any(Pageable.class), eq(receiver.getLoginId()))).willReturn(notificationSlice);
 
         //When
         Page<NotificationResponse> result = notificationService.getNotificationList(receiver.getLoginId(), pageNum, pageSize);
@@ -106,7 +119,6 @@ class NotificationServiceTest {
         assertThat(result.getContent().get(0).getContent()).isEqualTo(String.format(notification2.getType().getNotificationText(), "Unknown User"));
         assertThat(result.getContent().get(1).getContent()).isEqualTo(String.format(notification1.getType().getNotificationText(), fromUser1.getNickname()));
 
-        then(notificationRepository).should().findAllWithReceiverByReceiver_LoginId(any(Pageable.class), eq(receiver.getLoginId()));
-        then(userRepository).should().findAllById(List.of(UnknownFromUserId, fromUser1.getId()));
+        then(notificationRepository).should().findSummariesByReceiverLoginId(any(Pageable.class), eq(receiver.getLoginId()));
     }
 }
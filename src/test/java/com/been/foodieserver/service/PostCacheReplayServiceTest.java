@@ -0,0 +1,210 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.domain.PostEventType;
+import com.been.foodieserver.dto.CategoryPostCountDto;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.PostEventDto;
+import com.been.foodieserver.dto.response.WarmUpStatusResponse;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.repository.cache.PostReplayCacheRepository;
+import com.been.foodieserver.repository.cache.PostReplayCacheRepository.ReplayState;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class PostCacheReplayServiceTest {
+
+    private static final String TOPIC = "post.events";
+
+    @Mock
+    private ConsumerFactory<Long, PostEventDto> consumerFactory;
+
+    @Mock
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostCacheRepository postCacheRepository;
+
+    @Mock
+    private PostReplayCacheRepository postReplayCacheRepository;
+
+    @Mock
+    private PostPageNearCache postPageNearCache;
+
+    @InjectMocks
+    private PostCacheReplayService postCacheReplayService;
+
+    @Mock
+    private Consumer<Long, PostEventDto> offsetConsumer;
+
+    @Mock
+    private Consumer<Long, PostEventDto> consumer;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postCacheReplayService, "topic", TOPIC);
+
+        given(consumerFactory.createConsumer()).willReturn(offsetConsumer);
+        given(offsetConsumer.partitionsFor(TOPIC)).willReturn(List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        given(kafkaListenerEndpointRegistry.getListenerContainer(PostCacheReplayService.LISTENER_ID)).willReturn(container);
+    }
+
+    @DisplayName("게시글 토픽이 비어 있으면 재생하지 않고 바로 완료")
+    @Test
+    void start_Completes_IfTopicIsEmpty() {
+        //Given
+        given(offsetConsumer.endOffsets(List.of(partition))).willReturn(Map.of(partition, 0L));
+
+        //When
+        WarmUpStatusResponse result = postCacheReplayService.start();
+
+        //Then
+        assertThat(result.getState()).isEqualTo("COMPLETED");
+        then(container).should(never()).start();
+    }
+
+    @DisplayName("재생 중이면 다시 시작할 수 없음")
+    @Test
+    void start_ThrowsException_IfAlreadyRunning() {
+        //Given
+        given(offsetConsumer.endOffsets(List.of(partition))).willReturn(Map.of(partition, 3L));
+        postCacheReplayService.start();
+
+        //When & Then
+        assertThatThrownBy(() -> postCacheReplayService.start())
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.REPLAY_ALREADY_RUNNING.getMessage());
+        then(container).should().start();
+    }
+
+    @DisplayName("게시글별 마지막 버전만 통계와 함께 반영하고, 이미 반영한 버전보다 오래된 이벤트는 건너뛰고, 끝까지 읽으면 게시글 수를 DB 기준으로 다시 채움")
+    @Test
+    void apply_AppliesLatestVersionAndCompletes_IfCaughtUp() {
+        //Given
+        given(offsetConsumer.endOffsets(List.of(partition))).willReturn(Map.of(partition, 4L));
+        postCacheReplayService.start();
+
+        Post post1 = withVersion(PostFixture.get(1L, "title1", "writer", "자유 게시판"), 2L);
+        Post post1Old = withVersion(PostFixture.get(1L, "title1 old", "writer", "자유 게시판"), 1L);
+        Post post3 = withVersion(PostFixture.get(3L, "title3", "writer", "자유 게시판"), 3L);
+
+        List<ConsumerRecord<Long, PostEventDto>> records = List.of(
+                new ConsumerRecord<>(TOPIC, 0, 0, 1L, PostEventDto.of(PostEventType.CREATED, post1Old)),
+                new ConsumerRecord<>(TOPIC, 0, 1, 1L, PostEventDto.of(PostEventType.MODIFIED, post1)),
+                tombstone(2, 2L, 5L),
+                new ConsumerRecord<>(TOPIC, 0, 3, 3L, PostEventDto.of(PostEventType.CREATED, post3)));
+
+        given(postReplayCacheRepository.findStates(anyCollection())).willReturn(Map.of(3L, new ReplayState(10L, 1L, false)));
+        given(likeRepository.countGroupByPostIdIn(List.of(1L))).willReturn(List.of(new PostCountDto(1L, 3L)));
+        given(commentRepository.countGroupByPostIdIn(List.of(1L))).willReturn(List.of(new PostCountDto(1L, 2L)));
+        given(consumer.assignment()).willReturn(Set.of(partition));
+        given(consumer.position(partition)).willReturn(4L);
+        given(postRepository.count()).willReturn(120L);
+        given(postRepository.countGroupByCategoryId()).willReturn(List.of(new CategoryPostCountDto(1L, 120L)));
+
+        //When
+        postCacheReplayService.apply(records, consumer);
+
+        //Then
+        then(postCacheRepository).should().saveAll(List.of(post1), Map.of(1L, 3L), Map.of(1L, 2L));
+        then(postCacheRepository).should().delete(2L, 1L, "writer");
+        then(postReplayCacheRepository).should().saveStates(Map.of(
+                1L, new ReplayState(2L, 1L, false),
+                2L, new ReplayState(5L, 1L, true)));
+        then(postCacheRepository).should().saveTotalCount(120L);
+        then(postCacheRepository).should().saveCategoryCount(1L, 120L);
+        then(postPageNearCache).should().evictAll();
+        then(container).should().stop(any(Runnable.class));
+
+        WarmUpStatusResponse status = postCacheReplayService.getStatus();
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getLoadedCount()).isEqualTo(2);
+        assertThat(status.getCompletedRanges()).isEqualTo(1);
+    }
+
+    @DisplayName("시작할 때의 토픽 끝까지 읽지 않았으면 재생을 계속함")
+    @Test
+    void apply_KeepsRunning_IfNotCaughtUp() {
+        //Given
+        given(offsetConsumer.endOffsets(List.of(partition))).willReturn(Map.of(partition, 10L));
+        postCacheReplayService.start();
+
+        Post post = withVersion(PostFixture.get(1L, "title1", "writer", "자유 게시판"), 1L);
+        given(postReplayCacheRepository.findStates(anyCollection())).willReturn(Map.of());
+        given(consumer.assignment()).willReturn(Set.of(partition));
+        given(consumer.position(partition)).willReturn(1L);
+
+        //When
+        postCacheReplayService.apply(List.of(new ConsumerRecord<>(TOPIC, 0, 0, 1L, PostEventDto.of(PostEventType.CREATED, post))), consumer);
+
+        //Then
+        assertThat(postCacheReplayService.getStatus().getState()).isEqualTo("RUNNING");
+        then(postRepository).shouldHaveNoInteractions();
+        then(container).should(never()).stop(any(Runnable.class));
+    }
+
+    private Post withVersion(Post post, long version) {
+        ReflectionTestUtils.setField(post, "modifiedAt", new Timestamp(version));
+        return post;
+    }
+
+    private ConsumerRecord<Long, PostEventDto> tombstone(long offset, Long postId, long version) {
+        ConsumerRecord<Long, PostEventDto> record = new ConsumerRecord<>(TOPIC, 0, offset, postId, null);
+        record.headers().add(PostEventDto.VERSION_HEADER, String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(PostEventDto.CATEGORY_ID_HEADER, "1".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(PostEventDto.WRITER_HEADER, "writer".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
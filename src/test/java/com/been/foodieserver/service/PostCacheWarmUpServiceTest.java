@@ -0,0 +1,166 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Post;
+import com.been.foodieserver.dto.CategoryPostCountDto;
+import com.been.foodieserver.dto.PostCountDto;
+import com.been.foodieserver.dto.response.WarmUpStatusResponse;
+import com.been.foodieserver.exception.CustomException;
+import com.been.foodieserver.exception.ErrorCode;
+import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.repository.CategoryRepository;
+import com.been.foodieserver.repository.CommentRepository;
+import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.CategoryCacheRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class PostCacheWarmUpServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CategoryCacheRepository categoryCacheRepository;
+
+    @Mock
+    private PostCacheRepository postCacheRepository;
+
+    @InjectMocks
+    private PostCacheWarmUpService postCacheWarmUpService;
+
+    private final Timestamp windowStart = new Timestamp(0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postCacheWarmUpService, "parallelism", 2);
+        ReflectionTestUtils.setField(postCacheWarmUpService, "chunkSize", 2);
+        postCacheWarmUpService.init();
+
+        given(postCacheRepository.getHotWindowStart()).willReturn(windowStart);
+        given(postCacheRepository.getHotWindowMaxSize()).willReturn(100L);
+        given(categoryRepository.findAll()).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postCacheWarmUpService.shutdown();
+    }
+
+    @DisplayName("게시글 ID 범위를 나눠 청크 단위로 읽고 저장한 뒤 게시글 수를 DB 기준으로 채움")
+    @Test
+    void start_LoadsIdRangesInChunks() throws InterruptedException {
+        //Given
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+        Post post3 = PostFixture.get(3L, "title3", "writer", "자유 게시판");
+        Post post4 = PostFixture.get(4L, "title4", "writer", "자유 게시판");
+        CountDownLatch done = new CountDownLatch(1);
+
+        given(postRepository.findIdsByCreatedAtAfter(windowStart, PageRequest.of(0, 1))).willReturn(List.of(4L));
+        given(postRepository.findIdsByCreatedAtAfter(windowStart, PageRequest.of(99, 1))).willReturn(List.of());
+        given(postRepository.findMinIdByCreatedAtAfter(windowStart)).willReturn(Optional.of(1L));
+        //(0, 2], (2, 4] 범위로 나뉜다.
+        given(postRepository.findChunkWithUserAndCategory(0L, 2L, windowStart, PageRequest.of(0, 2))).willReturn(List.of(post1, post2));
+        given(postRepository.findChunkWithUserAndCategory(2L, 2L, windowStart, PageRequest.of(0, 2))).willReturn(List.of());
+        given(postRepository.findChunkWithUserAndCategory(2L, 4L, windowStart, PageRequest.of(0, 2))).willReturn(List.of(post3, post4));
+        given(postRepository.findChunkWithUserAndCategory(4L, 4L, windowStart, PageRequest.of(0, 2))).willReturn(List.of());
+        given(likeRepository.countGroupByPostIdIn(anyList())).willReturn(List.of(new PostCountDto(1L, 3L)));
+        given(commentRepository.countGroupByPostIdIn(anyList())).willReturn(List.of());
+        given(postRepository.count()).willReturn(4L);
+        given(postRepository.countGroupByCategoryId()).willAnswer(invocation -> {
+            done.countDown();
+            return List.of(new CategoryPostCountDto(1L, 4L));
+        });
+
+        //When
+        WarmUpStatusResponse started = postCacheWarmUpService.start();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        WarmUpStatusResponse status = awaitFinished();
+
+        //Then
+        assertThat(started.getState()).isEqualTo("RUNNING");
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getLoadedCount()).isEqualTo(4);
+        assertThat(status.getCompletedRanges()).isEqualTo(2);
+        assertThat(status.getTotalRanges()).isEqualTo(2);
+        then(postCacheRepository).should().saveAll(List.of(post1, post2), Map.of(1L, 3L), Map.of());
+        then(postCacheRepository).should().saveAll(eq(List.of(post3, post4)), any(), any());
+        then(postCacheRepository).should().saveTotalCount(4L);
+        then(postCacheRepository).should().saveCategoryCount(1L, 4L);
+    }
+
+    @DisplayName("캐시 채우기가 실행 중이면 다시 시작할 수 없음")
+    @Test
+    void start_ThrowsException_IfAlreadyRunning() throws InterruptedException {
+        //Given
+        CountDownLatch release = new CountDownLatch(1);
+        given(postRepository.findIdsByCreatedAtAfter(eq(windowStart), any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        //When
+        postCacheWarmUpService.start();
+
+        //Then
+        assertThatThrownBy(() -> postCacheWarmUpService.start())
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.WARM_UP_ALREADY_RUNNING.getMessage());
+
+        release.countDown();
+        assertThat(awaitFinished().getState()).isEqualTo("COMPLETED");
+        then(postRepository).should(never()).findChunkWithUserAndCategory(anyLong(), anyLong(), any(), any());
+    }
+
+    private WarmUpStatusResponse awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        WarmUpStatusResponse status = postCacheWarmUpService.getStatus();
+
+        while ("RUNNING".equals(status.getState()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            status = postCacheWarmUpService.getStatus();
+        }
+
+        return status;
+    }
+}
@@ -4,6 +4,7 @@ import com.been.foodieserver.domain.Comment;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.dto.CommentDto;
+import com.been.foodieserver.dto.CommentSummaryDto;
 import com.been.foodieserver.dto.NotificationEventDto;
 import com.been.foodieserver.dto.response.CommentResponse;
 import com.been.foodieserver.exception.CustomException;
@@ -14,18 +15,26 @@ import com.been.foodieserver.fixture.UserFixture;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.CommentRepository;
 import com.been.foodieserver.repository.PostRepository;
-import com.been.foodieserver.repository.cache.CommentCacheRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +45,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class PostCommentServiceTest {
@@ -50,11 +61,17 @@ class PostCommentServiceTest {
     private CommentRepository commentRepository;
 
     @Mock
-    private CommentCacheRepository commentCacheRepository;
+    private PostStatsCacheRepository postStatsCacheRepository;
 
     @Mock
     private NotificationProducer notificationProducer;
 
+    @Mock
+    private TrendingService trendingService;
+
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private PostCommentService postCommentService;
 
@@ -65,6 +82,9 @@ class PostCommentServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
         post = PostFixture.get("title", "user1", "자유 게시판");
         user = UserFixture.get(2L, "user2");
         comment = CommentFixture.get(user, post, 1L, "comment content");
@@ -81,14 +101,14 @@ class PostCommentServiceTest {
 
         Comment comment2 = CommentFixture.get(user, post, 2L, "comment content2");
 
-        List<Comment> content = List.of(comment2, comment);
-        Page<Comment> commentPage = new PageImpl<>(content);
+        List<CommentSummaryDto> content = List.of(CommentFixture.getSummary(comment2), CommentFixture.getSummary(comment));
+        Slice<CommentSummaryDto> commentSlice = new SliceImpl<>(content);
 
         int pageNum = 1;
         int pageSize = content.size();
 
         given(postRepository.existsById(postId)).willReturn(true);
-        given(commentRepository.findAllWithUserAndPostAndCategoryByPostId(any(Pageable.class), eq(postId))).willReturn(commentPage);
+        given(commentRepository.findSummariesByPostId(any(Pageable.class), eq(postId))).willReturn(commentSlice);
 
         //When
         Page<CommentResponse> result = postCommentService.getCommentList(postId, pageNum, pageSize);
@@ -101,10 +121,55 @@ class PostCommentServiceTest {
         assertThat(result.getContent().get(0).getCommentId()).isEqualTo(comment2.getId());
 
         then(postRepository).should().existsById(postId);
-        then(commentRepository).should().findAllWithUserAndPostAndCategoryByPostId(any(Pageable.class), eq(postId));
+        then(commentRepository).should().findSummariesByPostId(any(Pageable.class), eq(postId));
         then(userService).shouldHaveNoInteractions();
     }
 
+    @DisplayName("댓글 목록을 전체 개수 없이 조회하면 댓글 수를 세지 않음")
+    @Test
+    void getCommentSlice_DoesNotCount() {
+        //Given
+        Long postId = post.getId();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        given(postRepository.existsById(postId)).willReturn(true);
+        given(commentRepository.findSummariesByPostId(any(Pageable.class), eq(postId)))
+                .willReturn(new SliceImpl<>(List.of(CommentFixture.getSummary(comment)), pageable, true));
+
+        //When
+        Slice<CommentResponse> result = postCommentService.getCommentSlice(postId, 1, 1);
+
+        //Then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(CommentResponse::getCommentId).containsExactly(comment.getId());
+
+        then(commentRepository).should(never()).countByPost_Id(postId);
+    }
+
+    @DisplayName("다음 페이지가 있는 댓글 목록을 다시 조회하면 캐시된 댓글 수를 사용")
+    @Test
+    void getCommentList_CountsOnce_IfNextPageExists() {
+        //Given
+        Long postId = post.getId();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        given(postRepository.existsById(postId)).willReturn(true);
+        given(commentRepository.findSummariesByPostId(any(Pageable.class), eq(postId)))
+                .willReturn(new SliceImpl<>(List.of(CommentFixture.getSummary(comment)), pageable, true));
+        given(commentRepository.countByPost_Id(postId)).willReturn(3);
+
+        //When
+        postCommentService.getCommentList(postId, 1, 1);
+        Page<CommentResponse> result = postCommentService.getCommentList(postId, 1, 1);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+
+        then(commentRepository).should(times(1)).countByPost_Id(postId);
+    }
+
     @DisplayName("댓글 목록 조회 시 게시글이 존재하지 않으면 예외 발생")
     @Test
     void throwsException_IfPostDoesntExist_WhenGettingCommentList() {
@@ -131,7 +196,7 @@ class PostCommentServiceTest {
         given(postRepository.findWithUserAndCategoryById(post.getId())).willReturn(Optional.of(post));
         given(userService.getUserOrException(user.getLoginId())).willReturn(user);
         given(commentRepository.save(any(Comment.class))).willReturn(comment);
-        willDoNothing().given(commentCacheRepository).saveId(any(Comment.class));
+        willDoNothing().given(postStatsCacheRepository).increaseCommentCount(post.getId());
         willDoNothing().given(notificationProducer).send(any(NotificationEventDto.class));
 
         //When
@@ -147,7 +212,7 @@ class PostCommentServiceTest {
         then(postRepository).should().findWithUserAndCategoryById(post.getId());
         then(userService).should().getUserOrException(user.getLoginId());
         then(commentRepository).should().save(any(Comment.class));
-        then(commentCacheRepository).should().saveId(any(Comment.class));
+        then(postStatsCacheRepository).should().increaseCommentCount(post.getId());
         then(notificationProducer).should().send(any(NotificationEventDto.class));
     }
 
@@ -247,7 +312,7 @@ class PostCommentServiceTest {
         given(postRepository.existsById(postId)).willReturn(true);
         given(commentRepository.deleteByIdAndPostIdAndUserLoginId(commentId, postId, user.getLoginId()))
                 .willReturn(1);
-        willDoNothing().given(commentCacheRepository).deleteByPostIdAndId(postId, commentId);
+        willDoNothing().given(postStatsCacheRepository).decreaseCommentCount(postId);
 
         //When
         postCommentService.deleteComment(user.getLoginId(), postId, commentId);
@@ -255,7 +320,8 @@ class PostCommentServiceTest {
         //Then
         then(postRepository).should().existsById(postId);
         then(commentRepository).should().deleteByIdAndPostIdAndUserLoginId(commentId, postId, user.getLoginId());
-        then(commentCacheRepository).should().deleteByPostIdAndId(postId, commentId);
+        then(postStatsCacheRepository).should().decreaseCommentCount(postId);
+        then(trendingService).should().record(postId, TrendingEvent.COMMENT_DELETE);
         then(userService).shouldHaveNoInteractions();
     }
 
@@ -298,7 +364,7 @@ class PostCommentServiceTest {
 
         then(postRepository).should().existsById(post.getId());
         then(commentRepository).should().deleteByIdAndPostIdAndUserLoginId(comment.getId(), post.getId(), user.getLoginId());
-        then(commentCacheRepository).shouldHaveNoInteractions();
+        then(postStatsCacheRepository).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
     }
 }
@@ -0,0 +1,109 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.fixture.PostFixture;
+import com.been.foodieserver.repository.PostQueryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PostExportServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postExportService, "chunkSize", 2);
+    }
+
+    @DisplayName("작성자의 게시글을 chunk-size개씩 마지막 게시글 ID 다음부터 이어서 조회해 한 줄에 하나씩 씀")
+    @Test
+    void writeByUser_WritesOnePostPerLine() throws Exception {
+        //Given
+        Long userId = 1L;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        given(postQueryRepository.findSummariesByUserIdAndIdLessThan(userId, null, 2)).willReturn(List.of(
+                PostFixture.getSummary(PostFixture.get(3L, "title3", "writer", "자유 게시판"), 1, 2),
+                PostFixture.getSummary(PostFixture.get(2L, "title2", "writer", "자유 게시판"), 0, 0)));
+        given(postQueryRepository.findSummariesByUserIdAndIdLessThan(userId, 2L, 2)).willReturn(List.of(
+                PostFixture.getSummary(PostFixture.get(1L, "title1", "writer", "자유 게시판"), 0, 0)));
+
+        //When
+        long count = postExportService.writeByUser(userId, out);
+
+        //Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("postId").asLong()).isEqualTo(3L);
+        assertThat(first.get("likeCount").asInt()).isEqualTo(1);
+        assertThat(first.get("commentCount").asInt()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[2]).get("postId").asLong()).isEqualTo(1L);
+    }
+
+    @DisplayName("마지막 chunk가 chunk-size만큼 차 있으면 빈 chunk를 확인한 뒤 끝냄")
+    @Test
+    void writeByUser_StopsAtEmptyChunk() throws Exception {
+        //Given
+        Long userId = 1L;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        given(postQueryRepository.findSummariesByUserIdAndIdLessThan(userId, null, 2)).willReturn(List.of(
+                PostFixture.getSummary(PostFixture.get(2L, "title2", "writer", "자유 게시판"), 0, 0),
+                PostFixture.getSummary(PostFixture.get(1L, "title1", "writer", "자유 게시판"), 0, 0)));
+        given(postQueryRepository.findSummariesByUserIdAndIdLessThan(userId, 1L, 2)).willReturn(List.of());
+
+        //When
+        long count = postExportService.writeByUser(userId, out);
+
+        //Then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+
+    @DisplayName("작성자의 게시글이 없으면 아무것도 쓰지 않음")
+    @Test
+    void writeByUser_WritesNothing_IfUserHasNoPost() throws Exception {
+        //Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        given(postQueryRepository.findSummariesByUserIdAndIdLessThan(1L, null, 2)).willReturn(List.of());
+
+        //When
+        long count = postExportService.writeByUser(1L, out);
+
+        //Then
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+        then(userService).shouldHaveNoInteractions();
+    }
+}
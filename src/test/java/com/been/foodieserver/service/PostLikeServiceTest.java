@@ -13,6 +13,7 @@ import com.been.foodieserver.fixture.UserFixture;
 import com.been.foodieserver.producer.NotificationProducer;
 import com.been.foodieserver.repository.LikeRepository;
 import com.been.foodieserver.repository.cache.LikeCacheRepository;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,9 @@ class PostLikeServiceTest {
     @Mock
     private NotificationProducer notificationProducer;
 
+    @Mock
+    private TrendingService trendingService;
+
     @InjectMocks
     private PostLikeService postLikeService;
 
@@ -176,6 +180,7 @@ class PostLikeServiceTest {
         //Then
         then(likeRepository).should().deleteByUserLoginIdAndPostId(loginId, postId);
         then(likeCacheRepository).should().deleteByUserLoginIdAndPostId(loginId, postId);
+        then(trendingService).should().record(postId, TrendingEvent.UNLIKE);
     }
 
     @DisplayName("좋아요 취소 시 취소하려는 좋아요가 존재하지 않으면 예외 발생")
@@ -194,5 +199,6 @@ class PostLikeServiceTest {
 
         then(likeRepository).should().deleteByUserLoginIdAndPostId(loginId, postId);
         then(likeCacheRepository).shouldHaveNoInteractions();
+        then(trendingService).shouldHaveNoInteractions();
     }
 }
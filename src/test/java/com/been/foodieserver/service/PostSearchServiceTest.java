@@ -3,20 +3,28 @@ package com.been.foodieserver.service;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.dto.PostSearchDto;
 import com.been.foodieserver.dto.PostSearchType;
+import com.been.foodieserver.dto.PostSummaryDto;
 import com.been.foodieserver.dto.response.PostResponse;
 import com.been.foodieserver.fixture.PostFixture;
 import com.been.foodieserver.repository.PostQueryRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,9 +37,19 @@ class PostSearchServiceTest {
     @Mock
     private PostQueryRepository postQueryRepository;
 
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private PostSearchService postSearchService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
+    }
+
     @DisplayName("검색 요청이 유효하면 게시글 검색 성공")
     @Test
     void searchPost_IfRequestIsValid() {
@@ -45,8 +63,8 @@ class PostSearchServiceTest {
         int pageSize = 10;
 
         Pageable pageable = PageRequest.of(pageNum - 1, pageSize);
-        List<Post> content = List.of(post2, post1);
-        Page<Post> postPage = new PageImpl<>(content, pageable, content.size());
+        List<PostSummaryDto> content = List.of(PostFixture.getSummary(post2, 0, 0), PostFixture.getSummary(post1, 0, 0));
+        Slice<PostSummaryDto> postSlice = new SliceImpl<>(content, pageable, false);
 
         PostSearchDto dto = PostSearchDto.builder()
                 .searchType(PostSearchType.TITLE)
@@ -55,7 +73,7 @@ class PostSearchServiceTest {
                 .pageSize(pageSize)
                 .build();
 
-        given(postQueryRepository.findAllByTitleContainsIgnoreCase(dto)).willReturn(postPage);
+        given(postQueryRepository.findAllByTitleContainsIgnoreCase(dto)).willReturn(postSlice);
 
         //When
         Page<PostResponse> result = postSearchService.search(dto);
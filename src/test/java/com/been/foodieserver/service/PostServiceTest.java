@@ -5,7 +5,11 @@ import com.been.foodieserver.domain.Like;
 import com.been.foodieserver.domain.Post;
 import com.been.foodieserver.domain.User;
 import com.been.foodieserver.dto.PageDto;
+import com.been.foodieserver.dto.PostCursor;
 import com.been.foodieserver.dto.PostDto;
+import com.been.foodieserver.dto.PostSummaryDto;
+import com.been.foodieserver.dto.PostTimelineDto;
+import com.been.foodieserver.dto.response.PostDeltaResponse;
 import com.been.foodieserver.dto.response.PostResponse;
 import com.been.foodieserver.exception.CustomException;
 import com.been.foodieserver.exception.ErrorCode;
@@ -13,33 +17,58 @@ import com.been.foodieserver.fixture.PostFixture;
 import com.been.foodieserver.fixture.UserFixture;
 import com.been.foodieserver.producer.PostProducer;
 import com.been.foodieserver.repository.CategoryRepository;
+import com.been.foodieserver.repository.CommentRepository;
 import com.been.foodieserver.repository.LikeRepository;
+import com.been.foodieserver.repository.PostQueryRepository;
 import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PageCountCache;
 import com.been.foodieserver.repository.cache.PostCacheRepository;
+import com.been.foodieserver.repository.cache.PostCacheRepository.HotWindow;
+import com.been.foodieserver.repository.cache.PostCacheRepository.PostDelta;
+import com.been.foodieserver.repository.cache.PostCacheRepository.PostIdPage;
+import com.been.foodieserver.repository.cache.PostDetailCache;
+import com.been.foodieserver.repository.cache.PostPageNearCache;
+import com.been.foodieserver.repository.cache.PostStatsCacheRepository;
+import com.been.foodieserver.repository.cache.PostVersionCacheRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.ViewCount;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -50,6 +79,9 @@ class PostServiceTest {
     @Mock
     private FollowService followService;
 
+    @Mock
+    private FeedService feedService;
+
     @Mock
     private CategoryRepository categoryRepository;
 
@@ -59,12 +91,39 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
     @Mock
     private PostCacheRepository postCacheRepository;
 
+    @Mock
+    private PostPageNearCache postPageNearCache;
+
+    @Mock
+    private PostVersionCacheRepository postVersionCacheRepository;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostStatsCacheRepository postStatsCacheRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
     @Mock
     private PostProducer postProducer;
 
+    @Mock
+    private ViewCountService viewCountService;
+
+    @Mock
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    @Spy
+    private PageCountCache pageCountCache = new PageCountCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private PostService postService;
 
@@ -75,6 +134,9 @@ class PostServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(pageCountCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(pageCountCache, "ttl", Duration.ofSeconds(10));
+        pageCountCache.init();
         post = PostFixture.get("title", "user1", "자유 게시판");
         category = post.getCategory();
         user = post.getUser();
@@ -100,10 +162,12 @@ class PostServiceTest {
 
         PageDto<PostResponse> postPageDto = PageDto.of(pageNum, pageSize, content.size(), content);
 
-        given(postCacheRepository.findAll(pageNum, pageSize)).willReturn(postPageDto);
+        given(postCacheRepository.findAll(null, pageNum, pageSize)).willReturn(postPageDto);
+        given(postPageNearCache.get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
 
         //When
-        PageDto<PostResponse> result = postService.getPostList(pageNum, pageSize);
+        PageDto<PostResponse> result = postService.getPostList(null, pageNum, pageSize, 1L);
 
         //Then
         assertThat(result).isNotNull();
@@ -112,11 +176,204 @@ class PostServiceTest {
         assertThat(result.getPageSize()).isEqualTo(pageSize);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo(post2.getTitle());
 
-        then(postCacheRepository).should().findAll(pageNum, pageSize);
+        then(postCacheRepository).should().findAll(null, pageNum, pageSize);
+        then(postPageNearCache).should().get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any());
         then(userService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("hot window 밖의 페이지는 캐시된 가장 오래된 게시글 다음부터 DB에서 조회")
+    @Test
+    void getPostList_FallsBackToDb_IfPageIsOutOfHotWindow() {
+        //Given
+        int pageNum = 3;
+        int pageSize = 2;
+        Post post1 = PostFixture.get(2L, "title2", "user", "자유 게시판");
+        Post post2 = PostFixture.get(1L, "title1", "user", "자유 게시판");
+
+        given(postPageNearCache.get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> {
+            Object cached = invocation.<Supplier<?>>getArgument(1).get();
+            //서킷 브레이커는 Redis 호출 시간만 재므로 DB는 브레이커 밖에서 조회한다.
+            then(postQueryRepository).shouldHaveNoInteractions();
+            return cached;
+        });
+        given(postCacheRepository.findAll(null, pageNum, pageSize)).willReturn(PageDto.of(pageNum, pageSize, 6, List.of()));
+        given(postCacheRepository.getHotWindow(null)).willReturn(new HotWindow(3, 3L));
+        given(postQueryRepository.findSummariesByIdLessThan(null, 3L, 1, 2)).willReturn(List.of(PostFixture.getSummary(post1, 0, 0), PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostList(null, pageNum, pageSize, 1L);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(6);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(2L, 1L);
+
+        then(postQueryRepository).should().findSummariesByIdLessThan(null, 3L, 1, 2);
+    }
+
+    @DisplayName("hot window 안의 페이지는 DB를 조회하지 않음")
+    @Test
+    void getPostList_DoesNotQueryDb_IfPageIsInHotWindow() {
+        //Given
+        int pageNum = 1;
+        int pageSize = 2;
+        PageDto<PostResponse> postPageDto = PageDto.of(pageNum, pageSize, 6, List.of(PostResponse.of(post)));
+
+        given(postPageNearCache.get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(postCacheRepository.findAll(null, pageNum, pageSize)).willReturn(postPageDto);
+        given(postCacheRepository.getHotWindow(null)).willReturn(new HotWindow(3, 3L));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostList(null, pageNum, pageSize, 1L);
+
+        //Then
+        assertThat(result).isSameAs(postPageDto);
+        then(postQueryRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Redis 장애 시 마지막으로 조회한 페이지가 없으면 DB에서 조회")
+    @Test
+    void getPostList_QueriesDb_IfRedisIsUnavailable() {
+        //Given
+        int pageNum = 2;
+        int pageSize = 2;
+        Post post1 = PostFixture.get(2L, "title2", "user", "자유 게시판");
+        Post post2 = PostFixture.get(1L, "title1", "user", "자유 게시판");
+        ReflectionTestUtils.setField(postService, "fallbackMaxPageNum", 10);
+
+        given(postPageNearCache.get(eq(1L), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        given(postPageNearCache.getStale(1L, pageNum, pageSize, PostResponse.class)).willReturn(Optional.empty());
+        given(postRepository.countByCategory_Id(1L)).willReturn(4L);
+        given(postQueryRepository.findSummariesByIdLessThan(1L, null, 2, 2)).willReturn(List.of(PostFixture.getSummary(post1, 0, 0), PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostList(1L, pageNum, pageSize, 1L);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(2L, 1L);
+        then(postCacheRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Redis 장애 시 마지막으로 조회한 페이지가 있으면 DB를 조회하지 않고 반환")
+    @Test
+    void getPostList_ReturnsStalePage_IfRedisIsUnavailable() {
+        //Given
+        int pageNum = 1;
+        int pageSize = 2;
+        PageDto<PostResponse> stalePage = PageDto.of(pageNum, pageSize, 1, List.of(PostResponse.of(post)));
+
+        given(postPageNearCache.get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        given(postPageNearCache.getStale(null, pageNum, pageSize, PostResponse.class)).willReturn(Optional.of(stalePage));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostList(null, pageNum, pageSize, 1L);
+
+        //Then
+        assertThat(result).isSameAs(stalePage);
+        then(postRepository).shouldHaveNoInteractions();
+        then(postQueryRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Redis 장애 시 fallback.max-page-num 이후 페이지는 DB를 조회하지 않고 거절")
+    @Test
+    void getPostList_ThrowsException_IfRedisIsUnavailableAndPageIsTooDeep() {
+        //Given
+        int pageNum = 11;
+        int pageSize = 2;
+        ReflectionTestUtils.setField(postService, "fallbackMaxPageNum", 10);
+
+        given(postPageNearCache.get(isNull(), eq(pageNum), eq(pageSize), eq(1L), eq(PostResponse.class), any())).willAnswer(invocation -> invocation.<Supplier<PageDto<PostResponse>>>getArgument(5).get());
+        given(redisCircuitBreaker.call(eq("post-list"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        given(postPageNearCache.getStale(null, pageNum, pageSize, PostResponse.class)).willReturn(Optional.empty());
+
+        //When & Then
+        assertThatThrownBy(() -> postService.getPostList(null, pageNum, pageSize, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.SERVICE_UNAVAILABLE.getMessage());
+        then(postQueryRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("Redis 장애 시 게시글 목록 버전은 null 반환")
+    @Test
+    void getPostListVersion_ReturnsNull_IfRedisIsUnavailable() {
+        //Given
+        given(redisCircuitBreaker.call(eq("post-version"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        //When
+        Long result = postService.getPostListVersion();
+
+        //Then
+        assertThat(result).isNull();
+    }
+
+    @DisplayName("좋아요/댓글 수 변경을 게시글 목록 버전에 모아서 반영")
+    @Test
+    void flushPostListVersion() {
+        //Given
+        given(redisCircuitBreaker.call(eq("post-version"), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(postVersionCacheRepository.flushListVersion()).willReturn(true);
+
+        //When
+        postService.flushPostListVersion();
+
+        //Then
+        then(postVersionCacheRepository).should().flushListVersion();
+    }
+
+    @DisplayName("커서 방식 조회 시 캐시된 게시글이 모자라면 이어서 DB에서 키셋 방식으로 조회")
+    @Test
+    void getPostListByCursor_FillsFromDb_IfCachedPostsRunOut() {
+        //Given
+        givenRedisIsAvailable();
+        int pageSize = 2;
+        Post cachedPost = PostFixture.get(5L, "title5", "user", "자유 게시판");
+        Post post1 = PostFixture.get(4L, "title4", "user", "자유 게시판");
+        Post post2 = PostFixture.get(3L, "title3", "user", "자유 게시판");
+        ReflectionTestUtils.setField(post1, "createdAt", new Timestamp(4000L));
+
+        given(postCacheRepository.findAllByCursor(null, null, pageSize)).willReturn(PageDto.ofCursor(pageSize, 5, null, List.of(PostResponse.of(cachedPost))));
+        given(postCacheRepository.getHotWindow(null)).willReturn(new HotWindow(1, 5L));
+        given(postQueryRepository.findSummariesByIdLessThan(null, 5L, 0, 2)).willReturn(List.of(PostFixture.getSummary(post1, 0, 0), PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostListByCursor(null, "", pageSize);
+
+        //Then
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(5L, 4L);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(PostCursor.decode(result.getNextCursor()).getPostId()).isEqualTo(4L);
+        assertThat(PostCursor.decode(result.getNextCursor()).getScore()).isEqualTo(4000L);
+    }
+
+    @DisplayName("Redis 장애 시 커서 방식 조회는 커서 다음부터 DB에서 조회")
+    @Test
+    void getPostListByCursor_QueriesDb_IfRedisIsUnavailable() {
+        //Given
+        givenRedisIsUnavailable();
+        int pageSize = 1;
+        Post post1 = PostFixture.get(4L, "title4", "user", "자유 게시판");
+        Post post2 = PostFixture.get(3L, "title3", "user", "자유 게시판");
+        ReflectionTestUtils.setField(post1, "createdAt", new Timestamp(4000L));
+        String cursor = PostCursor.of(5000L, 5L).encode();
+
+        given(postRepository.countByCategory_Id(1L)).willReturn(5L);
+        given(postQueryRepository.findSummariesByIdLessThan(1L, 5L, 0, 2)).willReturn(List.of(PostFixture.getSummary(post1, 0, 0), PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        PageDto<PostResponse> result = postService.getPostListByCursor(1L, cursor, pageSize);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(4L);
+        assertThat(PostCursor.decode(result.getNextCursor()).getPostId()).isEqualTo(4L);
+        then(postCacheRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("내가 작성한 게시글 목록 요청이 유효하면 내 게시글 목록 조회 성공")
     @Test
     void getMyPostList_IfRequestIsValid() {
@@ -125,29 +382,54 @@ class PostServiceTest {
         Post post1 = PostFixture.get(1L, "title1", loginId, "자유 게시판");
         Post post2 = PostFixture.get(2L, "title2", loginId, "자유 게시판");
 
-        List<Post> content = List.of(post2, post1);
-        Page<Post> postPage = new PageImpl<>(content);
-
         int pageNum = 1;
-        int pageSize = content.size();
+        int pageSize = 2;
 
-        given(postRepository.findAllWithUserAndCategoryByUser_LoginId(any(Pageable.class), eq(loginId))).willReturn(postPage);
+        given(postCacheRepository.findAllByWriter(loginId, pageNum, pageSize))
+                .willReturn(new PostIdPage(2, List.of(2L, 1L), List.of(PostResponse.of(post2), PostResponse.of(post1)), List.of()));
 
         //When
         Page<PostResponse> result = postService.getMyPostList(loginId, pageNum, pageSize);
 
         //Then
         assertThat(result).isNotNull();
-        assertThat(result.getTotalElements()).isEqualTo(content.size());
+        assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.getNumber() + 1).isEqualTo(pageNum);
         assertThat(result.getSize()).isEqualTo(pageSize);
-        assertThat(result.getContent().get(0).getPostId()).isEqualTo(post2.getId());
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post2.getId(), post1.getId());
 
-        then(postRepository).should().findAllWithUserAndCategoryByUser_LoginId(any(Pageable.class), eq(loginId));
+        then(postCacheRepository).should().findAllByWriter(loginId, pageNum, pageSize);
+        then(postRepository).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("내 게시글 목록 조회 시 캐시되지 않은 게시글만 DB에서 ID로 조회")
+    @Test
+    void getMyPostList_QueriesOnlyMissingPosts_IfSomePostsAreNotCached() {
+        //Given
+        String loginId = "user";
+        Post post1 = PostFixture.get(1L, "title1", loginId, "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", loginId, "자유 게시판");
+
+        int pageNum = 1;
+        int pageSize = 2;
+
+        given(postCacheRepository.findAllByWriter(loginId, pageNum, pageSize))
+                .willReturn(new PostIdPage(5, List.of(2L, 1L), List.of(PostResponse.of(post2)), List.of()));
+        given(postQueryRepository.findSummariesByIdIn(List.of(1L))).willReturn(List.of(PostFixture.getSummary(post1, 0, 0)));
+
+        //When
+        Page<PostResponse> result = postService.getMyPostList(loginId, pageNum, pageSize);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post2.getId(), post1.getId());
+
+        then(postQueryRepository).should().findSummariesByIdIn(List.of(1L));
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("다른 사용자가 작성한 게시글 목록 요청이 유효하면 다른 사용자 게시글 목록 조회 성공")
     @Test
     void getPostListByUser_IfRequestIsValid() {
@@ -156,27 +438,30 @@ class PostServiceTest {
         Post post1 = PostFixture.get(1L, "title1", loginId, "자유 게시판");
         Post post2 = PostFixture.get(2L, "title2", loginId, "자유 게시판");
 
-        List<Post> content = List.of(post2, post1);
-        Page<Post> postPage = new PageImpl<>(content);
+        List<PostTimelineDto> timeline = List.of(new PostTimelineDto(2L, null), new PostTimelineDto(1L, null));
 
         int pageNum = 1;
-        int pageSize = content.size();
+        int pageSize = 2;
 
         given(userService.isLoginIdExist(loginId)).willReturn(true);
-        given(postRepository.findAllWithUserAndCategoryByUser_LoginId(any(Pageable.class), eq(loginId))).willReturn(postPage);
+        given(postCacheRepository.findAllByWriter(loginId, pageNum, pageSize)).willReturn(null);
+        given(postRepository.findTimelineByUserLoginId(loginId)).willReturn(timeline);
+        given(postQueryRepository.findSummariesByIdIn(List.of(2L, 1L))).willReturn(List.of(PostFixture.getSummary(post1, 0, 0), PostFixture.getSummary(post2, 0, 0)));
 
         //When
         Page<PostResponse> result = postService.getPostListByUserLoginId(loginId, pageNum, pageSize);
 
         //Then
         assertThat(result).isNotNull();
-        assertThat(result.getTotalElements()).isEqualTo(content.size());
+        assertThat(result.getTotalElements()).isEqualTo(timeline.size());
         assertThat(result.getNumber() + 1).isEqualTo(pageNum);
         assertThat(result.getSize()).isEqualTo(pageSize);
-        assertThat(result.getContent().get(0).getPostId()).isEqualTo(post2.getId());
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post2.getId(), post1.getId());
 
         then(userService).should().isLoginIdExist(loginId);
-        then(postRepository).should().findAllWithUserAndCategoryByUser_LoginId(any(Pageable.class), eq(loginId));
+        then(postCacheRepository).should().saveWriterTimeline(loginId, timeline);
+        then(postRepository).should().findTimelineByUserLoginId(loginId);
+        then(postQueryRepository).should().findSummariesByIdIn(List.of(2L, 1L));
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
@@ -212,14 +497,14 @@ class PostServiceTest {
         Post post3 = PostFixture.get(3L, "title", followeeLoginId1, "자유 게시판");
         Post post4 = PostFixture.get(4L, "title", followeeLoginId2, "자유 게시판");
 
-        List<Post> content = List.of(post4, post3, post2, post1);
-        Page<Post> postPage = new PageImpl<>(content);
+        List<PostSummaryDto> content = Stream.of(post4, post3, post2, post1).map(followeePost -> PostFixture.getSummary(followeePost, 0, 0)).toList();
+        Slice<PostSummaryDto> postSlice = new SliceImpl<>(content);
 
         int pageNum = 1;
         int pageSize = content.size();
 
         given(followService.getFolloweeLoginIds(loginId)).willReturn(followeeLoginIdSet);
-        given(postRepository.findAllWithUserAndCategoryByUser_LoginIdIn(any(Pageable.class), eq(followeeLoginIdSet))).willReturn(postPage);
+        given(postQueryRepository.findSummariesByUserLoginIdIn(eq(followeeLoginIdSet), any(Pageable.class))).willReturn(postSlice);
 
         //When
         Page<PostResponse> result = postService.getPostsByFollowees(loginId, pageNum, pageSize);
@@ -232,11 +517,123 @@ class PostServiceTest {
         assertThat(result.getContent().get(0).getPostId()).isEqualTo(post4.getId());
 
         then(followService).should().getFolloweeLoginIds(loginId);
-        then(postRepository).should().findAllWithUserAndCategoryByUser_LoginIdIn(any(Pageable.class), eq(followeeLoginIdSet));
+        then(postQueryRepository).should().findSummariesByUserLoginIdIn(eq(followeeLoginIdSet), any(Pageable.class));
         then(userService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("팔로우한 유저의 게시글 목록 조회 시 피드가 캐시되어 있으면 피드에서 조회")
+    @Test
+    void getPostListByFollowees_FromFeed_IfFeedIsCached() {
+        //Given
+        givenRedisIsAvailable();
+        String loginId = "follower";
+        Post post1 = PostFixture.get(1L, "title", "followee1", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title", "followee2", "자유 게시판");
+
+        int pageNum = 1;
+        int pageSize = 2;
+
+        given(feedService.getInboxSize()).willReturn(800);
+        given(postCacheRepository.findFeed(loginId, pageNum, pageSize))
+                .willReturn(new PostIdPage(2, List.of(2L, 1L), List.of(PostResponse.of(post2)), List.of()));
+        given(postQueryRepository.findSummariesByIdIn(List.of(1L))).willReturn(List.of(PostFixture.getSummary(post1, 0, 0)));
+
+        //When
+        Page<PostResponse> result = postService.getPostsByFollowees(loginId, pageNum, pageSize);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post2.getId(), post1.getId());
+
+        then(feedService).should(never()).buildFeed(loginId);
+        then(followService).shouldHaveNoInteractions();
+        then(postQueryRepository).should().findSummariesByIdIn(List.of(1L));
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("팔로우한 유저의 게시글 목록을 전체 개수 없이 조회하면 피드가 가득 차 있어도 DB에서 세지 않음")
+    @Test
+    void getPostsByFolloweesSlice_DoesNotCount_IfFeedIsFull() {
+        //Given
+        givenRedisIsAvailable();
+        String loginId = "follower";
+        Post post1 = PostFixture.get(1L, "title", "followee1", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title", "followee2", "자유 게시판");
+
+        int pageNum = 1;
+        int pageSize = 2;
+
+        given(feedService.getInboxSize()).willReturn(2);
+        given(postCacheRepository.findFeed(loginId, pageNum, pageSize))
+                .willReturn(new PostIdPage(2, List.of(2L, 1L), List.of(PostResponse.of(post2), PostResponse.of(post1)), List.of()));
+
+        //When
+        Slice<PostResponse> result = postService.getPostsByFolloweesSlice(loginId, pageNum, pageSize);
+
+        //Then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post2.getId(), post1.getId());
+
+        then(followService).shouldHaveNoInteractions();
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("팔로우한 유저의 게시글 목록 조회 시 피드가 없으면 피드를 만들고 캐시되지 않은 작성자의 게시글 ID를 캐시한 후 조회")
+    @Test
+    void getPostListByFollowees_BuildsFeed_IfFeedIsNotCached() {
+        //Given
+        givenRedisIsAvailable();
+        String loginId = "follower";
+        String celebrityLoginId = "celebrity";
+        Post post1 = PostFixture.get(1L, "title", celebrityLoginId, "자유 게시판");
+
+        List<PostTimelineDto> timeline = List.of(new PostTimelineDto(1L, null));
+
+        int pageNum = 1;
+        int pageSize = 10;
+
+        given(feedService.getInboxSize()).willReturn(800);
+        given(postCacheRepository.findFeed(loginId, pageNum, pageSize)).willReturn(
+                null,
+                new PostIdPage(0, List.of(), List.of(), List.of(celebrityLoginId)),
+                new PostIdPage(1, List.of(1L), List.of(PostResponse.of(post1)), List.of()));
+        given(postRepository.findTimelineByUserLoginId(celebrityLoginId)).willReturn(timeline);
+
+        //When
+        Page<PostResponse> result = postService.getPostsByFollowees(loginId, pageNum, pageSize);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(post1.getId());
+
+        then(feedService).should().buildFeed(loginId);
+        then(postCacheRepository).should().saveWriterTimeline(celebrityLoginId, timeline);
+        then(postCacheRepository).should(times(3)).findFeed(loginId, pageNum, pageSize);
+    }
+
+    @DisplayName("Redis 장애 시 팔로우한 유저의 게시글 목록은 피드를 만들지 않고 DB에서 조회")
+    @Test
+    void getPostsByFolloweesSlice_QueriesDb_IfRedisIsUnavailable() {
+        //Given
+        givenRedisIsUnavailable();
+        String loginId = "follower";
+        Post post1 = PostFixture.get(1L, "title", "followee1", "자유 게시판");
+
+        given(feedService.getInboxSize()).willReturn(800);
+        given(followService.getFolloweeLoginIds(loginId)).willReturn(Set.of("followee1"));
+        given(postQueryRepository.findSummariesByUserLoginIdIn(eq(Set.of("followee1")), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(PostFixture.getSummary(post1, 0, 0))));
+
+        //When
+        Slice<PostResponse> result = postService.getPostsByFolloweesSlice(loginId, 1, 10);
+
+        //Then
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(1L);
+        then(feedService).should(never()).buildFeed(loginId);
+        then(postCacheRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("팔로우한 유저의 게시글 목록 조회 시 팔로우한 유저가 없으면 빈 게시글 목록 반환")
     @Test
     void returnEmptyPostList_IfNoFolloweesExist() {
@@ -279,14 +676,14 @@ class PostServiceTest {
 
         List<Long> postIds = List.of(post1.getId(), post2.getId());
 
-        List<Post> content = List.of(post2, post1);
-        Page<Post> postPage = new PageImpl<>(content);
+        List<PostSummaryDto> content = List.of(PostFixture.getSummary(post2, 1, 2), PostFixture.getSummary(post1, 1, 0));
+        Slice<PostSummaryDto> postSlice = new SliceImpl<>(content);
 
         int pageNum = 1;
         int pageSize = content.size();
 
         given(likeRepository.findByUser_LoginId(loginId)).willReturn(likes);
-        given(postRepository.findAllWithUserAndCategoryByIdIn(any(Pageable.class), eq(postIds))).willReturn(postPage);
+        given(postQueryRepository.findSummariesByIdIn(eq(postIds), any(Pageable.class))).willReturn(postSlice);
 
         //When
         Page<PostResponse> result = postService.getLikedPostList(loginId, pageNum, pageSize);
@@ -297,9 +694,11 @@ class PostServiceTest {
         assertThat(result.getNumber() + 1).isEqualTo(pageNum);
         assertThat(result.getSize()).isEqualTo(pageSize);
         assertThat(result.getContent().get(0).getPostId()).isEqualTo(post2.getId());
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getCommentCount()).isEqualTo(2);
 
         then(likeRepository).should().findByUser_LoginId(loginId);
-        then(postRepository).should().findAllWithUserAndCategoryByIdIn(any(Pageable.class), eq(postIds));
+        then(postQueryRepository).should().findSummariesByIdIn(eq(postIds), any(Pageable.class));
         then(userService).shouldHaveNoInteractions();
         then(followService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
@@ -332,14 +731,39 @@ class PostServiceTest {
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
-    @DisplayName("게시글 조회 요청이 유효하면 게시글 조회 성공")
+    @DisplayName("인기 게시글 목록 조회 시 캐시되지 않은 게시글은 DB에서 조회해 점수 순서대로 반환")
+    @Test
+    void getTrendingPostList_FillsUncachedPostsFromDb() {
+        //Given
+        givenRedisIsAvailable();
+        Post post1 = PostFixture.get(1L, "title1", user.getLoginId(), category.getName());
+        Post post2 = PostFixture.get(2L, "title2", user.getLoginId(), category.getName());
+        PostIdPage page = new PostIdPage(5, List.of(2L, 1L), List.of(PostResponse.of(post1)), List.of());
+
+        given(postCacheRepository.findTrending(1, 2)).willReturn(page);
+        given(postQueryRepository.findSummariesByIdIn(List.of(2L))).willReturn(List.of(PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        Page<PostResponse> result = postService.getTrendingPostList(1, 2);
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getContent()).extracting(PostResponse::getPostId).containsExactly(2L, 1L);
+        then(postQueryRepository).should().findSummariesByIdIn(List.of(2L));
+    }
+
+    @DisplayName("게시글 조회 시 캐시되지 않은 게시글이면 DB에서 조회 후 캐시")
     @Test
     void getPost_IfRequestIsValid() {
         //Given
+        givenRedisIsAvailable();
+        given(postDetailCache.get(eq(post.getId()), any(), any())).willAnswer(invocation -> invocation.<Supplier<PostResponse>>getArgument(1).get());
         given(postRepository.findWithUserAndCategoryById(post.getId())).willReturn(Optional.of(post));
+        given(postCacheRepository.saveDetail(post)).willReturn(PostResponse.of(post));
+        given(viewCountService.getViewCount(post.getId())).willReturn(new ViewCount(1L, 1L));
 
         //When
-        PostResponse result = postService.getPost(post.getId());
+        PostResponse result = postService.getPost(post.getId(), user.getLoginId());
 
         //Then
         assertThat(result).isNotNull();
@@ -349,29 +773,199 @@ class PostServiceTest {
         assertThat(result.getWriter().getLoginId()).isEqualTo(user.getLoginId());
 
         then(postRepository).should().findWithUserAndCategoryById(post.getId());
+        then(postCacheRepository).should().saveDetail(post);
+        then(postStatsCacheRepository).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("게시글 조회 시 캐시된 게시글이면 DB를 조회하지 않고 조회수를 채움")
+    @Test
+    void getPost_FromCache_IfPostIsCached() {
+        //Given
+        givenRedisIsAvailable();
+        PostResponse cached = PostResponse.of(post);
+        given(postDetailCache.get(eq(post.getId()), any(), any())).willReturn(cached);
+        given(viewCountService.getViewCount(post.getId())).willReturn(new ViewCount(10L, 4L));
+
+        //When
+        PostResponse result = postService.getPost(post.getId(), user.getLoginId());
+
+        //Then
+        assertThat(result.getPostId()).isEqualTo(cached.getPostId());
+        assertThat(result.getViewCount()).isEqualTo(10L);
+        assertThat(result.getViewerCount()).isEqualTo(4L);
+        then(postRepository).shouldHaveNoInteractions();
+        then(viewCountService).should().record(post.getId(), user.getLoginId());
+    }
+
+    @DisplayName("게시글 조회 시 통계가 캐시되지 않았으면 DB의 좋아요/댓글 수로 채움")
+    @Test
+    void getPost_SavesStats_IfStatsAreNotCached() {
+        //Given
+        givenRedisIsAvailable();
+        given(postDetailCache.get(eq(post.getId()), any(), any())).willAnswer(invocation -> invocation.<Supplier<PostResponse>>getArgument(1).get());
+        given(postRepository.findWithUserAndCategoryById(post.getId())).willReturn(Optional.of(post));
+        given(postCacheRepository.saveDetail(post)).willReturn(null);
+        given(likeRepository.countByPost_Id(post.getId())).willReturn(3);
+        given(commentRepository.countByPost_Id(post.getId())).willReturn(2);
+        given(viewCountService.getViewCount(post.getId())).willReturn(new ViewCount(0L, 0L));
+
+        //When
+        PostResponse result = postService.getPost(post.getId(), user.getLoginId());
+
+        //Then
+        assertThat(result.getLikeCount()).isEqualTo(3);
+        assertThat(result.getCommentCount()).isEqualTo(2);
+        then(postStatsCacheRepository).should().saveCounts(post.getId(), 3, 2);
+        then(viewCountService).should().seedViewCount(post.getId(), post.getViewCount());
+    }
+
+    @DisplayName("Redis 장애 시 게시글 조회는 캐시하지 않고 DB의 좋아요/댓글 수와 조회수로 응답")
+    @Test
+    void getPost_FromDbWithoutCaching_IfRedisIsUnavailable() {
+        //Given
+        givenRedisIsUnavailable();
+        ReflectionTestUtils.setField(post, "viewCount", 7L);
+        given(postDetailCache.get(eq(post.getId()), any(), any())).willAnswer(invocation -> invocation.<Supplier<PostResponse>>getArgument(2).get());
+        given(postRepository.findWithUserAndCategoryById(post.getId())).willReturn(Optional.of(post));
+        given(likeRepository.countByPost_Id(post.getId())).willReturn(3);
+        given(commentRepository.countByPost_Id(post.getId())).willReturn(2);
+
+        //When
+        PostResponse result = postService.getPost(post.getId(), user.getLoginId());
+
+        //Then
+        assertThat(result.getLikeCount()).isEqualTo(3);
+        assertThat(result.getCommentCount()).isEqualTo(2);
+        assertThat(result.getViewCount()).isEqualTo(7L);
+        then(postCacheRepository).shouldHaveNoInteractions();
+        then(postStatsCacheRepository).shouldHaveNoInteractions();
+        then(viewCountService).should().record(post.getId(), user.getLoginId());
+        then(viewCountService).shouldHaveNoMoreInteractions();
+    }
+
     @DisplayName("게시글 조회 시 조회할 게시글이 존재하지 않으면 예외 발생")
     @Test
     void throwsException_IfPostDoesntExist_WhenGettingPost() {
         //Given
         Long postId = post.getId();
 
+        given(postDetailCache.get(eq(postId), any(), any())).willAnswer(invocation -> invocation.<Supplier<PostResponse>>getArgument(1).get());
         given(postRepository.findWithUserAndCategoryById(postId)).willReturn(Optional.empty());
 
         //When
-        assertThatThrownBy(() -> postService.getPost(postId))
+        assertThatThrownBy(() -> postService.getPost(postId, user.getLoginId()))
                 .isInstanceOf(CustomException.class)
                 .hasMessage(ErrorCode.POST_NOT_FOUND.getMessage());
 
         //Then
         then(postRepository).should().findWithUserAndCategoryById(postId);
+        then(postCacheRepository).should(never()).saveDetail(any());
+        then(viewCountService).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
         then(categoryRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("여러 게시글 조회 시 캐시되지 않은 게시글만 DB에서 조회하고 요청한 순서대로 반환")
+    @Test
+    void getPostsByIds_QueriesOnlyMissingPostsAndKeepsOrder() {
+        //Given
+        givenRedisIsAvailable();
+        Post post1 = PostFixture.get(1L, "title1", "writer", "자유 게시판");
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+
+        given(postCacheRepository.findAllByIds(List.of(2L, 3L, 1L))).willReturn(List.of(PostResponse.of(post1)));
+        given(postQueryRepository.findSummariesByIdIn(List.of(2L, 3L))).willReturn(List.of(PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        List<PostResponse> result = postService.getPostsByIds(List.of(2L, 3L, 1L, 2L));
+
+        //Then
+        assertThat(result).extracting(PostResponse::getPostId).containsExactly(2L, 1L);
+        then(postQueryRepository).should().findSummariesByIdIn(List.of(2L, 3L));
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("여러 게시글 조회 시 최대 개수를 넘으면 예외 발생")
+    @Test
+    void throwsException_IfTooManyPostIds_WhenGettingPostsByIds() {
+        //Given
+        List<Long> postIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        //When & Then
+        assertThatThrownBy(() -> postService.getPostsByIds(postIds))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(ErrorCode.TOO_MANY_POST_IDS.getMessage());
+
+        then(postCacheRepository).shouldHaveNoInteractions();
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("새 게시글 조회 시 커서 이후 게시글이 모두 캐시되어 있으면 캐시에서 조회")
+    @Test
+    void getPostsSince_FromCache() {
+        //Given
+        givenRedisIsAvailable();
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+        PostCursor cursor = PostCursor.of(1000L, 1L);
+        PostCursor latest = PostCursor.of(2000L, 2L);
+
+        given(postCacheRepository.findAllSince(isNull(), any(PostCursor.class), eq(10)))
+                .willReturn(new PostDelta(List.of(PostResponse.of(post2)), latest, false));
+
+        //When
+        PostDeltaResponse result = postService.getPostsSince(null, cursor.encode(), 10);
+
+        //Then
+        assertThat(result.getPosts()).extracting(PostResponse::getPostId).containsExactly(2L);
+        assertThat(result.getCursor()).isEqualTo(latest.encode());
+        assertThat(result.isHasMore()).isFalse();
+        then(postQueryRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("새 게시글 조회 시 커서 이후 게시글이 모두 캐시되어 있지 않으면 DB에서 조회")
+    @Test
+    void getPostsSince_FromDb_IfHotWindowIsTruncated() {
+        //Given
+        givenRedisIsAvailable();
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+        Post post3 = PostFixture.get(3L, "title3", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post2, "createdAt", new Timestamp(2000L));
+        ReflectionTestUtils.setField(post3, "createdAt", new Timestamp(3000L));
+        String cursor = PostCursor.of(1000L, 1L).encode();
+
+        given(postCacheRepository.findAllSince(isNull(), any(PostCursor.class), eq(1))).willReturn(null);
+        given(postQueryRepository.findSummariesByIdGreaterThan(null, 1L, 2)).willReturn(List.of(PostFixture.getSummary(post2, 0, 0), PostFixture.getSummary(post3, 0, 0)));
+
+        //When
+        PostDeltaResponse result = postService.getPostsSince(null, cursor, 1);
+
+        //Then
+        assertThat(result.getPosts()).extracting(PostResponse::getPostId).containsExactly(2L);
+        assertThat(result.getCursor()).isEqualTo(PostCursor.of(2000L, 2L).encode());
+        assertThat(result.isHasMore()).isTrue();
+    }
+
+    @DisplayName("Redis 장애 시 커서 없이 새 게시글을 조회하면 DB에서 가장 최근 게시글의 커서를 조회")
+    @Test
+    void getPostsSince_ReturnsLatestCursorFromDb_IfRedisIsUnavailable() {
+        //Given
+        givenRedisIsUnavailable();
+        Post post2 = PostFixture.get(2L, "title2", "writer", "자유 게시판");
+        ReflectionTestUtils.setField(post2, "createdAt", new Timestamp(2000L));
+
+        given(postQueryRepository.findSummariesByIdLessThan(null, null, 0, 1)).willReturn(List.of(PostFixture.getSummary(post2, 0, 0)));
+
+        //When
+        PostDeltaResponse result = postService.getPostsSince(null, null, 10);
+
+        //Then
+        assertThat(result.getPosts()).isEmpty();
+        assertThat(result.getCursor()).isEqualTo(PostCursor.of(2000L, 2L).encode());
+        then(postCacheRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("게시글 작성 요청이 유효하면 게시글 작성 성공")
     @Test
     void writePost_IfRequestIsValid() {
@@ -420,6 +1014,7 @@ class PostServiceTest {
     @Test
     void modifyPost_IfRequestIsValid() {
         //Given
+        Long previousCategoryId = post.getCategory().getId();
         category = Category.of("Q&A", "Q&A");
         ReflectionTestUtils.setField(category, "id", 2L);
 
@@ -430,10 +1025,10 @@ class PostServiceTest {
                 .build();
 
         given(categoryRepository.findById(category.getId())).willReturn(Optional.of(category));
-        given(postRepository.findByIdAndUser_LoginId(post.getId(), user.getLoginId())).willReturn(Optional.of(post));
+        given(postRepository.findWithUserAndCategoryByIdAndUser_LoginId(post.getId(), user.getLoginId())).willReturn(Optional.of(post));
         given(userService.getUserOrException(user.getLoginId())).willReturn(user);
         willDoNothing().given(postRepository).flush();
-        willDoNothing().given(postCacheRepository).modify(post);
+        willDoNothing().given(postCacheRepository).modify(post, previousCategoryId);
 
         //When
         PostResponse result = postService.modifyPost(user.getLoginId(), post.getId(), postDto);
@@ -448,10 +1043,12 @@ class PostServiceTest {
         assertThat(result.getContent()).isEqualTo(postDto.getContent());
 
         then(categoryRepository).should().findById(category.getId());
-        then(postRepository).should().findByIdAndUser_LoginId(post.getId(), user.getLoginId());
+        then(postRepository).should().findWithUserAndCategoryByIdAndUser_LoginId(post.getId(), user.getLoginId());
         then(userService).should().getUserOrException(user.getLoginId());
         then(postRepository).should().flush();
-        then(postCacheRepository).should().modify(post);
+        then(postCacheRepository).should().modify(post, previousCategoryId);
+        then(postPageNearCache).should().evictAll();
+        then(postProducer).should().sendModified(post);
     }
 
     @DisplayName("게시글 수정 시 카테고리가 존재하지 않으면 예외 발생")
@@ -482,7 +1079,7 @@ class PostServiceTest {
         Long postId = post.getId();
 
         given(categoryRepository.findById(category.getId())).willReturn(Optional.of(category));
-        given(postRepository.findByIdAndUser_LoginId(postId, user.getLoginId())).willReturn(Optional.empty());
+        given(postRepository.findWithUserAndCategoryByIdAndUser_LoginId(postId, user.getLoginId())).willReturn(Optional.empty());
 
         //When
         assertThatThrownBy(() -> postService.modifyPost(loginId, postId, postDto))
@@ -491,7 +1088,7 @@ class PostServiceTest {
 
         //Then
         then(categoryRepository).should().findById(category.getId());
-        then(postRepository).should().findByIdAndUser_LoginId(postId, loginId);
+        then(postRepository).should().findWithUserAndCategoryByIdAndUser_LoginId(postId, loginId);
         then(userService).shouldHaveNoInteractions();
         then(postRepository).shouldHaveNoMoreInteractions();
     }
@@ -504,7 +1101,7 @@ class PostServiceTest {
 
         given(postRepository.findWithUserAndCategoryByIdAndUser_LoginId(postId, user.getLoginId())).willReturn(Optional.of(post));
         willDoNothing().given(postRepository).flush();
-        willDoNothing().given(postCacheRepository).deleteById(postId);
+        willDoNothing().given(postCacheRepository).delete(post);
 
         //When
         PostResponse result = postService.deletePost(user.getLoginId(), postId);
@@ -518,11 +1115,41 @@ class PostServiceTest {
 
         then(postRepository).should().findWithUserAndCategoryByIdAndUser_LoginId(postId, user.getLoginId());
         then(postRepository).should().flush();
-        then(postCacheRepository).should().deleteById(postId);
+        then(postCacheRepository).should().delete(post);
+        then(postPageNearCache).should().evictAll();
+        then(postProducer).should().sendDeleted(post);
         then(categoryRepository).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
     }
 
+    @DisplayName("게시글 삭제 시 캐시 삭제, 서버 메모리 캐시 비우기, 이벤트 발행은 트랜잭션이 커밋된 뒤에 실행")
+    @Test
+    void deletePost_ChangesCacheAfterCommit() {
+        //Given
+        Long postId = post.getId();
+
+        given(postRepository.findWithUserAndCategoryByIdAndUser_LoginId(postId, user.getLoginId())).willReturn(Optional.of(post));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            //When
+            postService.deletePost(user.getLoginId(), postId);
+
+            //Then
+            then(postCacheRepository).shouldHaveNoInteractions();
+            then(postPageNearCache).shouldHaveNoInteractions();
+            then(postProducer).shouldHaveNoInteractions();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            then(postCacheRepository).should().delete(post);
+            then(postPageNearCache).should().evictAll();
+            then(postProducer).should().sendDeleted(post);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @DisplayName("게시글 삭제 시 삭제할 게시글이 존재하지 않으면 예외 발생")
     @Test
     void throwsException_IfPostDoesntExist_WhenDeletingPost() {
@@ -543,4 +1170,12 @@ class PostServiceTest {
         then(categoryRepository).shouldHaveNoInteractions();
         then(userService).shouldHaveNoInteractions();
     }
+
+    private void givenRedisIsAvailable() {
+        given(redisCircuitBreaker.call(any(), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    private void givenRedisIsUnavailable() {
+        given(redisCircuitBreaker.call(any(), any(), any())).willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
 }
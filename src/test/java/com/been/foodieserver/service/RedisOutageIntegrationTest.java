@@ -0,0 +1,89 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.Role;
+import com.been.foodieserver.domain.User;
+import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Redis를 CLIENT PAUSE로 멈춰 장애를 만든다.
+ */
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "cache.redis.command-timeout=200ms",
+        "cache.redis.circuit-breaker.minimum-calls=2",
+        "cache.redis.circuit-breaker.open-duration=1m"
+})
+class RedisOutageIntegrationTest {
+
+    private static final long PAUSE_MILLIS = 2000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private long pausedUntil;
+
+    @AfterEach
+    void waitForRedis() throws InterruptedException {
+        Thread.sleep(Math.max(0, pausedUntil - System.currentTimeMillis()));
+    }
+
+    @DisplayName("Redis가 멈추면 명령 타임아웃 안에 DB에서 유저를 조회하고, 서킷이 열린 뒤에는 Redis를 기다리지 않음")
+    @Test
+    void getUser_FallsBackToDb_IfRedisIsPaused() {
+        //Given
+        userRepository.saveAndFlush(User.of("outage", "pwd", "outage", null, Role.USER));
+        pauseRedis();
+
+        //When
+        long start = System.nanoTime();
+        User first = userService.getUserOrException("outage");
+        Duration firstElapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        userService.getUserOrException("outage");
+
+        start = System.nanoTime();
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername("outage");
+        Duration openElapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        //Then
+        assertThat(first.getLoginId()).isEqualTo("outage");
+        assertThat(userDetails.getUsername()).isEqualTo("outage");
+        assertThat(firstElapsed).isLessThan(Duration.ofMillis(PAUSE_MILLIS));
+        assertThat(redisCircuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(openElapsed).isLessThan(Duration.ofMillis(200));
+    }
+
+    private void pauseRedis() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("CLIENT",
+                "PAUSE".getBytes(StandardCharsets.UTF_8), String.valueOf(PAUSE_MILLIS).getBytes(StandardCharsets.UTF_8)));
+        pausedUntil = System.currentTimeMillis() + PAUSE_MILLIS;
+    }
+}
@@ -0,0 +1,44 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.domain.NotificationType;
+import com.been.foodieserver.repository.cache.TrendingCacheRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock
+    private TrendingCacheRepository trendingCacheRepository;
+
+    @InjectMocks
+    private TrendingService trendingService;
+
+    @DisplayName("좋아요, 댓글 알림 이벤트는 가중치만큼 인기 게시글 점수에 반영")
+    @Test
+    void record_LikeAndCommentNotifications() {
+        //When
+        trendingService.record(NotificationType.NEW_LIKE_ON_POST, 1L);
+        trendingService.record(NotificationType.NEW_COMMENT_ON_POST, 2L);
+
+        //Then
+        then(trendingCacheRepository).should().incrementScore(1L, TrendingService.TrendingEvent.LIKE.getWeight());
+        then(trendingCacheRepository).should().incrementScore(2L, TrendingService.TrendingEvent.COMMENT.getWeight());
+    }
+
+    @DisplayName("팔로우 알림 이벤트는 인기 게시글 점수에 반영하지 않음")
+    @Test
+    void record_IgnoresFollowNotification() {
+        //When
+        trendingService.record(NotificationType.NEW_FOLLOW, 1L);
+
+        //Then
+        then(trendingCacheRepository).shouldHaveNoInteractions();
+    }
+}
@@ -12,6 +12,7 @@ import com.been.foodieserver.producer.SlackProducer;
 import com.been.foodieserver.repository.FollowRepository;
 import com.been.foodieserver.repository.PostRepository;
 import com.been.foodieserver.repository.UserRepository;
+import com.been.foodieserver.repository.cache.RedisCircuitBreaker;
 import com.been.foodieserver.repository.cache.UserCacheRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,7 +32,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -56,6 +60,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder encoder;
 
+    @Mock
+    private RedisCircuitBreaker redisCircuitBreaker;
+
     @InjectMocks
     private UserService userService;
 
@@ -72,6 +79,7 @@ class UserServiceTest {
                 .nickname("user1")
                 .build();
         user = User.of(userDto.getLoginId(), "encodedPwd", userDto.getNickname(), null, Role.USER);
+        lenient().when(redisCircuitBreaker.call(anyString(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @DisplayName("회원 정보가 유효하면 회원가입 성공")
@@ -230,6 +238,23 @@ class UserServiceTest {
         then(postRepository).shouldHaveNoInteractions();
     }
 
+    @DisplayName("Redis 장애 시 DB에서 유저를 조회해 내 정보 조회 성공")
+    @Test
+    void getMyInformation_QueriesDb_IfRedisIsUnavailable() {
+        //Given
+        String loginId = userDto.getLoginId();
+
+        willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get()).given(redisCircuitBreaker).call(anyString(), any(), any());
+        given(userRepository.findByLoginId(loginId)).willReturn(Optional.of(user));
+
+        //When
+        UserInfoWithStatisticsResponse result = userService.getMyInfo(loginId);
+
+        //Then
+        assertThat(result.getInfo().getLoginId()).isEqualTo(loginId);
+        then(userCacheRepository).shouldHaveNoInteractions();
+    }
+
     @DisplayName("아이디가 존재하면 다른 유저 정보 조회 성공")
     @Test
     void getUserInformation_ifLoginIdExists() {
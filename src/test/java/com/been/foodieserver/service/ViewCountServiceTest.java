@@ -0,0 +1,196 @@
+package com.been.foodieserver.service;
+
+import com.been.foodieserver.repository.PostRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.PostViews;
+import com.been.foodieserver.repository.cache.PostViewCacheRepository.ViewCount;
+import com.been.foodieserver.service.TrendingService.TrendingEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostViewCacheRepository postViewCacheRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @InjectMocks
+    private ViewCountService viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(viewCountService, "maxViewersPerFlush", 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("모아 둔 조회수는 게시글별로 합쳐 Redis에 한 번에 반영")
+    @Test
+    void flush_AggregatesViewsPerPost() {
+        //Given
+        viewCountService.record(1L, "user1");
+        viewCountService.record(1L, "user1");
+        viewCountService.record(1L, "user2");
+        viewCountService.record(2L, "user1");
+
+        //When
+        viewCountService.flush();
+        viewCountService.flush();
+
+        //Then
+        ArgumentCaptor<List<PostViews>> captor = ArgumentCaptor.forClass(List.class);
+        then(postViewCacheRepository).should().saveViews(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new PostViews(1L, 3, Set.of("user1", "user2")),
+                new PostViews(2L, 1, Set.of("user1")));
+        then(trendingService).should().record(1L, TrendingEvent.VIEW, 3);
+        then(trendingService).should().record(2L, TrendingEvent.VIEW, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("반영한 뒤에 들어온 조회는 다음 반영에 포함")
+    @Test
+    void flush_IncludesViewsRecordedAfterPreviousFlush() {
+        //Given
+        viewCountService.record(1L, "user1");
+        viewCountService.flush();
+        viewCountService.record(1L, "user2");
+
+        //When
+        viewCountService.flush();
+
+        //Then
+        ArgumentCaptor<List<PostViews>> captor = ArgumentCaptor.forClass(List.class);
+        then(postViewCacheRepository).should(times(2)).saveViews(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(
+                List.of(new PostViews(1L, 1, Set.of("user1"))),
+                List.of(new PostViews(1L, 1, Set.of("user2"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @DisplayName("Redis 반영에 실패하면 꺼낸 조회수를 다시 모아 다음 반영에 포함하고, 인기 게시글 점수는 반영한 뒤에만 올림")
+    @Test
+    void flush_RestoresViews_IfSaveFails() {
+        //Given
+        willThrow(new RedisConnectionFailureException("down")).willDoNothing().given(postViewCacheRepository).saveViews(anyList());
+        viewCountService.record(1L, "user1");
+
+        //When
+        assertThatThrownBy(() -> viewCountService.flush()).isInstanceOf(RedisConnectionFailureException.class);
+        then(trendingService).shouldHaveNoInteractions();
+
+        viewCountService.record(1L, "user2");
+        viewCountService.flush();
+
+        //Then
+        ArgumentCaptor<List<PostViews>> captor = ArgumentCaptor.forClass(List.class);
+        then(postViewCacheRepository).should(times(2)).saveViews(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsExactly(new PostViews(1L, 2, Set.of("user1", "user2")));
+        then(trendingService).should().record(1L, TrendingEvent.VIEW, 2);
+    }
+
+    @DisplayName("조회수가 캐시되지 않았으면 DB를 조회하지 않고 아직 반영하지 않은 조회수만 반환")
+    @Test
+    void getViewCount_DoesNotReadDb_IfViewCountIsNotCached() {
+        //Given
+        given(postViewCacheRepository.findViewCount(1L)).willReturn(new ViewCount(null, 2L));
+        viewCountService.record(1L, "user1");
+
+        //When
+        ViewCount result = viewCountService.getViewCount(1L);
+
+        //Then
+        assertThat(result.viewCount()).isEqualTo(1L);
+        assertThat(result.viewerCount()).isEqualTo(2L);
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("캐시된 조회수에 아직 반영하지 않은 조회수를 더함")
+    @Test
+    void getViewCount_AddsPendingViews() {
+        //Given
+        given(postViewCacheRepository.findViewCount(1L)).willReturn(new ViewCount(9L, 2L));
+        viewCountService.record(1L, "user1");
+
+        //When
+        ViewCount result = viewCountService.getViewCount(1L);
+
+        //Then
+        assertThat(result.viewCount()).isEqualTo(10L);
+        assertThat(result.viewerCount()).isEqualTo(2L);
+    }
+
+    @DisplayName("DB 반영 시 같은 조회수를 가진 게시글은 update 한 번으로 반영하고 커밋 후 반영 중 조회수를 지움")
+    @Test
+    void persist_GroupsPostsByViewCount() {
+        //Given
+        TransactionSynchronizationManager.initSynchronization();
+        given(postViewCacheRepository.tryLockPersist(anyString(), any())).willReturn(true);
+        given(postViewCacheRepository.drainPending()).willReturn(Map.of(1L, 2L, 2L, 2L, 3L, 5L));
+
+        //When
+        viewCountService.persist();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        //Then
+        then(postRepository).should().increaseViewCount(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2), eq(2L));
+        then(postRepository).should().increaseViewCount(List.of(3L), 5L);
+        then(postViewCacheRepository).should().completePersist();
+        then(postViewCacheRepository).should().unlockPersist(anyString());
+    }
+
+    @DisplayName("다른 서버가 DB에 반영 중이면 반영하지 않음")
+    @Test
+    void persist_Skips_IfLockIsHeld() {
+        //Given
+        given(postViewCacheRepository.tryLockPersist(anyString(), any())).willReturn(false);
+
+        //When
+        viewCountService.persist();
+
+        //Then
+        then(postViewCacheRepository).should(never()).drainPending();
+        then(postRepository).shouldHaveNoInteractions();
+    }
+}